@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.builder.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Map;
+
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IncrementalProjectBuilder;
+import org.eclipse.core.resources.ProjectScope;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.preferences.IEclipsePreferences;
+import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+import org.eclipse.pde.api.tools.internal.provisional.IApiBaselineManager;
+import org.eclipse.pde.api.tools.internal.provisional.IApiMarkerConstants;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
+import org.eclipse.pde.api.tools.internal.provisional.problems.IApiProblemTypes;
+import org.eclipse.pde.api.tools.tests.AbstractApiTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests that the API analysis builder keeps the marker of a missing default
+ * API baseline across full builds and only replaces it when it changes.
+ */
+public class BaselineMarkerTests extends AbstractApiTest {
+
+	private static final String PROJECT_NAME = "BaselineMarkerTests"; //$NON-NLS-1$
+
+	private String fDefaultBaseline;
+
+	@Override
+	@Before
+	public void setUp() throws Exception {
+		super.setUp();
+		IApiBaselineManager manager = ApiPlugin.getDefault().getApiBaselineManager();
+		IApiBaseline baseline = manager.getDefaultApiBaseline();
+		fDefaultBaseline = baseline != null ? baseline.getName() : null;
+		manager.setDefaultApiBaseline(null);
+		createProject(PROJECT_NAME, null);
+	}
+
+	@Override
+	@After
+	public void tearDown() throws Exception {
+		deleteProject(PROJECT_NAME);
+		ApiPlugin.getDefault().getApiBaselineManager().setDefaultApiBaseline(fDefaultBaseline);
+		super.tearDown();
+	}
+
+	/**
+	 * Tests that a full build leaves the marker of an unchanged problem
+	 * untouched
+	 */
+	@Test
+	public void testMarkerKept() throws Exception {
+		IMarker marker = getBaselineMarker();
+		Map<String, Object> attributes = marker.getAttributes();
+		long creationTime = marker.getCreationTime();
+		assertEquals("the missing baseline is an error by default", IMarker.SEVERITY_ERROR, marker.getAttribute(IMarker.SEVERITY, -1)); //$NON-NLS-1$
+
+		IMarker rebuilt = getBaselineMarker();
+		assertEquals("the marker must be kept", marker.getId(), rebuilt.getId()); //$NON-NLS-1$
+		assertEquals(attributes, rebuilt.getAttributes());
+		assertEquals(creationTime, rebuilt.getCreationTime());
+	}
+
+	/**
+	 * Tests that the marker is replaced when its severity changes and deleted
+	 * when the problem is not reported anymore
+	 */
+	@Test
+	public void testMarkerUpdated() throws Exception {
+		IMarker marker = getBaselineMarker();
+
+		setSeverity(ApiPlugin.VALUE_WARNING);
+		IMarker changed = getBaselineMarker();
+		assertFalse("the changed marker must be replaced", marker.exists()); //$NON-NLS-1$
+		assertEquals(IMarker.SEVERITY_WARNING, changed.getAttribute(IMarker.SEVERITY, -1));
+
+		setSeverity(ApiPlugin.VALUE_IGNORE);
+		assertEquals("the marker must be deleted", 0, getBaselineMarkers().length); //$NON-NLS-1$
+		assertFalse(changed.exists());
+	}
+
+	private void setSeverity(String severity) throws Exception {
+		IEclipsePreferences node = new ProjectScope(getProject(PROJECT_NAME)).getNode(ApiPlugin.PLUGIN_ID);
+		node.put(IApiProblemTypes.MISSING_DEFAULT_API_BASELINE, severity);
+		node.flush();
+	}
+
+	private IMarker getBaselineMarker() throws CoreException {
+		IMarker[] markers = getBaselineMarkers();
+		assertEquals("there must be one missing baseline marker", 1, markers.length); //$NON-NLS-1$
+		assertTrue(markers[0].exists());
+		return markers[0];
+	}
+
+	private IMarker[] getBaselineMarkers() throws CoreException {
+		IProject project = getProject(PROJECT_NAME);
+		project.build(IncrementalProjectBuilder.FULL_BUILD, null);
+		return project.findMarkers(IApiMarkerConstants.DEFAULT_API_BASELINE_PROBLEM_MARKER, false, IResource.DEPTH_ZERO);
+	}
+}
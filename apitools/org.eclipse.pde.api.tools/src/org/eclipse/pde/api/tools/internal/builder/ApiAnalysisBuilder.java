@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2024 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -35,6 +35,7 @@ import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.IResourceDelta;
 import org.eclipse.core.resources.IResourceStatus;
+import org.eclipse.core.resources.IWorkspace;
 import org.eclipse.core.resources.IWorkspaceRoot;
 import org.eclipse.core.resources.IncrementalProjectBuilder;
 import org.eclipse.core.resources.ResourcesPlugin;
@@ -82,6 +83,8 @@ import org.eclipse.pde.core.plugin.PluginRegistry;
 import org.eclipse.pde.internal.core.ICoreConstants;
 import org.eclipse.pde.internal.core.PDECore;
 import org.eclipse.pde.internal.core.PDEPreferencesManager;
+import org.eclipse.pde.internal.core.builders.BuildProfiler;
+import org.eclipse.pde.internal.core.builders.MarkerReconciler;
 import org.osgi.framework.Constants;
 import org.osgi.framework.Version;
 
@@ -187,20 +190,31 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 	 * Cleans up markers associated with API Tools on the given resource.
 	 */
 	void cleanupMarkers(IResource resource) {
+		cleanupMarkers(resource, true);
+	}
+
+	/**
+	 * Cleans up markers associated with API Tools on the given resource.
+	 *
+	 * @param reconciled whether the version, baseline and component resolution
+	 *            markers of a project are deleted too, they are kept when
+	 *            {@link #createMarkers()} reconciles them afterwards
+	 */
+	void cleanupMarkers(IResource resource, boolean reconciled) {
 		if (isRunningAsJob()) {
-			new ApiAnalysisMarkersJob(() -> cleanupMarkersInternally(resource)).schedule();
+			new ApiAnalysisMarkersJob(() -> cleanupMarkersInternally(resource, reconciled)).schedule();
 		} else {
-			cleanupMarkersInternally(resource);
+			cleanupMarkersInternally(resource, reconciled);
 		}
 	}
 
 	/**
 	 * Cleans up markers associated with API Tools on the given resource.
 	 */
-	void cleanupMarkersInternally(IResource resource) {
+	void cleanupMarkersInternally(IResource resource, boolean reconciled) {
 		cleanUnusedFilterMarkers(resource);
 		cleanupUsageMarkers(resource);
-		cleanupCompatibilityMarkers(resource);
+		cleanupCompatibilityMarkers(resource, reconciled);
 		cleanupUnsupportedTagMarkers(resource);
 		cleanupUnsupportedAnnotationMarkers(resource);
 		cleanApiUseScanMarkers(resource);
@@ -277,11 +291,22 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 	 * @param resource the given resource
 	 */
 	void cleanupCompatibilityMarkers(IResource resource) {
+		cleanupCompatibilityMarkers(resource, true);
+	}
+
+	/**
+	 * Cleans up only API compatibility markers on the given {@link IResource}
+	 *
+	 * @param resource the given resource
+	 * @param reconciled whether the version, baseline and component resolution
+	 *            markers of a project are deleted too
+	 */
+	void cleanupCompatibilityMarkers(IResource resource, boolean reconciled) {
 		try {
 			if (resource != null && resource.isAccessible()) {
 				resource.deleteMarkers(IApiMarkerConstants.COMPATIBILITY_PROBLEM_MARKER, false, IResource.DEPTH_INFINITE);
 				resource.deleteMarkers(IApiMarkerConstants.SINCE_TAGS_PROBLEM_MARKER, false, IResource.DEPTH_INFINITE);
-				if (resource.getType() == IResource.PROJECT) {
+				if (reconciled && resource.getType() == IResource.PROJECT) {
 					// on full builds
 					resource.deleteMarkers(IApiMarkerConstants.VERSION_NUMBERING_PROBLEM_MARKER, false, IResource.DEPTH_INFINITE);
 					resource.deleteMarkers(IApiMarkerConstants.DEFAULT_API_BASELINE_PROBLEM_MARKER, true, IResource.DEPTH_ZERO);
@@ -380,7 +405,9 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 			job.schedule(100);
 			job.setPriority(Job.DECORATE);
 		} else {
-			work(fullBuild, wbaseline, projects, monitor);
+			try (BuildProfiler.Timer timer = BuildProfiler.startBuild(ApiPlugin.BUILDER_ID, this.currentproject)) {
+				work(fullBuild, wbaseline, projects, monitor);
+			}
 		}
 		return projects;
 	}
@@ -551,7 +578,7 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 
 		@Override
 		public IStatus run(IProgressMonitor monitor) {
-			try {
+			try (BuildProfiler.Timer timer = BuildProfiler.startBuild(ApiPlugin.BUILDER_ID, project)) {
 				work(fullBuild, wbaseline, projects, monitor);
 			} catch (CoreException e) {
 				IStatus status = e.getStatus();
@@ -889,7 +916,10 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 		this.buildstate = new BuildState();
 		localMonitor
 				.subTask(NLS.bind(BuilderMessages.ApiAnalysisBuilder_initializing_analyzer, currentproject.getName()));
-		cleanupMarkers(this.currentproject);
+		// the version, baseline and component resolution markers are kept
+		// until the problems of this build are reconciled with them
+		cleanupMarkers(this.currentproject, false);
+		boolean reconciled = false;
 		IPluginModelBase currentModel = getCurrentModel();
 		if (currentModel != null) {
 			localMonitor.subTask(NLS.bind(BuilderMessages.building_workspace_profile, currentproject.getName()));
@@ -919,9 +949,13 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 						localMonitor.split(1));
 				localMonitor.split(1);
 				createMarkers();
+				reconciled = true;
 				localMonitor.split(1);
 			}
 		}
+		if (!reconciled) {
+			cleanupMarkers(this.currentproject, true);
+		}
 	}
 
 	/**
@@ -983,13 +1017,28 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 	 * framework, no work is done.
 	 */
 	protected void createMarkersInternally(IApiProblem[] problems) {
+		IWorkspace workspace = ResourcesPlugin.getWorkspace();
+		try {
+			workspace.run(monitor -> updateMarkers(problems), workspace.getRuleFactory().markerRule(this.currentproject), IWorkspace.AVOID_UPDATE, null);
+		} catch (CoreException e) {
+			ApiPlugin.log(e);
+		}
+	}
+
+	/**
+	 * Reconciles the version, baseline and component resolution markers of
+	 * the current project with the given problems and creates the markers of
+	 * all other problems. Markers that are reported again are left untouched.
+	 */
+	private void updateMarkers(IApiProblem[] problems) {
+		MarkerReconciler reconciler = new MarkerReconciler();
 		try {
 			IResource manifest = Util.getManifestFile(this.currentproject);
 			if (manifest != null) {
-				manifest.deleteMarkers(IApiMarkerConstants.VERSION_NUMBERING_PROBLEM_MARKER, false, IResource.DEPTH_ZERO);
+				reconciler.addExisting(manifest.findMarkers(IApiMarkerConstants.VERSION_NUMBERING_PROBLEM_MARKER, false, IResource.DEPTH_ZERO));
 			}
-			this.currentproject.deleteMarkers(IApiMarkerConstants.DEFAULT_API_BASELINE_PROBLEM_MARKER, false, IResource.DEPTH_ZERO);
-			this.currentproject.deleteMarkers(IApiMarkerConstants.API_COMPONENT_RESOLUTION_PROBLEM_MARKER, false, IResource.DEPTH_ZERO);
+			reconciler.addExisting(this.currentproject.findMarkers(IApiMarkerConstants.DEFAULT_API_BASELINE_PROBLEM_MARKER, false, IResource.DEPTH_ZERO));
+			reconciler.addExisting(this.currentproject.findMarkers(IApiMarkerConstants.API_COMPONENT_RESOLUTION_PROBLEM_MARKER, false, IResource.DEPTH_ZERO));
 		} catch (CoreException e) {
 			ApiPlugin.log(e);
 		}
@@ -1003,7 +1052,12 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 			if (ApiPlugin.DEBUG_BUILDER) {
 				System.out.println("ApiAnalysisBuilder: creating marker for: " + problem.toString()); //$NON-NLS-1$
 			}
-			createMarkerForProblem(category, type, problem);
+			createMarkerForProblem(category, type, problem, reconciler);
+		}
+		try {
+			reconciler.apply();
+		} catch (CoreException e) {
+			ApiPlugin.log(e);
 		}
 	}
 
@@ -1065,7 +1119,7 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 	 *            for types
 	 * @param problem the problem to create a marker from
 	 */
-	void createMarkerForProblem(int category, String type, IApiProblem problem) {
+	void createMarkerForProblem(int category, String type, IApiProblem problem, MarkerReconciler reconciler) {
 		IResource resource = resolveResource(problem);
 		if (resource == null) {
 			return;
@@ -1086,6 +1140,7 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 					}
 				}
 			}
+			Map<String, Object> attributes = getMarkerAttributes(category, problem);
 			IMarker marker = null;
 			if (problem.getKind() == IApiProblem.API_BASELINE_MISMATCH
 					&& category == IApiProblem.CATEGORY_API_BASELINE) {
@@ -1093,49 +1148,22 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 				IWorkspaceRoot root = ResourcesPlugin.getWorkspace().getRoot();
 				IMarker[] findMarkers = root.findMarkers(type, false, IResource.DEPTH_ZERO);
 				if (findMarkers.length == 0) {
-					marker = root.createMarker(type);
+					marker = root.createMarker(type, attributes);
 				}
 				else {
 					marker = findMarkers[0];
+					marker.setAttributes(attributes);
 				}
+			} else if (category == IApiProblem.CATEGORY_API_USE_SCAN_PROBLEM) {
+				marker = resource.createMarker(type, attributes);
+				BuildProfiler.count(BuildProfiler.MARKERS_CREATED);
 			} else {
-				marker = resource.createMarker(type);
-			}
-
-			int line = problem.getLineNumber();
-			switch (category)
-				{
-				case IApiProblem.CATEGORY_VERSION:
-				case IApiProblem.CATEGORY_API_BASELINE:
-				case IApiProblem.CATEGORY_API_COMPONENT_RESOLUTION:
-				case IApiProblem.CATEGORY_API_USE_SCAN_PROBLEM: {
-					break;
-				}
-				default: {
-					line++;
+				// created or kept when the reconciler is applied
+				reconciler.report(resource, type, attributes);
+				if (ApiPlugin.DEBUG_BUILDER) {
+					System.out.println("ApiAnalysisBuilder: Reported the marker: " + attributes.entrySet()); //$NON-NLS-1$
 				}
-			}
-			marker.setAttributes(new String[] {
-					IMarker.MESSAGE, IMarker.SEVERITY, IMarker.LINE_NUMBER,
-					IMarker.CHAR_START, IMarker.CHAR_END, IMarker.SOURCE_ID,
-					IApiMarkerConstants.MARKER_ATTR_PROBLEM_ID }, new Object[] {
-					problem.getMessage(),
-					Integer.valueOf(ApiPlugin.getDefault().getSeverityLevel(ApiProblemFactory.getProblemSeverityId(problem), this.currentproject)),
-					Integer.valueOf(line), Integer.valueOf(problem.getCharStart()),
-					Integer.valueOf(problem.getCharEnd()),
-					ApiAnalysisBuilder.SOURCE, Integer.valueOf(problem.getId()) });
-			// add message arguments, if any
-			String[] args = problem.getMessageArguments();
-			if (args.length > 0) {
-				marker.setAttribute(IApiMarkerConstants.MARKER_ATTR_MESSAGE_ARGUMENTS, createArgAttribute(args));
-			}
-			String typeName = problem.getTypeName();
-			if (typeName != null) {
-				marker.setAttribute(IApiMarkerConstants.MARKER_ATTR_PROBLEM_TYPE_NAME, typeName);
-			}
-			// add all other extra arguments, if any
-			if (problem.getExtraMarkerAttributeIds().length > 0) {
-				marker.setAttributes(problem.getExtraMarkerAttributeIds(), problem.getExtraMarkerAttributeValues());
+				return;
 			}
 			if (ApiPlugin.DEBUG_BUILDER) {
 				System.out.println("ApiAnalysisBuilder: Created the marker: " + marker.getId() + " - " + marker.getAttributes().entrySet()); //$NON-NLS-1$ //$NON-NLS-2$
@@ -1146,6 +1174,54 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 		}
 	}
 
+	/**
+	 * Returns all attributes of the marker for the given problem, so that the
+	 * marker can be created in one step.
+	 *
+	 * @param category the category of the problem
+	 * @param problem the problem to create a marker from
+	 * @return the marker attributes
+	 */
+	private Map<String, Object> getMarkerAttributes(int category, IApiProblem problem) {
+		int line = problem.getLineNumber();
+		switch (category)
+			{
+			case IApiProblem.CATEGORY_VERSION:
+			case IApiProblem.CATEGORY_API_BASELINE:
+			case IApiProblem.CATEGORY_API_COMPONENT_RESOLUTION:
+			case IApiProblem.CATEGORY_API_USE_SCAN_PROBLEM: {
+				break;
+			}
+			default: {
+				line++;
+			}
+		}
+		Map<String, Object> attributes = new HashMap<>();
+		attributes.put(IMarker.MESSAGE, problem.getMessage());
+		attributes.put(IMarker.SEVERITY, Integer.valueOf(ApiPlugin.getDefault().getSeverityLevel(ApiProblemFactory.getProblemSeverityId(problem), this.currentproject)));
+		attributes.put(IMarker.LINE_NUMBER, Integer.valueOf(line));
+		attributes.put(IMarker.CHAR_START, Integer.valueOf(problem.getCharStart()));
+		attributes.put(IMarker.CHAR_END, Integer.valueOf(problem.getCharEnd()));
+		attributes.put(IMarker.SOURCE_ID, ApiAnalysisBuilder.SOURCE);
+		attributes.put(IApiMarkerConstants.MARKER_ATTR_PROBLEM_ID, Integer.valueOf(problem.getId()));
+		// add message arguments, if any
+		String[] args = problem.getMessageArguments();
+		if (args.length > 0) {
+			attributes.put(IApiMarkerConstants.MARKER_ATTR_MESSAGE_ARGUMENTS, createArgAttribute(args));
+		}
+		String typeName = problem.getTypeName();
+		if (typeName != null) {
+			attributes.put(IApiMarkerConstants.MARKER_ATTR_PROBLEM_TYPE_NAME, typeName);
+		}
+		// add all other extra arguments, if any
+		String[] extraIds = problem.getExtraMarkerAttributeIds();
+		Object[] extraValues = problem.getExtraMarkerAttributeValues();
+		for (int i = 0; i < extraIds.length; i++) {
+			attributes.put(extraIds[i], extraValues[i]);
+		}
+		return attributes;
+	}
+
 	/**
 	 * Resolves the resource from the path in the problem, returns
 	 * <code>null</code> in the following cases:
@@ -0,0 +1,226 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which accompanies this distribution,
+ * and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors: Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.pde.build.internal.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.eclipse.pde.internal.build.ant.AntScript;
+import org.eclipse.pde.internal.build.ant.FileSet;
+import org.eclipse.pde.internal.build.ant.GeneratedFileOutputStream;
+import org.eclipse.pde.internal.build.ant.JavacTask;
+import org.junit.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+public class AntScriptTests {
+
+	private static final String NL = System.lineSeparator();
+
+	private static String print(Consumer<AntScript> printer) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		AntScript script = new AntScript(out);
+		printer.accept(script);
+		script.close();
+		String result = out.toString(StandardCharsets.UTF_8);
+		// drop the XML prolog
+		return result.substring(result.indexOf(NL) + NL.length());
+	}
+
+	@Test
+	public void testEscaping() {
+		String unchanged = "${basedir}/plugins/a.b_1.0.0";
+		assertSame(unchanged, AntScript.getEscaped(unchanged));
+		assertEquals("a &lt;b&gt; &amp; &quot;c&quot; &apos;d&apos;", AntScript.getEscaped("a <b> & \"c\" 'd'"));
+
+		String script = print(s -> s.printProperty("name", "<a & \"b\">"));
+		assertEquals("<property name=\"name\" value=\"&lt;a &amp; &quot;b&quot;&gt;\"/>" + NL, script);
+	}
+
+	@Test
+	public void testTemplates() {
+		String script = print(s -> {
+			s.printTargetDeclaration("build.jars", "init", null, "@dot", null);
+			s.printAvailableTask("@dot", "${build.result.folder}/@dot");
+			s.printAntCallTask("@dot", true, null);
+			Map<String, String> params = new LinkedHashMap<>();
+			params.put("target.folder", "${temp.folder}");
+			s.printAntCallTask("gather.bin.parts", false, params);
+			s.printEchoTask(null);
+			s.printJarUpTask("${eclipse.plugins}", "a.b_1.0.0", "${jarCompressionLevel}");
+			s.printTargetEnd();
+		});
+		String expected = "<target name=\"build.jars\" depends=\"init\" unless=\"@dot\">" + NL //
+				+ "\t<available property=\"@dot\" file=\"${build.result.folder}/@dot\"/>" + NL //
+				+ "\t<antcall target=\"@dot\"/>" + NL //
+				+ "\t<antcall target=\"gather.bin.parts\" inheritAll=\"false\">" + NL //
+				+ "\t\t<param name=\"target.folder\" value=\"${temp.folder}\"/>" + NL //
+				+ "\t</antcall>" + NL //
+				+ "\t<echo message=\"\"/>" + NL //
+				+ "\t<eclipse.jarUp source=\"${eclipse.plugins}\" elementName=\"a.b_1.0.0\" compressionLevel=\"${jarCompressionLevel}\"/>" + NL //
+				+ "</target>" + NL;
+		assertEquals(expected, script);
+	}
+
+	@Test
+	public void testArchiveJarsTask() {
+		Map<String, String> jars = new LinkedHashMap<>();
+		jars.put("${pluginArchivePrefix}/a.b_1.0.0.jar", "${eclipse.base}/plugins/a.b_1.0.0");
+		jars.put("${featureArchivePrefix}/f_1.0.0.jar", "${eclipse.base}/features/f_1.0.0");
+		String script = print(s -> s.printArchiveJarsTask("${archiveFullPath}", jars, "${jarCompressionLevel}"));
+		String expected = "<eclipse.archiveJars archive=\"${archiveFullPath}\" compressionLevel=\"${jarCompressionLevel}\">" + NL //
+				+ "\t<element folder=\"${eclipse.base}/plugins/a.b_1.0.0\" entry=\"${pluginArchivePrefix}/a.b_1.0.0.jar\"/>" + NL //
+				+ "\t<element folder=\"${eclipse.base}/features/f_1.0.0\" entry=\"${featureArchivePrefix}/f_1.0.0.jar\"/>" + NL //
+				+ "</eclipse.archiveJars>" + NL;
+		assertEquals(expected, script);
+	}
+
+	@Test
+	public void testDeepIndentation() {
+		String script = print(s -> {
+			for (int i = 0; i < 20; i++)
+				s.incrementIdent();
+			s.printMkdirTask("dir");
+		});
+		assertEquals("\t".repeat(20) + "<mkdir dir=\"dir\"/>" + NL, script);
+	}
+
+	@Test
+	public void testUnchangedScriptIsNotWritten() throws Exception {
+		File file = Files.createTempFile("build", ".xml").toFile();
+		try {
+			GeneratedFileOutputStream.resetStatistics();
+			writeScript(file, "a");
+			file.setLastModified(1000);
+
+			writeScript(file, "a");
+			assertEquals(1000, file.lastModified());
+
+			writeScript(file, "b");
+			assertTrue(file.lastModified() != 1000);
+			assertTrue(Files.readString(file.toPath()).contains("<property name=\"name\" value=\"b\"/>"));
+			assertTrue(GeneratedFileOutputStream.getSummary().startsWith("2 of 3 "));
+		} finally {
+			file.delete();
+		}
+	}
+
+	private static void writeScript(File file, String value) throws Exception {
+		AntScript script = new AntScript(new GeneratedFileOutputStream(file));
+		script.printProperty("name", value);
+		script.close();
+	}
+
+	/**
+	 * Generates a script shaped like the build.xml of a plug-in and checks that
+	 * the buffered output is a complete and well-formed script.
+	 */
+	@Test
+	public void testBundleScript() throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		printBundleScript(out);
+		Document document = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(new ByteArrayInputStream(out.toByteArray()));
+		Element project = document.getDocumentElement();
+		assertEquals("org.example.bundle", project.getAttribute("name"));
+		assertEquals(30, getChildren(project, "property").size());
+		List<Element> targets = getChildren(project, "target");
+		assertEquals(2, targets.size());
+		Element dot = targets.get(1);
+		assertEquals("@dot", dot.getAttribute("name"));
+		assertEquals(80, getChildren(getChildren(dot, "path").get(0), "pathelement").size());
+		Element javac = getChildren(dot, "javac").get(0);
+		assertEquals("@dot.classpath", getChildren(javac, "classpath").get(0).getAttribute("refid"));
+		assertEquals(20, getChildren(dot, "antcall").size());
+	}
+
+	/**
+	 * Checks that a script larger than the buffer of AntScript is written
+	 * completely and in order.
+	 */
+	@Test
+	public void testScriptLargerThanBuffer() {
+		String script = print(s -> {
+			for (int i = 0; i < 5000; i++)
+				s.printProperty("property" + i, "${basedir}/value" + i);
+		});
+		assertTrue(script.length() > 64 * 1024);
+		String[] lines = script.split(NL);
+		assertEquals(5000, lines.length);
+		for (int i = 0; i < lines.length; i++)
+			assertEquals("<property name=\"property" + i + "\" value=\"${basedir}/value" + i + "\"/>", lines[i]);
+	}
+
+	private static List<Element> getChildren(Element parent, String tag) {
+		List<Element> children = new ArrayList<>();
+		for (Node node = parent.getFirstChild(); node != null; node = node.getNextSibling()) {
+			if (node instanceof Element element && tag.equals(element.getTagName()))
+				children.add(element);
+		}
+		return children;
+	}
+
+	private static void printBundleScript(OutputStream out) {
+		AntScript script = new AntScript(out);
+		String name = "org.example.bundle";
+		script.printProjectDeclaration(name, "build.jars", ".");
+		for (int i = 0; i < 30; i++)
+			script.printProperty("property" + i, "${basedir}/" + name + "/value" + i);
+		script.printTargetDeclaration("build.jars", "init", null, null, "Compile classes and build nested jars for " + name);
+		script.printDeleteTask(null, "${compilation.problem.marker}", "true", null);
+		script.printAvailableTask("@dot", "${build.result.folder}/@dot");
+		script.printAntCallTask("@dot", true, null);
+		script.printTargetEnd();
+		script.printTargetDeclaration("@dot", "init", null, "@dot", null);
+		List<Object> classpath = new ArrayList<>();
+		for (int i = 0; i < 80; i++)
+			classpath.add("../org.example.dependency" + i + "_1.0.0/@dot");
+		script.printPathStructure("path", "@dot.classpath", classpath);
+		JavacTask javac = new JavacTask();
+		javac.setClasspathId("@dot.classpath");
+		javac.setDestdir("${build.result.folder}/@dot");
+		javac.setFailOnError("${javacFailOnError}");
+		javac.setDebug("${javacDebugInfo}");
+		javac.setSource("${bundleJavacSource}");
+		javac.setTarget("${bundleJavacTarget}");
+		javac.setSrcdir(new String[] {"src/"});
+		javac.setErrorProperty("compilation.error.occured");
+		script.print(javac);
+		script.printCopyTask(null, "${build.result.folder}/@dot", new FileSet[] {new FileSet("src/", null, null, null, "**/*.java", null, null)}, true, false);
+		script.printJarTask("${build.result.folder}/" + name + ".jar", "${build.result.folder}/@dot", "META-INF/MANIFEST.MF", "skip");
+		for (int i = 0; i < 20; i++) {
+			Map<String, String> params = new LinkedHashMap<>();
+			params.put("destination.temp.folder", "${temp.folder}/" + i);
+			script.printAntCallTask("gather.bin.parts" + i, false, params);
+		}
+		script.printTargetEnd();
+		script.printProjectEnd();
+		script.close();
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2018 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which accompanies this distribution,
@@ -14,12 +14,15 @@
 package org.eclipse.pde.build.internal.tests;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 
 import java.io.File;
 import java.util.HashSet;
 import java.util.Properties;
 import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 
 import org.eclipse.core.resources.IFolder;
 import org.eclipse.core.resources.IResource;
@@ -210,4 +213,102 @@ public class AssembleTests extends PDETestCase {
 		assertResourceFile(buildFolder, "tmp/e4/plugins/A_1.0.0.jar");
 		assertResourceFile(buildFolder, "tmp/e4/plugins/B_1.0.0.jar:META-INF/MANIFEST.MF");
 	}
+
+	@Test
+	public void testParallelAssembly() throws Exception {
+		IFolder buildFolder = newTest("parallelAssembly");
+
+		IFolder a = Utils.createFolder(buildFolder, "plugins/A");
+		Utils.generateBundle(a, "A");
+		Utils.writeBuffer(a.getFile("src/a.java"), new StringBuffer("class A {}"));
+		IFolder b = Utils.createFolder(buildFolder, "plugins/B");
+		Utils.generateBundle(b, "B");
+		Utils.writeBuffer(b.getFile("src/b.java"), new StringBuffer("class B {}"));
+
+		Utils.generateFeature(buildFolder, "F", null, new String[] { "A;unpack=false", "B;unpack=false" });
+
+		Properties buildProperties = BuildConfiguration.getBuilderProperties(buildFolder);
+		buildProperties.put("topLevelElementId", "F");
+		buildProperties.put("archivePrefix", "eclipse");
+		buildProperties.put("baseLocation", "");
+		buildProperties.put("configs", "win32, win32, x86_64 & linux, gtk, x86_64");
+		buildProperties.put("parallelAssembly", "true");
+		buildProperties.put("parallelAssemblyThreadCount", "2");
+
+		Utils.storeBuildProperties(buildFolder, buildProperties);
+
+		runBuild(buildFolder);
+
+		assertLogContainsLine(buildFolder.getFile("assemble.F.all.xml"), "<parallel threadCount='2'>");
+		assertLogContainsLine(buildFolder.getFile("assemble.F.win32.win32.x86_64.xml"), "tmp/win32.win32.x86_64");
+		assertLogContainsLine(buildFolder.getFile("assemble.F.linux.gtk.x86_64.xml"), "<parallel threadCount='2'>");
+
+		Set<String> entries = new HashSet<>();
+		entries.add("eclipse/plugins/A_1.0.0.jar");
+		entries.add("eclipse/plugins/B_1.0.0.jar");
+		assertZipContents(buildFolder, "I.TestBuild/F-TestBuild-win32.win32.x86_64.zip", entries);
+		assertZipContents(buildFolder, "I.TestBuild/F-TestBuild-linux.gtk.x86_64.zip", entries);
+	}
+
+	@Test
+	public void testStreamedJars() throws Exception {
+		IFolder buildFolder = newTest("streamedJars");
+
+		IFolder a = Utils.createFolder(buildFolder, "plugins/A");
+		Utils.generateBundle(a, "A");
+		Utils.writeBuffer(a.getFile("src/a.java"), new StringBuffer("class A {}"));
+
+		Utils.generateFeature(buildFolder, "F", null, new String[] { "A;unpack=false" });
+
+		Properties buildProperties = BuildConfiguration.getBuilderProperties(buildFolder);
+		buildProperties.put("topLevelElementId", "F");
+		buildProperties.put("archivePrefix", "eclipse");
+		buildProperties.put("baseLocation", "");
+		buildProperties.put("configs", "linux, gtk, x86_64");
+		buildProperties.put("streamJars", "true");
+		buildProperties.put("jarCompressionLevel", "9");
+
+		Utils.storeBuildProperties(buildFolder, buildProperties);
+
+		runBuild(buildFolder);
+
+		// the jar is written straight into the archive
+		assertLogContainsLine(buildFolder.getFile("assemble.F.linux.gtk.x86_64.xml"), "<eclipse.archiveJars");
+
+		Set<String> entries = new HashSet<>();
+		entries.add("eclipse/plugins/A_1.0.0.jar:META-INF/MANIFEST.MF");
+		entries.add("eclipse/plugins/A_1.0.0.jar:A.class");
+		assertZipContents(buildFolder, "I.TestBuild/F-TestBuild-linux.gtk.x86_64.zip", entries);
+		try (ZipFile zip = new ZipFile(buildFolder.getFile("I.TestBuild/F-TestBuild-linux.gtk.x86_64.zip").getLocation().toFile())) {
+			assertEquals(ZipEntry.STORED, zip.getEntry("eclipse/plugins/A_1.0.0.jar").getMethod());
+		}
+	}
+
+	@Test
+	public void testStreamedJarsToFolder() throws Exception {
+		IFolder buildFolder = newTest("streamedJarsToFolder");
+
+		IFolder a = Utils.createFolder(buildFolder, "plugins/A");
+		Utils.generateBundle(a, "A");
+		Utils.writeBuffer(a.getFile("src/a.java"), new StringBuffer("class A {}"));
+
+		Utils.generateFeature(buildFolder, "F", null, new String[] { "A;unpack=false" });
+
+		Properties buildProperties = BuildConfiguration.getBuilderProperties(buildFolder);
+		buildProperties.put("topLevelElementId", "F");
+		buildProperties.put("baseLocation", "");
+		buildProperties.put("configs", "linux, gtk, x86_64");
+		buildProperties.put("archivesFormat", "*,*,*-folder");
+		buildProperties.put("streamJars", "true");
+
+		Utils.storeBuildProperties(buildFolder, buildProperties);
+
+		runBuild(buildFolder);
+
+		assertLogContainsLine(buildFolder.getFile("assemble.F.linux.gtk.x86_64.xml"), "<eclipse.jarUp");
+
+		buildFolder.refreshLocal(IResource.DEPTH_INFINITE, null);
+		assertZipContents(buildFolder.getFile("tmp/eclipse/plugins/A_1.0.0.jar"), "META-INF/MANIFEST.MF", "A.class");
+		assertFalse(buildFolder.getFolder("tmp/eclipse/plugins/A_1.0.0").exists());
+	}
 }
@@ -0,0 +1,282 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which accompanies this distribution,
+ * and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors: Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.pde.build.internal.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.jar.JarInputStream;
+import java.util.jar.Manifest;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.eclipse.pde.internal.build.packager.JarPackager;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class JarPackagerTests {
+
+	@Rule
+	public TemporaryFolder temp = new TemporaryFolder();
+
+	private static final String MANIFEST = "Manifest-Version: 1.0\r\nBundle-SymbolicName: a.bundle\r\n\r\n";
+
+	private static byte[] random(int size) {
+		byte[] bytes = new byte[size];
+		new Random(size).nextBytes(bytes);
+		return bytes;
+	}
+
+	private static byte[] text(int lines) {
+		StringBuilder text = new StringBuilder();
+		for (int i = 0; i < lines; i++)
+			text.append("line ").append(i).append('\n');
+		return text.toString().getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static void write(File folder, String name, byte[] content) throws IOException {
+		Path path = folder.toPath().resolve(name);
+		Files.createDirectories(path.getParent());
+		Files.write(path, content);
+	}
+
+	private static byte[] read(ZipFile zip, ZipEntry entry) throws IOException {
+		try (InputStream input = zip.getInputStream(entry)) {
+			return input.readAllBytes();
+		}
+	}
+
+	private File jar(File folder, int level) throws IOException {
+		File jar = new File(temp.getRoot(), folder.getName() + ".jar");
+		new JarPackager(level).jar(folder, jar);
+		return jar;
+	}
+
+	/** the files of a bundle folder by entry name */
+	private Map<String, byte[]> bundle() throws IOException {
+		Map<String, byte[]> content = new LinkedHashMap<>();
+		content.put(JarFile.MANIFEST_NAME, MANIFEST.getBytes(StandardCharsets.UTF_8));
+		content.put("a/A.class", text(2000));
+		content.put("a/b/data.bin", random(100000));
+		content.put("lib/nested.jar", text(1000));
+		content.put("icons/EMPTY.PNG", new byte[0]);
+		content.put("plugin.properties", text(1));
+		return content;
+	}
+
+	private File folder(String name, Map<String, byte[]> content) throws IOException {
+		File folder = temp.newFolder(name);
+		for (Map.Entry<String, byte[]> entry : content.entrySet())
+			write(folder, entry.getKey(), entry.getValue());
+		return folder;
+	}
+
+	@Test
+	public void testRoundTrip() throws Exception {
+		Map<String, byte[]> content = bundle();
+		File jar = jar(folder("bundle", content), Deflater.DEFAULT_COMPRESSION);
+
+		try (ZipFile zip = new ZipFile(jar)) {
+			List<String> files = new ArrayList<>();
+			for (ZipEntry entry : Collections.list(zip.entries())) {
+				if (!entry.isDirectory())
+					files.add(entry.getName());
+			}
+			assertEquals(content.keySet().size(), files.size());
+			for (Map.Entry<String, byte[]> expected : content.entrySet()) {
+				ZipEntry entry = zip.getEntry(expected.getKey());
+				assertNotNull(expected.getKey(), entry);
+				assertArrayEquals(expected.getKey(), expected.getValue(), read(zip, entry));
+				assertEquals(expected.getKey(), expected.getValue().length, entry.getSize());
+			}
+			assertEquals(ZipEntry.DEFLATED, zip.getEntry("a/A.class").getMethod());
+			// compressed already
+			assertEquals(ZipEntry.STORED, zip.getEntry("lib/nested.jar").getMethod());
+			assertEquals(ZipEntry.STORED, zip.getEntry("icons/EMPTY.PNG").getMethod());
+			// deflating does not shrink it
+			assertEquals(ZipEntry.STORED, zip.getEntry("a/b/data.bin").getMethod());
+		}
+
+		try (JarInputStream input = new JarInputStream(Files.newInputStream(jar.toPath()))) {
+			assertEquals("a.bundle", input.getManifest().getMainAttributes().getValue("Bundle-SymbolicName"));
+			int files = 0;
+			for (JarEntry entry = input.getNextJarEntry(); entry != null; entry = input.getNextJarEntry()) {
+				if (entry.isDirectory())
+					continue;
+				assertArrayEquals(entry.getName(), content.get(entry.getName()), input.readAllBytes());
+				files++;
+			}
+			// the manifest is not returned as an entry
+			assertEquals(content.size() - 1, files);
+		}
+	}
+
+	@Test
+	public void testNoCompression() throws Exception {
+		Map<String, byte[]> content = bundle();
+		File jar = jar(folder("bundle", content), Deflater.NO_COMPRESSION);
+
+		try (ZipFile zip = new ZipFile(jar)) {
+			for (ZipEntry entry : Collections.list(zip.entries())) {
+				assertEquals(entry.getName(), ZipEntry.STORED, entry.getMethod());
+				if (!entry.isDirectory())
+					assertArrayEquals(entry.getName(), content.get(entry.getName()), read(zip, entry));
+			}
+		}
+	}
+
+	@Test
+	public void testManifestFirst() throws Exception {
+		File folder = temp.newFolder("bundle");
+		// sorted before META-INF
+		write(folder, "A.txt", text(10));
+		write(folder, "META-INF/A.SF", text(10));
+		write(folder, JarFile.MANIFEST_NAME, MANIFEST.getBytes(StandardCharsets.UTF_8));
+		File jar = jar(folder, Deflater.BEST_SPEED);
+
+		try (ZipFile zip = new ZipFile(jar)) {
+			List<? extends ZipEntry> entries = Collections.list(zip.entries());
+			assertEquals("META-INF/", entries.get(0).getName());
+			assertEquals(JarFile.MANIFEST_NAME, entries.get(1).getName());
+			assertEquals(1, entries.stream().filter(e -> e.getName().equals(JarFile.MANIFEST_NAME)).count());
+		}
+	}
+
+	@Test
+	public void testDefaultManifest() throws Exception {
+		File folder = temp.newFolder("bundle");
+		write(folder, "A.txt", text(10));
+		File jar = jar(folder, Deflater.DEFAULT_COMPRESSION);
+
+		try (JarFile zip = new JarFile(jar)) {
+			Manifest manifest = zip.getManifest();
+			assertNotNull(manifest);
+			assertEquals("1.0", manifest.getMainAttributes().getValue(Attributes.Name.MANIFEST_VERSION));
+		}
+		try (JarInputStream input = new JarInputStream(Files.newInputStream(jar.toPath()))) {
+			assertNotNull(input.getManifest());
+		}
+	}
+
+	@Test
+	public void testEmptyDirectories() throws Exception {
+		File folder = temp.newFolder("bundle");
+		write(folder, "A.txt", text(10));
+		Files.createDirectories(folder.toPath().resolve("empty/nested"));
+		File jar = jar(folder, Deflater.DEFAULT_COMPRESSION);
+
+		try (ZipFile zip = new ZipFile(jar)) {
+			for (String name : new String[] {"empty/", "empty/nested/"}) {
+				ZipEntry entry = zip.getEntry(name);
+				assertNotNull(name, entry);
+				assertTrue(name, entry.isDirectory());
+				assertEquals(name, 0, entry.getSize());
+			}
+			assertNull(zip.getEntry("empty/nested/A.txt"));
+		}
+	}
+
+	@Test
+	public void testMoreEntriesThanZipWithoutZip64() throws Exception {
+		File folder = temp.newFolder("bundle");
+		Path data = Files.createDirectories(folder.toPath().resolve("data"));
+		int count = 0x10000 + 10;
+		for (int i = 0; i < count; i++)
+			Files.write(data.resolve(i + (i % 2 == 0 ? ".txt" : ".png")), Integer.toString(i).getBytes(StandardCharsets.UTF_8));
+		File jar = jar(folder, Deflater.DEFAULT_COMPRESSION);
+
+		try (ZipFile zip = new ZipFile(jar)) {
+			// META-INF/, the default manifest and data/
+			assertEquals(count + 3, zip.size());
+			for (int i : new int[] {0, 1, count / 2, count - 2, count - 1}) {
+				ZipEntry entry = zip.getEntry("data/" + i + (i % 2 == 0 ? ".txt" : ".png"));
+				assertNotNull(Integer.toString(i), entry);
+				assertEquals(Integer.toString(i), new String(read(zip, entry), StandardCharsets.UTF_8));
+				// images are stored, not deflated without compression
+				assertEquals(Integer.toString(i), i % 2 == 0 ? ZipEntry.DEFLATED : ZipEntry.STORED, entry.getMethod());
+			}
+		}
+		try (JarInputStream input = new JarInputStream(Files.newInputStream(jar.toPath()))) {
+			assertNotNull(input.getManifest());
+			int entries = 0;
+			for (JarEntry entry = input.getNextJarEntry(); entry != null; entry = input.getNextJarEntry()) {
+				assertFalse(entry.getName(), entry.getName().equals(JarFile.MANIFEST_NAME));
+				input.readAllBytes();
+				entries++;
+			}
+			// META-INF/ and the manifest are not returned as entries
+			assertEquals(count + 1, entries);
+		}
+	}
+
+	@Test
+	public void testArchive() throws Exception {
+		Map<String, byte[]> content = bundle();
+		File bundle = folder("bundle", content);
+		File feature = temp.newFile("feature.jar");
+		Files.write(feature.toPath(), text(10));
+		Map<String, File> elements = new LinkedHashMap<>();
+		elements.put("eclipse/plugins/a.bundle_1.0.0.jar", bundle);
+		elements.put("eclipse/features/a.feature_1.0.0.jar", feature);
+		elements.put("eclipse/plugins/missing_1.0.0.jar", new File(temp.getRoot(), "missing"));
+		File archive = new File(temp.getRoot(), "archive.zip");
+		new JarPackager(Deflater.BEST_COMPRESSION).archive(elements, archive);
+
+		try (ZipFile zip = new ZipFile(archive)) {
+			assertTrue(zip.getEntry("eclipse/").isDirectory());
+			assertTrue(zip.getEntry("eclipse/plugins/").isDirectory());
+			assertNull(zip.getEntry("eclipse/plugins/missing_1.0.0.jar"));
+
+			ZipEntry featureJar = zip.getEntry("eclipse/features/a.feature_1.0.0.jar");
+			assertEquals(ZipEntry.STORED, featureJar.getMethod());
+			assertArrayEquals(text(10), read(zip, featureJar));
+
+			ZipEntry jar = zip.getEntry("eclipse/plugins/a.bundle_1.0.0.jar");
+			// the entries of the jar are compressed already
+			assertEquals(ZipEntry.STORED, jar.getMethod());
+			try (JarInputStream input = new JarInputStream(zip.getInputStream(jar))) {
+				assertEquals("a.bundle", input.getManifest().getMainAttributes().getValue("Bundle-SymbolicName"));
+				int files = 0;
+				for (JarEntry entry = input.getNextJarEntry(); entry != null; entry = input.getNextJarEntry()) {
+					if (entry.isDirectory())
+						continue;
+					assertArrayEquals(entry.getName(), content.get(entry.getName()), input.readAllBytes());
+					files++;
+				}
+				assertEquals(content.size() - 1, files);
+			}
+		}
+	}
+}
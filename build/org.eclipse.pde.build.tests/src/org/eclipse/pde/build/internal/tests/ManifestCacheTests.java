@@ -0,0 +1,339 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which accompanies this distribution,
+ * and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors: Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.pde.build.internal.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Dictionary;
+import java.util.Hashtable;
+import java.util.List;
+import java.util.Properties;
+import java.util.stream.IntStream;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.pde.internal.build.AbstractScriptGenerator;
+import org.eclipse.pde.internal.build.IBuildPropertiesConstants;
+import org.eclipse.pde.internal.build.site.ManifestCache;
+import org.eclipse.pde.internal.build.site.PDEState;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ManifestCacheTests {
+
+	@Rule
+	public TemporaryFolder temp = new TemporaryFolder();
+
+	private static Dictionary<String, String> headers(String symbolicName) {
+		Dictionary<String, String> headers = new Hashtable<>();
+		headers.put("Bundle-ManifestVersion", "2");
+		headers.put("Bundle-SymbolicName", symbolicName);
+		headers.put("Bundle-Version", "1.0.0");
+		return headers;
+	}
+
+	private File manifest(String name, String content) throws IOException {
+		File file = new File(temp.getRoot(), name);
+		Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+		return file;
+	}
+
+	private File cacheFile() {
+		return new File(temp.getRoot(), "cache/manifests.bin");
+	}
+
+	private ManifestCache load() {
+		return ManifestCache.load(cacheFile().getAbsolutePath());
+	}
+
+	@After
+	public void resetProperties() {
+		StaticProperties.set(null);
+	}
+
+	@Test
+	public void testNoLocation() {
+		assertNull(ManifestCache.load(null));
+		assertNull(ManifestCache.load(" "));
+	}
+
+	@Test
+	public void testRoundTrip() throws IOException {
+		File a = manifest("a.MF", "a");
+		File b = manifest("b.MF", "bb");
+		ManifestCache cache = load();
+		assertNull(cache.get(a));
+		cache.put(a, headers("a"));
+		cache.put(b, headers("b"));
+		cache.save();
+
+		ManifestCache reloaded = load();
+		assertEquals(headers("a"), reloaded.get(a));
+		assertEquals(headers("b"), reloaded.get(b));
+	}
+
+	@Test
+	public void testLongHeader() throws IOException {
+		File a = manifest("a.MF", "a");
+		Dictionary<String, String> headers = headers("a");
+		String exports = String.join(",", IntStream.range(0, 10000).mapToObj(i -> "org.example.p" + i).toList());
+		headers.put("Export-Package", exports);
+		ManifestCache cache = load();
+		cache.put(a, headers);
+		cache.save();
+		assertEquals(exports, load().get(a).get("Export-Package"));
+	}
+
+	@Test
+	public void testReturnsCopies() throws IOException {
+		File a = manifest("a.MF", "a");
+		ManifestCache cache = load();
+		Dictionary<String, String> headers = headers("a");
+		cache.put(a, headers);
+		headers.put("Bundle-SymbolicName", "changed");
+		cache.get(a).put("Bundle-SymbolicName", "changed");
+		assertEquals("a", cache.get(a).get("Bundle-SymbolicName"));
+	}
+
+	@Test
+	public void testInvalidatedByLength() throws IOException {
+		File a = manifest("a.MF", "a");
+		long lastModified = a.lastModified();
+		ManifestCache cache = load();
+		cache.put(a, headers("a"));
+		cache.save();
+
+		Files.write(a.toPath(), "changed".getBytes(StandardCharsets.UTF_8));
+		assertTrue(a.setLastModified(lastModified));
+		assertNull(cache.get(a));
+		assertNull(load().get(a));
+	}
+
+	@Test
+	public void testInvalidatedByModificationTime() throws IOException {
+		File a = manifest("a.MF", "a");
+		ManifestCache cache = load();
+		cache.put(a, headers("a"));
+		cache.save();
+
+		Files.write(a.toPath(), "b".getBytes(StandardCharsets.UTF_8));
+		assertTrue(a.setLastModified(a.lastModified() + 10000));
+		assertNull(cache.get(a));
+		assertNull(load().get(a));
+	}
+
+	@Test
+	public void testKeyedByPath() throws IOException {
+		File a = manifest("a.MF", "a");
+		File copy = manifest("copy.MF", "a");
+		assertTrue(copy.setLastModified(a.lastModified()));
+		ManifestCache cache = load();
+		cache.put(a, headers("a"));
+		assertNull(cache.get(copy));
+		assertEquals(headers("a"), cache.get(new File(a.getAbsolutePath())));
+	}
+
+	@Test
+	public void testDeletedFilesDropped() throws IOException {
+		File a = manifest("a.MF", "a");
+		File b = manifest("b.MF", "b");
+		ManifestCache cache = load();
+		cache.put(a, headers("a"));
+		cache.put(b, headers("b"));
+		assertTrue(b.delete());
+		cache.save();
+
+		manifest("b.MF", "b");
+		ManifestCache reloaded = load();
+		assertEquals(headers("a"), reloaded.get(a));
+		assertNull(reloaded.get(b));
+	}
+
+	@Test
+	public void testCorruptFile() throws IOException {
+		File a = manifest("a.MF", "a");
+		cacheFile().getParentFile().mkdirs();
+		Files.write(cacheFile().toPath(), "not a manifest cache".getBytes(StandardCharsets.UTF_8));
+		ManifestCache cache = load();
+		assertNotNull(cache);
+		assertNull(cache.get(a));
+
+		// the damaged file is replaced
+		cache.put(a, headers("a"));
+		cache.save();
+		assertEquals(headers("a"), load().get(a));
+	}
+
+	@Test
+	public void testInvalidSizes() throws IOException {
+		File a = manifest("a.MF", "a");
+		for (int size : new int[] {-1, Integer.MAX_VALUE}) {
+			cacheFile().getParentFile().mkdirs();
+			try (DataOutputStream output = new DataOutputStream(Files.newOutputStream(cacheFile().toPath()))) {
+				output.writeInt(1); // format version
+				output.writeInt(1); // entries
+				output.writeInt(size); // length of the path
+			}
+			ManifestCache cache = load();
+			assertNotNull(cache);
+			assertNull(cache.get(a));
+		}
+	}
+
+	@Test
+	public void testTruncatedFile() throws IOException {
+		File a = manifest("a.MF", "a");
+		File b = manifest("b.MF", "b");
+		ManifestCache cache = load();
+		cache.put(a, headers("a"));
+		cache.put(b, headers("b"));
+		cache.save();
+
+		byte[] content = Files.readAllBytes(cacheFile().toPath());
+		for (int length : new int[] {0, 2, 6, content.length / 2, content.length - 1}) {
+			Files.write(cacheFile().toPath(), Arrays.copyOf(content, length));
+			ManifestCache truncated = load();
+			// no entry of a partly read cache is used
+			assertNull(truncated.get(a));
+			assertNull(truncated.get(b));
+		}
+	}
+
+	@Test
+	public void testUnknownFormatVersion() throws IOException {
+		File a = manifest("a.MF", "a");
+		ManifestCache cache = load();
+		cache.put(a, headers("a"));
+		cache.save();
+
+		byte[] content = Files.readAllBytes(cacheFile().toPath());
+		content[3]++;
+		Files.write(cacheFile().toPath(), content);
+		assertNull(load().get(a));
+	}
+
+	@Test
+	public void testAtomicSave() throws IOException {
+		File a = manifest("a.MF", "a");
+		ManifestCache cache = load();
+		cache.put(a, headers("a"));
+		cache.save();
+		byte[] saved = Files.readAllBytes(cacheFile().toPath());
+
+		// a cache that did not change is not written again
+		assertTrue(cacheFile().setLastModified(10000));
+		load().save();
+		cache.save();
+		assertEquals(10000, cacheFile().lastModified());
+
+		// the cache file is replaced as a whole, without temporary files left behind
+		File b = manifest("b.MF", "b");
+		cache.put(b, headers("b"));
+		cache.save();
+		assertArrayEquals(new String[] {cacheFile().getName()}, cacheFile().getParentFile().list());
+		assertFalse(Arrays.equals(saved, Files.readAllBytes(cacheFile().toPath())));
+		assertEquals(headers("b"), load().get(b));
+	}
+
+	@Test
+	public void testConcurrentPut() throws IOException {
+		List<File> files = new ArrayList<>();
+		for (int i = 0; i < 200; i++) {
+			files.add(manifest(i + ".MF", Integer.toString(i)));
+		}
+		ManifestCache cache = load();
+		files.parallelStream().forEach(file -> cache.put(file, headers(file.getName())));
+		cache.save();
+
+		ManifestCache reloaded = load();
+		for (File file : files) {
+			assertEquals(headers(file.getName()), reloaded.get(file));
+		}
+	}
+
+	@Test
+	public void testSequentialBundleLoading() throws Exception {
+		assertBundlesAdded(false);
+	}
+
+	@Test
+	public void testParallelBundleLoading() throws Exception {
+		assertBundlesAdded(true);
+	}
+
+	/**
+	 * Adds bundles to a state twice, the second time from the manifest cache,
+	 * and checks that they are added in the given order either way.
+	 */
+	private void assertBundlesAdded(boolean parallel) throws Exception {
+		List<File> bundles = new ArrayList<>();
+		List<String> names = new ArrayList<>();
+		for (int i = 0; i < 50; i++) {
+			String name = "bundle" + i;
+			File bundle = temp.newFolder(name);
+			File manifest = new File(bundle, "META-INF/MANIFEST.MF");
+			manifest.getParentFile().mkdirs();
+			Files.write(manifest.toPath(), ("Manifest-Version: 1.0\nBundle-ManifestVersion: 2\nBundle-SymbolicName: " + name + "\nBundle-Version: 1.0.0\n").getBytes(StandardCharsets.UTF_8));
+			bundles.add(bundle);
+			names.add(name);
+		}
+		Properties properties = new Properties();
+		properties.put(IBuildPropertiesConstants.PROPERTY_MANIFEST_CACHE, cacheFile().getAbsolutePath());
+		if (parallel) {
+			properties.put(IBuildPropertiesConstants.PROPERTY_PARALLEL_MANIFEST_LOADING, "true");
+		}
+		StaticProperties.set(properties);
+
+		PDEState state = new PDEState();
+		state.addBundles(bundles);
+		assertEquals(names, getSymbolicNames(state));
+		assertTrue(cacheFile().isFile());
+
+		PDEState cached = new PDEState();
+		cached.addBundles(bundles);
+		assertEquals(names, getSymbolicNames(cached));
+	}
+
+	private static List<String> getSymbolicNames(PDEState state) {
+		return Arrays.stream(state.getState().getBundles()).sorted((a, b) -> Long.compare(a.getBundleId(), b.getBundleId())).map(BundleDescription::getSymbolicName).toList();
+	}
+
+	/**
+	 * Gives access to the properties the script generators read.
+	 */
+	private static class StaticProperties extends AbstractScriptGenerator {
+		static void set(Properties properties) {
+			setStaticAntProperties(properties);
+		}
+
+		@Override
+		public void generate() throws CoreException {
+			// not used
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2020 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which accompanies this distribution,
@@ -16,6 +16,7 @@ package org.eclipse.pde.build.internal.tests;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.junit.Assume.assumeFalse;
@@ -27,6 +28,7 @@ import java.io.FileOutputStream;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -70,6 +72,7 @@ import org.eclipse.pde.internal.build.IPDEBuildConstants;
 import org.eclipse.pde.internal.build.builder.BuildDirector;
 import org.eclipse.pde.internal.build.site.BuildTimeFeature;
 import org.eclipse.pde.internal.build.site.BuildTimeFeatureFactory;
+import org.eclipse.pde.internal.build.site.BuildTimeSite;
 import org.eclipse.pde.internal.build.site.BuildTimeSiteFactory;
 import org.eclipse.pde.internal.build.site.QualifierReplacer;
 import org.junit.Ignore;
@@ -906,6 +909,193 @@ public class ScriptGenerationTests extends PDETestCase {
 		assertEquals("plugins/F", tasks[0].getRuntimeConfigurableWrapper().getAttributeMap().get("dir"));
 	}
 
+	@Test
+	public void testParallelScheduleLevels() throws Exception {
+		IFolder buildFolder = newTest("parallelScheduleLevels");
+		IFolder a = Utils.createFolder(buildFolder, "plugins/A");
+		IFolder b = Utils.createFolder(buildFolder, "plugins/B");
+		IFolder c = Utils.createFolder(buildFolder, "plugins/C");
+		IFolder d = Utils.createFolder(buildFolder, "plugins/D");
+
+		Utils.generateFeature(buildFolder, "feature", null, new String[] { "A", "B", "C", "D" });
+
+		Utils.generateBundle(a, "A");
+		Utils.generateBundle(b, "B");
+
+		Attributes attributes = new Attributes();
+		Attributes.Name requireAttribute = new Attributes.Name("Require-Bundle");
+		attributes.put(requireAttribute, "A");
+		Utils.generateBundleManifest(c, "C", "1.0.0", attributes);
+		Utils.generatePluginBuildProperties(c, null);
+
+		attributes.put(requireAttribute, "B");
+		Utils.generateBundleManifest(d, "D", "1.0.0", attributes);
+		Utils.generatePluginBuildProperties(d, null);
+
+		Properties properties = BuildConfiguration.getScriptGenerationProperties(buildFolder, "feature", "feature");
+		properties.put("flattenDependencies", "true");
+		properties.put("parallelCompilation", "true");
+		properties.put("parallelSchedule", "levels");
+		generateScripts(buildFolder, properties);
+
+		IFile buildScript = buildFolder.getFile("compile.feature.xml");
+		Project antProject = assertValidAntScript(buildScript);
+		Target main = antProject.getTargets().get("main");
+		assertNotNull(main);
+		Object[] children = AntUtils.getChildrenByName(main, "parallel");
+		// independent of the sort order, A and B are compiled before C and D
+		assertEquals(2, children.length);
+
+		Set<String> dirs = new HashSet<>();
+		for (Task task : AntUtils.getParallelTasks((Parallel) children[0])) {
+			dirs.add((String) task.getRuntimeConfigurableWrapper().getAttributeMap().get("dir"));
+		}
+		assertEquals(Set.of("plugins/A", "plugins/B"), dirs);
+
+		dirs.clear();
+		for (Task task : AntUtils.getParallelTasks((Parallel) children[1])) {
+			dirs.add((String) task.getRuntimeConfigurableWrapper().getAttributeMap().get("dir"));
+		}
+		assertEquals(Set.of("plugins/C", "plugins/D"), dirs);
+	}
+
+	@Test
+	public void testParallelScriptGeneration() throws Exception {
+		IFolder buildFolder = newTest("parallelScriptGeneration");
+		String[] ids = new String[20];
+		for (int i = 0; i < ids.length; i++) {
+			ids[i] = "P" + i;
+			IFolder bundle = Utils.createFolder(buildFolder, "plugins/" + ids[i]);
+			Attributes attributes = new Attributes();
+			if (i > 0)
+				attributes.put(new Attributes.Name("Require-Bundle"), ids[i - 1]);
+			Utils.generateBundleManifest(bundle, ids[i], "1.0.0", attributes);
+			Utils.generatePluginBuildProperties(bundle, null);
+		}
+		Utils.generateFeature(buildFolder, "feature", null, ids);
+
+		Properties properties = BuildConfiguration.getScriptGenerationProperties(buildFolder, "feature", "feature");
+		properties.put("parallelScriptGeneration", "true");
+		generateScripts(buildFolder, properties);
+
+		for (String id : ids) {
+			IFolder bundle = buildFolder.getFolder("plugins/" + id);
+			assertResourceFile(bundle, "build.xml");
+			assertValidAntScript(bundle.getFile("build.xml"));
+		}
+	}
+
+	@Test
+	public void testIncrementalBuild() throws Exception {
+		IFolder buildFolder = newTest("incrementalBuild");
+		IFolder base = Utils.createFolder(buildFolder, "plugins/base");
+		IFolder dependent = Utils.createFolder(buildFolder, "plugins/dependent");
+		IFolder other = Utils.createFolder(buildFolder, "plugins/other");
+		Utils.generateBundle(base, "base");
+		Attributes attributes = new Attributes();
+		attributes.put(new Attributes.Name("Require-Bundle"), "base");
+		Utils.generateBundleManifest(dependent, "dependent", "1.0.0", attributes);
+		Utils.generatePluginBuildProperties(dependent, null);
+		Utils.generateBundle(other, "other");
+		Utils.generateFeature(buildFolder, "feature", null, new String[] {"base", "dependent", "other"});
+
+		Properties properties = BuildConfiguration.getScriptGenerationProperties(buildFolder, "feature", "feature");
+		properties.put("incrementalBuild", "true");
+		generateScripts(buildFolder, properties);
+
+		// simulate the output of a previous build
+		IFolder[] bundles = new IFolder[] {base, dependent, other};
+		for (IFolder bundle : bundles) {
+			assertResourceFile(bundle, "build.xml");
+			File location = bundle.getLocation().toFile();
+			new File(location, "@dot").mkdir();
+			new File(location, "src.zip").createNewFile();
+			new File(location, "build.xml").setLastModified(1000);
+		}
+
+		generateScripts(buildFolder, properties);
+		for (IFolder bundle : bundles)
+			assertEquals(1000, bundle.getLocation().append("build.xml").toFile().lastModified());
+
+		// the id of a build does not affect what is compiled
+		properties.put("buildId", "I20260101");
+		generateScripts(buildFolder, properties);
+		for (IFolder bundle : bundles)
+			assertTrue(bundle.getLocation().append("@dot").toFile().exists());
+
+		Utils.writeBuffer(base.getFile("src/foo.java"), new StringBuffer("public class foo { int j; }"));
+		generateScripts(buildFolder, properties);
+		// the scripts of base and dependent are generated again, with the same content
+		assertFalse(base.getLocation().append("@dot").toFile().exists());
+		assertFalse(dependent.getLocation().append("@dot").toFile().exists());
+		assertEquals(1000, other.getLocation().append("build.xml").toFile().lastModified());
+		assertTrue(other.getLocation().append("@dot").toFile().exists());
+
+		// compiler settings affect all plug-ins
+		properties.put("javacSource", "17");
+		generateScripts(buildFolder, properties);
+		assertFalse(other.getLocation().append("@dot").toFile().exists());
+	}
+
+	@Test
+	public void testFindFeatureInRange() throws Exception {
+		IFolder buildFolder = newTest("findFeatureInRange");
+		BuildTimeSite site = new BuildTimeSite();
+		String[] versions = {"1.5.0", "1.0.0", "2.0.0", "1.0.0.v1"};
+		for (int i = 0; i < versions.length; i++) {
+			IFolder folder = Utils.createFolder(buildFolder, "site" + i);
+			Utils.generateFeature(folder, "f", null, null, versions[i]);
+			site.addFeatureReferenceModel(folder.getFile("features/f/feature.xml").getLocation().toFile());
+		}
+		Utils.generateFeature(buildFolder, "other", null, null, "3.0.0");
+		site.addFeatureReferenceModel(buildFolder.getFile("features/other/feature.xml").getLocation().toFile());
+
+		assertEquals("2.0.0", site.findFeature("f", null, true).getVersion());
+		assertEquals("2.0.0", site.findFeature("f", "0.0.0", true).getVersion());
+		assertEquals("1.5.0", site.findFeature("f", "1.5.0", true).getVersion());
+		assertEquals("1.0.0", site.findFeature("f", "1.0.0", true).getVersion());
+		assertEquals("1.0.0.v1", site.findFeature("f", "1.0.0.qualifier", true).getVersion());
+		assertNull(site.findFeature("f", "1.2.0", false));
+		assertNull(site.findFeature("f", "3.0.0", false));
+		assertEquals("3.0.0", site.findFeature("other", null, true).getVersion());
+		try {
+			site.findFeature("missing", null, true);
+			fail("Expected a missing feature");
+		} catch (CoreException e) {
+			assertTrue(e.getMessage().contains("missing"));
+		}
+	}
+
+	@Test
+	public void testFeatureVersionSuffixesOfSharedFeature() throws Exception {
+		IFolder buildFolder = newTest("featureVersionSuffixes");
+		Utils.generateBundle(Utils.createFolder(buildFolder, "plugins/p"), "p");
+		Utils.generateFeature(buildFolder, "shared", null, new String[] {"p"}, "1.0.0.qualifier");
+		Utils.generateFeature(buildFolder, "a", new String[] {"shared"}, null, "1.0.0.qualifier");
+		Utils.generateFeature(buildFolder, "b", new String[] {"shared"}, null, "1.0.0.qualifier");
+		Utils.generateFeature(buildFolder, "top", new String[] {"a", "b"}, null, "1.0.0.qualifier");
+
+		Properties properties = BuildConfiguration.getScriptGenerationProperties(buildFolder, "feature", "top");
+		properties.put("generateFeatureVersionSuffix", "true");
+		properties.put("forceContextQualifier", "v1");
+		generateScripts(buildFolder, properties);
+
+		// a and b include the same suffixed version of shared, and get the same suffix themselves
+		String shared = getSelfVersion(buildFolder.getFile("features/shared/build.xml"));
+		assertTrue(shared.startsWith("1.0.0.v1-"));
+		String a = getSelfVersion(buildFolder.getFile("features/a/build.xml"));
+		assertTrue(a.startsWith("1.0.0.v1-"));
+		assertEquals(a, getSelfVersion(buildFolder.getFile("features/b/build.xml")));
+		assertTrue(getSelfVersion(buildFolder.getFile("features/top/build.xml")).startsWith("1.0.0.v1-"));
+		assertLogContainsLine(buildFolder.getFile("features/a/build.xml"), "shared:0.0.0," + shared);
+	}
+
+	private static String getSelfVersion(IFile buildXML) throws Exception {
+		String contents = new String(buildXML.getContents(true).readAllBytes(), StandardCharsets.UTF_8);
+		int start = contents.indexOf("selfVersion=\"") + "selfVersion=\"".length();
+		return contents.substring(start, contents.indexOf('"', start));
+	}
+
 	public static class TestQualifierDirector extends BuildDirector {
 		public TestQualifierDirector() {
 			super();
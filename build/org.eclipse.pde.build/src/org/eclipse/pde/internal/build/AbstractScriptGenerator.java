@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,11 +14,9 @@
 package org.eclipse.pde.internal.build;
 
 import java.io.BufferedInputStream;
-import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
 import java.io.FilenameFilter;
 import java.io.IOException;
 import java.io.InputStream;
@@ -27,6 +25,7 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -35,6 +34,7 @@ import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 import java.util.StringTokenizer;
+import java.util.TreeSet;
 import java.util.stream.Stream;
 
 import org.eclipse.core.runtime.CoreException;
@@ -53,6 +53,7 @@ import org.eclipse.osgi.service.resolver.BundleDescription;
 import org.eclipse.osgi.service.resolver.State;
 import org.eclipse.osgi.util.NLS;
 import org.eclipse.pde.internal.build.ant.AntScript;
+import org.eclipse.pde.internal.build.ant.GeneratedFileOutputStream;
 import org.eclipse.pde.internal.build.builder.BuildDirector;
 import org.eclipse.pde.internal.build.site.BuildTimeFeature;
 import org.eclipse.pde.internal.build.site.BuildTimeSite;
@@ -144,6 +145,48 @@ public abstract class AbstractScriptGenerator implements IXMLConstants, IPDEBuil
 		return false;
 	}
 
+	public static int getPropertyAsInt(String key, int defaultValue) {
+		String value = getImmutableAntProperty(key, null);
+		if (value == null)
+			return defaultValue;
+		try {
+			return Integer.parseInt(value.trim());
+		} catch (NumberFormatException e) {
+			return defaultValue;
+		}
+	}
+
+	/**
+	 * Prints the start of a <code>parallel</code> block for the assembly and
+	 * packaging steps, with the thread limits given by the
+	 * <code>parallelAssemblyThreadCount</code> and
+	 * <code>parallelAssemblyThreadsPerProcessor</code> properties.
+	 */
+	protected void printParallelAssembly() {
+		script.printParallel(getPropertyAsInt(PROPERTY_PARALLEL_ASSEMBLY_THREAD_COUNT, -1), getPropertyAsInt(PROPERTY_PARALLEL_ASSEMBLY_THREADS_PER_PROCESSOR, -1));
+	}
+
+	/**
+	 * @param names the names of the properties to include, a name ending with
+	 * <code>*</code> includes all properties starting with the rest of the name
+	 * @return the given immutable Ant properties as sorted <code>key=value</code>
+	 * lines, to detect whether the settings of a build changed
+	 */
+	public static String getImmutableAntPropertiesAsString(Collection<String> names) {
+		if (immutableAntProperties == null)
+			return ""; //$NON-NLS-1$
+		StringBuilder result = new StringBuilder();
+		for (String key : new TreeSet<>(immutableAntProperties.stringPropertyNames())) {
+			for (String name : names) {
+				if (name.endsWith("*") ? key.startsWith(name.substring(0, name.length() - 1)) : key.equals(name)) { //$NON-NLS-1$
+					result.append(key).append('=').append(immutableAntProperties.getProperty(key)).append('\n');
+					break;
+				}
+			}
+		}
+		return result.toString();
+	}
+
 	public static String getImmutableAntProperty(String key, String defaultValue) {
 		if (immutableAntProperties == null || !immutableAntProperties.containsKey(key))
 			return defaultValue;
@@ -197,7 +240,8 @@ public abstract class AbstractScriptGenerator implements IXMLConstants, IPDEBuil
 
 	static public class MissingProperties extends Properties {
 		private static final long serialVersionUID = 3546924667060303927L;
-		private static MissingProperties singleton;
+		// created eagerly, callers compare against the instance from several threads
+		private static final MissingProperties singleton = new MissingProperties();
 
 		private MissingProperties() {
 			//nothing to do;
@@ -214,8 +258,6 @@ public abstract class AbstractScriptGenerator implements IXMLConstants, IPDEBuil
 		}
 
 		public static MissingProperties getInstance() {
-			if (singleton == null)
-				singleton = new MissingProperties();
 			return singleton;
 		}
 	}
@@ -254,7 +296,7 @@ public abstract class AbstractScriptGenerator implements IXMLConstants, IPDEBuil
 
 	protected static AntScript newAntScript(String scriptLocation, String scriptName) throws CoreException {
 		try {
-			OutputStream scriptStream = new BufferedOutputStream(new FileOutputStream(scriptLocation + '/' + scriptName));
+			OutputStream scriptStream = new GeneratedFileOutputStream(new File(scriptLocation, scriptName));
 			return new AntScript(scriptStream);
 		} catch (FileNotFoundException e) {
 			String message = NLS.bind(Messages.exception_writingFile, scriptLocation + '/' + scriptName);
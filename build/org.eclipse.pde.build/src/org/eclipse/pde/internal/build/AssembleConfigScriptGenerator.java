@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2017 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -23,6 +23,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -77,6 +78,7 @@ public class AssembleConfigScriptGenerator extends AbstractScriptGenerator {
 
 	private String archiveFormat;
 	private boolean groupConfigs = false;
+	private boolean concurrentConfigs = false;
 	private String product;
 	private ProductFile productFile = null;
 	protected ShapeAdvisor shapeAdvisor = null;
@@ -538,7 +540,11 @@ public class AssembleConfigScriptGenerator extends AbstractScriptGenerator {
 		script.printProperty(PROPERTY_WS, configInfo.getWs());
 		script.printProperty(PROPERTY_ARCH, configInfo.getArch());
 		script.printProperty(PROPERTY_SIGN, (signJars ? Boolean.TRUE : Boolean.FALSE).toString());
-		script.printProperty(PROPERTY_ASSEMBLY_TMP, Utils.getPropertyFormat(PROPERTY_BUILD_DIRECTORY) + "/tmp"); //$NON-NLS-1$
+		String assemblyTmp = Utils.getPropertyFormat(PROPERTY_BUILD_DIRECTORY) + "/tmp"; //$NON-NLS-1$
+		//configs assembled at the same time must not share the folder they gather into and clean up
+		if (concurrentConfigs && getTargetConfig().length() > 0)
+			assemblyTmp += '/' + getTargetConfig();
+		script.printProperty(PROPERTY_ASSEMBLY_TMP, assemblyTmp);
 		script.printProperty(PROPERTY_ECLIPSE_BASE, Utils.getPropertyFormat(PROPERTY_ASSEMBLY_TMP) + '/' + Utils.getPropertyFormat(PROPERTY_COLLECTING_FOLDER));
 		script.printProperty(PROPERTY_ECLIPSE_PLUGINS, Utils.getPropertyFormat(PROPERTY_ECLIPSE_BASE) + '/' + DEFAULT_PLUGIN_LOCATION);
 		script.printProperty(PROPERTY_ECLIPSE_FEATURES, Utils.getPropertyFormat(PROPERTY_ECLIPSE_BASE) + '/' + DEFAULT_FEATURE_LOCATION);
@@ -624,13 +630,19 @@ public class AssembleConfigScriptGenerator extends AbstractScriptGenerator {
 
 	protected void generatePostProcessingTarget() {
 		script.printTargetDeclaration(TARGET_JAR_PROCESSING, null, null, null, null);
+		//the elements are jarred, signed and described independently of each other
+		boolean parallel = getPropertyAsBoolean(PROPERTY_PARALLEL_ASSEMBLY) && plugins.length + features.length > 1;
+		if (parallel)
+			printParallelAssembly();
 		for (BundleDescription plugin : plugins) {
-			generatePostProcessingSteps(plugin.getSymbolicName(), plugin.getVersion().toString(), (String) shapeAdvisor.getFinalShape(plugin)[1], BUNDLE_TYPE);
+			generatePostProcessingSteps(plugin.getSymbolicName(), plugin.getVersion().toString(), (String) shapeAdvisor.getFinalShape(plugin)[1], BUNDLE_TYPE, parallel);
 		}
 
 		for (BuildTimeFeature feature : features) {
-			generatePostProcessingSteps(feature.getId(), feature.getVersion(), (String) shapeAdvisor.getFinalShape(feature)[1], FEATURE_TYPE);
+			generatePostProcessingSteps(feature.getId(), feature.getVersion(), (String) shapeAdvisor.getFinalShape(feature)[1], FEATURE_TYPE, parallel);
 		}
+		if (parallel)
+			script.printEndParallel();
 		printCustomAssemblyAntCall(PROPERTY_POST + TARGET_JARUP, null);
 		script.printTargetEnd();
 		script.println();
@@ -673,13 +685,19 @@ public class AssembleConfigScriptGenerator extends AbstractScriptGenerator {
 	}
 
 	//generate the appropriate postProcessingCall
-	private void generatePostProcessingSteps(String name, String version, String style, byte type) {
+	private void generatePostProcessingSteps(String name, String version, String style, byte type, boolean parallel) {
 		if (ShapeAdvisor.FOLDER.equalsIgnoreCase(style))
 			return;
 		if (ShapeAdvisor.FILE.equalsIgnoreCase(style)) {
+			//the steps of an element run in order even when the elements are processed in parallel
+			boolean sequential = parallel && (signJars || (generateJnlp && type == FEATURE_TYPE));
+			if (sequential)
+				script.printSequential();
 			generateJarUpCall(name, version, type);
 			generateSignJarCall(name, version, type);
 			generateJNLPCall(name, version, type);
+			if (sequential)
+				script.printEndSequential();
 			return;
 		}
 	}
@@ -695,9 +713,26 @@ public class AssembleConfigScriptGenerator extends AbstractScriptGenerator {
 		script.println("<eclipse.jnlpGenerator feature=\"" + AntScript.getEscaped(location) + "\"  codebase=\"" + Utils.getPropertyFormat(PROPERTY_JNLP_CODEBASE) + "\" j2se=\"" + Utils.getPropertyFormat(PROPERTY_JNLP_J2SE) + "\" locale=\"" + Utils.getPropertyFormat(PROPERTY_JNLP_LOCALE) + "\" generateOfflineAllowed=\"" + Utils.getPropertyFormat(PROPERTY_JNLP_GENOFFLINE) + "\" configInfo=\"" + Utils.getPropertyFormat(PROPERTY_JNLP_CONFIGS) + "\"/>"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$
 	}
 
+	/**
+	 * Whether the elements shaped as jars are jarred up straight into the
+	 * archive instead of to jars in the assembly folder. This requires an
+	 * archive written by Ant, and no step that needs the jars on disk.
+	 */
+	private boolean isStreamingJarsIntoArchive() {
+		return getPropertyAsBoolean(PROPERTY_STREAM_JARS) && FORMAT_ANTZIP.equalsIgnoreCase(archiveFormat) && !BuildDirector.p2Gathering && !signJars && !generateJnlp;
+	}
+
 	private void generateJarUpCall(String name, String version, byte type) {
+		if (isStreamingJarsIntoArchive())
+			return; //the archiving target jars up the element
+		String source = type == BUNDLE_TYPE ? Utils.getPropertyFormat(PROPERTY_ECLIPSE_PLUGINS) : Utils.getPropertyFormat(PROPERTY_ECLIPSE_FEATURES);
+		if (getPropertyAsBoolean(PROPERTY_STREAM_JARS)) {
+			//jar up in process instead of calling the jarUp target
+			script.printJarUpTask(source, name + '_' + version, Utils.getPropertyFormat(PROPERTY_JAR_COMPRESSION_LEVEL));
+			return;
+		}
 		Map<String, String> properties = new HashMap<>(2);
-		properties.put(PROPERTY_SOURCE, type == BUNDLE_TYPE ? Utils.getPropertyFormat(PROPERTY_ECLIPSE_PLUGINS) : Utils.getPropertyFormat(PROPERTY_ECLIPSE_FEATURES));
+		properties.put(PROPERTY_SOURCE, source);
 		properties.put(PROPERTY_ELEMENT_NAME, name + '_' + version);
 		script.printAntCallTask(TARGET_JARUP, true, properties);
 	}
@@ -941,6 +976,7 @@ public class AssembleConfigScriptGenerator extends AbstractScriptGenerator {
 	//TODO this code and the generateAntTarTarget() should be refactored using a factory or something like that.
 	protected void generateAntZipTarget() {
 		List<FileSet> fileSets = new ArrayList<>();
+		Map<String, String> jars = new LinkedHashMap<>();
 
 		if (BuildDirector.p2Gathering) {
 			//TODO permissions
@@ -949,13 +985,22 @@ public class AssembleConfigScriptGenerator extends AbstractScriptGenerator {
 			fileSets.add(new ZipFileSet(Utils.getPropertyFormat(PROPERTY_ECLIPSE_BASE), false, null, "**/**", null, toExcludeFromArchive, null, productFile != null ? Utils.getPropertyFormat(PROPERTY_ARCHIVE_PREFIX) : null, null, null)); //$NON-NLS-1$
 			fileSets.addAll(Arrays.asList(permissions));
 		} else {
+			boolean streaming = isStreamingJarsIntoArchive();
 			for (BundleDescription plugin2 : plugins) {
 				Object[] shape = shapeAdvisor.getFinalShape(plugin2);
+				if (streaming && shape[1] == ShapeAdvisor.FILE) {
+					jars.put(Utils.getPropertyFormat(PROPERTY_PLUGIN_ARCHIVE_PREFIX) + '/' + (String) shape[0], Utils.getPropertyFormat(PROPERTY_ECLIPSE_BASE) + '/' + DEFAULT_PLUGIN_LOCATION + '/' + plugin2.getSymbolicName() + '_' + plugin2.getVersion());
+					continue;
+				}
 				fileSets.add(new ZipFileSet(Utils.getPropertyFormat(PROPERTY_ECLIPSE_BASE) + '/' + DEFAULT_PLUGIN_LOCATION + '/' + (String) shape[0], shape[1] == ShapeAdvisor.FILE, null, null, null, null, null, Utils.getPropertyFormat(PROPERTY_PLUGIN_ARCHIVE_PREFIX) + '/' + (String) shape[0], null, null));
 			}
 
 			for (BuildTimeFeature feature2 : features) {
 				Object[] shape = shapeAdvisor.getFinalShape(feature2);
+				if (streaming && shape[1] == ShapeAdvisor.FILE) {
+					jars.put(Utils.getPropertyFormat(PROPERTY_FEATURE_ARCHIVE_PREFIX) + '/' + (String) shape[0], Utils.getPropertyFormat(PROPERTY_ECLIPSE_BASE) + '/' + DEFAULT_FEATURE_LOCATION + '/' + feature2.getId() + '_' + feature2.getVersion());
+					continue;
+				}
 				fileSets.add(new ZipFileSet(Utils.getPropertyFormat(PROPERTY_ECLIPSE_BASE) + '/' + DEFAULT_FEATURE_LOCATION + '/' + (String) shape[0], shape[1] == ShapeAdvisor.FILE, null, null, null, null, null, Utils.getPropertyFormat(PROPERTY_FEATURE_ARCHIVE_PREFIX) + '/' + (String) shape[0], null, null));
 			}
 
@@ -973,6 +1018,10 @@ public class AssembleConfigScriptGenerator extends AbstractScriptGenerator {
 				}
 			}
 		}
+		if (!jars.isEmpty()) {
+			//the jars are written into the archive first, the zip task adds the other files
+			script.printArchiveJarsTask(Utils.getPropertyFormat(PROPERTY_ARCHIVE_FULLPATH), jars, Utils.getPropertyFormat(PROPERTY_JAR_COMPRESSION_LEVEL));
+		}
 		if (fileSets.size() > 0) {
 			FileSet[] sets = fileSets.toArray(new FileSet[fileSets.size()]);
 			script.printZipTask(Utils.getPropertyFormat(PROPERTY_ARCHIVE_FULLPATH), null, false, true, sets);
@@ -1090,6 +1139,15 @@ public class AssembleConfigScriptGenerator extends AbstractScriptGenerator {
 		this.archiveFormat = archiveFormat;
 	}
 
+	/**
+	 * Sets whether the script is run at the same time as the scripts of the
+	 * other configurations, in which case it assembles in its own temporary
+	 * folder.
+	 */
+	public void setConcurrentConfigs(boolean concurrent) {
+		this.concurrentConfigs = concurrent;
+	}
+
 	public void setGroupConfigs(boolean group) {
 		groupConfigs = group;
 	}
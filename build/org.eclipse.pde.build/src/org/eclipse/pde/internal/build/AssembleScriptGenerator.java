@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -135,11 +135,18 @@ public class AssembleScriptGenerator extends AbstractScriptGenerator {
 			}
 			basicGenerateAssembleConfigFileTargetCall(new Config("group", "group", "group"), allPlugins, allFeatures, features, rootFiles); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
 		} else {
+			boolean parallel = shouldAssembleConfigsInParallel();
+			configScriptGenerator.setConcurrentConfigs(parallel);
+			if (parallel)
+				printParallelAssembly();
 			for (Config current : getConfigInfos()) {
 				@SuppressWarnings("rawtypes")
 				Collection[] configInfo = getConfigInfos(current);
 				basicGenerateAssembleConfigFileTargetCall(current, configInfo[0], configInfo[1], configInfo[2], configInfo[3]);
 			}
+			if (parallel)
+				script.printEndParallel();
+			configScriptGenerator.setConcurrentConfigs(false);
 		}
 		if (configScriptGenerator.haveP2Bundles() && !BuildDirector.p2Gathering)
 			script.printAntCallTask(TARGET_P2_METADATA, true, null);
@@ -157,6 +164,24 @@ public class AssembleScriptGenerator extends AbstractScriptGenerator {
 		return true;
 	}
 
+	/**
+	 * Whether the configurations are assembled concurrently. Each configuration
+	 * is then assembled in its own temporary folder. Configurations that are
+	 * assembled as a folder, or that publish into the shared p2 repositories,
+	 * stay sequential.
+	 */
+	protected boolean shouldAssembleConfigsInParallel() {
+		if (!getPropertyAsBoolean(PROPERTY_PARALLEL_ASSEMBLY) || getConfigInfos().size() < 2)
+			return false;
+		if (BuildDirector.p2Gathering || configScriptGenerator.haveP2Bundles())
+			return false;
+		for (Config config : getConfigInfos()) {
+			if (FORMAT_FOLDER.equalsIgnoreCase(archivesFormat.get(config)))
+				return false;
+		}
+		return true;
+	}
+
 	/**
 	 * Returns an array of collections containing the plug-ins, compiled features, all features 
 	 * and root file providers known to this generator for the given config.
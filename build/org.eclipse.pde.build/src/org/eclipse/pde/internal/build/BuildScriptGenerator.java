@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -35,6 +35,7 @@ import org.eclipse.core.runtime.Status;
 import org.eclipse.equinox.p2.publisher.eclipse.FeatureEntry;
 import org.eclipse.osgi.service.resolver.BundleDescription;
 import org.eclipse.osgi.util.NLS;
+import org.eclipse.pde.internal.build.ant.GeneratedFileOutputStream;
 import org.eclipse.pde.internal.build.builder.BuildDirector;
 import org.eclipse.pde.internal.build.builder.CompilationScriptGenerator;
 import org.eclipse.pde.internal.build.builder.DevClassPathHelper;
@@ -82,6 +83,7 @@ public class BuildScriptGenerator extends AbstractScriptGenerator {
 	protected boolean workspaceBinaries = false;
 	protected int threadCount = -1;
 	protected int threadsPerProcessor = -1;
+	protected String parallelSchedule = null;
 	protected String[] eeSources = null;
 
 	protected String product;
@@ -133,6 +135,7 @@ public class BuildScriptGenerator extends AbstractScriptGenerator {
 		List<String> features = new ArrayList<>(5);
 		try {
 			AbstractScriptGenerator.setStaticAntProperties(antProperties);
+			GeneratedFileOutputStream.resetStatistics();
 
 			sortElements(features, plugins);
 			pluginsForFilterRoots = plugins;
@@ -146,6 +149,10 @@ public class BuildScriptGenerator extends AbstractScriptGenerator {
 			generateModels(plugins);
 			generateFeatures(features);
 			flushState();
+
+			String summary = GeneratedFileOutputStream.getSummary();
+			if (summary != null)
+				BundleHelper.getDefault().getLog().log(new Status(IStatus.INFO, PI_PDEBUILD, summary));
 		} finally {
 			AbstractScriptGenerator.setStaticAntProperties(null);
 		}
@@ -456,6 +463,7 @@ public class BuildScriptGenerator extends AbstractScriptGenerator {
 		generator.setAssemblyData(assemblageInformation);
 		generator.setFeatureId(featureInfo[0]);
 		generator.setParallel(parallel);
+		generator.setSchedule(parallelSchedule);
 		generator.setThreadCount(threadCount);
 		generator.setThreadsPerProcessor(threadsPerProcessor);
 		generator.generate();
@@ -653,6 +661,10 @@ public class BuildScriptGenerator extends AbstractScriptGenerator {
 		this.parallel = parallel;
 	}
 
+	public void setParallelSchedule(String parallelSchedule) {
+		this.parallelSchedule = parallelSchedule;
+	}
+
 	public void setThreadCount(int threadCount) {
 		this.threadCount = threadCount;
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2011 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -158,4 +158,14 @@ public interface IBuildPropertiesConstants {
 	public static final String PROPERTY_GENERATE_ECLIPSEPRODUCT = "generateEclipseProduct"; //$NON-NLS-1$
 	public static final String PROPERTY_GENERATED_FEATURE_LABEL = "generatedFeatureLabel"; //$NON-NLS-1$
 	public static final String PROPERTY_FETCH_CACHE = "fetchCacheLocation"; //$NON-NLS-1$
+	public static final String PROPERTY_MANIFEST_CACHE = "manifestCacheLocation"; //$NON-NLS-1$
+	public static final String PROPERTY_PARALLEL_MANIFEST_LOADING = "parallelManifestLoading"; //$NON-NLS-1$
+	public static final String PROPERTY_PARALLEL_SCRIPT_GENERATION = "parallelScriptGeneration"; //$NON-NLS-1$
+	public static final String PROPERTY_INCREMENTAL_BUILD = "incrementalBuild"; //$NON-NLS-1$
+	public static final String PROPERTY_INCREMENTAL_BUILD_SETTINGS = "incrementalBuildSettings"; //$NON-NLS-1$
+	public static final String PROPERTY_PARALLEL_ASSEMBLY = "parallelAssembly"; //$NON-NLS-1$
+	public static final String PROPERTY_PARALLEL_ASSEMBLY_THREAD_COUNT = "parallelAssemblyThreadCount"; //$NON-NLS-1$
+	public static final String PROPERTY_PARALLEL_ASSEMBLY_THREADS_PER_PROCESSOR = "parallelAssemblyThreadsPerProcessor"; //$NON-NLS-1$
+	public static final String PROPERTY_STREAM_JARS = "streamJars"; //$NON-NLS-1$
+	public static final String PROPERTY_JAR_COMPRESSION_LEVEL = "jarCompressionLevel"; //$NON-NLS-1$
 }
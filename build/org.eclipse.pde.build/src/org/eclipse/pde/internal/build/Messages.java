@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2013 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -83,6 +83,10 @@ public class Messages extends NLS {
 	public static String build_feature_refresh;
 
 	public static String build_compilerSetting;
+	public static String build_compileSchedule;
+	public static String build_classpathCacheStatistics;
+	public static String build_incrementalSummary;
+	public static String build_generatedFilesSummary;
 	public static String invalid_archivesFormat;
 	public static String error_loading_platform_properties;
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.build.ant;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
@@ -34,6 +35,20 @@ import org.eclipse.pde.build.IAntScript;
  */
 public class AntScript implements IAntScript {
 
+	private static final int BUFFER_SIZE = 64 * 1024;
+	private static final char[] TABS = "\t\t\t\t\t\t\t\t\t\t\t\t\t\t\t\t".toCharArray(); //$NON-NLS-1$
+
+	// templates of the tasks printed most often
+	private static final TaskTemplate ANTCALL = new TaskTemplate("antcall", new String[] {"target", "inheritAll"}, new boolean[] {true, false}); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	private static final TaskTemplate AVAILABLE = new TaskTemplate("available", new String[] {"property", "file"}, new boolean[] {false, false}); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	private static final TaskTemplate JAR = new TaskTemplate("jar", new String[] {"destfile", "basedir", "manifest", "filesetmanifest"}, new boolean[] {true, false, false, false}); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+	private static final TaskTemplate PROPERTY = new TaskTemplate("property", new String[] {"name", "value"}, new boolean[] {true, true}); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	private static final TaskTemplate PARAM = new TaskTemplate("param", new String[] {"name", "value"}, new boolean[] {true, true}); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	private static final TaskTemplate PATHELEMENT = new TaskTemplate("pathelement", new String[] {"path"}, new boolean[] {false}); //$NON-NLS-1$ //$NON-NLS-2$
+	private static final TaskTemplate ECHO = new TaskTemplate("echo", new String[] {"level", "file", "message"}, new boolean[] {false, false, true}); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+	private static final TaskTemplate DELETE = new TaskTemplate("delete", new String[] {"dir", "file", "quiet"}, new boolean[] {false, false, false}); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+	private static final TaskTemplate TARGET = new TaskTemplate("target", new String[] {"name", "depends", "if", "unless", "description"}, new boolean[] {true, false, false, false, false}); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$
+
 	protected OutputStream out;
 	protected PrintWriter output;
 	protected final String XML_PROLOG = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"; //$NON-NLS-1$
@@ -46,7 +61,7 @@ public class AntScript implements IAntScript {
 	 */
 	public AntScript(OutputStream out) {
 		this.out = out;
-		output = new PrintWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+		output = new PrintWriter(new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE));
 		output.println(XML_PROLOG);
 	}
 
@@ -76,11 +91,7 @@ public class AntScript implements IAntScript {
 	 */
 	@Override
 	public void printAntCallTask(String target, boolean inheritAll, Map<String, String> params) {
-		printTab();
-		output.print("<antcall"); //$NON-NLS-1$
-		printAttribute("target", target, true); //$NON-NLS-1$
-		if (inheritAll == false)
-			printAttribute("inheritAll", "false", false); //$NON-NLS-1$ //$NON-NLS-2$
+		ANTCALL.print(this, target, inheritAll ? null : "false"); //$NON-NLS-1$
 		if (params == null)
 			output.println("/>"); //$NON-NLS-1$
 		else {
@@ -149,6 +160,18 @@ public class AntScript implements IAntScript {
 
 	}
 
+	public void printSequential() {
+		printTab();
+		output.println("<sequential>"); //$NON-NLS-1$
+		indent++;
+	}
+
+	public void printEndSequential() {
+		indent--;
+		printTab();
+		output.println("</sequential>"); //$NON-NLS-1$
+	}
+
 	public void printJarTask(String jarFile, FileSet[] files, String manifestAttribute) {
 		printTab();
 		output.print("<jar"); //$NON-NLS-1$
@@ -193,12 +216,7 @@ public class AntScript implements IAntScript {
 	 *        is "skip".
 	 */
 	public void printJarTask(String jarFile, String basedir, String manifestAttribute, String filesetManifest) {
-		printTab();
-		output.print("<jar"); //$NON-NLS-1$
-		printAttribute("destfile", jarFile, true); //$NON-NLS-1$
-		printAttribute("basedir", basedir, false); //$NON-NLS-1$
-		printAttribute("manifest", manifestAttribute, false); //$NON-NLS-1$
-		printAttribute("filesetmanifest", filesetManifest, false); //$NON-NLS-1$
+		JAR.print(this, jarFile, basedir, manifestAttribute, filesetManifest);
 		output.println("/>"); //$NON-NLS-1$
 	}
 
@@ -227,10 +245,7 @@ public class AntScript implements IAntScript {
 	 * @param file the file to look for
 	 */
 	public void printAvailableTask(String property, String file) {
-		printTab();
-		output.print("<available"); //$NON-NLS-1$
-		printAttribute("property", property, false); //$NON-NLS-1$
-		printAttribute("file", file, false); //$NON-NLS-1$
+		AVAILABLE.print(this, property, file);
 		output.println("/>"); //$NON-NLS-1$
 	}
 
@@ -481,9 +496,9 @@ public class AntScript implements IAntScript {
 		if (mandatory && value == null)
 			value = ""; //$NON-NLS-1$
 		if (value != null) {
-			output.print(" "); //$NON-NLS-1$
-			output.print(getEscaped(name));
-			output.print("="); //$NON-NLS-1$
+			output.write(' ');
+			printEscaped(name);
+			output.write('=');
 			printQuotes(value);
 		}
 	}
@@ -563,11 +578,7 @@ public class AntScript implements IAntScript {
 	}
 
 	public void printDeleteTask(String dir, String file, String quiet, FileSet[] fileSets) {
-		printTab();
-		output.print("<delete"); //$NON-NLS-1$
-		printAttribute("dir", dir, false); //$NON-NLS-1$
-		printAttribute("file", file, false); //$NON-NLS-1$
-		printAttribute("quiet", quiet, false); //$NON-NLS-1$
+		DELETE.print(this, dir, file, quiet);
 		if (fileSets == null)
 			output.println("/>"); //$NON-NLS-1$
 		else {
@@ -647,6 +658,47 @@ public class AntScript implements IAntScript {
 		println("/>"); //$NON-NLS-1$
 	}
 
+	/**
+	 * Print a <code>jarUp</code> task to the Ant script.
+	 * 
+	 * @param source the folder containing the element to jar up
+	 * @param elementName the name of the element folder, without extension
+	 * @param compressionLevel the compression level of the jar
+	 */
+	public void printJarUpTask(String source, String elementName, String compressionLevel) {
+		printTab();
+		output.print("<eclipse.jarUp"); //$NON-NLS-1$
+		printAttribute("source", source, true); //$NON-NLS-1$
+		printAttribute("elementName", elementName, true); //$NON-NLS-1$
+		printAttribute("compressionLevel", compressionLevel, false); //$NON-NLS-1$
+		output.println("/>"); //$NON-NLS-1$
+	}
+
+	/**
+	 * Print an <code>archiveJars</code> task to the Ant script.
+	 * 
+	 * @param archive the archive to create
+	 * @param jars the folders of the elements by the names of their jars in the archive
+	 * @param compressionLevel the compression level of the jars
+	 */
+	public void printArchiveJarsTask(String archive, Map<String, String> jars, String compressionLevel) {
+		printTab();
+		output.print("<eclipse.archiveJars"); //$NON-NLS-1$
+		printAttribute("archive", archive, true); //$NON-NLS-1$
+		printAttribute("compressionLevel", compressionLevel, false); //$NON-NLS-1$
+		output.println(">"); //$NON-NLS-1$
+		indent++;
+		for (Entry<String, String> jar : jars.entrySet()) {
+			printTab();
+			output.print("<element"); //$NON-NLS-1$
+			printAttribute("folder", jar.getValue(), true); //$NON-NLS-1$
+			printAttribute("entry", jar.getKey(), true); //$NON-NLS-1$
+			output.println("/>"); //$NON-NLS-1$
+		}
+		indent--;
+		printEndTag("eclipse.archiveJars"); //$NON-NLS-1$
+	}
+
 	/**
 	 * Print an <code>echo</code> task to the Ant script.
 	 * 
@@ -662,11 +714,7 @@ public class AntScript implements IAntScript {
 
 	@Override
 	public void printEchoTask(String file, String message, String level) {
-		printTab();
-		output.print("<echo"); //$NON-NLS-1$
-		printAttribute("level", level, false); //$NON-NLS-1$
-		printAttribute("file", file, false); //$NON-NLS-1$
-		printAttribute("message", message, true); //$NON-NLS-1$
+		ECHO.print(this, level, file, message);
 		output.println("/>"); //$NON-NLS-1$
 	}
 
@@ -689,9 +737,7 @@ public class AntScript implements IAntScript {
 		if (paths != null) {
 			indent++;
 			for (Object path : paths) {
-				printTab();
-				print("<pathelement"); //$NON-NLS-1$
-				printAttribute("path", path.toString(), false); //$NON-NLS-1$
+				PATHELEMENT.print(this, path.toString());
 				print("/>"); //$NON-NLS-1$
 				println();
 			}
@@ -708,10 +754,7 @@ public class AntScript implements IAntScript {
 	 */
 
 	protected void printParam(String name, String value) {
-		printTab();
-		output.print("<param"); //$NON-NLS-1$
-		printAttribute("name", name, true); //$NON-NLS-1$
-		printAttribute("value", value, true); //$NON-NLS-1$
+		PARAM.print(this, name, value);
 		output.println("/>"); //$NON-NLS-1$
 	}
 
@@ -746,10 +789,7 @@ public class AntScript implements IAntScript {
 	 * @param value the property value
 	 */
 	public void printProperty(String name, String value) {
-		printTab();
-		output.print("<property"); //$NON-NLS-1$
-		printAttribute("name", name, true); //$NON-NLS-1$
-		printAttribute("value", value, true); //$NON-NLS-1$
+		PROPERTY.print(this, name, value);
 		output.println("/>"); //$NON-NLS-1$
 	}
 
@@ -767,9 +807,29 @@ public class AntScript implements IAntScript {
 	 * @param message the string to print
 	 */
 	protected void printQuotes(String message) {
-		output.print("\""); //$NON-NLS-1$
-		output.print(getEscaped(message));
-		output.print("\""); //$NON-NLS-1$
+		output.write('"');
+		printEscaped(message);
+		output.write('"');
+	}
+
+	/**
+	 * Print the given string to the Ant script, escaping the XML special
+	 * characters without creating an intermediate string.
+	 *
+	 * @param s the string to print
+	 */
+	void printEscaped(String s) {
+		int start = 0;
+		int length = s.length();
+		for (int i = 0; i < length; i++) {
+			String replacement = getReplacement(s.charAt(i));
+			if (replacement != null) {
+				output.write(s, start, i - start);
+				output.write(replacement);
+				start = i + 1;
+			}
+		}
+		output.write(s, start, length - start);
 	}
 
 	/**
@@ -849,8 +909,8 @@ public class AntScript implements IAntScript {
 	 * Print the given number of tabs to the Ant script.
 	 */
 	public void printTab() {
-		for (int i = 0; i < indent; i++)
-			output.print("\t"); //$NON-NLS-1$
+		for (int remaining = indent; remaining > 0; remaining -= TABS.length)
+			output.write(TABS, 0, Math.min(remaining, TABS.length));
 	}
 
 	/**
@@ -900,13 +960,7 @@ public class AntScript implements IAntScript {
 	 */
 	@Override
 	public void printTargetDeclaration(String name, String depends, String ifClause, String unlessClause, String description) {
-		printTab();
-		output.print("<target"); //$NON-NLS-1$
-		printAttribute("name", name, true); //$NON-NLS-1$
-		printAttribute("depends", depends, false); //$NON-NLS-1$
-		printAttribute("if", ifClause, false); //$NON-NLS-1$
-		printAttribute("unless", unlessClause, false); //$NON-NLS-1$
-		printAttribute("description", description, false); //$NON-NLS-1$
+		TARGET.print(this, name, depends, ifClause, unlessClause, description);
 		output.println(">"); //$NON-NLS-1$
 		indent++;
 	}
@@ -1071,19 +1125,30 @@ public class AntScript implements IAntScript {
 	}
 
 	public static String getEscaped(String s) {
-		StringBuffer result = new StringBuffer(s.length() + 10);
-		for (int i = 0; i < s.length(); ++i)
-			appendEscapedChar(result, s.charAt(i));
-		return result.toString();
-	}
-
-	private static void appendEscapedChar(StringBuffer buffer, char c) {
-		buffer.append(getReplacement(c));
+		int length = s.length();
+		for (int i = 0; i < length; ++i) {
+			if (getReplacement(s.charAt(i)) == null)
+				continue;
+			// only copy strings that contain special characters
+			StringBuilder result = new StringBuilder(length + 10);
+			result.append(s, 0, i);
+			for (; i < length; ++i) {
+				char c = s.charAt(i);
+				String replacement = getReplacement(c);
+				if (replacement != null)
+					result.append(replacement);
+				else
+					result.append(c);
+			}
+			return result.toString();
+		}
+		return s;
 	}
 
 	private static String getReplacement(char c) {
 		// Encode special XML characters into the equivalent character references.
 		// These five are defined by default for all XML documents.
+		// Other characters need no replacement, null is returned for them.
 		switch (c) {
 			case '<' :
 				return "&lt;"; //$NON-NLS-1$
@@ -1096,7 +1161,7 @@ public class AntScript implements IAntScript {
 			case '&' :
 				return "&amp;"; //$NON-NLS-1$
 			default :
-				return String.valueOf(c);
+				return null;
 		}
 	}
 }
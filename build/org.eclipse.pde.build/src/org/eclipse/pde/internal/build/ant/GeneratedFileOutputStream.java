@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.build.ant;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.osgi.util.NLS;
+import org.eclipse.pde.internal.build.Messages;
+
+/**
+ * Collects the content of a generated file and only writes it when the file is
+ * closed and its content differs from the content already on disk. A script
+ * generated again with the same content keeps its time stamp, so Ant, the IDE
+ * and file watchers do not see it as modified.
+ */
+public class GeneratedFileOutputStream extends ByteArrayOutputStream {
+	private static final AtomicInteger written = new AtomicInteger();
+	private static final AtomicInteger unchanged = new AtomicInteger();
+
+	private final File file;
+	private boolean closed = false;
+
+	public GeneratedFileOutputStream(File file) throws FileNotFoundException {
+		super(8192);
+		File parent = file.getAbsoluteFile().getParentFile();
+		if (file.isDirectory() || (file.exists() && !file.canWrite()) || (parent != null && !parent.isDirectory()))
+			throw new FileNotFoundException(file.getPath());
+		this.file = file;
+	}
+
+	@Override
+	public synchronized void close() throws IOException {
+		if (closed)
+			return;
+		closed = true;
+		if (isUnchanged()) {
+			unchanged.incrementAndGet();
+			return;
+		}
+		try (OutputStream out = new FileOutputStream(file)) {
+			out.write(buf, 0, count);
+		}
+		written.incrementAndGet();
+	}
+
+	private boolean isUnchanged() throws IOException {
+		if (!file.isFile() || file.length() != count)
+			return false;
+		byte[] current = Files.readAllBytes(file.toPath());
+		return Arrays.equals(current, 0, current.length, buf, 0, count);
+	}
+
+	/**
+	 * Forgets the files counted so far, at the start of a new generation.
+	 */
+	public static void resetStatistics() {
+		written.set(0);
+		unchanged.set(0);
+	}
+
+	/**
+	 * @return a message telling how many of the generated files were
+	 *         modified, or <code>null</code> if no file was generated
+	 */
+	public static String getSummary() {
+		int changed = written.get();
+		int total = changed + unchanged.get();
+		if (total == 0)
+			return null;
+		return NLS.bind(Messages.build_generatedFilesSummary, Integer.toString(changed), Integer.toString(total));
+	}
+}
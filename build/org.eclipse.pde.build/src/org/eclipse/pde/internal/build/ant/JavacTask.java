@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -21,6 +21,10 @@ import org.eclipse.pde.internal.build.Utils;
  */
 public class JavacTask implements ITask {
 
+	private static final TaskTemplate TEMPLATE = new TaskTemplate("javac", //$NON-NLS-1$
+			new String[] {"destdir", "failonerror", "verbose", "fork", "debug", "includeAntRuntime", "bootclasspath", "source", "target", "encoding", "errorProperty", "compiler"}, //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$ //$NON-NLS-8$ //$NON-NLS-9$ //$NON-NLS-10$ //$NON-NLS-11$ //$NON-NLS-12$
+			new boolean[12]);
+
 	protected String classpathId;
 	protected String bootclasspath;
 	protected String destdir;
@@ -56,20 +60,7 @@ public class JavacTask implements ITask {
 	 */
 	@Override
 	public void print(AntScript script) {
-		script.printTab();
-		script.print("<javac"); //$NON-NLS-1$
-		script.printAttribute("destdir", destdir, false); //$NON-NLS-1$
-		script.printAttribute("failonerror", failonerror, false); //$NON-NLS-1$
-		script.printAttribute("verbose", verbose, false); //$NON-NLS-1$
-		script.printAttribute("fork", fork, false); //$NON-NLS-1$
-		script.printAttribute("debug", debug, false); //$NON-NLS-1$
-		script.printAttribute("includeAntRuntime", includeAntRuntime, false); //$NON-NLS-1$
-		script.printAttribute("bootclasspath", bootclasspath, false); //$NON-NLS-1$
-		script.printAttribute("source", source, false); //$NON-NLS-1$
-		script.printAttribute("target", target, false); //$NON-NLS-1$
-		script.printAttribute("encoding", encoding, false); //$NON-NLS-1$
-		script.printAttribute("errorProperty", errorProperty, false); //$NON-NLS-1$
-		script.printAttribute("compiler", compilerAdapter, false); //$NON-NLS-1$
+		TEMPLATE.print(script, destdir, failonerror, verbose, fork, debug, includeAntRuntime, bootclasspath, source, target, encoding, errorProperty, compilerAdapter);
 		script.println(">"); //$NON-NLS-1$
 
 		script.indent++;
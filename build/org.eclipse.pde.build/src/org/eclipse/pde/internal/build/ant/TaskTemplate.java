@@ -0,0 +1,54 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.build.ant;
+
+/**
+ * The start tag of a task that is printed many times, like <code>javac</code>
+ * or <code>antcall</code>. The opening of the tag is prepared once, the
+ * attributes are printed through {@link AntScript#printAttribute(String, String, boolean)}
+ * so that subclasses of the script see them.
+ */
+final class TaskTemplate {
+
+	private final char[] start;
+	private final String[] attributes;
+	private final boolean[] mandatory;
+
+	/**
+	 * @param tag the name of the task
+	 * @param attributes the names of the attributes in the order they are
+	 * 		printed
+	 * @param mandatory whether an attribute is printed with an empty value
+	 * 		instead of being omitted if its value is <code>null</code>
+	 */
+	TaskTemplate(String tag, String[] attributes, boolean[] mandatory) {
+		this.start = ('<' + tag).toCharArray();
+		this.attributes = attributes;
+		this.mandatory = mandatory;
+	}
+
+	/**
+	 * Prints the indentation, the tag and the attributes with the given
+	 * values. The caller closes the tag.
+	 *
+	 * @param script the script to print to
+	 * @param values the attribute values, in the order of the attribute names
+	 */
+	void print(AntScript script, String... values) {
+		script.printTab();
+		script.output.write(start);
+		for (int i = 0; i < attributes.length; i++)
+			script.printAttribute(attributes[i], values[i], mandatory[i]);
+	}
+}
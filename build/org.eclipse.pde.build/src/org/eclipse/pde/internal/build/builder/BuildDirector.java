@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,14 +14,18 @@
 package org.eclipse.pde.internal.build.builder;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.stream.IntStream;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IStatus;
@@ -32,6 +36,7 @@ import org.eclipse.osgi.service.resolver.BundleDescription;
 import org.eclipse.osgi.util.NLS;
 import org.eclipse.pde.internal.build.AbstractScriptGenerator;
 import org.eclipse.pde.internal.build.AssemblyInformation;
+import org.eclipse.pde.internal.build.BundleHelper;
 import org.eclipse.pde.internal.build.Config;
 import org.eclipse.pde.internal.build.Messages;
 import org.eclipse.pde.internal.build.SourceFeatureInformation;
@@ -99,8 +104,57 @@ public class BuildDirector extends AbstractBuildScriptGenerator {
 	}
 
 	private final Map<String, String> extractedLocations = new HashMap<>();
+	// feature id and version without suffix -> the generated version suffix, or null if there is none
+	private final Map<String, String> versionSuffixes = new HashMap<>();
+	private final ClasspathCache classpathCache = new ClasspathCache();
 
-	public String getExtractedRoot(ClasspathElement element) {
+	/**
+	 * @return the classpath data shared by the plug-ins of this build
+	 */
+	ClasspathCache getClasspathCache() {
+		return classpathCache;
+	}
+
+	private BundleFingerprints fingerprints;
+
+	/**
+	 * @return the fingerprints of the plug-ins if this is an incremental build,
+	 *         <code>null</code> otherwise
+	 */
+	synchronized BundleFingerprints getFingerprints() throws CoreException {
+		if (fingerprints == null && AbstractScriptGenerator.getPropertyAsBoolean(PROPERTY_INCREMENTAL_BUILD)) {
+			StringBuilder settings = new StringBuilder(AbstractScriptGenerator.getImmutableAntPropertiesAsString(getSettingsProperties()));
+			for (Config config : AbstractScriptGenerator.getConfigInfos())
+				settings.append(config.toString()).append('&');
+			fingerprints = new BundleFingerprints(new File(workingDirectory, BundleFingerprints.FINGERPRINTS_FOLDER), settings.toString());
+		}
+		return fingerprints;
+	}
+
+	/**
+	 * Returns the names of the properties whose change invalidates all
+	 * fingerprints, those given by the <code>incrementalBuildSettings</code>
+	 * property or else the properties that affect the compilation and the
+	 * content of the scripts: the <code>javac*</code> and compiler settings,
+	 * the boot classpath and the boot classpaths of the JRE profiles. Ids,
+	 * labels and time stamps of a build change on every build and are left
+	 * out.
+	 */
+	private Set<String> getSettingsProperties() throws CoreException {
+		String names = AbstractScriptGenerator.getImmutableAntProperty(PROPERTY_INCREMENTAL_BUILD_SETTINGS, null);
+		if (names != null)
+			return new LinkedHashSet<>(Arrays.asList(Utils.getArrayFromString(names)));
+
+		Set<String> result = new LinkedHashSet<>();
+		result.add("javac*"); //$NON-NLS-1$
+		result.add("compiler*"); //$NON-NLS-1$
+		result.add(PROPERTY_BOOTCLASSPATH);
+		result.add(PROPERTY_LOG_EXTENSION);
+		result.addAll(Arrays.asList(getSite(false).getRegistry().getProfileManager().getJavaProfiles()));
+		return result;
+	}
+
+	public synchronized String getExtractedRoot(ClasspathElement element) {
 		if (element.getSubPath() == null)
 			return element.getPath();
 
@@ -227,7 +281,21 @@ public class BuildDirector extends AbstractBuildScriptGenerator {
 		}
 
 		BuildTimeFeature feature = getSite(false).findFeature(featureIdentifier, searchedVersion, true);
+		if (generateVersionSuffix)
+			computeFeatureVersionSuffixes(feature);
 		generate(feature);
+
+		logSummary(classpathCache.getStatistics());
+		if (fingerprints != null)
+			logSummary(fingerprints.getSummary());
+	}
+
+	/**
+	 * Logs the given summary as information, it ends up in the Ant log.
+	 */
+	private static void logSummary(String summary) {
+		if (summary != null)
+			BundleHelper.getDefault().getLog().log(new Status(IStatus.INFO, PI_PDEBUILD, summary));
 	}
 
 	/**
@@ -293,15 +361,9 @@ public class BuildDirector extends AbstractBuildScriptGenerator {
 
 	private void generateChildrenScripts(BuildTimeFeature feature) throws CoreException {
 		Set<BundleDescription> plugins = computeElements(feature);
-		String suffix = generateFeatureVersionSuffix(feature);
+		String suffix = getFeatureVersionSuffix(feature);
 		if (suffix != null) {
-			Version versionId = new Version(feature.getVersion());
-			String qualifier = versionId.getQualifier();
-			qualifier = qualifier.substring(0, feature.getContextQualifierLength());
-			qualifier = qualifier + '-' + suffix;
-			versionId = new Version(versionId.getMajor(), versionId.getMinor(), versionId.getMicro(), qualifier);
-			String newVersion = versionId.toString();
-			feature.setVersion(newVersion);
+			feature.setVersion(getVersionWithSuffix(feature, suffix));
 			//initializeFeatureNames(); //reset our variables
 		}
 		generateModels(Utils.extractPlugins(getSite(false).getRegistry().getSortedBundles(), plugins));
@@ -368,6 +430,89 @@ public class BuildDirector extends AbstractBuildScriptGenerator {
 		return result;
 	}
 
+	/**
+	 * Computes the version suffixes of the given feature and of the features
+	 * it includes, once per feature, before any script is generated. The
+	 * suffix of a feature depends on the suffixes of the features it includes,
+	 * so the features are visited included features first.
+	 * <p>
+	 * A feature whose content is only known once its scripts are generated,
+	 * because it generates source plug-ins or source features, is left to be
+	 * computed when it is generated, and so are the features including it.
+	 * The versions of the features are not changed here.
+	 * </p>
+	 *
+	 * @param feature the root of the features to compute the suffixes for
+	 */
+	public void computeFeatureVersionSuffixes(BuildTimeFeature feature) throws CoreException {
+		computeFeatureVersionSuffixes(feature, new IdentityHashMap<>());
+	}
+
+	private boolean computeFeatureVersionSuffixes(BuildTimeFeature feature, Map<BuildTimeFeature, Boolean> visited) throws CoreException {
+		Boolean known = visited.get(feature);
+		if (known != null)
+			return known.booleanValue();
+		visited.put(feature, Boolean.FALSE); // a cycle can not be computed ahead
+
+		boolean computable = true;
+		Properties properties = getBuildProperties(feature);
+		for (Object key : properties.keySet()) {
+			String name = (String) key;
+			if (name.startsWith(GENERATION_SOURCE_FEATURE_PREFIX) || name.startsWith(GENERATION_SOURCE_PLUGIN_PREFIX))
+				computable = false;
+		}
+		for (FeatureEntry entry : feature.getIncludedFeatureReferences()) {
+			BuildTimeFeature included = getSite(false).findFeature(entry.getId(), entry.getVersion(), false);
+			// the suffix is computed from the highest version of an included feature
+			if (included == null || included != getSite(false).findFeature(entry.getId(), null, false) || !computeFeatureVersionSuffixes(included, visited))
+				computable = false;
+		}
+		if (computable)
+			getFeatureVersionSuffix(feature);
+		visited.put(feature, Boolean.valueOf(computable));
+		return computable;
+	}
+
+	/*
+	 * Returns the version suffix of the feature, computing it only the first
+	 * time the feature is met.
+	 */
+	private String getFeatureVersionSuffix(BuildTimeFeature feature) throws CoreException {
+		if (!generateVersionSuffix || feature.getContextQualifierLength() == -1)
+			return null;
+		String key = feature.getId() + '_' + getVersionWithSuffix(feature, null);
+		if (versionSuffixes.containsKey(key))
+			return versionSuffixes.get(key);
+		String suffix = generateFeatureVersionSuffix(feature);
+		versionSuffixes.put(key, suffix);
+		return suffix;
+	}
+
+	/*
+	 * Returns the version of the feature with the given suffix appended to its
+	 * context qualifier, or the version without suffix if the suffix is null.
+	 */
+	private static String getVersionWithSuffix(BuildTimeFeature feature, String suffix) {
+		Version versionId = new Version(feature.getVersion());
+		String qualifier = versionId.getQualifier();
+		qualifier = qualifier.substring(0, feature.getContextQualifierLength());
+		if (suffix != null)
+			qualifier = qualifier + '-' + suffix;
+		versionId = new Version(versionId.getMajor(), versionId.getMinor(), versionId.getMicro(), qualifier);
+		return versionId.toString();
+	}
+
+	/*
+	 * Returns the version an included feature has once it is generated: its
+	 * suffix may already be computed while its version is not updated yet.
+	 */
+	private String getGeneratedVersion(BuildTimeFeature feature) {
+		if (feature.getContextQualifierLength() == -1)
+			return feature.getVersion();
+		String suffix = versionSuffixes.get(feature.getId() + '_' + getVersionWithSuffix(feature, null));
+		return suffix != null ? getVersionWithSuffix(feature, suffix) : feature.getVersion();
+	}
+
 	protected String generateFeatureVersionSuffix(BuildTimeFeature buildFeature) throws CoreException {
 		if (!generateVersionSuffix || buildFeature.getContextQualifierLength() == -1) {
 			return null; // do nothing
@@ -409,7 +554,7 @@ public class BuildDirector extends AbstractBuildScriptGenerator {
 				continue;
 			}
 
-			Version version = new Version(refFeature.getVersion());
+			Version version = new Version(getGeneratedVersion(refFeature));
 			//PluginVersionIdentifier version = refFeature.getVersion();
 			majorSum += version.getMajor();
 			minorSum += version.getMinor();
@@ -520,6 +665,8 @@ public class BuildDirector extends AbstractBuildScriptGenerator {
 		if (binaryFeature == false || models.isEmpty())
 			return;
 
+		boolean concurrent = AbstractScriptGenerator.getPropertyAsBoolean(PROPERTY_PARALLEL_SCRIPT_GENERATION);
+		List<ModelBuildScriptGenerator> generators = new ArrayList<>(models.size());
 		Set<BundleDescription> generatedScripts = new HashSet<>(models.size());
 		for (BundleDescription model : models) {
 			if (generatedScripts.contains(model))
@@ -532,7 +679,7 @@ public class BuildDirector extends AbstractBuildScriptGenerator {
 			@SuppressWarnings("rawtypes")
 			Set matchingEntries = (Set) ((Properties) model.getUserObject()).get(PLUGIN_ENTRY);
 			if (matchingEntries == null || matchingEntries.isEmpty())
-				return;
+				break;
 
 			@SuppressWarnings("rawtypes")
 			Iterator entryIter = matchingEntries.iterator();
@@ -553,9 +700,42 @@ public class BuildDirector extends AbstractBuildScriptGenerator {
 			generator.setSignJars(signJars);
 			generator.setAssociatedEntry(correspondingEntry);
 			generator.setGenerateSourceReferences(sourceReferences);
-			generator.generate();
+			if (concurrent) {
+				// the classpath of a plug-in depends on the plug-ins set up before it, as in sequential generation
+				generator.setCompiledElements(new HashSet<>(getCompiledElements()));
+				generators.add(generator);
+			} else {
+				generator.generate();
+			}
 		}
 
+		if (!generators.isEmpty())
+			generateConcurrently(generators);
+	}
+
+	/**
+	 * Runs the given script generators concurrently. Every generator writes the
+	 * build.xml of its own plug-in and only reads the resolved state, the
+	 * shared data they update is synchronized. If generators fail, the failure
+	 * of the first plug-in in build order is reported.
+	 */
+	private void generateConcurrently(List<ModelBuildScriptGenerator> generators) throws CoreException {
+		// initialize shared lazily loaded data once instead of in every thread
+		getExecutionEnvironmentMappings();
+		getSite(false).getRegistry();
+
+		CoreException[] failures = new CoreException[generators.size()];
+		IntStream.range(0, generators.size()).parallel().forEach(i -> {
+			try {
+				generators.get(i).generate();
+			} catch (CoreException e) {
+				failures[i] = e;
+			}
+		});
+		for (CoreException failure : failures) {
+			if (failure != null)
+				throw failure;
+		}
 	}
 
 	/**
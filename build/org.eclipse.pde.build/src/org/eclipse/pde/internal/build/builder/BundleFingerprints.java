@@ -0,0 +1,369 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.build.builder;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.State;
+import org.eclipse.osgi.util.NLS;
+import org.eclipse.pde.internal.build.AbstractScriptGenerator;
+import org.eclipse.pde.internal.build.BundleHelper;
+import org.eclipse.pde.internal.build.IBuildPropertiesConstants;
+import org.eclipse.pde.internal.build.IPDEBuildConstants;
+import org.eclipse.pde.internal.build.Messages;
+import org.eclipse.pde.internal.build.Utils;
+import org.eclipse.pde.internal.build.site.PDEState;
+import org.osgi.framework.Version;
+
+/**
+ * Fingerprints of the plug-ins of an incremental build. The fingerprint of a
+ * plug-in covers its version including the qualifier, its manifest, its
+ * build.properties, the content of its source folders, the build settings and
+ * the fingerprints of the plug-ins it depends on. A plug-in whose fingerprint
+ * did not change since its build.xml was generated keeps its script and the
+ * libraries compiled by the previous build.
+ * <p>
+ * The fingerprint of every plug-in is stored in the <code>fingerprints</code>
+ * folder of the build directory when its script is generated. Binary plug-ins
+ * are only identified by their location, size and modification time.
+ * </p>
+ */
+final class BundleFingerprints implements IPDEBuildConstants, IBuildPropertiesConstants {
+
+	static final String FINGERPRINTS_FOLDER = "fingerprints"; //$NON-NLS-1$
+
+	private static final String KEY_FINGERPRINT = "fingerprint"; //$NON-NLS-1$
+	private static final String KEY_REQUIRED_BUNDLES = "requiredBundles"; //$NON-NLS-1$
+	private static final String COMPILATION_PROBLEM_MARKER = "compilation.problem"; //$NON-NLS-1$
+
+	private final File folder;
+	private final String settings;
+	private final Map<BundleDescription, String> fingerprints = new ConcurrentHashMap<>();
+	private final Map<BundleDescription, String> contents = new ConcurrentHashMap<>();
+	private final LongAdder checked = new LongAdder();
+	private final LongAdder unchanged = new LongAdder();
+
+	/**
+	 * @param folder the folder the fingerprints are stored in
+	 * @param settings the build settings that affect all plug-ins
+	 */
+	BundleFingerprints(File folder, String settings) {
+		this.folder = folder;
+		this.settings = settings;
+	}
+
+	/**
+	 * Returns whether the given plug-in did not change since its build script
+	 * was generated and the libraries built from it are still available. In
+	 * that case the prerequisites recorded with the fingerprint are restored
+	 * on the model as if the script had been generated again.
+	 *
+	 * @param bundle the plug-in to check
+	 * @param location the location of the plug-in
+	 * @param scriptName the name of the build script of the plug-in
+	 */
+	boolean isUnchanged(BundleDescription bundle, String location, String scriptName) {
+		checked.increment();
+		Properties stored = readFingerprint(bundle);
+		if (stored == null || !getFingerprint(bundle).equals(stored.getProperty(KEY_FINGERPRINT)))
+			return false;
+		if (!new File(location, scriptName).isFile() || new File(location, COMPILATION_PROBLEM_MARKER).exists())
+			return false;
+		for (String output : getOutputs(location)) {
+			if (!new File(location, output).exists())
+				return false;
+		}
+		String requiredIds = toRequiredIds(bundle.getContainingState(), stored.getProperty(KEY_REQUIRED_BUNDLES, "")); //$NON-NLS-1$
+		if (requiredIds == null)
+			return false;
+		Properties bundleProperties = (Properties) bundle.getUserObject();
+		if (bundleProperties == null) {
+			bundleProperties = new Properties();
+			bundle.setUserObject(bundleProperties);
+		}
+		bundleProperties.setProperty(PROPERTY_REQUIRED_BUNDLE_IDS, requiredIds);
+		unchanged.increment();
+		return true;
+	}
+
+	/**
+	 * Deletes the libraries and source archives a previous build compiled
+	 * from the given plug-in, so that the generated script builds them again.
+	 */
+	void deleteOutputs(String location) {
+		for (String output : getOutputs(location)) {
+			Path path = new File(location, output).toPath();
+			if (!Files.exists(path))
+				continue;
+			try (Stream<Path> files = Files.walk(path)) {
+				for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator)
+					Files.delete(file);
+			} catch (IOException e) {
+				String message = NLS.bind(Messages.exception_writingFile, path);
+				BundleHelper.getDefault().getLog().log(new Status(IStatus.WARNING, PI_PDEBUILD, message, e));
+			}
+		}
+	}
+
+	/**
+	 * Stores the fingerprint of the given plug-in after its build script has
+	 * been generated.
+	 */
+	void record(BundleDescription bundle) {
+		Properties fingerprint = new Properties();
+		fingerprint.setProperty(KEY_FINGERPRINT, getFingerprint(bundle));
+		Properties bundleProperties = (Properties) bundle.getUserObject();
+		String requiredIds = bundleProperties != null ? bundleProperties.getProperty(PROPERTY_REQUIRED_BUNDLE_IDS) : null;
+		fingerprint.setProperty(KEY_REQUIRED_BUNDLES, toRequiredBundles(bundle.getContainingState(), requiredIds));
+		File file = getFingerprintFile(bundle);
+		file.getParentFile().mkdirs();
+		try (OutputStream output = new BufferedOutputStream(Files.newOutputStream(file.toPath()))) {
+			fingerprint.store(output, null);
+		} catch (IOException e) {
+			String message = NLS.bind(Messages.exception_writingFile, file);
+			BundleHelper.getDefault().getLog().log(new Status(IStatus.WARNING, PI_PDEBUILD, message, e));
+		}
+	}
+
+	/**
+	 * @return a message describing how many plug-ins were reused, or
+	 *         <code>null</code> if no plug-in was checked
+	 */
+	String getSummary() {
+		if (checked.sum() == 0)
+			return null;
+		return NLS.bind(Messages.build_incrementalSummary, Long.toString(unchanged.sum()), Long.toString(checked.sum()));
+	}
+
+	String getFingerprint(BundleDescription bundle) {
+		return getFingerprint(bundle, new HashSet<>());
+	}
+
+	private String getFingerprint(BundleDescription bundle, Set<BundleDescription> inProgress) {
+		String fingerprint = fingerprints.get(bundle);
+		if (fingerprint != null)
+			return fingerprint;
+
+		MessageDigest digest = newDigest();
+		update(digest, settings);
+		update(digest, getContentFingerprint(bundle));
+		// binary plug-ins are not compiled, their prerequisites do not matter
+		if (!Utils.isBinary(bundle)) {
+			inProgress.add(bundle);
+			Map<String, String> prerequisites = new TreeMap<>();
+			List<BundleDescription> dependencies = new ArrayList<>(List.of(PDEState.getDependentBundles(bundle)));
+			if (bundle.getHost() != null && bundle.getHost().getSupplier() instanceof BundleDescription host)
+				dependencies.add(host);
+			for (BundleDescription prerequisite : dependencies) {
+				// a cycle can only contain one plug-in that is compiled, use its content only
+				String value = inProgress.contains(prerequisite) ? getContentFingerprint(prerequisite) : getFingerprint(prerequisite, inProgress);
+				prerequisites.put(ModelBuildScriptGenerator.getNormalizedName(prerequisite), value);
+			}
+			inProgress.remove(bundle);
+			for (Map.Entry<String, String> prerequisite : prerequisites.entrySet()) {
+				update(digest, prerequisite.getKey());
+				update(digest, prerequisite.getValue());
+			}
+		}
+		fingerprint = toHex(digest.digest());
+		String existing = fingerprints.putIfAbsent(bundle, fingerprint);
+		return existing != null ? existing : fingerprint;
+	}
+
+	private String getContentFingerprint(BundleDescription bundle) {
+		return contents.computeIfAbsent(bundle, this::computeContentFingerprint);
+	}
+
+	private String computeContentFingerprint(BundleDescription bundle) {
+		MessageDigest digest = newDigest();
+		update(digest, ModelBuildScriptGenerator.getNormalizedName(bundle));
+		File location = new File(bundle.getLocation());
+		if (Utils.isBinary(bundle)) {
+			File file = location.isDirectory() ? new File(location, MANIFEST_FOLDER + '/' + MANIFEST) : location;
+			update(digest, location.getAbsolutePath());
+			update(digest, Long.toString(file.length()));
+			update(digest, Long.toString(file.lastModified()));
+			return toHex(digest.digest());
+		}
+		try {
+			updateFile(digest, location.toPath(), location.toPath().resolve(MANIFEST_FOLDER).resolve(MANIFEST));
+			updateFile(digest, location.toPath(), location.toPath().resolve(PROPERTIES_FILE));
+			for (String folder : getSourceFolders(location.getAbsolutePath())) {
+				Path root = location.toPath().resolve(folder).normalize();
+				if (!Files.isDirectory(root))
+					continue;
+				try (Stream<Path> files = Files.walk(root)) {
+					for (Path file : (Iterable<Path>) files.filter(Files::isRegularFile).sorted()::iterator)
+						updateFile(digest, location.toPath(), file);
+				}
+			}
+		} catch (IOException e) {
+			// an unreadable plug-in is never considered unchanged
+			update(digest, Long.toString(System.nanoTime()));
+		}
+		return toHex(digest.digest());
+	}
+
+	private static void updateFile(MessageDigest digest, Path root, Path file) throws IOException {
+		if (!Files.isRegularFile(file))
+			return;
+		update(digest, root.relativize(file).toString().replace('\\', '/'));
+		byte[] buffer = new byte[8192];
+		try (InputStream input = new BufferedInputStream(Files.newInputStream(file))) {
+			int read;
+			while ((read = input.read(buffer)) != -1)
+				digest.update(buffer, 0, read);
+		}
+	}
+
+	private static Set<String> getSourceFolders(String location) {
+		Set<String> folders = new HashSet<>();
+		for (Map.Entry<Object, Object> entry : readBuildProperties(location).entrySet()) {
+			if (((String) entry.getKey()).startsWith(PROPERTY_SOURCE_PREFIX))
+				folders.addAll(List.of(Utils.getArrayFromString((String) entry.getValue())));
+		}
+		return folders;
+	}
+
+	/**
+	 * @return the libraries and source archives built from the plug-in at the
+	 *         given location, relative to it
+	 */
+	private static Set<String> getOutputs(String location) {
+		Set<String> outputs = new HashSet<>();
+		for (Object key : readBuildProperties(location).keySet()) {
+			String name = (String) key;
+			if (!name.startsWith(PROPERTY_SOURCE_PREFIX))
+				continue;
+			name = name.substring(PROPERTY_SOURCE_PREFIX.length());
+			if (name.equals(ModelBuildScriptGenerator.DOT))
+				name = ModelBuildScriptGenerator.EXPANDED_DOT;
+			outputs.add(name);
+			outputs.add(ModelBuildScriptGenerator.getSRCName(name));
+		}
+		return outputs;
+	}
+
+	private static Properties readBuildProperties(String location) {
+		try {
+			return AbstractScriptGenerator.readProperties(location, PROPERTIES_FILE, IStatus.OK);
+		} catch (CoreException e) {
+			return new Properties();
+		}
+	}
+
+	private Properties readFingerprint(BundleDescription bundle) {
+		File file = getFingerprintFile(bundle);
+		if (!file.isFile())
+			return null;
+		Properties fingerprint = new Properties();
+		try (InputStream input = new BufferedInputStream(Files.newInputStream(file.toPath()))) {
+			fingerprint.load(input);
+		} catch (IOException e) {
+			return null;
+		}
+		return fingerprint;
+	}
+
+	private File getFingerprintFile(BundleDescription bundle) {
+		return new File(folder, ModelBuildScriptGenerator.getNormalizedName(bundle) + ".properties"); //$NON-NLS-1$
+	}
+
+	/**
+	 * Bundle ids are assigned anew by every build, the prerequisites are
+	 * stored by symbolic name and version.
+	 */
+	private static String toRequiredBundles(State state, String requiredIds) {
+		StringBuilder result = new StringBuilder();
+		if (requiredIds == null || state == null)
+			return result.toString();
+		for (String id : Utils.getArrayFromString(requiredIds, ":")) { //$NON-NLS-1$
+			BundleDescription required = state.getBundle(Long.parseLong(id));
+			if (required == null)
+				continue;
+			if (result.length() > 0)
+				result.append(',');
+			result.append(required.getSymbolicName()).append('@').append(required.getVersion());
+		}
+		return result.toString();
+	}
+
+	/**
+	 * @return the bundle ids in the format of
+	 *         {@link IBuildPropertiesConstants#PROPERTY_REQUIRED_BUNDLE_IDS}, or
+	 *         <code>null</code> if one of the bundles is not in the state
+	 */
+	private static String toRequiredIds(State state, String requiredBundles) {
+		if (state == null)
+			return null;
+		StringBuilder result = new StringBuilder();
+		for (String required : Utils.getArrayFromString(requiredBundles)) {
+			int separator = required.lastIndexOf('@');
+			if (separator == -1)
+				return null;
+			BundleDescription bundle = state.getBundle(required.substring(0, separator), Version.parseVersion(required.substring(separator + 1)));
+			if (bundle == null)
+				return null;
+			result.append(bundle.getBundleId()).append(':');
+		}
+		return result.toString();
+	}
+
+	private static MessageDigest newDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static void update(MessageDigest digest, String value) {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		digest.update(bytes);
+		// separate the values so that different splits of the same characters differ
+		digest.update((byte) 0);
+	}
+
+	private static String toHex(byte[] bytes) {
+		StringBuilder result = new StringBuilder(bytes.length * 2);
+		for (byte b : bytes)
+			result.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+		return result.toString();
+	}
+}
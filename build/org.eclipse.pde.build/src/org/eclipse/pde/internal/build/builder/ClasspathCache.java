@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.build.builder;
+
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.State;
+import org.eclipse.osgi.util.NLS;
+import org.eclipse.pde.internal.build.AbstractScriptGenerator;
+import org.eclipse.pde.internal.build.IPDEBuildConstants;
+import org.eclipse.pde.internal.build.Messages;
+import org.eclipse.pde.internal.build.site.PDEState;
+
+/**
+ * Remembers, for the duration of a build, the data {@link ClasspathComputer3_0}
+ * needs about every bundle that ends up on a classpath: its build.properties,
+ * the libraries it contributes and its prerequisites. These do not depend on
+ * the bundle whose classpath is computed, so the bundles low in the
+ * dependency graph are only expanded once instead of once per dependent.
+ * <p>
+ * The cache is shared by the script generators of a {@link BuildDirector} and
+ * can be used concurrently.
+ * </p>
+ */
+final class ClasspathCache implements IPDEBuildConstants {
+
+	/**
+	 * The runtime libraries of a bundle and the build.properties they were
+	 * processed with. Both must not be modified.
+	 */
+	record Libraries(String[] libraries, Properties properties) {
+	}
+
+	@FunctionalInterface
+	interface LibrariesComputer {
+		Libraries compute() throws CoreException;
+	}
+
+	private final Map<String, Properties> buildProperties = new ConcurrentHashMap<>();
+	private final Map<BundleDescription, Libraries> libraries = new ConcurrentHashMap<>();
+	private final Map<BundleDescription, BundleDescription[]> prerequisites = new ConcurrentHashMap<>();
+	private volatile long stateTimeStamp = -1;
+
+	private final LongAdder propertiesHits = new LongAdder();
+	private final LongAdder propertiesLookups = new LongAdder();
+	private final LongAdder librariesHits = new LongAdder();
+	private final LongAdder librariesLookups = new LongAdder();
+	private final LongAdder prerequisitesHits = new LongAdder();
+	private final LongAdder prerequisitesLookups = new LongAdder();
+
+	/**
+	 * Returns the build.properties found in the given bundle location.
+	 *
+	 * @param location the location of a bundle
+	 * @return a copy of the properties the caller may modify, or
+	 *         {@link AbstractScriptGenerator.MissingProperties} if there is no
+	 *         build.properties file
+	 */
+	Properties getBuildProperties(String location) throws CoreException {
+		propertiesLookups.increment();
+		Properties properties = buildProperties.get(location);
+		if (properties != null) {
+			propertiesHits.increment();
+		} else {
+			properties = AbstractScriptGenerator.readProperties(location, PROPERTIES_FILE, IStatus.OK);
+			Properties existing = buildProperties.putIfAbsent(location, properties);
+			if (existing != null)
+				properties = existing;
+		}
+		if (properties == AbstractScriptGenerator.MissingProperties.getInstance())
+			return properties;
+		return (Properties) properties.clone();
+	}
+
+	/**
+	 * Returns the runtime libraries contributed by the given bundle, computing
+	 * them on first access.
+	 */
+	Libraries getLibraries(BundleDescription bundle, LibrariesComputer computer) throws CoreException {
+		librariesLookups.increment();
+		Libraries result = libraries.get(bundle);
+		if (result != null) {
+			librariesHits.increment();
+			return result;
+		}
+		result = computer.compute();
+		Libraries existing = libraries.putIfAbsent(bundle, result);
+		return existing != null ? existing : result;
+	}
+
+	/**
+	 * Returns the bundles the given bundle imports packages from or requires.
+	 * The result is recomputed when the bundle's state has been modified.
+	 */
+	BundleDescription[] getPrerequisites(BundleDescription bundle) {
+		State state = bundle.getContainingState();
+		if (state != null && state.getTimeStamp() != stateTimeStamp) {
+			synchronized (this) {
+				if (state.getTimeStamp() != stateTimeStamp) {
+					prerequisites.clear();
+					stateTimeStamp = state.getTimeStamp();
+				}
+			}
+		}
+		prerequisitesLookups.increment();
+		BundleDescription[] result = prerequisites.get(bundle);
+		if (result != null) {
+			prerequisitesHits.increment();
+			return result;
+		}
+		result = PDEState.getDependentBundles(bundle);
+		prerequisites.put(bundle, result);
+		return result;
+	}
+
+	/**
+	 * @return a message describing the hit rates of the cache, or
+	 *         <code>null</code> if it was not used
+	 */
+	String getStatistics() {
+		if (propertiesLookups.sum() == 0 && librariesLookups.sum() == 0 && prerequisitesLookups.sum() == 0)
+			return null;
+		return NLS.bind(Messages.build_classpathCacheStatistics, new Object[] {rate(propertiesHits, propertiesLookups), rate(librariesHits, librariesLookups), rate(prerequisitesHits, prerequisitesLookups)});
+	}
+
+	private static String rate(LongAdder hits, LongAdder lookups) {
+		long total = lookups.sum();
+		long hit = hits.sum();
+		long percent = total == 0 ? 0 : Math.round(hit * 100.0 / total);
+		return hit + "/" + total + " (" + percent + "%)"; //$NON-NLS-1$ //$NON-NLS-2$
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -48,7 +48,6 @@ import org.eclipse.pde.internal.build.IPDEBuildConstants;
 import org.eclipse.pde.internal.build.IXMLConstants;
 import org.eclipse.pde.internal.build.Messages;
 import org.eclipse.pde.internal.build.Utils;
-import org.eclipse.pde.internal.build.site.PDEState;
 import org.osgi.framework.Filter;
 
 public class ClasspathComputer3_0 implements IClasspathComputer, IPDEBuildConstants, IXMLConstants, IBuildPropertiesConstants {
@@ -150,6 +149,7 @@ public class ClasspathComputer3_0 implements IClasspathComputer, IPDEBuildConsta
 	private static final String EXCLUDE_ALL_RULE = "?**/*"; //$NON-NLS-1$
 
 	private final ModelBuildScriptGenerator generator;
+	private final ClasspathCache cache;
 	private Map<String, String> visiblePackages = null;
 	private Map<String, ClasspathElement> pathElements = null;
 	private boolean allowBinaryCycles = false;
@@ -158,6 +158,8 @@ public class ClasspathComputer3_0 implements IClasspathComputer, IPDEBuildConsta
 
 	public ClasspathComputer3_0(ModelBuildScriptGenerator modelGenerator) {
 		this.generator = modelGenerator;
+		ClasspathCache shared = modelGenerator.getClasspathCache();
+		this.cache = shared != null ? shared : new ClasspathCache();
 	}
 
 	/**
@@ -260,12 +262,17 @@ public class ClasspathComputer3_0 implements IClasspathComputer, IPDEBuildConsta
 	 * Add the runtime libraries for the specified plugin. 
 	 */
 	private void addRuntimeLibraries(BundleDescription model, List<Object> classpath, String baseLocation) throws CoreException {
-		String[] libraries = getClasspathEntries(model);
+		ClasspathCache.Libraries contribution = cache.getLibraries(model, () -> {
+			String[] entries = getClasspathEntries(model);
+			Properties properties = getBuildPropertiesFor(model);
+			if (properties != AbstractScriptGenerator.MissingProperties.getInstance())
+				ModelBuildScriptGenerator.specialDotProcessing(properties, entries);
+			return new ClasspathCache.Libraries(entries, properties);
+		});
+		String[] libraries = contribution.libraries();
+		Properties modelProps = contribution.properties();
 		String root = generator.getLocation(model);
 		IPath base = Utils.makeRelative(IPath.fromOSString(root), IPath.fromOSString(baseLocation));
-		Properties modelProps = getBuildPropertiesFor(model);
-		if (modelProps != AbstractScriptGenerator.MissingProperties.getInstance())
-			ModelBuildScriptGenerator.specialDotProcessing(modelProps, libraries);
 		for (String element : libraries) {
 			addDevEntries(model, baseLocation, classpath, Utils.getArrayFromString(modelProps.getProperty(PROPERTY_OUTPUT_PREFIX + element)), modelProps);
 			addPathAndCheck(model, base, element, modelProps, classpath);
@@ -328,7 +335,7 @@ public class ClasspathComputer3_0 implements IClasspathComputer, IPDEBuildConsta
 
 	private Properties getBuildPropertiesFor(BundleDescription bundle) {
 		try {
-			Properties bundleProperties = AbstractScriptGenerator.readProperties(generator.getLocation(bundle), PROPERTIES_FILE, IStatus.OK);
+			Properties bundleProperties = cache.getBuildProperties(generator.getLocation(bundle));
 			if (Utils.isStringIn(generator.getClasspathEntries(bundle), ModelBuildScriptGenerator.DOT) != -1) {
 				String sourceFolder = bundleProperties.getProperty(PROPERTY_SOURCE_PREFIX + ModelBuildScriptGenerator.DOT);
 				if (sourceFolder != null) {
@@ -570,7 +577,7 @@ public class ClasspathComputer3_0 implements IClasspathComputer, IPDEBuildConsta
 
 		// add libraries from pre-requisite plug-ins.  Don't worry about the export flag
 		// as all required plugins may be required for compilation.
-		BundleDescription[] requires = PDEState.getDependentBundles(target);
+		BundleDescription[] requires = cache.getPrerequisites(target);
 		pluginChain.add(target);
 		for (BundleDescription require : requires) {
 			addPluginAndPrerequisites(require, classpath, baseLocation, pluginChain, addedPlugins);
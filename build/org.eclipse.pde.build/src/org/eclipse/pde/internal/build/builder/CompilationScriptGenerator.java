@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2021 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which accompanies this distribution,
@@ -12,22 +12,44 @@
  ******************************************************************************/
 package org.eclipse.pde.internal.build.builder;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
 import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.util.NLS;
 import org.eclipse.pde.internal.build.AbstractScriptGenerator;
 import org.eclipse.pde.internal.build.AssemblyInformation;
+import org.eclipse.pde.internal.build.BundleHelper;
+import org.eclipse.pde.internal.build.Messages;
 import org.eclipse.pde.internal.build.Utils;
 
 public class CompilationScriptGenerator extends AbstractScriptGenerator {
 
+	/**
+	 * Parallel schedule that starts a new parallel block whenever a bundle
+	 * requires one of the bundles of the current block, in sorted order.
+	 */
+	public static final String SCHEDULE_LINEAR = "linear"; //$NON-NLS-1$
+	/**
+	 * Parallel schedule that groups the bundles by topological level, every
+	 * parallel block contains all bundles whose prerequisites were compiled in
+	 * the previous blocks.
+	 */
+	public static final String SCHEDULE_LEVELS = "levels"; //$NON-NLS-1$
+
 	private String featureId = "all"; //$NON-NLS-1$
 	private boolean parallel = true;
+	private String schedule = SCHEDULE_LINEAR;
 	private int threadCount = 0;
 	private int threadsPerProcessor = 3;
 
@@ -61,6 +83,15 @@ public class CompilationScriptGenerator extends AbstractScriptGenerator {
 		this.parallel = parallel;
 	}
 
+	/**
+	 * Sets the way bundles are grouped into parallel blocks, either
+	 * {@link #SCHEDULE_LINEAR} or {@link #SCHEDULE_LEVELS}. Unknown values
+	 * select the linear schedule.
+	 */
+	public void setSchedule(String schedule) {
+		this.schedule = SCHEDULE_LEVELS.equalsIgnoreCase(schedule) ? SCHEDULE_LEVELS : SCHEDULE_LINEAR;
+	}
+
 	public void setThreadCount(int count) {
 		if (count != -1)
 			this.threadCount = count;
@@ -97,6 +128,11 @@ public class CompilationScriptGenerator extends AbstractScriptGenerator {
 		List<BundleDescription> sortedPlugins = Utils.extractPlugins(getSite(false).getRegistry().getSortedBundles(), plugins);
 		IPath basePath = IPath.fromOSString(workingDirectory);
 
+		if (parallel && SCHEDULE_LEVELS.equals(schedule)) {
+			generateLevels(sortedPlugins, basePath);
+			return;
+		}
+
 		Set<Long> bucket = null;
 		if (parallel) {
 			bucket = new HashSet<>();
@@ -117,15 +153,120 @@ public class CompilationScriptGenerator extends AbstractScriptGenerator {
 				bucket.add(Long.valueOf(bundle.getBundleId()));
 			}
 
-			IPath location = Utils.makeRelative(IPath.fromOSString(getLocation(bundle)), basePath);
-			script.printAntTask(DEFAULT_BUILD_SCRIPT_FILENAME, location.toString(), TARGET_BUILD_JARS, null, null, null);
+			printBuildJars(bundle, basePath);
 		}
 
 		if (parallel)
 			script.printEndParallel();
 	}
 
-	private boolean requiredInBucket(BundleDescription bundle, Set<Long> bucket) {
+	private void printBuildJars(BundleDescription bundle, IPath basePath) {
+		IPath location = Utils.makeRelative(IPath.fromOSString(getLocation(bundle)), basePath);
+		script.printAntTask(DEFAULT_BUILD_SCRIPT_FILENAME, location.toString(), TARGET_BUILD_JARS, null, null, null);
+	}
+
+	private void generateLevels(List<BundleDescription> sortedPlugins, IPath basePath) {
+		List<BundleDescription> bundles = new ArrayList<>(sortedPlugins.size());
+		for (BundleDescription bundle : sortedPlugins) {
+			// Individual source bundles have empty build.jars targets, skip them
+			if (!Utils.isSourceBundle(bundle))
+				bundles.add(bundle);
+		}
+
+		List<List<BundleDescription>> levels = computeLevels(bundles);
+		reportSchedule(bundles.size(), levels);
+
+		for (List<BundleDescription> level : levels) {
+			script.printParallel(threadCount, threadsPerProcessor);
+			for (BundleDescription bundle : level) {
+				printBuildJars(bundle, basePath);
+			}
+			script.printEndParallel();
+		}
+	}
+
+	/**
+	 * Reports the shape of the level schedule in the script and in the build log.
+	 * The number of levels is the critical path, the longest chain of compiled
+	 * bundles requiring each other.
+	 */
+	private void reportSchedule(int bundles, List<List<BundleDescription>> levels) {
+		int widest = 0;
+		for (List<BundleDescription> level : levels) {
+			widest = Math.max(widest, level.size());
+		}
+		String report = NLS.bind(Messages.build_compileSchedule, new Object[] {featureId, Integer.valueOf(bundles), Integer.valueOf(levels.size()), Integer.valueOf(widest)});
+		script.printComment(report);
+		BundleHelper.getDefault().getLog().log(new Status(IStatus.INFO, PI_PDEBUILD, report));
+	}
+
+	/**
+	 * Groups the given bundles by topological level: a bundle is placed in the
+	 * level following the highest level of the bundles it requires. Only
+	 * requirements on bundles earlier in the given order are considered, which
+	 * is what the linear schedule does as well. The number of levels is the
+	 * length of the critical path in bundles.
+	 * <p>
+	 * Within a level, bundles that head the longest chains of dependent bundles
+	 * come first, so that they are started first when there are fewer threads
+	 * than bundles.
+	 * </p>
+	 *
+	 * @param bundles the bundles to compile, sorted by their dependencies
+	 * @return the bundles of every level
+	 */
+	static List<List<BundleDescription>> computeLevels(List<BundleDescription> bundles) {
+		int size = bundles.size();
+		Map<Long, Integer> positions = new HashMap<>(size * 2);
+		for (int i = 0; i < size; i++) {
+			positions.put(Long.valueOf(bundles.get(i).getBundleId()), Integer.valueOf(i));
+		}
+
+		int[] level = new int[size];
+		List<List<Integer>> dependents = new ArrayList<>(size);
+		int levelCount = 0;
+		for (int i = 0; i < size; i++) {
+			dependents.add(new ArrayList<>());
+			for (Long requiredId : getRequiredIds(bundles.get(i))) {
+				Integer required = positions.get(requiredId);
+				if (required != null && required.intValue() < i) {
+					level[i] = Math.max(level[i], level[required.intValue()] + 1);
+					dependents.get(required.intValue()).add(Integer.valueOf(i));
+				}
+			}
+			levelCount = Math.max(levelCount, level[i] + 1);
+		}
+
+		// length of the longest chain of dependents starting at every bundle
+		int[] height = new int[size];
+		for (int i = size - 1; i >= 0; i--) {
+			height[i] = 1;
+			for (Integer dependent : dependents.get(i)) {
+				height[i] = Math.max(height[i], height[dependent.intValue()] + 1);
+			}
+		}
+
+		List<List<Integer>> indices = new ArrayList<>(levelCount);
+		for (int i = 0; i < levelCount; i++) {
+			indices.add(new ArrayList<>());
+		}
+		for (int i = 0; i < size; i++) {
+			indices.get(level[i]).add(Integer.valueOf(i));
+		}
+		List<List<BundleDescription>> levels = new ArrayList<>(levelCount);
+		for (List<Integer> group : indices) {
+			group.sort(Comparator.comparingInt((Integer i) -> height[i.intValue()]).reversed());
+			List<BundleDescription> levelBundles = new ArrayList<>(group.size());
+			for (Integer i : group) {
+				levelBundles.add(bundles.get(i.intValue()));
+			}
+			levels.add(levelBundles);
+		}
+		return levels;
+	}
+
+	private static List<Long> getRequiredIds(BundleDescription bundle) {
+		List<Long> result = new ArrayList<>();
 		Properties properties = (Properties) bundle.getUserObject();
 		if (properties != null) {
 			String required = properties.getProperty(PROPERTY_REQUIRED_BUNDLE_IDS);
@@ -133,15 +274,22 @@ public class CompilationScriptGenerator extends AbstractScriptGenerator {
 				String[] ids = Utils.getArrayFromString(required, ":"); //$NON-NLS-1$
 				for (String id2 : ids) {
 					try {
-						if (bucket.contains(Long.valueOf(id2))) {
-							return true;
-						}
+						result.add(Long.valueOf(id2));
 					} catch (NumberFormatException e) {
 						//ignore
 					}
 				}
 			}
 		}
+		return result;
+	}
+
+	private boolean requiredInBucket(BundleDescription bundle, Set<Long> bucket) {
+		for (Long id : getRequiredIds(bundle)) {
+			if (bucket.contains(id)) {
+				return true;
+			}
+		}
 		return false;
 	}
 }
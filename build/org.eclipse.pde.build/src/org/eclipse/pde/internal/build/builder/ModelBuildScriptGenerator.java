@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which accompanies this distribution,
@@ -185,12 +185,21 @@ public class ModelBuildScriptGenerator extends AbstractBuildScriptGenerator {
 			return;
 		}
 
+		BundleFingerprints fingerprints = featureGenerator != null ? featureGenerator.getFingerprints() : null;
+		if (fingerprints != null) {
+			if (fingerprints.isUnchanged(model, getLocation(model), buildScriptFileName))
+				return;
+			fingerprints.deleteOutputs(getLocation(model));
+		}
+
 		openScript(getLocation(model), buildScriptFileName);
 		try {
 			generateBuildScript();
 		} finally {
 			closeScript();
 		}
+		if (fingerprints != null)
+			fingerprints.record(model);
 	}
 
 	public static String getNormalizedName(BundleDescription bundle) {
@@ -1206,6 +1215,14 @@ public class ModelBuildScriptGenerator extends AbstractBuildScriptGenerator {
 		this.featureGenerator = featureGenerator;
 	}
 
+	/**
+	 * @return the classpath cache of the build this generator belongs to, or
+	 *         <code>null</code> if it is used on its own
+	 */
+	ClasspathCache getClasspathCache() {
+		return featureGenerator != null ? featureGenerator.getClasspathCache() : null;
+	}
+
 	/**
 	 * Add the "build.jars" target to the given Ant script using the specified plug-in model.
 	 * 
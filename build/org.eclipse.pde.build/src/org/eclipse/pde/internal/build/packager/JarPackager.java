@@ -0,0 +1,437 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.build.packager;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Jars up the content of a folder. The entries are compressed concurrently and
+ * written to the jar in order as soon as they are compressed, without copying
+ * the folder first. Resources that are compressed already, like nested jars
+ * or images, are stored.
+ * <p>
+ * The manifest of the folder becomes the first entry of the jar, a folder
+ * without manifest gets a manifest that only declares its version.
+ * </p>
+ * <p>
+ * The jars of several folders can also be written straight into an archive.
+ * </p>
+ */
+public final class JarPackager {
+
+	/** the extensions of the files stored without compression */
+	private static final Set<String> COMPRESSED_EXTENSIONS = Set.of("jar", "zip", "gz", "tgz", "xz", "bz2", "7z", "pack", "png", "gif", "jpg", "jpeg", "ico", "icns"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$ //$NON-NLS-8$ //$NON-NLS-9$ //$NON-NLS-10$ //$NON-NLS-11$ //$NON-NLS-12$ //$NON-NLS-13$ //$NON-NLS-14$
+
+	private static final String META_INF = "META-INF/"; //$NON-NLS-1$
+	private static final byte[] DEFAULT_MANIFEST = "Manifest-Version: 1.0\r\n\r\n".getBytes(StandardCharsets.UTF_8); //$NON-NLS-1$
+
+	/** the limit of the sizes and offsets of a zip file without zip64 records */
+	private static final long ZIP_LIMIT = 0xFFFFFFFFL;
+	private static final int MAX_ENTRIES = 0xFFFF;
+	/** the size of the largest jar built in memory to be stored in an archive */
+	private static final long MAX_BUFFERED = 256L * 1024 * 1024;
+
+	private static final int LOCAL_HEADER = 0x04034b50;
+	private static final int CENTRAL_HEADER = 0x02014b50;
+	private static final int END_OF_CENTRAL_DIRECTORY = 0x06054b50;
+	private static final int UTF8_FLAG = 0x0800;
+
+	private final int level;
+	private final int window;
+
+	/**
+	 * @param level the compression level, from {@link Deflater#NO_COMPRESSION}
+	 * 		to {@link Deflater#BEST_COMPRESSION}, or
+	 * 		{@link Deflater#DEFAULT_COMPRESSION}
+	 */
+	public JarPackager(int level) {
+		if (level < Deflater.DEFAULT_COMPRESSION || level > Deflater.BEST_COMPRESSION)
+			throw new IllegalArgumentException(Integer.toString(level));
+		this.level = level;
+		this.window = Runtime.getRuntime().availableProcessors() * 4;
+	}
+
+	/**
+	 * Returns whether a file is stored without compression because its
+	 * content is compressed already.
+	 */
+	static boolean isCompressed(String name) {
+		int dot = name.lastIndexOf('.');
+		return dot != -1 && COMPRESSED_EXTENSIONS.contains(name.substring(dot + 1).toLowerCase(Locale.ENGLISH));
+	}
+
+	/**
+	 * Jars up the given folder.
+	 *
+	 * @param folder the folder whose content is jarred up
+	 * @param jar the jar to create, an existing file is replaced
+	 * @throws IOException if the folder cannot be read or the jar cannot be
+	 * 		written
+	 */
+	public void jar(File folder, File jar) throws IOException {
+		List<Source> sources = collect(folder.toPath());
+		try (OutputStream output = new BufferedOutputStream(Files.newOutputStream(jar.toPath()), 64 * 1024)) {
+			write(sources, output);
+		} catch (IOException | RuntimeException e) {
+			Files.deleteIfExists(jar.toPath());
+			throw e;
+		}
+	}
+
+	/**
+	 * Creates an archive whose entries are the jars of the given folders. The
+	 * jars are written straight into the archive, not to disk. A jar is built
+	 * in memory and stored in the archive, as its entries are compressed
+	 * already. A jar too large to be held in memory is deflated while it is
+	 * written.
+	 * <p>
+	 * An element that is a file is added to the archive as it is, a missing
+	 * element is skipped.
+	 * </p>
+	 *
+	 * @param elements the folders to jar up by the names of their jars in the
+	 * 		archive
+	 * @param archive the archive to create, an existing file is replaced
+	 * @throws IOException if a folder cannot be read or the archive cannot be
+	 * 		written
+	 */
+	public void archive(Map<String, File> elements, File archive) throws IOException {
+		try (ZipOutputStream zip = new ZipOutputStream(new BufferedOutputStream(Files.newOutputStream(archive.toPath()), 64 * 1024))) {
+			Set<String> directories = new HashSet<>();
+			for (Map.Entry<String, File> element : elements.entrySet()) {
+				String name = element.getKey();
+				File file = element.getValue();
+				if (file.isDirectory()) {
+					addParents(zip, name, directories);
+					List<Source> sources = collect(file.toPath());
+					if (estimateSize(sources) < MAX_BUFFERED) {
+						ByteArrayOutputStream jar = new ByteArrayOutputStream();
+						write(sources, jar);
+						store(zip, name, file.lastModified(), jar.toByteArray());
+					} else {
+						ZipEntry entry = new ZipEntry(name);
+						entry.setTime(file.lastModified());
+						zip.putNextEntry(entry);
+						write(sources, zip);
+						zip.closeEntry();
+					}
+				} else if (file.isFile()) {
+					addParents(zip, name, directories);
+					store(zip, name, file.lastModified(), Files.readAllBytes(file.toPath()));
+				}
+			}
+		} catch (IOException | RuntimeException e) {
+			Files.deleteIfExists(archive.toPath());
+			throw e;
+		}
+	}
+
+	private static void addParents(ZipOutputStream zip, String name, Set<String> directories) throws IOException {
+		for (int slash = name.indexOf('/'); slash != -1; slash = name.indexOf('/', slash + 1)) {
+			String directory = name.substring(0, slash + 1);
+			if (directories.add(directory)) {
+				ZipEntry entry = new ZipEntry(directory);
+				entry.setMethod(ZipEntry.STORED);
+				entry.setSize(0);
+				entry.setCompressedSize(0);
+				entry.setCrc(0);
+				zip.putNextEntry(entry);
+				zip.closeEntry();
+			}
+		}
+	}
+
+	/**
+	 * Writes an entry without compression, its size and checksum are taken
+	 * from the given content.
+	 */
+	private static void store(ZipOutputStream zip, String name, long time, byte[] content) throws IOException {
+		CRC32 crc = new CRC32();
+		crc.update(content);
+		ZipEntry entry = new ZipEntry(name);
+		entry.setTime(time);
+		entry.setMethod(ZipEntry.STORED);
+		entry.setSize(content.length);
+		entry.setCompressedSize(content.length);
+		entry.setCrc(crc.getValue());
+		zip.putNextEntry(entry);
+		zip.write(content);
+		zip.closeEntry();
+	}
+
+	private static long estimateSize(List<Source> sources) {
+		long total = 0;
+		for (Source source : sources)
+			total += source.size() + source.name().length() * 2 + 128;
+		return total;
+	}
+
+	private void write(List<Source> sources, OutputStream output) throws IOException {
+		if (sources.size() > MAX_ENTRIES || estimateSize(sources) >= ZIP_LIMIT) {
+			// needs zip64 records, which only ZipOutputStream writes
+			writeSequentially(sources, output);
+		} else {
+			writeConcurrently(sources, output);
+		}
+	}
+
+	/**
+	 * A file or folder to add to the jar.
+	 *
+	 * @param name the entry name
+	 * @param path the file, <code>null</code> for folders and the default
+	 * 		manifest
+	 * @param size the size of the file
+	 * @param time the modification time
+	 */
+	private record Source(String name, Path path, long size, long time) {
+		boolean isDirectory() {
+			return name.endsWith("/"); //$NON-NLS-1$
+		}
+
+		byte[] read() throws IOException {
+			return path != null ? Files.readAllBytes(path) : DEFAULT_MANIFEST;
+		}
+	}
+
+	/**
+	 * An entry ready to be written.
+	 *
+	 * @param data the content to write
+	 */
+	private record Compressed(Source source, int method, long crc, long size, long compressedSize, byte[] data) {
+	}
+
+	private static List<Source> collect(Path root) throws IOException {
+		List<Source> sources = new ArrayList<>();
+		Path manifest = root.resolve(JarFile.MANIFEST_NAME);
+		long now = System.currentTimeMillis();
+		sources.add(new Source(META_INF, null, 0, Files.isDirectory(manifest.getParent()) ? Files.getLastModifiedTime(manifest.getParent()).toMillis() : now));
+		if (Files.isRegularFile(manifest))
+			sources.add(new Source(JarFile.MANIFEST_NAME, manifest, Files.size(manifest), Files.getLastModifiedTime(manifest).toMillis()));
+		else
+			sources.add(new Source(JarFile.MANIFEST_NAME, null, DEFAULT_MANIFEST.length, now));
+		try (Stream<Path> paths = Files.walk(root)) {
+			for (Path path : (Iterable<Path>) paths.sorted()::iterator) {
+				if (path.equals(root))
+					continue;
+				String name = root.relativize(path).toString().replace(File.separatorChar, '/');
+				boolean directory = Files.isDirectory(path);
+				if (directory)
+					name += '/';
+				if (name.equals(META_INF) || name.equals(JarFile.MANIFEST_NAME))
+					continue;
+				sources.add(new Source(name, directory ? null : path, directory ? 0 : Files.size(path), Files.getLastModifiedTime(path).toMillis()));
+			}
+		}
+		return sources;
+	}
+
+	private Compressed compress(Source source) throws IOException {
+		if (source.isDirectory())
+			return new Compressed(source, ZipEntry.STORED, 0, 0, 0, new byte[0]);
+		// the checksum and the entry are taken from the same copy of the file
+		byte[] content = source.read();
+		CRC32 crc = new CRC32();
+		crc.update(content);
+		if (level == Deflater.NO_COMPRESSION || isCompressed(source.name()))
+			return new Compressed(source, ZipEntry.STORED, crc.getValue(), content.length, content.length, content);
+		Deflater deflater = new Deflater(level, true);
+		try {
+			deflater.setInput(content);
+			deflater.finish();
+			ByteArrayOutputStream compressed = new ByteArrayOutputStream(Math.max(64, content.length / 2));
+			byte[] buffer = new byte[8192];
+			while (!deflater.finished()) {
+				int length = deflater.deflate(buffer);
+				compressed.write(buffer, 0, length);
+			}
+			if (compressed.size() >= content.length)
+				return new Compressed(source, ZipEntry.STORED, crc.getValue(), content.length, content.length, content);
+			return new Compressed(source, ZipEntry.DEFLATED, crc.getValue(), content.length, compressed.size(), compressed.toByteArray());
+		} finally {
+			deflater.end();
+		}
+	}
+
+	private void writeConcurrently(List<Source> sources, OutputStream output) throws IOException {
+		ZipWriter writer = new ZipWriter(output);
+		Deque<CompletableFuture<Compressed>> pending = new ArrayDeque<>();
+		int next = 0;
+		try {
+			while (next < sources.size() || !pending.isEmpty()) {
+				while (next < sources.size() && pending.size() < window) {
+					Source source = sources.get(next++);
+					pending.add(CompletableFuture.supplyAsync(() -> {
+						try {
+							return compress(source);
+						} catch (IOException e) {
+							throw new UncheckedIOException(e);
+						}
+					}));
+				}
+				writer.write(pending.removeFirst().join());
+			}
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof UncheckedIOException io)
+				throw io.getCause();
+			throw e;
+		} finally {
+			for (CompletableFuture<Compressed> future : pending)
+				future.cancel(false);
+		}
+		writer.finish();
+	}
+
+	private void writeSequentially(List<Source> sources, OutputStream output) throws IOException {
+		ZipOutputStream zip = new ZipOutputStream(output);
+		zip.setLevel(level);
+		for (Source source : sources) {
+			if (!source.isDirectory() && (level == Deflater.NO_COMPRESSION || isCompressed(source.name()))) {
+				// the checksum and the entry are taken from the same copy of the file
+				store(zip, source.name(), source.time(), source.read());
+				continue;
+			}
+			ZipEntry entry = new ZipEntry(source.name());
+			entry.setTime(source.time());
+			if (source.isDirectory()) {
+				entry.setMethod(ZipEntry.STORED);
+				entry.setSize(0);
+				entry.setCompressedSize(0);
+				entry.setCrc(0);
+			}
+			zip.putNextEntry(entry);
+			if (source.path() != null)
+				Files.copy(source.path(), zip);
+			else if (!source.isDirectory())
+				zip.write(DEFAULT_MANIFEST);
+			zip.closeEntry();
+		}
+		zip.finish();
+	}
+
+	/**
+	 * Writes entries whose sizes and checksums are known to a zip file
+	 * without zip64 records.
+	 */
+	private static final class ZipWriter {
+		private final OutputStream output;
+		private final ByteArrayOutputStream central = new ByteArrayOutputStream();
+		private long offset;
+		private int count;
+
+		ZipWriter(OutputStream output) {
+			this.output = output;
+		}
+
+		void write(Compressed entry) throws IOException {
+			byte[] name = entry.source().name().getBytes(StandardCharsets.UTF_8);
+			int version = entry.method() == ZipEntry.DEFLATED ? 20 : 10;
+			int time = toDosTime(entry.source().time());
+
+			ByteArrayOutputStream header = new ByteArrayOutputStream(30 + name.length);
+			writeInt(header, LOCAL_HEADER);
+			writeShort(header, version);
+			writeShort(header, UTF8_FLAG);
+			writeShort(header, entry.method());
+			writeInt(header, time);
+			writeInt(header, entry.crc());
+			writeInt(header, entry.compressedSize());
+			writeInt(header, entry.size());
+			writeShort(header, name.length);
+			writeShort(header, 0);
+			header.write(name);
+			header.writeTo(output);
+
+			writeInt(central, CENTRAL_HEADER);
+			writeShort(central, version);
+			writeShort(central, version);
+			writeShort(central, UTF8_FLAG);
+			writeShort(central, entry.method());
+			writeInt(central, time);
+			writeInt(central, entry.crc());
+			writeInt(central, entry.compressedSize());
+			writeInt(central, entry.size());
+			writeShort(central, name.length);
+			writeShort(central, 0); // extra field
+			writeShort(central, 0); // comment
+			writeShort(central, 0); // disk
+			writeShort(central, 0); // internal attributes
+			writeInt(central, entry.source().isDirectory() ? 0x10 : 0);
+			writeInt(central, offset);
+			central.write(name);
+
+			output.write(entry.data());
+			offset += header.size() + entry.compressedSize();
+			count++;
+		}
+
+		void finish() throws IOException {
+			central.writeTo(output);
+			writeInt(output, END_OF_CENTRAL_DIRECTORY);
+			writeShort(output, 0); // disk
+			writeShort(output, 0); // disk of the central directory
+			writeShort(output, count);
+			writeShort(output, count);
+			writeInt(output, central.size());
+			writeInt(output, offset);
+			writeShort(output, 0); // comment
+			output.flush();
+		}
+
+		private static void writeShort(OutputStream output, int value) throws IOException {
+			output.write(value & 0xFF);
+			output.write((value >>> 8) & 0xFF);
+		}
+
+		private static void writeInt(OutputStream output, long value) throws IOException {
+			writeShort(output, (int) (value & 0xFFFF));
+			writeShort(output, (int) ((value >>> 16) & 0xFFFF));
+		}
+
+		private static int toDosTime(long millis) {
+			LocalDateTime time = LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault());
+			if (time.getYear() < 1980)
+				return (1 << 21) | (1 << 16);
+			return (time.getYear() - 1980) << 25 | time.getMonthValue() << 21 | time.getDayOfMonth() << 16 | time.getHour() << 11 | time.getMinute() << 5 | time.getSecond() >> 1;
+		}
+	}
+}
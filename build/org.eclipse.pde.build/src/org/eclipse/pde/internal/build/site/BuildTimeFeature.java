@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2021 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -141,6 +141,15 @@ public class BuildTimeFeature extends Feature {
 		this.site = site;
 	}
 
+	@Override
+	public void setVersion(String version) {
+		String previous = getVersion();
+		super.setVersion(version);
+		//the site indexes its features by version
+		if (site != null && previous != null && !previous.equals(version))
+			site.reindexFeature(this, previous);
+	}
+
 	public BuildTimeSite getSite() {
 		return site;
 	}
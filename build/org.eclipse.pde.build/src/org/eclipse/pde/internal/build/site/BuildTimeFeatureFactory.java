@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2008 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -51,22 +51,7 @@ public class BuildTimeFeatureFactory /*extends BaseFeatureFactory */ implements
 		}
 		try {
 			featurePath = BuildTimeFeature.ensureEndsWithFeatureXml(featurePath);
-			BuildTimeFeature feature = parseBuildFeature(featurePath);
-
-			String qualifier = AbstractScriptGenerator.readProperties(featurePath.getParent().toString(), PROPERTIES_FILE, IStatus.OK).getProperty(PROPERTY_QUALIFIER);
-			String newVersion = QualifierReplacer.replaceQualifierInVersion(feature.getVersion(), feature.getId(), qualifier, site != null ? site.getFeatureVersions() : null);
-			if (newVersion != null) {
-				//a feature version ending in qualifier using context will be further modified based on its included plugins				
-				if (feature.getVersion().endsWith(PROPERTY_QUALIFIER) && (qualifier == null || !qualifier.equalsIgnoreCase(PROPERTY_NONE))) {
-					int idx = feature.getVersion().lastIndexOf("."); //$NON-NLS-1$
-					feature.setContextQualifierLength(newVersion.length() - idx - 1);
-				}
-				feature.setVersion(newVersion);
-			}
-
-			feature.setSite(site);
-			feature.setPath(featurePath);
-			return feature;
+			return initializeFeature(parseBuildFeature(featurePath), featurePath, site);
 		} catch (CoreException e) {
 			String message = NLS.bind(Messages.error_creatingFeature, featurePath);
 			BundleHelper.getDefault().getLog().log(new Status(IStatus.ERROR, PI_PDEBUILD, EXCEPTION_FEATURE_PARSE, message, e));
@@ -79,6 +64,33 @@ public class BuildTimeFeatureFactory /*extends BaseFeatureFactory */ implements
 		}
 	}
 
+	/**
+	 * Replaces the qualifier in the version of a parsed feature and sets its
+	 * site and location. The qualifier replacement uses shared state, this is
+	 * not to be called concurrently.
+	 *
+	 * @param feature the feature parsed from the given feature.xml file
+	 * @param featurePath the location of the feature.xml file
+	 * @param site the site of the feature, may be <code>null</code>
+	 * @return the given feature
+	 */
+	public BuildTimeFeature initializeFeature(BuildTimeFeature feature, Path featurePath, BuildTimeSite site) throws CoreException {
+		String qualifier = AbstractScriptGenerator.readProperties(featurePath.getParent().toString(), PROPERTIES_FILE, IStatus.OK).getProperty(PROPERTY_QUALIFIER);
+		String newVersion = QualifierReplacer.replaceQualifierInVersion(feature.getVersion(), feature.getId(), qualifier, site != null ? site.getFeatureVersions() : null);
+		if (newVersion != null) {
+			//a feature version ending in qualifier using context will be further modified based on its included plugins				
+			if (feature.getVersion().endsWith(PROPERTY_QUALIFIER) && (qualifier == null || !qualifier.equalsIgnoreCase(PROPERTY_NONE))) {
+				int idx = feature.getVersion().lastIndexOf("."); //$NON-NLS-1$
+				feature.setContextQualifierLength(newVersion.length() - idx - 1);
+			}
+			feature.setVersion(newVersion);
+		}
+
+		feature.setSite(site);
+		feature.setPath(featurePath);
+		return feature;
+	}
+
 	public BuildTimeFeature parseBuildFeature(Path featurePath) throws CoreException {
 		BuildTimeFeatureParser parser = new BuildTimeFeatureParser();
 		BuildTimeFeature feature = null;
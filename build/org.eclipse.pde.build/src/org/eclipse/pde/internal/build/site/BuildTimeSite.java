@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -21,17 +21,20 @@ import java.io.InputStream;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Comparator;
 import java.util.Dictionary;
 import java.util.HashMap;
 import java.util.Hashtable;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.NavigableMap;
 import java.util.Properties;
 import java.util.Set;
 import java.util.SortedSet;
+import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.stream.IntStream;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IStatus;
@@ -68,7 +71,8 @@ import org.osgi.framework.VersionRange;
  */
 public class BuildTimeSite /*extends Site*/ implements IPDEBuildConstants, IXMLConstants {
 	private final BuildTimeFeatureFactory factory = new BuildTimeFeatureFactory();
-	private final Map<String, Set<BuildTimeFeature>> featureCache = new HashMap<>();
+	// feature id -> features with this id by version, the index used to answer range queries
+	private final Map<String, NavigableMap<Version, BuildTimeFeature>> featureCache = new HashMap<>();
 	private final Map<Path, BuildTimeFeature> featureFileCache = new HashMap<>();
 	private List<FeatureReference> featureReferences;
 	private BuildTimeSiteContentProvider contentProvider;
@@ -85,12 +89,6 @@ public class BuildTimeSite /*extends Site*/ implements IPDEBuildConstants, IXMLC
 	private List<String> rootPluginsForFiler;
 	private boolean filter = false;
 
-	private final Comparator<Feature> featureComparator = (arg0, arg1) -> {
-		Version v0 = new Version(arg0.getVersion());
-		Version v1 = new Version(arg1.getVersion());
-		return -1 * v0.compareTo(v1);
-	};
-
 	public void setReportResolutionErrors(boolean value) {
 		reportResolutionErrors = value;
 	}
@@ -309,16 +307,9 @@ public class BuildTimeSite /*extends Site*/ implements IPDEBuildConstants, IXMLC
 		if (!featuresResolved)
 			resolveFeatureReferences();
 
-		if (featureCache.containsKey(featureId)) {
-			//Set is ordered highest version to lowest, return the first that matches the range
-			Set<BuildTimeFeature> featureSet = featureCache.get(featureId);
-			for (BuildTimeFeature feature : featureSet) {
-				Version featureVersion = new Version(feature.getVersion());
-				if (range.includes(featureVersion)) {
-					return feature;
-				}
-			}
-		}
+		BuildTimeFeature feature = findFeatureInIndex(featureId, range);
+		if (feature != null)
+			return feature;
 
 		if (throwsException) {
 			String message = null;
@@ -332,15 +323,60 @@ public class BuildTimeSite /*extends Site*/ implements IPDEBuildConstants, IXMLC
 		return null;
 	}
 
+	/*
+	 * Returns the highest version of the feature that is in the given range, the
+	 * candidate is the highest version below the upper bound of the range.
+	 */
+	private BuildTimeFeature findFeatureInIndex(String featureId, VersionRange range) {
+		NavigableMap<Version, BuildTimeFeature> versions = featureCache.get(featureId);
+		if (versions == null)
+			return null;
+		Entry<Version, BuildTimeFeature> candidate;
+		if (range.getRight() == null)
+			candidate = versions.lastEntry();
+		else if (range.getRightType() == VersionRange.RIGHT_CLOSED)
+			candidate = versions.floorEntry(range.getRight());
+		else
+			candidate = versions.lowerEntry(range.getRight());
+		if (candidate != null && range.includes(candidate.getKey()))
+			return candidate.getValue();
+		return null;
+	}
+
 	private void resolveFeatureReferences() {
 		FeatureReference[] features = getFeatureReferences();
-		for (FeatureReference feature2 : features) {
+		// parse the feature.xml files not seen yet in parallel, the parsers share nothing
+		Path[] paths = new Path[features.length];
+		for (int i = 0; i < features.length; i++) {
+			Path path = features[i].getPath();
+			if (path == null || features[i].getSiteModel() != this)
+				continue;
+			path = BuildTimeFeature.ensureEndsWithFeatureXml(path);
+			if (!featureFileCache.containsKey(path))
+				paths[i] = path;
+		}
+		Object[] parsed = IntStream.range(0, features.length).parallel().mapToObj(i -> {
+			if (paths[i] == null)
+				return null;
 			try {
+				return factory.parseBuildFeature(paths[i]);
+			} catch (CoreException e) {
+				return e;
+			}
+		}).toArray();
+
+		// replace the qualifiers and index the results in the order of the references, the first feature with a given id and version wins
+		for (int i = 0; i < features.length; i++) {
+			try {
+				if (parsed[i] instanceof CoreException e)
+					throw e;
+				if (parsed[i] instanceof BuildTimeFeature feature && !featureFileCache.containsKey(paths[i]))
+					addFeature(paths[i], factory.initializeFeature(feature, paths[i], this));
 				//getting the feature for the first time will result in it being added to featureCache
-				feature2.getFeature();
+				features[i].getFeature();
 			} catch (CoreException e) {
 				// just log the exception, but do not re-throw it - let other features to be resolved 
-				String message = NLS.bind(Messages.exception_featureParse, feature2.getPath());
+				String message = NLS.bind(Messages.exception_featureParse, features[i].getPath());
 				IStatus status = new Status(IStatus.ERROR, PI_PDEBUILD, EXCEPTION_FEATURE_MISSING, message, e);
 				BundleHelper.getDefault().getLog().log(status);
 			}
@@ -469,19 +505,25 @@ public class BuildTimeSite /*extends Site*/ implements IPDEBuildConstants, IXMLC
 			return feature;
 		}
 		feature = factory.createFeature(path, this);
-		feature.setFeatureContentProvider(getSiteContentProvider());
-		featureFileCache.put(path, feature);
+		addFeature(path, feature);
+		return feature;
+	}
 
-		if (featureCache.containsKey(feature.getId())) {
-			Set<BuildTimeFeature> set = featureCache.get(feature.getId());
-			set.add(feature);
-		} else {
-			TreeSet<BuildTimeFeature> set = new TreeSet<>(featureComparator);
-			set.add(feature);
-			featureCache.put(feature.getId(), set);
-		}
+	/*
+	 * Moves a feature whose version was changed after it was indexed, like
+	 * when a version suffix is generated for it.
+	 */
+	void reindexFeature(BuildTimeFeature feature, String previousVersion) {
+		NavigableMap<Version, BuildTimeFeature> versions = featureCache.get(feature.getId());
+		if (versions == null || !versions.remove(new Version(previousVersion), feature))
+			return;
+		versions.putIfAbsent(new Version(feature.getVersion()), feature);
+	}
 
-		return feature;
+	private void addFeature(Path path, BuildTimeFeature feature) {
+		feature.setFeatureContentProvider(getSiteContentProvider());
+		featureFileCache.put(path, feature);
+		featureCache.computeIfAbsent(feature.getId(), id -> new TreeMap<>()).putIfAbsent(new Version(feature.getVersion()), feature);
 	}
 
 	public BuildTimeSiteContentProvider getSiteContentProvider() {
@@ -0,0 +1,205 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.build.site;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Dictionary;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Hashtable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.osgi.util.NLS;
+import org.eclipse.pde.internal.build.BundleHelper;
+import org.eclipse.pde.internal.build.IPDEBuildConstants;
+import org.eclipse.pde.internal.build.Messages;
+
+/**
+ * A persistent cache of parsed bundle manifests, keyed by the absolute path of
+ * the jar or <code>META-INF/MANIFEST.MF</code> file they were read from. An
+ * entry is only used as long as the file has the same modification time and
+ * size as when it was parsed, so repeated builds against the same target can
+ * skip opening and parsing the manifests of unchanged bundles.
+ * <p>
+ * The cache is enabled by setting the <code>manifestCacheLocation</code>
+ * property to the file to store it in. Entries of files that do not exist
+ * anymore are dropped when the cache is saved. A damaged cache file is
+ * ignored and replaced on the next save.
+ * </p>
+ */
+public final class ManifestCache {
+
+	private static final int FORMAT_VERSION = 1;
+
+	private record Entry(long lastModified, long length, Map<String, String> headers) {
+	}
+
+	private final File cacheFile;
+	private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+	private volatile boolean modified;
+
+	private ManifestCache(File cacheFile) {
+		this.cacheFile = cacheFile;
+	}
+
+	/**
+	 * Loads the cache stored in the given file.
+	 *
+	 * @param location the cache file, may be <code>null</code>
+	 * @return the cache or <code>null</code> if no location was given
+	 */
+	public static ManifestCache load(String location) {
+		if (location == null || location.isBlank())
+			return null;
+		ManifestCache cache = new ManifestCache(new File(location));
+		cache.read();
+		return cache;
+	}
+
+	private void read() {
+		if (!cacheFile.isFile())
+			return;
+		// no count or length in a valid cache exceeds the size of the file
+		long limit = cacheFile.length();
+		try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(cacheFile.toPath())))) {
+			if (input.readInt() != FORMAT_VERSION)
+				return;
+			int count = readSize(input, limit);
+			for (int i = 0; i < count; i++) {
+				String path = readString(input, limit);
+				long lastModified = input.readLong();
+				long length = input.readLong();
+				int headerCount = readSize(input, limit);
+				Map<String, String> headers = new HashMap<>(headerCount * 2);
+				for (int j = 0; j < headerCount; j++) {
+					headers.put(readString(input, limit), readString(input, limit));
+				}
+				entries.put(path, new Entry(lastModified, length, headers));
+			}
+		} catch (IOException e) {
+			// a damaged cache is rebuilt from scratch
+			entries.clear();
+			logWarning(Messages.exception_readingFile, e);
+		}
+	}
+
+	/**
+	 * Returns a copy of the manifest parsed from the given file, if the file did
+	 * not change since it was parsed.
+	 *
+	 * @param manifestFile the jar or manifest file
+	 * @return the manifest headers or <code>null</code> if they are not cached
+	 */
+	public Dictionary<String, String> get(File manifestFile) {
+		Entry entry = entries.get(manifestFile.getAbsolutePath());
+		if (entry == null || entry.lastModified() != manifestFile.lastModified() || entry.length() != manifestFile.length())
+			return null;
+		return new Hashtable<>(entry.headers());
+	}
+
+	/**
+	 * Remembers the manifest parsed from the given file.
+	 *
+	 * @param manifestFile the jar or manifest file
+	 * @param headers the parsed manifest headers
+	 */
+	public void put(File manifestFile, Dictionary<String, String> headers) {
+		Map<String, String> copy = new HashMap<>(headers.size() * 2);
+		for (Enumeration<String> keys = headers.keys(); keys.hasMoreElements();) {
+			String key = keys.nextElement();
+			copy.put(key, headers.get(key));
+		}
+		entries.put(manifestFile.getAbsolutePath(), new Entry(manifestFile.lastModified(), manifestFile.length(), copy));
+		modified = true;
+	}
+
+	/**
+	 * Writes the cache back to its file if new manifests were parsed.
+	 */
+	public void save() {
+		if (!modified)
+			return;
+		entries.keySet().removeIf(path -> !new File(path).exists());
+		Path target = cacheFile.toPath();
+		try {
+			File parent = cacheFile.getAbsoluteFile().getParentFile();
+			if (parent != null)
+				Files.createDirectories(parent.toPath());
+			// write to a temporary file first so that concurrent builds never read a partial cache
+			Path temp = Files.createTempFile(parent != null ? parent.toPath() : null, cacheFile.getName(), ".tmp"); //$NON-NLS-1$
+			try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+				Map<String, Entry> snapshot = new HashMap<>(entries);
+				output.writeInt(FORMAT_VERSION);
+				output.writeInt(snapshot.size());
+				for (Map.Entry<String, Entry> mapEntry : snapshot.entrySet()) {
+					Entry entry = mapEntry.getValue();
+					writeString(output, mapEntry.getKey());
+					output.writeLong(entry.lastModified());
+					output.writeLong(entry.length());
+					output.writeInt(entry.headers().size());
+					for (Map.Entry<String, String> header : entry.headers().entrySet()) {
+						writeString(output, header.getKey());
+						writeString(output, header.getValue());
+					}
+				}
+			}
+			try {
+				Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+			}
+			modified = false;
+		} catch (IOException e) {
+			logWarning(Messages.exception_writingFile, e);
+		}
+	}
+
+	private void logWarning(String template, IOException e) {
+		String message = NLS.bind(template, cacheFile);
+		BundleHelper.getDefault().getLog().log(new Status(IStatus.WARNING, IPDEBuildConstants.PI_PDEBUILD, message, e));
+	}
+
+	// manifest headers may be longer than DataOutput.writeUTF supports
+	private static void writeString(DataOutputStream output, String value) throws IOException {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		output.writeInt(bytes.length);
+		output.write(bytes);
+	}
+
+	private static String readString(DataInputStream input, long limit) throws IOException {
+		byte[] bytes = new byte[readSize(input, limit)];
+		input.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static int readSize(DataInputStream input, long limit) throws IOException {
+		int size = input.readInt();
+		if (size < 0 || size > limit)
+			throw new IOException("Invalid size " + size); //$NON-NLS-1$
+		return size;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2004, 2023 IBM Corporation and others.
+ *  Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -252,32 +252,50 @@ public class PDEState implements IPDEBuildConstants, IBuildPropertiesConstants {
 	}
 
 	public boolean addBundle(File bundleLocation) {
-		Dictionary<String, String> manifest;
-		manifest = loadManifest(bundleLocation);
+		LoadedBundle loaded = loadBundle(bundleLocation, null);
+		if (loaded == null)
+			return false;
+		return addBundle(loaded.manifest(), loaded.location());
+	}
+
+	/**
+	 * The manifest read for a bundle, before it is added to the state.
+	 */
+	private record LoadedBundle(File location, Dictionary<String, String> manifest) {
+	}
+
+	/**
+	 * Reads the manifest of the bundle at the given location, following the
+	 * bundle root of flexible projects. This does not modify the state and can
+	 * be called concurrently.
+	 */
+	private LoadedBundle loadBundle(File bundleLocation, ManifestCache cache) {
+		Dictionary<String, String> manifest = loadManifest(bundleLocation, cache);
 		if (manifest == null) {
-			return addFlexibleRoot(bundleLocation);
+			File root = getFlexibleRoot(bundleLocation);
+			return root != null ? loadBundle(root, cache) : null;
 		}
 		try {
 			hasQualifier(bundleLocation, manifest);
 		} catch (BundleException e) {
 			//should not happen since we know the header
 		}
-		return addBundle(manifest, bundleLocation);
+		return new LoadedBundle(bundleLocation, manifest);
 	}
 
-	private boolean addFlexibleRoot(File bundleLocation) {
+	private File getFlexibleRoot(File bundleLocation) {
 		if (!new File(bundleLocation, PDE_CORE_PREFS).exists())
-			return false;
+			return null;
 
 		try {
 			Properties properties = AbstractScriptGenerator.readProperties(bundleLocation.getAbsolutePath(), PDE_CORE_PREFS, IStatus.OK);
 			String root = properties.getProperty(BUNDLE_ROOT_PATH);
 			if (root != null)
-				return addBundle(new File(bundleLocation, root));
+				return new File(bundleLocation, root);
 		} catch (CoreException e) {
 			//ignore
 		}
-		return false;
+		return null;
 	}
 
 	private String updateVersionNumber(Dictionary<String, String> manifest) {
@@ -321,24 +339,37 @@ public class PDEState implements IPDEBuildConstants, IBuildPropertiesConstants {
 	}
 
 	//Return a dictionary representing a manifest. The data may result from plugin.xml conversion  
-	private Dictionary<String, String> basicLoadManifest(File bundleLocation) {
+	private Dictionary<String, String> basicLoadManifest(File bundleLocation, ManifestCache cache) {
+		boolean isJar = "jar".equalsIgnoreCase(IPath.fromOSString(bundleLocation.getName()).getFileExtension()) && bundleLocation.isFile(); //$NON-NLS-1$
+		File manifestFile = isJar ? bundleLocation : new File(bundleLocation, JarFile.MANIFEST_NAME);
+		if (cache != null) {
+			Dictionary<String, String> cached = cache.get(manifestFile);
+			if (cached != null)
+				return cached;
+		}
+		Dictionary<String, String> manifest = null;
 		try {
-			if ("jar".equalsIgnoreCase(IPath.fromOSString(bundleLocation.getName()).getFileExtension()) && bundleLocation.isFile()) { //$NON-NLS-1$
+			if (isJar) {
 				try (ZipFile jarFile = new ZipFile(bundleLocation, ZipFile.OPEN_READ)) {
 					ZipEntry manifestEntry = jarFile.getEntry(JarFile.MANIFEST_NAME);
 					if (manifestEntry != null) {
 						try (InputStream manifestStream = jarFile.getInputStream(manifestEntry)) {
 							if (manifestStream != null) {
-								return new Hashtable<>(ManifestElement.parseBundleManifest(manifestStream, null));
+								manifest = new Hashtable<>(ManifestElement.parseBundleManifest(manifestStream, null));
 							}
 						}
 					}
 				}
 			} else {
-				try (InputStream manifestStream = new FileInputStream(new File(bundleLocation, JarFile.MANIFEST_NAME))) {
-					return new Hashtable<>(ManifestElement.parseBundleManifest(manifestStream, null));
+				try (InputStream manifestStream = new FileInputStream(manifestFile)) {
+					manifest = new Hashtable<>(ManifestElement.parseBundleManifest(manifestStream, null));
 				}
 			}
+			if (manifest != null) {
+				if (cache != null)
+					cache.put(manifestFile, manifest);
+				return manifest;
+			}
 		} catch (IOException | BundleException e) {
 			//ignore
 		}
@@ -367,7 +398,11 @@ public class PDEState implements IPDEBuildConstants, IBuildPropertiesConstants {
 	}
 
 	private Dictionary<String, String> loadManifest(File bundleLocation) {
-		Dictionary<String, String> manifest = basicLoadManifest(bundleLocation);
+		return loadManifest(bundleLocation, null);
+	}
+
+	private Dictionary<String, String> loadManifest(File bundleLocation, ManifestCache cache) {
+		Dictionary<String, String> manifest = basicLoadManifest(bundleLocation, cache);
 		if (manifest == null)
 			return null;
 
@@ -379,10 +414,25 @@ public class PDEState implements IPDEBuildConstants, IBuildPropertiesConstants {
 		return manifest;
 	}
 
+	/**
+	 * Adds the bundles at the given locations to the state. If the
+	 * <code>parallelManifestLoading</code> property is set, the manifests are
+	 * read and parsed concurrently. The bundles are then added in the order of
+	 * the given collection so that bundle ids and version replacements do not
+	 * depend on the scheduling. If the <code>manifestCacheLocation</code>
+	 * property is set, parsed manifests are reused from and stored in the
+	 * {@link ManifestCache} at that location.
+	 */
 	public void addBundles(Collection<File> bundles) {
-		for (File bundle : bundles) {
-			addBundle(bundle);
-		}
+		ManifestCache cache = ManifestCache.load(AbstractScriptGenerator.getImmutableAntProperty(PROPERTY_MANIFEST_CACHE));
+		Stream<File> stream = AbstractScriptGenerator.getPropertyAsBoolean(PROPERTY_PARALLEL_MANIFEST_LOADING) ? bundles.parallelStream() : bundles.stream();
+		List<LoadedBundle> loaded = stream.map(bundle -> loadBundle(bundle, cache)).toList();
+		for (LoadedBundle bundle : loaded) {
+			if (bundle != null)
+				addBundle(bundle.manifest(), bundle.location());
+		}
+		if (cache != null)
+			cache.save();
 	}
 
 	@SuppressWarnings("deprecation")
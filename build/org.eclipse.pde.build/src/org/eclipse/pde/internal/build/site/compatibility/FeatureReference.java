@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2005, 2011 IBM Corporation and others.
+ *  Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -29,6 +29,10 @@ public class FeatureReference {
 		this.site = site;
 	}
 
+	public BuildTimeSite getSiteModel() {
+		return site;
+	}
+
 	public void setPath(Path path) {
 		this.path = path;
 	}
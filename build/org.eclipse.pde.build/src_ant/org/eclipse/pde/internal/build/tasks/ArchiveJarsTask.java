@@ -0,0 +1,104 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.build.tasks;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.Deflater;
+
+import org.apache.tools.ant.BuildException;
+import org.apache.tools.ant.Task;
+import org.eclipse.pde.internal.build.packager.JarPackager;
+
+/**
+ * Internal task.
+ * Creates an archive whose entries are the jars of the folders of elements. The jars
+ * are written straight into the archive, see {@link JarPackager#archive(Map, File)}.
+ */
+public class ArchiveJarsTask extends Task {
+	private static final String ANT_PREFIX = "${"; //$NON-NLS-1$
+
+	private String archive;
+	private int compressionLevel = Deflater.DEFAULT_COMPRESSION;
+	private final List<Element> elements = new ArrayList<>();
+
+	/**
+	 * An element to jar up into the archive.
+	 */
+	public static class Element {
+		String folder;
+		String entry;
+
+		/**
+		 * The folder of the element, or its jar if it is jarred up already
+		 */
+		public void setFolder(String folder) {
+			this.folder = folder;
+		}
+
+		/**
+		 * The name of the jar in the archive
+		 */
+		public void setEntry(String entry) {
+			this.entry = entry;
+		}
+	}
+
+	@Override
+	public void execute() throws BuildException {
+		if (archive == null)
+			throw new BuildException("archive must be set"); //$NON-NLS-1$
+		Map<String, File> jars = new LinkedHashMap<>();
+		for (Element element : elements) {
+			if (element.folder == null || element.entry == null)
+				throw new BuildException("folder and entry must be set"); //$NON-NLS-1$
+			jars.put(element.entry, new File(element.folder));
+		}
+		try {
+			new JarPackager(compressionLevel).archive(jars, new File(archive));
+		} catch (IOException | IllegalArgumentException e) {
+			throw new BuildException(e.getMessage(), e, getLocation());
+		}
+	}
+
+	/**
+	 * The archive to create
+	 */
+	public void setArchive(String archive) {
+		this.archive = archive;
+	}
+
+	/**
+	 * The compression level of the jars, from 0 to 9 or -1 for the default level
+	 */
+	public void setCompressionLevel(String compressionLevel) {
+		if (compressionLevel == null || compressionLevel.isEmpty() || compressionLevel.startsWith(ANT_PREFIX))
+			return;
+		try {
+			this.compressionLevel = Integer.parseInt(compressionLevel.trim());
+		} catch (NumberFormatException e) {
+			throw new BuildException("Invalid compression level: " + compressionLevel, e); //$NON-NLS-1$
+		}
+	}
+
+	public Element createElement() {
+		Element element = new Element();
+		elements.add(element);
+		return element;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -139,9 +139,37 @@ public class BuildScriptGeneratorTask extends Task {
 		if (Boolean.valueOf(value).booleanValue())
 			properties.put(IBuildPropertiesConstants.PROPERTY_SUPPRESS_RESOLUTION_ERRORS, "true"); //$NON-NLS-1$ 
 
+		value = getProject().getProperty(IBuildPropertiesConstants.PROPERTY_PARALLEL_SCRIPT_GENERATION);
+		if (Boolean.valueOf(value).booleanValue())
+			properties.put(IBuildPropertiesConstants.PROPERTY_PARALLEL_SCRIPT_GENERATION, "true"); //$NON-NLS-1$
+
 		value = getProject().getProperty(IBuildPropertiesConstants.PROPERTY_ANT_VERSION);
 		if (value != null)
 			properties.put(IBuildPropertiesConstants.PROPERTY_ANT_VERSION, value);
+
+		value = getProject().getProperty(IBuildPropertiesConstants.PROPERTY_MANIFEST_CACHE);
+		if (value != null)
+			properties.put(IBuildPropertiesConstants.PROPERTY_MANIFEST_CACHE, value);
+
+		value = getProject().getProperty(IBuildPropertiesConstants.PROPERTY_PARALLEL_MANIFEST_LOADING);
+		if (Boolean.valueOf(value).booleanValue())
+			properties.put(IBuildPropertiesConstants.PROPERTY_PARALLEL_MANIFEST_LOADING, "true"); //$NON-NLS-1$
+
+		value = getProject().getProperty(IBuildPropertiesConstants.PROPERTY_INCREMENTAL_BUILD);
+		if (Boolean.valueOf(value).booleanValue())
+			properties.put(IBuildPropertiesConstants.PROPERTY_INCREMENTAL_BUILD, "true"); //$NON-NLS-1$
+
+		value = getProject().getProperty(IBuildPropertiesConstants.PROPERTY_PARALLEL_ASSEMBLY);
+		if (Boolean.valueOf(value).booleanValue())
+			properties.put(IBuildPropertiesConstants.PROPERTY_PARALLEL_ASSEMBLY, "true"); //$NON-NLS-1$
+
+		value = getProject().getProperty(IBuildPropertiesConstants.PROPERTY_PARALLEL_ASSEMBLY_THREAD_COUNT);
+		if (value != null)
+			properties.put(IBuildPropertiesConstants.PROPERTY_PARALLEL_ASSEMBLY_THREAD_COUNT, value);
+
+		value = getProject().getProperty(IBuildPropertiesConstants.PROPERTY_PARALLEL_ASSEMBLY_THREADS_PER_PROCESSOR);
+		if (value != null)
+			properties.put(IBuildPropertiesConstants.PROPERTY_PARALLEL_ASSEMBLY_THREADS_PER_PROCESSOR, value);
 	}
 
 	private void setEEProfileProperties(Properties antProperties) {
@@ -313,6 +341,15 @@ public class BuildScriptGeneratorTask extends Task {
 		generator.setParallel(parallel);
 	}
 
+	/**
+	 * Set how bundles are grouped for parallel compilation: <code>linear</code>
+	 * (the default) or <code>levels</code>, which groups the bundles by
+	 * topological level of their dependencies.
+	 */
+	public void setParallelSchedule(String schedule) {
+		generator.setParallelSchedule(schedule);
+	}
+
 	public void setParallelThreadCount(String count) {
 		try {
 			generator.setThreadCount(Integer.parseInt(count));
@@ -0,0 +1,82 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.build.tasks;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.zip.Deflater;
+
+import org.apache.tools.ant.BuildException;
+import org.apache.tools.ant.Task;
+import org.apache.tools.ant.taskdefs.Delete;
+import org.eclipse.pde.internal.build.packager.JarPackager;
+
+/**
+ * Internal task.
+ * Jars up the folder of an element into a jar next to it and deletes the folder.
+ * The entries are compressed in parallel, see {@link JarPackager}.
+ */
+public class JarUpTask extends Task {
+	private static final String ANT_PREFIX = "${"; //$NON-NLS-1$
+
+	private String source;
+	private String elementName;
+	private int compressionLevel = Deflater.DEFAULT_COMPRESSION;
+
+	@Override
+	public void execute() throws BuildException {
+		if (source == null || elementName == null)
+			throw new BuildException("source and elementName must be set"); //$NON-NLS-1$
+		File folder = new File(source, elementName);
+		if (!folder.isDirectory())
+			return;
+		try {
+			new JarPackager(compressionLevel).jar(folder, new File(source, elementName + ".jar")); //$NON-NLS-1$
+		} catch (IOException | IllegalArgumentException e) {
+			throw new BuildException(e.getMessage(), e, getLocation());
+		}
+		Delete delete = new Delete();
+		delete.setProject(getProject());
+		delete.setTaskName("delete"); //$NON-NLS-1$
+		delete.setDir(folder);
+		delete.execute();
+	}
+
+	/**
+	 * The folder containing the element
+	 */
+	public void setSource(String source) {
+		this.source = source;
+	}
+
+	/**
+	 * The name of the element folder, the jar gets the same name
+	 */
+	public void setElementName(String elementName) {
+		this.elementName = elementName;
+	}
+
+	/**
+	 * The compression level, from 0 to 9 or -1 for the default level
+	 */
+	public void setCompressionLevel(String compressionLevel) {
+		if (compressionLevel == null || compressionLevel.isEmpty() || compressionLevel.startsWith(ANT_PREFIX))
+			return;
+		try {
+			this.compressionLevel = Integer.parseInt(compressionLevel.trim());
+		} catch (NumberFormatException e) {
+			throw new BuildException("Invalid compression level: " + compressionLevel, e); //$NON-NLS-1$
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2013 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -112,6 +112,18 @@ public class PackagerTask extends Task {
 		if (Boolean.valueOf(value).booleanValue())
 			properties.put(IBuildPropertiesConstants.PROPERTY_ALLOW_BINARY_CYCLES, "true"); //$NON-NLS-1$
 
+		value = getProject().getProperty(IBuildPropertiesConstants.PROPERTY_PARALLEL_ASSEMBLY);
+		if (Boolean.valueOf(value).booleanValue())
+			properties.put(IBuildPropertiesConstants.PROPERTY_PARALLEL_ASSEMBLY, "true"); //$NON-NLS-1$
+
+		value = getProject().getProperty(IBuildPropertiesConstants.PROPERTY_PARALLEL_ASSEMBLY_THREAD_COUNT);
+		if (value != null)
+			properties.put(IBuildPropertiesConstants.PROPERTY_PARALLEL_ASSEMBLY_THREAD_COUNT, value);
+
+		value = getProject().getProperty(IBuildPropertiesConstants.PROPERTY_PARALLEL_ASSEMBLY_THREADS_PER_PROCESSOR);
+		if (value != null)
+			properties.put(IBuildPropertiesConstants.PROPERTY_PARALLEL_ASSEMBLY_THREADS_PER_PROCESSOR, value);
+
 		ProfileManager manager = new ProfileManager(null, true);
 		manager.copyEEProfileProperties(getProject().getProperties(), antProperties);
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2022 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,8 +13,11 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.core;
 
+import java.util.Collections;
 import java.util.Dictionary;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
@@ -36,9 +39,34 @@ public class BundleValidationOperation implements IWorkspaceRunnable {
 
 	private static StateObjectFactory FACTORY;
 
+	/**
+	 * A state in which the selected bundles of launches or products are
+	 * validated with the same platform properties. The state is kept by
+	 * {@link PlatformStateCache}. Only the bundles whose selection or
+	 * description changed since the last validation are added to or removed
+	 * from it.
+	 */
+	static final class ValidationState {
+		final State state;
+		Set<IPluginModelBase> models = Collections.emptySet();
+		long targetTimeStamp = -1;
+		/**
+		 * The description of every selected model mapped to its copy in the
+		 * validation state
+		 */
+		final Map<BundleDescription, BundleDescription> bundles = new HashMap<>();
+
+		ValidationState(Dictionary<String, String>[] properties) {
+			this.state = FACTORY.createState(true);
+			this.state.setPlatformProperties(properties);
+		}
+	}
+
 	private final Set<IPluginModelBase> fModels;
 	private final Dictionary<String, String>[] fProperties;
-	private State fState;
+	private Map<String, BundleDescription> fBundles;
+	private Map<Object, Object[]> fResolverErrors;
+	private boolean fEmpty;
 
 	@SuppressWarnings("unchecked")
 	public BundleValidationOperation(Set<IPluginModelBase> models) {
@@ -52,32 +80,74 @@ public class BundleValidationOperation implements IWorkspaceRunnable {
 
 	@Override
 	public void run(IProgressMonitor monitor) throws CoreException {
-		if (FACTORY == null) {
-			FACTORY = BundleHelper.getPlatformAdmin().getFactory();
-		}
 		SubMonitor subMonitor = SubMonitor.convert(monitor, fModels.size() + 1);
-		fState = FACTORY.createState(true);
-		for (IPluginModelBase fModel : fModels) {
-			BundleDescription bundle = fModel.getBundleDescription();
-			if (bundle != null) {
-				fState.addBundle(FACTORY.createBundleDescription(bundle));
+		synchronized (BundleValidationOperation.class) {
+			if (FACTORY == null) {
+				FACTORY = BundleHelper.getPlatformAdmin().getFactory();
+			}
+			State targetState = TargetPlatformHelper.getState();
+			ValidationState cached = PlatformStateCache.getValidationState(fProperties);
+			if (!cached.models.equals(fModels) || cached.targetTimeStamp != targetState.getTimeStamp()) {
+				// a changed model has a new description, it is replaced below
+				Set<BundleDescription> selected = new HashSet<>();
+				for (IPluginModelBase fModel : fModels) {
+					BundleDescription bundle = fModel.getBundleDescription();
+					if (bundle != null) {
+						selected.add(bundle);
+					}
+				}
+				boolean changed = false;
+				for (Iterator<Map.Entry<BundleDescription, BundleDescription>> iterator = cached.bundles.entrySet().iterator(); iterator.hasNext();) {
+					Map.Entry<BundleDescription, BundleDescription> entry = iterator.next();
+					if (!selected.contains(entry.getKey())) {
+						cached.state.removeBundle(entry.getValue());
+						iterator.remove();
+						changed = true;
+					}
+				}
+				for (BundleDescription bundle : selected) {
+					if (!cached.bundles.containsKey(bundle)) {
+						BundleDescription copy = FACTORY.createBundleDescription(bundle);
+						cached.state.addBundle(copy);
+						cached.bundles.put(bundle, copy);
+						changed = true;
+					}
+					subMonitor.worked(1);
+				}
+				if (changed) {
+					cached.state.resolve(false);
+				}
+				cached.models = new HashSet<>(fModels);
+				cached.targetTimeStamp = targetState.getTimeStamp();
 			}
-			subMonitor.split(1);
+			// the cached state changes with the next validation, keep the results
+			fResolverErrors = computeResolverErrors(cached.state);
+			fEmpty = cached.state.getBundles().length == 0;
+			fBundles = getHighestVersions(cached.state);
 		}
-		fState.setPlatformProperties(fProperties);
-		fState.resolve(false);
 		subMonitor.split(1);
 	}
 
-	public Map<Object, Object[]> getResolverErrors() {
+	private static Map<String, BundleDescription> getHighestVersions(State state) {
+		Map<String, BundleDescription> bundles = new HashMap<>();
+		for (BundleDescription bundle : state.getBundles()) {
+			String name = bundle.getSymbolicName();
+			if (name != null) {
+				bundles.merge(name, bundle, (a, b) -> a.getVersion().compareTo(b.getVersion()) >= 0 ? a : b);
+			}
+		}
+		return bundles;
+	}
+
+	private static Map<Object, Object[]> computeResolverErrors(State state) {
 		Set<String> alreadyDuplicated = new HashSet<>();
 		Map<Object, Object[]> map = new LinkedHashMap<>();
-		BundleDescription[] bundles = fState.getBundles();
+		BundleDescription[] bundles = state.getBundles();
 		for (BundleDescription bundle : bundles) {
 			if (!bundle.isResolved()) {
-				map.put(bundle, fState.getResolverErrors(bundle));
+				map.put(bundle, state.getResolverErrors(bundle));
 			} else if (bundle.isSingleton() && !alreadyDuplicated.contains(bundle.getSymbolicName())) {
-				BundleDescription[] dups = fState.getBundles(bundle.getSymbolicName());
+				BundleDescription[] dups = state.getBundles(bundle.getSymbolicName());
 				if (dups.length > 1) {
 					// more than 1 singleton present
 					alreadyDuplicated.add(bundle.getSymbolicName());
@@ -92,26 +162,30 @@ public class BundleValidationOperation implements IWorkspaceRunnable {
 		return map;
 	}
 
-	public State getState() {
-		return fState;
+	public Map<Object, Object[]> getResolverErrors() {
+		return new LinkedHashMap<>(fResolverErrors);
+	}
+
+	/**
+	 * Returns the highest version of the bundle with the given symbolic name
+	 * among the validated bundles, as it was when this operation ran.
+	 *
+	 * @param symbolicName the symbolic name of the bundle
+	 * @return the validated bundle or <code>null</code> if none has the name
+	 */
+	public BundleDescription getBundle(String symbolicName) {
+		return fBundles.get(symbolicName);
 	}
 
 	public boolean hasErrors() {
-		if (fState.getHighestBundleId() > -1) {
-			BundleDescription[] bundles = fState.getBundles();
-			for (BundleDescription bundle : bundles) {
-				if (!bundle.isResolved()) {
-					return true;
-				} else if (bundle.isSingleton()) {
-					BundleDescription[] dups = fState.getBundles(bundle.getSymbolicName());
-					if (dups.length > 1) {
-						// more than one singleton
-						return true;
-					}
-				}
-			}
-		}
-		return false;
+		return !fResolverErrors.isEmpty();
+	}
+
+	/**
+	 * Returns whether no bundle was validated.
+	 */
+	public boolean isEmpty() {
+		return fEmpty;
 	}
 
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -43,6 +43,7 @@ import org.eclipse.pde.core.target.ITargetDefinition;
 import org.eclipse.pde.core.target.ITargetPlatformService;
 import org.eclipse.pde.internal.core.bnd.BndResourceChangeListener;
 import org.eclipse.pde.internal.core.bnd.BndWorkspaceServiceFactory;
+import org.eclipse.pde.internal.core.builders.BuildProfiler;
 import org.eclipse.pde.internal.core.builders.FeatureRebuilder;
 import org.eclipse.pde.internal.core.builders.PluginRebuilder;
 import org.eclipse.pde.internal.core.project.BundleProjectService;
@@ -81,11 +82,13 @@ public class PDECore extends Plugin implements DebugOptionsListener {
 	public static boolean DEBUG_MODEL = false;
 	public static boolean DEBUG_TARGET_PROFILE = false;
 	public static boolean DEBUG_VALIDATION = false;
+	public static boolean DEBUG_BUILDER_PROFILE = false;
 	private static final String DEBUG_FLAG = PLUGIN_ID + "/debug"; //$NON-NLS-1$
 	private static final String CLASSPATH_DEBUG = PLUGIN_ID + "/classpath"; //$NON-NLS-1$
 	private static final String MODEL_DEBUG = PLUGIN_ID + "/model"; //$NON-NLS-1$
 	private static final String TARGET_PROFILE_DEBUG = PLUGIN_ID + "/target/profile"; //$NON-NLS-1$
 	private static final String VALIDATION_DEBUG = PLUGIN_ID + "/validation"; //$NON-NLS-1$
+	private static final String BUILDER_PROFILE_DEBUG = PLUGIN_ID + "/builders/profile"; //$NON-NLS-1$
 
 	// Shared instance
 	private static PDECore inst;
@@ -383,6 +386,8 @@ public class PDECore extends Plugin implements DebugOptionsListener {
 			fPreferenceManager.savePluginPreferences();
 		}
 
+		BuildProfiler.dumpOnShutdown();
+
 		fJavaElementChangeListener.shutdown();
 		fPluginRebuilder.stop();
 		fFeatureRebuilder.stop();
@@ -452,6 +457,7 @@ public class PDECore extends Plugin implements DebugOptionsListener {
 		DEBUG_MODEL = DEBUG && options.getBooleanOption(MODEL_DEBUG, false);
 		DEBUG_TARGET_PROFILE = DEBUG && options.getBooleanOption(TARGET_PROFILE_DEBUG, false);
 		DEBUG_VALIDATION = DEBUG && options.getBooleanOption(VALIDATION_DEBUG, false);
+		DEBUG_BUILDER_PROFILE = DEBUG && options.getBooleanOption(BUILDER_PROFILE_DEBUG, false);
 	}
 
 	/**
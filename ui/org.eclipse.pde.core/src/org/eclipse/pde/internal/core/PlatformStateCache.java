@@ -0,0 +1,175 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Dictionary;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Hashtable;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.osgi.service.resolver.State;
+import org.eclipse.pde.core.plugin.TargetPlatform;
+import org.eclipse.pde.internal.build.BundleHelper;
+
+/**
+ * Keeps copies of the target state resolved for operating systems, windowing
+ * systems and architectures other than the ones of the target platform, and
+ * the states in which {@link BundleValidationOperation} validates the bundles
+ * of launches and products for a platform.
+ * <p>
+ * A copy is reused as long as the target state is the same and its time stamp
+ * is unchanged. A validation state is reused as long as the target state is
+ * the same, the validation updates it when the time stamp changed. All states
+ * are dropped when the target is reloaded. Only the states of the most
+ * recently requested platforms are kept.
+ * </p>
+ */
+public final class PlatformStateCache {
+
+	private static final int MAX_PLATFORMS = 4;
+
+	private record Environment(String os, String ws, String arch) {
+	}
+
+	private static final Map<Environment, State> fgStates = new LinkedHashMap<>(MAX_PLATFORMS, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Environment, State> eldest) {
+			return size() > MAX_PLATFORMS;
+		}
+	};
+	/**
+	 * The validation states by their platform properties, which hold the
+	 * operating system, windowing system and architecture as well as the
+	 * properties of the execution environment
+	 */
+	private static final Map<List<Map<Object, Object>>, BundleValidationOperation.ValidationState> fgValidationStates = new LinkedHashMap<>(MAX_PLATFORMS, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<List<Map<Object, Object>>, BundleValidationOperation.ValidationState> eldest) {
+			return size() > MAX_PLATFORMS;
+		}
+	};
+	private static State fgTargetState;
+	private static long fgTargetTimeStamp = -1;
+
+	private PlatformStateCache() { // static use only
+	}
+
+	/**
+	 * Returns the target state resolved for the given platform. The target
+	 * state itself is returned for the platform of the target.
+	 * <p>
+	 * The returned state is shared and must not be modified.
+	 * </p>
+	 *
+	 * @param os the operating system
+	 * @param ws the windowing system
+	 * @param arch the architecture
+	 * @return the resolved state
+	 */
+	public static State getState(String os, String ws, String arch) {
+		State main = TargetPlatformHelper.getState();
+		if (os.equals(TargetPlatform.getOS()) && ws.equals(TargetPlatform.getWS()) && arch.equals(TargetPlatform.getOSArch())) {
+			return main;
+		}
+		synchronized (fgStates) {
+			checkTargetState(main);
+			return fgStates.computeIfAbsent(new Environment(os, ws, arch), environment -> resolve(main, environment));
+		}
+	}
+
+	/**
+	 * Returns the state in which the bundles of a launch or a product are
+	 * validated with the given platform properties. A new state is created if
+	 * there is none for the properties and the current target state.
+	 *
+	 * @param properties the platform properties of the validation
+	 * @return the validation state
+	 */
+	static BundleValidationOperation.ValidationState getValidationState(Dictionary<String, String>[] properties) {
+		State main = TargetPlatformHelper.getState();
+		synchronized (fgStates) {
+			checkTargetState(main);
+			return fgValidationStates.computeIfAbsent(toMaps(properties), key -> new BundleValidationOperation.ValidationState(properties));
+		}
+	}
+
+	private static void checkTargetState(State main) {
+		if (fgTargetState != main) {
+			// the target was reloaded
+			fgStates.clear();
+			fgValidationStates.clear();
+		} else if (fgTargetTimeStamp != main.getTimeStamp()) {
+			// the validation states are updated with the selected bundles
+			fgStates.clear();
+		}
+		fgTargetState = main;
+		fgTargetTimeStamp = main.getTimeStamp();
+	}
+
+	private static List<Map<Object, Object>> toMaps(Dictionary<?, ?>[] properties) {
+		List<Map<Object, Object>> result = new ArrayList<>(properties.length);
+		for (Dictionary<?, ?> dictionary : properties) {
+			Map<Object, Object> map = new HashMap<>();
+			if (dictionary != null) {
+				for (Object key : Collections.list(dictionary.keys())) {
+					map.put(key, dictionary.get(key));
+				}
+			}
+			result.add(map);
+		}
+		return result;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static State resolve(State main, Environment environment) {
+		State state = main.getFactory().createState(main);
+		state.setResolver(BundleHelper.getPlatformAdmin().createResolver());
+		Dictionary<String, String>[] dictionaries = main.getPlatformProperties();
+		Dictionary<String, String>[] properties = new Dictionary[dictionaries.length];
+		for (int i = 0; i < dictionaries.length; i++) {
+			properties[i] = new Hashtable<>();
+			for (Enumeration<String> keys = dictionaries[i].keys(); keys.hasMoreElements();) {
+				String key = keys.nextElement();
+				properties[i].put(key, dictionaries[i].get(key));
+			}
+			properties[i].put("osgi.os", environment.os()); //$NON-NLS-1$
+			properties[i].put("osgi.ws", environment.ws()); //$NON-NLS-1$
+			properties[i].put("osgi.arch", environment.arch()); //$NON-NLS-1$
+		}
+		state.setPlatformProperties(properties);
+		state.resolve(false);
+		return state;
+	}
+
+	/**
+	 * Drops all resolved copies and validation states.
+	 */
+	public static void clear() {
+		synchronized (fgStates) {
+			fgStates.clear();
+			fgValidationStates.clear();
+			fgTargetState = null;
+			fgTargetTimeStamp = -1;
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -540,6 +540,8 @@ public class PluginModelManager implements IModelProviderListener {
 		}
 
 		PDEState oldState = fState;
+		// the copies resolved for other platforms are outdated
+		PlatformStateCache.clear();
 		long startTime = System.currentTimeMillis();
 
 		// Cannot assign to fEntries here - will create a race condition with isInitialized()
@@ -38,6 +38,7 @@ import org.eclipse.osgi.util.NLS;
 import org.eclipse.pde.internal.core.ICoreConstants;
 import org.eclipse.pde.internal.core.PDECore;
 import org.eclipse.pde.internal.core.PDECoreMessages;
+import org.eclipse.pde.internal.core.builders.BuildProfiler;
 import org.eclipse.pde.internal.core.builders.PDEMarkerFactory;
 import org.eclipse.pde.internal.core.natures.BndProject;
 import org.eclipse.pde.internal.core.project.PDEProject;
@@ -128,7 +129,7 @@ public class BndBuilder extends IncrementalProjectBuilder {
 	}
 
 	private static void buildProjectJar(IProject project, IProgressMonitor monitor) {
-		try {
+		try (BuildProfiler.Timer timer = BuildProfiler.startBuild(BUILDER_ID, project)) {
 			Optional<Project> bndProject = BndProjectManager.getBndProject(project);
 			if (bndProject.isEmpty()) {
 				return;
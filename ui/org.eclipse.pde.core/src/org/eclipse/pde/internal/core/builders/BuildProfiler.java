@@ -0,0 +1,292 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.builders;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.pde.internal.core.PDECore;
+
+/**
+ * Collects timings and counters of the PDE builders per builder, project and
+ * validation step.
+ * <p>
+ * Every timed section is reported as a JFR event (see
+ * {@link BuilderTimingEvent}) whenever a flight recording is active.
+ * Aggregated statistics are only collected if the
+ * <code>org.eclipse.pde.core/builders/profile</code> debug option is set;
+ * they can be written as JSON with {@link #writeDump(Path)} and are dumped to
+ * the PDE core state location on shutdown.
+ * </p>
+ * <p>
+ * Builders open a context with {@link #startBuild(String, IProject)}, all
+ * sections and counters reported by the same thread until the context is
+ * closed are attributed to that builder and project.
+ * </p>
+ */
+public final class BuildProfiler {
+
+	/** Counter for parsed manifest, plugin.xml, feature.xml and site.xml files */
+	public static final String FILES_PARSED = "filesParsed"; //$NON-NLS-1$
+	/** Counter for <code>IJavaProject.findType</code> calls */
+	public static final String FIND_TYPE = "findType"; //$NON-NLS-1$
+	/** Counter for schemas found in the schema registry cache */
+	public static final String SCHEMA_CACHE_HITS = "schemaCacheHits"; //$NON-NLS-1$
+	/** Counter for schemas that had to be loaded */
+	public static final String SCHEMA_CACHE_MISSES = "schemaCacheMisses"; //$NON-NLS-1$
+	/** Counter for created problem markers */
+	public static final String MARKERS_CREATED = "markersCreated"; //$NON-NLS-1$
+	/** Counter for deleted problem markers */
+	public static final String MARKERS_DELETED = "markersDeleted"; //$NON-NLS-1$
+
+	private static final String BUILD = "build"; //$NON-NLS-1$
+	private static final String NONE = ""; //$NON-NLS-1$
+
+	private static final boolean JFR_AVAILABLE = isJfrAvailable();
+
+	private static final ThreadLocal<Context> CONTEXT = new ThreadLocal<>();
+
+	private static final Map<String, Timing> TIMINGS = new ConcurrentHashMap<>();
+	private static final Map<String, LongAdder> COUNTERS = new ConcurrentHashMap<>();
+
+	private static final Timer NO_TIMER = new Timer(null, null, null, 0, null);
+
+	private record Context(String builder, String project) {
+	}
+
+	private static final class Timing {
+		final LongAdder count = new LongAdder();
+		final LongAdder nanos = new LongAdder();
+		final LongAccumulator max = new LongAccumulator(Math::max, 0);
+	}
+
+	/**
+	 * A running timer, closing it records the elapsed time.
+	 */
+	public static final class Timer implements AutoCloseable {
+		private final Context fContext;
+		private final Context fRestore;
+		private final String fSection;
+		private final long fStart;
+		private final Object fEvent;
+
+		Timer(Context context, Context restore, String section, long start, Object event) {
+			fContext = context;
+			fRestore = restore;
+			fSection = section;
+			fStart = start;
+			fEvent = event;
+		}
+
+		@Override
+		public void close() {
+			if (fContext == null) {
+				return;
+			}
+			if (fEvent != null) {
+				BuilderTimingEvent.end(fEvent);
+			}
+			if (PDECore.DEBUG_BUILDER_PROFILE && fStart != 0) {
+				long elapsed = System.nanoTime() - fStart;
+				Timing timing = TIMINGS.computeIfAbsent(key(fContext, fSection), k -> new Timing());
+				timing.count.increment();
+				timing.nanos.add(elapsed);
+				timing.max.accumulate(elapsed);
+			}
+			if (fRestore != fContext) {
+				if (fRestore != null) {
+					CONTEXT.set(fRestore);
+				} else {
+					CONTEXT.remove();
+				}
+			}
+		}
+	}
+
+	private BuildProfiler() {
+	}
+
+	/**
+	 * Starts timing a build of the given builder on the given project and
+	 * makes them the context of subsequent sections and counters of the
+	 * current thread.
+	 *
+	 * @param builder name of the builder
+	 * @param project project being built, may be <code>null</code>
+	 * @return the running timer, must be closed by the same thread
+	 */
+	public static Timer startBuild(String builder, IProject project) {
+		Context previous = CONTEXT.get();
+		Context context = new Context(builder, project != null ? project.getName() : NONE);
+		CONTEXT.set(context);
+		return start(context, previous, BUILD);
+	}
+
+	/**
+	 * Starts timing a section, for example a single validator, of the current
+	 * build.
+	 *
+	 * @param section name of the section
+	 * @return the running timer, must be closed by the same thread
+	 */
+	public static Timer start(String section) {
+		Context context = CONTEXT.get();
+		if (context == null) {
+			return NO_TIMER;
+		}
+		return start(context, context, section);
+	}
+
+	private static Timer start(Context context, Context restore, String section) {
+		Object event = JFR_AVAILABLE ? BuilderTimingEvent.begin(context.builder(), context.project(), section) : null;
+		if (event == null && !PDECore.DEBUG_BUILDER_PROFILE) {
+			if (restore != context) {
+				// still need to restore the context on close
+				return new Timer(context, restore, section, 0, null);
+			}
+			return NO_TIMER;
+		}
+		return new Timer(context, restore, section, System.nanoTime(), event);
+	}
+
+	/**
+	 * Increments a counter of the current build.
+	 *
+	 * @param counter name of the counter
+	 */
+	public static void count(String counter) {
+		count(counter, 1);
+	}
+
+	/**
+	 * Adds to a counter of the current build.
+	 *
+	 * @param counter name of the counter
+	 * @param delta value to add
+	 */
+	public static void count(String counter, long delta) {
+		if (!PDECore.DEBUG_BUILDER_PROFILE || delta == 0) {
+			return;
+		}
+		Context context = CONTEXT.get();
+		if (context == null) {
+			context = new Context(NONE, NONE);
+		}
+		COUNTERS.computeIfAbsent(key(context, counter), k -> new LongAdder()).add(delta);
+	}
+
+	private static String key(Context context, String name) {
+		return context.builder() + '\t' + context.project() + '\t' + name;
+	}
+
+	/**
+	 * Discards all collected statistics.
+	 */
+	public static void reset() {
+		TIMINGS.clear();
+		COUNTERS.clear();
+	}
+
+	/**
+	 * Returns the collected statistics as a JSON document. Timings are
+	 * reported in milliseconds.
+	 *
+	 * @return the statistics as JSON
+	 */
+	public static String toJson() {
+		StringBuilder json = new StringBuilder();
+		json.append("{\n  \"timings\": ["); //$NON-NLS-1$
+		boolean first = true;
+		for (Map.Entry<String, Timing> entry : new TreeMap<>(TIMINGS).entrySet()) {
+			String[] key = entry.getKey().split("\t", 3); //$NON-NLS-1$
+			Timing timing = entry.getValue();
+			json.append(first ? "\n" : ",\n"); //$NON-NLS-1$ //$NON-NLS-2$
+			first = false;
+			json.append("    {\"builder\": ").append(quote(key[0])); //$NON-NLS-1$
+			json.append(", \"project\": ").append(quote(key[1])); //$NON-NLS-1$
+			json.append(", \"section\": ").append(quote(key[2])); //$NON-NLS-1$
+			json.append(", \"count\": ").append(timing.count.sum()); //$NON-NLS-1$
+			json.append(", \"totalMillis\": ").append(timing.nanos.sum() / 1_000_000.0); //$NON-NLS-1$
+			json.append(", \"maxMillis\": ").append(timing.max.get() / 1_000_000.0).append('}'); //$NON-NLS-1$
+		}
+		json.append("\n  ],\n  \"counters\": ["); //$NON-NLS-1$
+		first = true;
+		for (Map.Entry<String, LongAdder> entry : new TreeMap<>(COUNTERS).entrySet()) {
+			String[] key = entry.getKey().split("\t", 3); //$NON-NLS-1$
+			json.append(first ? "\n" : ",\n"); //$NON-NLS-1$ //$NON-NLS-2$
+			first = false;
+			json.append("    {\"builder\": ").append(quote(key[0])); //$NON-NLS-1$
+			json.append(", \"project\": ").append(quote(key[1])); //$NON-NLS-1$
+			json.append(", \"counter\": ").append(quote(key[2])); //$NON-NLS-1$
+			json.append(", \"value\": ").append(entry.getValue().sum()).append('}'); //$NON-NLS-1$
+		}
+		json.append("\n  ]\n}\n"); //$NON-NLS-1$
+		return json.toString();
+	}
+
+	/**
+	 * Writes the collected statistics as JSON to the given file.
+	 *
+	 * @param file the file to write
+	 * @throws IOException if the file cannot be written
+	 */
+	public static void writeDump(Path file) throws IOException {
+		Files.writeString(file, toJson(), StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Writes the collected statistics to the PDE core state location if
+	 * profiling is enabled and anything was collected.
+	 */
+	public static void dumpOnShutdown() {
+		if (!PDECore.DEBUG_BUILDER_PROFILE || (TIMINGS.isEmpty() && COUNTERS.isEmpty())) {
+			return;
+		}
+		try {
+			writeDump(PDECore.getDefault().getStateLocation().append("build-profile.json").toFile().toPath()); //$NON-NLS-1$
+		} catch (IOException | IllegalStateException e) {
+			PDECore.log(e);
+		}
+	}
+
+	private static String quote(String value) {
+		StringBuilder quoted = new StringBuilder(value.length() + 2).append('"');
+		for (char c : value.toCharArray()) {
+			switch (c) {
+				case '"', '\\' -> quoted.append('\\').append(c);
+				case '\n' -> quoted.append("\\n"); //$NON-NLS-1$
+				case '\t' -> quoted.append("\\t"); //$NON-NLS-1$
+				default -> quoted.append(c);
+			}
+		}
+		return quoted.append('"').toString();
+	}
+
+	private static boolean isJfrAvailable() {
+		try {
+			Class.forName("jdk.jfr.Event", false, BuildProfiler.class.getClassLoader()); //$NON-NLS-1$
+			return true;
+		} catch (ClassNotFoundException | LinkageError e) {
+			return false;
+		}
+	}
+}
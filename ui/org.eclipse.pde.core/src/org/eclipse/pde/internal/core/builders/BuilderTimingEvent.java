@@ -0,0 +1,66 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.builders;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event describing a timed section of a PDE builder. Only referenced by
+ * {@link BuildProfiler} after it has verified that JFR is available.
+ */
+@Name("org.eclipse.pde.core.Builder")
+@Label("PDE Builder")
+@Description("A timed section of a PDE builder")
+@Category({ "Eclipse", "PDE" })
+@StackTrace(false)
+final class BuilderTimingEvent extends Event {
+
+	@Label("Builder")
+	String builder;
+
+	@Label("Project")
+	String project;
+
+	@Label("Section")
+	String section;
+
+	/**
+	 * @return the started event or <code>null</code> if the event is not
+	 *         enabled in any recording
+	 */
+	static Object begin(String builder, String project, String section) {
+		BuilderTimingEvent event = new BuilderTimingEvent();
+		if (!event.isEnabled()) {
+			return null;
+		}
+		event.builder = builder;
+		event.project = project;
+		event.section = section;
+		event.begin();
+		return event;
+	}
+
+	static void end(Object event) {
+		BuilderTimingEvent timingEvent = (BuilderTimingEvent) event;
+		timingEvent.end();
+		if (timingEvent.shouldCommit()) {
+			timingEvent.commit();
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,10 +19,8 @@ package org.eclipse.pde.internal.core.builders;
 
 import java.io.File;
 import java.nio.charset.StandardCharsets;
-import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Deque;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -32,8 +30,6 @@ import java.util.Map;
 import java.util.Set;
 import java.util.StringTokenizer;
 import java.util.jar.JarFile;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import org.eclipse.core.resources.IContainer;
 import org.eclipse.core.resources.IFile;
@@ -81,6 +77,8 @@ import org.eclipse.pde.internal.core.PDEState;
 import org.eclipse.pde.internal.core.TargetPlatformHelper;
 import org.eclipse.pde.internal.core.TargetWeaver;
 import org.eclipse.pde.internal.core.builders.IncrementalErrorReporter.VirtualMarker;
+import org.eclipse.pde.internal.core.builders.RequiredEnvironmentCache.ExecutionEnvironment;
+import org.eclipse.pde.internal.core.builders.RequiredEnvironmentCache.RequiredEnvironment;
 import org.eclipse.pde.internal.core.ibundle.IBundle;
 import org.eclipse.pde.internal.core.ibundle.IBundlePluginModelBase;
 import org.eclipse.pde.internal.core.ibundle.IManifestHeader;
@@ -688,195 +686,23 @@ public class BundleErrorReporter extends JarManifestErrorReporter {
 		// Check for highest BREE of bundle dependencies
 		int compilerFlag = CompilerFlags.getFlag(fProject, CompilerFlags.P_EXEC_ENV_TOO_LOW);
 		if (compilerFlag != CompilerFlags.IGNORE) {
-			ArrayList<Object> checkBREE = checkBREE(desc);
-			String highestDependencyEE = checkBREE.size() > 0 ? (String) checkBREE.get(0) : ""; //$NON-NLS-1$
-			String highestBundleEE = getHighestBREE(bundleEnvs);
-			try {
-				if (highestBundleEE != getHighestEE(highestDependencyEE, highestBundleEE)) {
-					BundleDescription object = null;
-					if (checkBREE.size() == 2) {
-						object = (BundleDescription) checkBREE.get(1);
-					}
-					VirtualMarker marker = report(
-							NLS.bind(PDECoreMessages.BundleErrorReporter_ExecEnv_tooLow, highestDependencyEE,
-									object != null ? object.getName() : ""), //$NON-NLS-1$
-							getLine(header, highestBundleEE), compilerFlag, PDEMarkerFactory.M_EXEC_ENV_TOO_LOW,
-							PDEMarkerFactory.CAT_EE);
-					addMarkerAttribute(marker, PDEMarkerFactory.compilerKey, CompilerFlags.P_EXEC_ENV_TOO_LOW);
-					addMarkerAttribute(marker, PDEMarkerFactory.REQUIRED_EXEC_ENV, highestDependencyEE);
-				}
-			} catch (Exception e) {
-				PDECore.log(e);
+			RequiredEnvironment required = RequiredEnvironmentCache.getRequiredEnvironment(desc);
+			ExecutionEnvironment highestDependencyEE = required.environment();
+			ExecutionEnvironment highestBundleEE = RequiredEnvironmentCache.getHighest(bundleEnvs);
+			if (highestDependencyEE != null
+					&& (highestBundleEE == null || highestDependencyEE.isHigherThan(highestBundleEE))) {
+				BundleDescription object = required.bundle();
+				VirtualMarker marker = report(
+						NLS.bind(PDECoreMessages.BundleErrorReporter_ExecEnv_tooLow, highestDependencyEE.id(),
+								object != null ? object.getName() : ""), //$NON-NLS-1$
+						highestBundleEE != null ? getLine(header, highestBundleEE.id()) : header.getLineNumber(), compilerFlag,
+						PDEMarkerFactory.M_EXEC_ENV_TOO_LOW, PDEMarkerFactory.CAT_EE);
+				addMarkerAttribute(marker, PDEMarkerFactory.compilerKey, CompilerFlags.P_EXEC_ENV_TOO_LOW);
+				addMarkerAttribute(marker, PDEMarkerFactory.REQUIRED_EXEC_ENV, highestDependencyEE.id());
 			}
-			checkBREE.clear();
-		}
-	}
-
-	private static final List<String> EXECUTION_ENVIRONMENT_NAMES = List.of("OSGi/Minimum", //$NON-NLS-1$
-			"CDC-1.0/Foundation", //$NON-NLS-1$
-			"CDC-1.1/Foundation", "JRE", "J2SE", "JavaSE"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
-
-	private static final Pattern EE_PATTERN = Pattern.compile("(.*)-(\\d+)\\.?(\\d+)?(.*)?"); //$NON-NLS-1$
-
-	/**
-	 * <p>
-	 * Returns the highest Execution Environment between two given Execution
-	 * Environments. An Execution Environment is <b>higher</b> than another
-	 * Execution Environment if it's name occurs at a later index in
-	 * {@link #EXECUTION_ENVIRONMENT_NAMES}, or if the names are equal and it's
-	 * major version is greater, or if the names and major version are equal and
-	 * it's minor version is greater.
-	 * </p>
-	 * <p>
-	 * For example, the name component of JavaSE-1.8 is 'JavaSE', it's major
-	 * version is 1 and it's minor version is 8. Thus JavaSE-1.8 is a higher
-	 * Execution Environment than JRE-1.1 since it's name occurs at later index
-	 * than 'JRE' in {@link #EXECUTION_ENVIRONMENT_NAMES}.
-	 * </p>
-	 *
-	 * @param execEnv1
-	 *            String representation of the first Execution Environment to
-	 *            compare
-	 * @param execEnv2
-	 *            String representation of the second Execution Environment to
-	 *            compare
-	 * @return The string representation of the highest Execution Environment
-	 *         between the two Execution Environments
-	 */
-	private static String getHighestEE(String execEnv1, String execEnv2) throws IllegalArgumentException {
-		if (execEnv1 == null) {
-			return execEnv2;
-		} else if (execEnv2 == null) {
-			return execEnv1;
-		}
-
-		Matcher eeMatcher1 = EE_PATTERN.matcher(execEnv1);
-		Matcher eeMatcher2 = EE_PATTERN.matcher(execEnv2);
-
-		if (!eeMatcher1.matches()) {
-			throw new IllegalArgumentException(String.format("%s is not a valid Execution Environment", execEnv1)); //$NON-NLS-1$
 		}
-		if (!eeMatcher2.matches()) {
-			throw new IllegalArgumentException(String.format("%s is not a valid Execution Environment", execEnv2)); //$NON-NLS-1$
-		}
-
-		String eeName1 = eeMatcher1.group(1);
-		String eeName2 = eeMatcher2.group(1);
-		int eeNameIndex1 = EXECUTION_ENVIRONMENT_NAMES.indexOf(eeName1);
-		int eeNameIndex2 = EXECUTION_ENVIRONMENT_NAMES.indexOf(eeName2);
-		int eeMajorVersion1 = Integer.parseInt(eeMatcher1.group(2));
-		int eeMajorVersion2 = Integer.parseInt(eeMatcher2.group(2));
-		Integer eeMinorVersion1 = null;
-		Integer eeMinorVersion2 = null;
-
-		if (eeMatcher1.groupCount() > 2 && eeMatcher1.group(3) != null) {
-			eeMinorVersion1 = Integer.valueOf(eeMatcher1.group(3));
-		}
-		if (eeMatcher2.groupCount() > 2 && eeMatcher2.group(3) != null) {
-			eeMinorVersion2 = Integer.valueOf(eeMatcher2.group(3));
-		}
-
-		if (eeNameIndex1 > eeNameIndex2) {
-			return execEnv1;
-		} else if (eeNameIndex1 < eeNameIndex2) {
-			return execEnv2;
-		}
-
-		// EE1 and EE2 have the same EE name
-		if (eeMajorVersion1 > eeMajorVersion2) {
-			return execEnv1;
-		} else if (eeMajorVersion1 < eeMajorVersion2) {
-			return execEnv2;
-		}
-
-		// EE1 and EE2 have the same major version
-		if (eeMinorVersion1 != null && eeMinorVersion2 != null) {
-			if (eeMinorVersion1 > eeMinorVersion2) {
-				return execEnv1;
-			} else if (eeMinorVersion1 < eeMinorVersion2) {
-				return execEnv2;
-			}
-		}
-
-		// EE1 == EE2
-		return execEnv1;
 	}
 
-	/**
-	 * Compares all the Execution Environments in an array of Execution
-	 * Environments strings and returns the highest one.
-	 *
-	 * @param executionEnvironments
-	 *            Array of Execution Environment strings to compare
-	 * @return The highest Execution Environment in the array of Execution
-	 *         Environments, null if an error occurred or if an empty array is
-	 *         given
-	 */
-	private String getHighestBREE(String[] executionEnvironments) {
-		if (executionEnvironments.length == 0) {
-			return null;
-		}
-		String highestExecEnv = executionEnvironments[0];
-		if (executionEnvironments.length > 1) {
-			for (String execEnv : executionEnvironments) {
-				try {
-				highestExecEnv = getHighestEE(highestExecEnv, execEnv);
-				} catch (Exception e) {
-					PDECore.log(e);
-					return null;
-				}
-
-			}
-		}
-
-		return highestExecEnv;
-	}
-
-	/**
-	 * Gets the highest Execution Environment required by a bundle or any of
-	 * it's transitive dependencies.
-	 *
-	 * @param desc
-	 *            The bundle description of the bundle which we wish to check
-	 *            for it's highest required Execution Environment
-	 * @return List containing the highest Execution Environment &
-	 *         BundleDescription with the highest BREE required by the bundle or
-	 *         any of it's dependencies
-	 */
-	private ArrayList<Object> checkBREE(BundleDescription desc) {
-		ArrayList<Object> ret = new ArrayList<>();
-		String highestBREE = getHighestBREE(desc.getExecutionEnvironments());
-		ret.add(highestBREE);
-		HashSet<BundleDescription> visitedBundles = new HashSet<>();
-		Deque<BundleDescription> bundleDescriptions = new ArrayDeque<>();
-		bundleDescriptions.push(desc);
-		while (!bundleDescriptions.isEmpty()) {
-			BundleDescription dependencyDesc = bundleDescriptions.pop();
-			visitedBundles.add(dependencyDesc);
-			for (BundleSpecification transitiveDependencyDesc : dependencyDesc.getRequiredBundles()) {
-				if (transitiveDependencyDesc.isOptional()) {
-					continue;
-				}
-				if (!visitedBundles.contains(transitiveDependencyDesc.getSupplier())) {
-					if (transitiveDependencyDesc.getSupplier() instanceof BundleDescription) {
-						bundleDescriptions.push((BundleDescription) transitiveDependencyDesc.getSupplier());
-					}
-				}
-			}
-			try {
-				String high = getHighestEE(highestBREE, getHighestBREE(dependencyDesc.getExecutionEnvironments()));
-				if (!high.equals(highestBREE)) {
-					highestBREE = high;
-					ret.clear();
-					ret.add(highestBREE);
-					ret.add(dependencyDesc);
-				}
-			} catch (Exception e) {
-				PDECore.log(e);
-			}
-		}
-		return ret;
-	}
 	/**
 	 * Validates the Eclipse-BundleShape header
 	 *
@@ -27,6 +27,7 @@ import org.xml.sax.SAXException;
 public class DefaultSAXParser {
 
 	public static void parse(IFile file, XMLErrorReporter reporter) {
+		BuildProfiler.count(BuildProfiler.FILES_PARSED);
 		try (InputStream stream = new BufferedInputStream(file.getContents())) {
 			@SuppressWarnings("restriction")
 			SAXParser parser = org.eclipse.core.internal.runtime.XmlProcessorFactory
@@ -0,0 +1,291 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse contributors and others.
+ *
+ *  This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.builders;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.BundleSpecification;
+import org.eclipse.osgi.service.resolver.State;
+
+/**
+ * An immutable, id-indexed view of the Require-Bundle graph of a {@link State}
+ * together with its strongly connected components.
+ * <p>
+ * Every plug-in symbolic name is mapped to a dense integer index and the
+ * required bundles are stored as an adjacency array. The strongly connected
+ * components are computed once with Tarjan's algorithm, so asking whether a
+ * plug-in takes part in a dependency loop, and with which other plug-ins, is
+ * a constant time lookup. Fragments are not part of the graph since they
+ * cannot be the target of a Require-Bundle header.
+ * </p>
+ * <p>
+ * Use {@link #of(State)} to obtain the graph of a state; the last computed
+ * graph is reused as long as the state's time stamp does not change.
+ * </p>
+ */
+public final class DependencyGraph {
+
+	private static final String[] NO_MEMBERS = new String[0];
+
+	private static DependencyGraph fCached;
+
+	private final State fState;
+	private final long fTimeStamp;
+	private final Map<String, Integer> fIndex;
+	private final String[] fIds;
+	private final int[][] fEdges;
+	/** component number of every node */
+	private final int[] fComponent;
+	/** members of every component, only filled in for non-trivial ones */
+	private final String[][] fComponentMembers;
+
+	/**
+	 * Returns the dependency graph of the given state, computing it only if the
+	 * state was modified since the graph was last requested.
+	 *
+	 * @param state the state to analyze, may be <code>null</code>
+	 * @return the dependency graph or <code>null</code> if no state was given
+	 */
+	public static synchronized DependencyGraph of(State state) {
+		if (state == null) {
+			return null;
+		}
+		DependencyGraph graph = fCached;
+		if (graph == null || graph.fState != state || graph.fTimeStamp != state.getTimeStamp()) {
+			graph = create(state);
+			fCached = graph;
+		}
+		return graph;
+	}
+
+	/**
+	 * Computes a new dependency graph for the given state without consulting
+	 * the cache.
+	 *
+	 * @param state the state to analyze
+	 * @return the dependency graph of the state
+	 */
+	public static DependencyGraph create(State state) {
+		return new DependencyGraph(state);
+	}
+
+	private DependencyGraph(State state) {
+		fState = state;
+		fTimeStamp = state.getTimeStamp();
+
+		List<BundleDescription> nodes = new ArrayList<>();
+		fIndex = new HashMap<>();
+		for (BundleDescription bundle : state.getBundles()) {
+			String id = bundle.getSymbolicName();
+			if (id == null || bundle.getHost() != null) {
+				continue;
+			}
+			Integer existing = fIndex.get(id);
+			if (existing == null) {
+				fIndex.put(id, nodes.size());
+				nodes.add(bundle);
+			} else if (bundle.getVersion().compareTo(nodes.get(existing).getVersion()) > 0) {
+				// like the plug-in registry, the highest version wins
+				nodes.set(existing, bundle);
+			}
+		}
+
+		int size = nodes.size();
+		fIds = new String[size];
+		fEdges = new int[size][];
+		int[] buffer = new int[16];
+		for (int i = 0; i < size; i++) {
+			BundleDescription bundle = nodes.get(i);
+			fIds[i] = bundle.getSymbolicName();
+			BundleSpecification[] required = bundle.getRequiredBundles();
+			if (buffer.length < required.length) {
+				buffer = new int[required.length];
+			}
+			int count = 0;
+			for (BundleSpecification spec : required) {
+				Integer target = spec.getName() != null ? fIndex.get(spec.getName()) : null;
+				if (target != null) {
+					buffer[count++] = target.intValue();
+				}
+			}
+			fEdges[i] = Arrays.copyOf(buffer, count);
+		}
+
+		fComponent = new int[size];
+		fComponentMembers = computeComponents();
+	}
+
+	/**
+	 * Tarjan's strongly connected components algorithm. It is implemented with
+	 * an explicit stack so that long dependency chains do not overflow the
+	 * thread's stack.
+	 */
+	private String[][] computeComponents() {
+		int size = fIds.length;
+		int[] index = new int[size];
+		int[] lowLink = new int[size];
+		boolean[] onStack = new boolean[size];
+		Arrays.fill(index, -1);
+
+		int[] sccStack = new int[size];
+		int sccTop = 0;
+		int[] callStack = new int[size];
+		int[] edgePos = new int[size];
+		int nextIndex = 0;
+		int componentCount = 0;
+		List<String[]> members = new ArrayList<>();
+
+		for (int root = 0; root < size; root++) {
+			if (index[root] != -1) {
+				continue;
+			}
+			int callTop = 0;
+			callStack[callTop++] = root;
+			index[root] = lowLink[root] = nextIndex++;
+			sccStack[sccTop++] = root;
+			onStack[root] = true;
+			edgePos[root] = 0;
+
+			while (callTop > 0) {
+				int node = callStack[callTop - 1];
+				int[] edges = fEdges[node];
+				if (edgePos[node] < edges.length) {
+					int next = edges[edgePos[node]++];
+					if (index[next] == -1) {
+						index[next] = lowLink[next] = nextIndex++;
+						sccStack[sccTop++] = next;
+						onStack[next] = true;
+						edgePos[next] = 0;
+						callStack[callTop++] = next;
+					} else if (onStack[next]) {
+						lowLink[node] = Math.min(lowLink[node], index[next]);
+					}
+					continue;
+				}
+				callTop--;
+				if (callTop > 0) {
+					int parent = callStack[callTop - 1];
+					lowLink[parent] = Math.min(lowLink[parent], lowLink[node]);
+				}
+				if (lowLink[node] == index[node]) {
+					int start = sccTop;
+					do {
+						start--;
+					} while (sccStack[start] != node);
+					int component = componentCount++;
+					boolean loop = sccTop - start > 1 || isSelfReference(node);
+					String[] ids = loop ? new String[sccTop - start] : null;
+					for (int i = start; i < sccTop; i++) {
+						int member = sccStack[i];
+						onStack[member] = false;
+						fComponent[member] = component;
+						if (ids != null) {
+							ids[i - start] = fIds[member];
+						}
+					}
+					members.add(ids);
+					sccTop = start;
+				}
+			}
+		}
+		return members.toArray(new String[members.size()][]);
+	}
+
+	private boolean isSelfReference(int node) {
+		for (int edge : fEdges[node]) {
+			if (edge == node) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @return the state this graph was computed from
+	 */
+	public State getState() {
+		return fState;
+	}
+
+	/**
+	 * @return the number of plug-ins in this graph
+	 */
+	public int size() {
+		return fIds.length;
+	}
+
+	/**
+	 * Returns whether the given plug-in is part of a dependency loop.
+	 *
+	 * @param id the symbolic name of the plug-in
+	 * @return <code>true</code> if the plug-in can reach itself through its
+	 *         required bundles
+	 */
+	public boolean isInLoop(String id) {
+		return getLoopMembers(id).length > 0;
+	}
+
+	/**
+	 * Returns all plug-ins that belong to the same dependency loop as the given
+	 * plug-in, including the plug-in itself. Every loop containing the plug-in
+	 * consists only of these members.
+	 *
+	 * @param id the symbolic name of the plug-in
+	 * @return the members of the strongly connected component of the plug-in
+	 *         or an empty array if it is not part of any loop
+	 */
+	public String[] getLoopMembers(String id) {
+		Integer node = fIndex.get(id);
+		if (node == null) {
+			return NO_MEMBERS;
+		}
+		String[] members = fComponentMembers[fComponent[node.intValue()]];
+		return members != null ? members : NO_MEMBERS;
+	}
+
+	/**
+	 * Returns whether the plug-in with the given id has exactly the given
+	 * required plug-ins in this graph. This is used to detect models whose
+	 * imports were modified but not yet reflected in the state.
+	 *
+	 * @param id the symbolic name of the plug-in
+	 * @param requiredIds the ids of the plug-ins it requires
+	 * @return <code>true</code> if the graph is up to date for this plug-in
+	 */
+	public boolean matches(String id, Set<String> requiredIds) {
+		Integer node = fIndex.get(id);
+		if (node == null) {
+			return false;
+		}
+		Set<String> known = new LinkedHashSet<>();
+		for (String required : requiredIds) {
+			if (fIndex.containsKey(required)) {
+				known.add(required);
+			}
+		}
+		int[] edges = fEdges[node.intValue()];
+		Set<String> actual = new LinkedHashSet<>();
+		for (int edge : edges) {
+			actual.add(fIds[edge]);
+		}
+		return known.equals(actual);
+	}
+}
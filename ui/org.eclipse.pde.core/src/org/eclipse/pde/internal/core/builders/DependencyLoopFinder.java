@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2012 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,8 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.core.builders;
 
+import java.util.HashSet;
+import java.util.Set;
 import java.util.Vector;
 
 import org.eclipse.osgi.util.NLS;
@@ -21,10 +23,13 @@ import org.eclipse.pde.core.plugin.IPluginImport;
 import org.eclipse.pde.core.plugin.IPluginModel;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
 import org.eclipse.pde.core.plugin.PluginRegistry;
+import org.eclipse.pde.internal.core.PDECore;
 import org.eclipse.pde.internal.core.PDECoreMessages;
 
 public class DependencyLoopFinder {
 
+	private static final DependencyLoop[] NO_LOOPS = new DependencyLoop[0];
+
 	public static DependencyLoop[] findLoops(IPlugin root) {
 		return findLoops(root, null);
 	}
@@ -34,14 +39,49 @@ public class DependencyLoopFinder {
 	}
 
 	public static DependencyLoop[] findLoops(IPlugin root, IPlugin[] candidates, boolean onlyCandidates) {
+		Set<String> loopMembers = null;
+		if (candidates == null && !onlyCandidates) {
+			// every loop through the root stays within its strongly connected
+			// component, so only its members need to be traversed
+			loopMembers = getLoopMembers(root);
+			if (loopMembers != null && loopMembers.isEmpty()) {
+				return NO_LOOPS;
+			}
+		}
 		Vector<DependencyLoop> loops = new Vector<>();
 
 		Vector<IPlugin> path = new Vector<>();
-		findLoops(loops, path, root, candidates, onlyCandidates, new Vector<>());
+		findLoops(loops, path, root, candidates, onlyCandidates, new HashSet<>(), loopMembers);
 		return loops.toArray(new DependencyLoop[loops.size()]);
 	}
 
-	private static void findLoops(Vector<DependencyLoop> loops, Vector<IPlugin> path, IPlugin subroot, IPlugin[] candidates, boolean onlyCandidates, Vector<String> exploredPlugins) {
+	/**
+	 * Returns the ids of the plug-ins sharing a dependency loop with the given
+	 * root according to the resolved target state, or <code>null</code> if the
+	 * state does not reflect the current imports of the root.
+	 */
+	private static Set<String> getLoopMembers(IPlugin root) {
+		String id = root.getId();
+		if (id == null || PDECore.getDefault() == null) {
+			return null;
+		}
+		DependencyGraph graph = DependencyGraph.of(PDECore.getDefault().getModelManager().getState().getState());
+		if (graph == null) {
+			return null;
+		}
+		Set<String> imports = new HashSet<>();
+		for (IPluginImport iimport : root.getImports()) {
+			if (iimport.getId() != null) {
+				imports.add(iimport.getId());
+			}
+		}
+		if (!graph.matches(id, imports)) {
+			return null;
+		}
+		return Set.of(graph.getLoopMembers(id));
+	}
+
+	private static void findLoops(Vector<DependencyLoop> loops, Vector<IPlugin> path, IPlugin subroot, IPlugin[] candidates, boolean onlyCandidates, Set<String> exploredPlugins, Set<String> loopMembers) {
 		if (!path.isEmpty()) {
 			// test the path so far
 			// is the subroot the same as root - if yes, that's it
@@ -78,6 +118,10 @@ public class DependencyLoopFinder {
 				if (id == null) {
 					continue;
 				}
+				if (loopMembers != null && !loopMembers.contains(id)) {
+					// cannot lead back to the root
+					continue;
+				}
 				if (!exploredPlugins.contains(id)) {
 					// is plugin in list of non loop yielding plugins
 					//Commenting linear lookup - was very slow
@@ -90,7 +134,7 @@ public class DependencyLoopFinder {
 						// number of loops before traversing plugin
 						int oldLoopSize = loops.size();
 
-						findLoops(loops, newPath, child, null, false, exploredPlugins);
+						findLoops(loops, newPath, child, null, false, exploredPlugins, loopMembers);
 
 						// number of loops after traversing plugin
 						int newLoopsSize = loops.size();
@@ -110,7 +154,7 @@ public class DependencyLoopFinder {
 				// number of loops before traversing plugin
 				int oldLoopSize = loops.size();
 
-				findLoops(loops, newPath, candidate, null, false, exploredPlugins);
+				findLoops(loops, newPath, candidate, null, false, exploredPlugins, null);
 
 				// number of loops after traversing plugin
 				int newLoopsSize = loops.size();
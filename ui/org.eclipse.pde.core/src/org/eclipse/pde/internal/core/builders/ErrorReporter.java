@@ -106,8 +106,10 @@ public abstract class ErrorReporter {
 	}
 
 	public final void validateContent(IProgressMonitor monitor) {
-		validate(monitor);
-		fErrorReporter.applyMarkers();
+		try (BuildProfiler.Timer timer = BuildProfiler.start(getClass().getSimpleName())) {
+			validate(monitor);
+			fErrorReporter.applyMarkers();
+		}
 	}
 
 	protected abstract void validate(IProgressMonitor monitor);
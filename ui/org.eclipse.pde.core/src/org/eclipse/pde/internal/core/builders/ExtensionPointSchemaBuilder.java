@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2017 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,12 +14,29 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.core.builders;
 
+import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.net.MalformedURLException;
+import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParser;
 
 import org.eclipse.core.resources.IContainer;
 import org.eclipse.core.resources.IFile;
@@ -45,12 +62,32 @@ import org.eclipse.pde.internal.core.PDECore;
 import org.eclipse.pde.internal.core.PDECoreMessages;
 import org.eclipse.pde.internal.core.WorkspaceModelManager;
 import org.eclipse.pde.internal.core.natures.PluginProject;
+import org.eclipse.pde.internal.core.schema.IncludedSchemaDescriptor;
 import org.eclipse.pde.internal.core.schema.Schema;
 import org.eclipse.pde.internal.core.schema.SchemaDescriptor;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+import org.xml.sax.Attributes;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
 
 public class ExtensionPointSchemaBuilder extends IncrementalProjectBuilder {
+
+	private static final String INCLUDE = "include"; //$NON-NLS-1$
+	private static final String ATTR_LOCATION = "schemaLocation"; //$NON-NLS-1$
+
+	/**
+	 * Collects the changed schemas of the built project and of the projects
+	 * holding schemas it includes.
+	 */
 	class DeltaVisitor implements IResourceDeltaVisitor {
 		private final IProgressMonitor monitor;
+		/** changed schemas of the built project */
+		private final Set<IFile> changed = new LinkedHashSet<>();
+		/** removed schemas of the built project */
+		private final Set<IFile> removed = new LinkedHashSet<>();
+		/** changed or removed schemas of other projects */
+		private final Set<IFile> modified = new LinkedHashSet<>();
 
 		public DeltaVisitor(IProgressMonitor monitor) {
 			this.monitor = monitor;
@@ -61,7 +98,7 @@ public class ExtensionPointSchemaBuilder extends IncrementalProjectBuilder {
 			IResource resource = delta.getResource();
 
 			if (resource instanceof IProject) {
-				return isInterestingProject((IProject) resource);
+				return !resource.equals(getProject()) || isInterestingProject((IProject) resource);
 			}
 
 			if (resource instanceof IFolder) {
@@ -71,16 +108,69 @@ public class ExtensionPointSchemaBuilder extends IncrementalProjectBuilder {
 			if (resource instanceof IFile candidate) {
 				// see if this is it
 				if (isSchemaFile(candidate)) {
-					// That's it, but only check it if it has been added or changed
-					if (delta.getKind() != IResourceDelta.REMOVED) {
-						compileFile(candidate, monitor);
+					if (!candidate.getProject().equals(getProject())) {
+						modified.add(candidate);
+					} else if (delta.getKind() != IResourceDelta.REMOVED) {
+						// That's it, but only check it if it has been added or changed
+						changed.add(candidate);
 					} else {
+						removed.add(candidate);
 						removeOutputFile(candidate, monitor);
 					}
 				}
 			}
 			return false;
 		}
+
+		/**
+		 * @return the changed schemas of the built project and its existing
+		 *         schemas including one of the changed or removed schemas
+		 */
+		Set<IFile> getAffectedSchemas() {
+			Set<IFile> all = new LinkedHashSet<>(changed);
+			all.addAll(removed);
+			all.addAll(modified);
+			Set<IFile> affected = new LinkedHashSet<>(changed);
+			for (IFile file : SchemaIncludeGraph.getDefault().getIncludingSchemas(all)) {
+				if (file.getProject().equals(getProject()) && file.exists()) {
+					affected.add(file);
+				}
+			}
+			affected.removeAll(removed);
+			return affected;
+		}
+	}
+
+	/**
+	 * Collects the <code>schemaLocation</code> of the top-level
+	 * <code>include</code> elements of a schema.
+	 */
+	private static class IncludeHandler extends DefaultHandler {
+		private final List<String> locations = new ArrayList<>();
+		private int depth;
+
+		@Override
+		public void startElement(String uri, String localName, String qName, Attributes attributes) {
+			if (depth == 1 && INCLUDE.equals(qName)) {
+				String location = attributes.getValue(ATTR_LOCATION);
+				if (location != null) {
+					locations.add(location);
+				}
+			}
+			depth++;
+		}
+
+		@Override
+		public void endElement(String uri, String localName, String qName) {
+			depth--;
+		}
+	}
+
+	/**
+	 * The generated documentation of a schema, computed in parallel with the
+	 * documentation of the other schemas of a build.
+	 */
+	private record SchemaDoc(IFile file, Schema schema, IPath outputPath) {
 	}
 
 	@Override
@@ -90,14 +180,92 @@ public class ExtensionPointSchemaBuilder extends IncrementalProjectBuilder {
 			delta = getDelta(getProject());
 		}
 
-		if (delta == null || kind == FULL_BUILD) {
-			if (isInterestingProject(getProject())) {
-				compileSchemasIn(getProject(), monitor);
+		SchemaIncludeGraph graph = SchemaIncludeGraph.getDefault();
+		try (BuildProfiler.Timer timer = BuildProfiler.startBuild(PluginProject.SCHEMA_BUILDER_ID, getProject())) {
+			if (delta == null || kind == FULL_BUILD) {
+				if (isInterestingProject(getProject())) {
+					compileSchemasIn(getProject(), monitor);
+					recordIncludes();
+				}
+			} else {
+				recordIncludes();
+				DeltaVisitor visitor = new DeltaVisitor(monitor);
+				delta.accept(visitor);
+				for (IProject project : getIncludedProjects()) {
+					IResourceDelta includedDelta = getDelta(project);
+					if (includedDelta != null) {
+						includedDelta.accept(visitor);
+					} else {
+						// not built with this project before, the included schemas may have changed
+						for (IFile file : graph.getIncludedSchemas(getProject())) {
+							if (file.getProject().equals(project)) {
+								visitor.modified.add(file);
+							}
+						}
+					}
+				}
+				for (IFile file : visitor.removed) {
+					graph.remove(file);
+				}
+				compileFiles(visitor.getAffectedSchemas(), monitor);
 			}
-		} else {
-			delta.accept(new DeltaVisitor(monitor));
 		}
-		return new IProject[0];
+		return getIncludedProjects();
+	}
+
+	/**
+	 * @return the other projects holding schemas that the schemas of this
+	 *         project include directly or transitively
+	 */
+	private IProject[] getIncludedProjects() {
+		Set<IProject> projects = new LinkedHashSet<>();
+		for (IFile file : SchemaIncludeGraph.getDefault().getIncludedSchemas(getProject())) {
+			projects.add(file.getProject());
+		}
+		projects.remove(getProject());
+		return projects.toArray(new IProject[projects.size()]);
+	}
+
+	/**
+	 * Records the includes of the schemas of this project and of the projects
+	 * holding schemas they include, unless they are known already. The
+	 * include graph is not persisted, so an incremental build reads the
+	 * includes of all schemas first if it is the first build of the session.
+	 */
+	private void recordIncludes() throws CoreException {
+		SchemaIncludeGraph graph = SchemaIncludeGraph.getDefault();
+		Set<IProject> visited = new HashSet<>();
+		Deque<IProject> queue = new ArrayDeque<>(List.of(getProject()));
+		while (!queue.isEmpty()) {
+			IProject project = queue.poll();
+			if (!visited.add(project) || !project.isAccessible()) {
+				continue;
+			}
+			if (!graph.isRecorded(project)) {
+				recordIncludes(project);
+			}
+			for (IFile included : graph.getIncludedSchemas(project)) {
+				queue.add(included.getProject());
+			}
+		}
+	}
+
+	private void recordIncludes(IProject project) throws CoreException {
+		List<IFile> files = new ArrayList<>();
+		collectSchemasIn(project, files);
+		for (IFile file : files) {
+			IncludeHandler handler = new IncludeHandler();
+			try (InputStream stream = new BufferedInputStream(file.getContents())) {
+				@SuppressWarnings("restriction")
+				SAXParser parser = org.eclipse.core.internal.runtime.XmlProcessorFactory
+						.createSAXParserWithErrorOnDOCTYPE();
+				parser.parse(stream, handler);
+			} catch (CoreException | SAXException | IOException | ParserConfigurationException e) {
+				// keep the includes read so far, the schema is reported when compiled
+			}
+			recordIncludes(file, new SchemaDescriptor(file, false), handler.locations);
+		}
+		SchemaIncludeGraph.getDefault().setRecorded(project);
 	}
 
 	@Override
@@ -127,7 +295,65 @@ public class ExtensionPointSchemaBuilder extends IncrementalProjectBuilder {
 		return PluginProject.isPluginProject(project) && !WorkspaceModelManager.isBinaryProject(project);
 	}
 
-	private void compileFile(IFile file, IProgressMonitor monitor) {
+	/**
+	 * Validates the given schema files one after the other and generates their
+	 * HTML documentation in parallel. Validation and writing happen in the
+	 * calling thread since they modify the workspace, only the schema
+	 * transformation itself is distributed.
+	 */
+	private void compileFiles(Collection<IFile> files, IProgressMonitor monitor) {
+		if (files.isEmpty()) {
+			return;
+		}
+		SubMonitor subMonitor = SubMonitor.convert(monitor, files.size() * 2);
+		List<SchemaDoc> docs = new ArrayList<>();
+		for (IFile file : files) {
+			SchemaDoc doc = validateFile(file, subMonitor.split(1));
+			if (doc != null) {
+				docs.add(doc);
+			}
+		}
+		subMonitor.setWorkRemaining(docs.size());
+
+		List<byte[]> contents;
+		try (BuildProfiler.Timer timer = BuildProfiler.start("transform")) { //$NON-NLS-1$
+			contents = docs.parallelStream().map(doc -> {
+				StringWriter swriter = new StringWriter();
+				PrintWriter writer = new PrintWriter(swriter);
+				new SchemaTransformer().transform(doc.schema(), writer);
+				writer.flush();
+				return swriter.toString().getBytes(StandardCharsets.UTF_8);
+			}).toList();
+		}
+
+		IWorkspace workspace = getProject().getWorkspace();
+		for (int i = 0; i < docs.size(); i++) {
+			SchemaDoc doc = docs.get(i);
+			IProgressMonitor writeMonitor = subMonitor.split(1);
+			try {
+				ensureFoldersExist(doc.file().getProject(), getDocLocation(doc.file()));
+				ByteArrayInputStream target = new ByteArrayInputStream(contents.get(i));
+				IFile outputFile = workspace.getRoot().getFile(doc.outputPath());
+				if (!workspace.getRoot().exists(doc.outputPath())) {
+					outputFile.create(target, true, writeMonitor);
+				} else {
+					outputFile.setContents(target, true, false, writeMonitor);
+				}
+			} catch (CoreException e) {
+				PDECore.logException(e);
+			}
+		}
+		monitor.subTask(PDECoreMessages.Builders_updating);
+		monitor.done();
+	}
+
+	/**
+	 * Validates the given schema file and records its includes.
+	 *
+	 * @return the loaded schema whose documentation should be generated or
+	 *         <code>null</code> if no documentation is needed
+	 */
+	private SchemaDoc validateFile(IFile file, IProgressMonitor monitor) {
 
 		String message = NLS.bind(PDECoreMessages.Builders_Schema_compiling, file.getFullPath().toString());
 		monitor.subTask(message);
@@ -136,36 +362,46 @@ public class ExtensionPointSchemaBuilder extends IncrementalProjectBuilder {
 		DefaultSAXParser.parse(file, reporter);
 		reporter.validateContent(monitor);
 
-		StringWriter swriter = new StringWriter();
-		PrintWriter writer = new PrintWriter(swriter);
-		try {
-			boolean generateDoc = CompilerFlags.getBoolean(file.getProject(), CompilerFlags.S_CREATE_DOCS);
-			if (reporter.getDocumentRoot() != null && reporter.getErrorCount() == 0 && generateDoc) {
-				ensureFoldersExist(file.getProject(), getDocLocation(file));
-				String outputFileName = getOutputFileName(file);
-				IWorkspace workspace = file.getWorkspace();
-				IPath outputPath = IPath.fromOSString(outputFileName);
-
-				SchemaDescriptor desc = new SchemaDescriptor(file, false);
-				Schema schema = (Schema) desc.getSchema(false);
-
-				SchemaTransformer transformer = new SchemaTransformer();
-				transformer.transform(schema, writer);
-
-				ByteArrayInputStream target = new ByteArrayInputStream(
-						swriter.toString().getBytes(StandardCharsets.UTF_8));
-				IFile outputFile = workspace.getRoot().getFile(outputPath);
-				if (!workspace.getRoot().exists(outputPath)) {
-					outputFile.create(target, true, monitor);
-				} else {
-					outputFile.setContents(target, true, false, monitor);
+		SchemaDescriptor desc = new SchemaDescriptor(file, false);
+		List<String> locations = new ArrayList<>();
+		Element root = reporter.getDocumentRoot();
+		if (root != null) {
+			NodeList children = root.getChildNodes();
+			for (int i = 0; i < children.getLength(); i++) {
+				if (children.item(i) instanceof Element child && INCLUDE.equals(child.getNodeName())) {
+					locations.add(child.getAttribute(ATTR_LOCATION));
 				}
 			}
-		} catch (CoreException e) {
-			PDECore.logException(e);
 		}
-		monitor.subTask(PDECoreMessages.Builders_updating);
-		monitor.done();
+		recordIncludes(file, desc, locations);
+
+		boolean generateDoc = CompilerFlags.getBoolean(file.getProject(), CompilerFlags.S_CREATE_DOCS);
+		if (reporter.getDocumentRoot() == null || reporter.getErrorCount() != 0 || !generateDoc) {
+			return null;
+		}
+		Schema schema = (Schema) desc.getSchema(false);
+		// load included schemas up front, the schema registry must not be
+		// accessed concurrently during the transformation
+		schema.getResolvedElements();
+		return new SchemaDoc(file, schema, IPath.fromOSString(getOutputFileName(file)));
+	}
+
+	private void recordIncludes(IFile file, SchemaDescriptor desc, List<String> locations) {
+		Set<IPath> includes = new LinkedHashSet<>();
+		for (String location : locations) {
+			if (location.isEmpty()) {
+				continue;
+			}
+			try {
+				URL url = IncludedSchemaDescriptor.computeURL(desc, location, null);
+				if (url != null && "file".equals(url.getProtocol())) { //$NON-NLS-1$
+					includes.add(IPath.fromOSString(new File(url.getFile()).getAbsolutePath()));
+				}
+			} catch (MalformedURLException e) {
+				// reported by the schema validation
+			}
+		}
+		SchemaIncludeGraph.getDefault().setIncludes(file, includes);
 	}
 
 	private void ensureFoldersExist(IProject project, String pathName) throws CoreException {
@@ -184,15 +420,22 @@ public class ExtensionPointSchemaBuilder extends IncrementalProjectBuilder {
 
 	private void compileSchemasIn(IContainer container, IProgressMonitor monitor) throws CoreException {
 		monitor.subTask(PDECoreMessages.Builders_Schema_compilingSchemas);
+		List<IFile> files = new ArrayList<>();
+		collectSchemasIn(container, files);
+		compileFiles(files, monitor);
+		SchemaIncludeGraph.getDefault().setRecorded(container.getProject());
+		monitor.done();
+	}
+
+	private void collectSchemasIn(IContainer container, List<IFile> files) throws CoreException {
 		IResource[] members = container.members();
 		for (IResource member : members) {
 			if (member instanceof IContainer) {
-				compileSchemasIn((IContainer) member, monitor);
+				collectSchemasIn((IContainer) member, files);
 			} else if (member instanceof IFile && isSchemaFile((IFile) member)) {
-				compileFile((IFile) member, monitor);
+				files.add((IFile) member);
 			}
 		}
-		monitor.done();
 	}
 
 	private String getDocLocation(IFile file) {
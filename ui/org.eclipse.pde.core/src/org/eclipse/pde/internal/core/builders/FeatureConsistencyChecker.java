@@ -82,11 +82,13 @@ public class FeatureConsistencyChecker extends IncrementalProjectBuilder {
 			delta = getDelta(getProject());
 		}
 
-		if (delta == null || kind == FULL_BUILD) {
-			// Full build
-			checkProject(monitor);
-		} else {
-			delta.accept(new DeltaVisitor(monitor));
+		try (BuildProfiler.Timer timer = BuildProfiler.startBuild(FeatureProject.BUILDER_ID, getProject())) {
+			if (delta == null || kind == FULL_BUILD) {
+				// Full build
+				checkProject(monitor);
+			} else {
+				delta.accept(new DeltaVisitor(monitor));
+			}
 		}
 		return new IProject[0];
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2018 Julian Honnen
+ *  Copyright (c) 2018, 2026 Julian Honnen and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -16,7 +16,6 @@ package org.eclipse.pde.internal.core.builders;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.Map;
 
 import org.eclipse.core.resources.IMarker;
@@ -63,16 +62,15 @@ public class IncrementalErrorReporter {
 	}
 
 	public void applyMarkers() {
-		IMarker[] existingMarkers;
+		MarkerReconciler reconciler = new MarkerReconciler();
 		try {
 			// This seem to be for compatibility with some legacy code,
 			// PDE builders don't create markers with this type anymore
-			fResource.deleteMarkers(IMarker.PROBLEM, false, IResource.DEPTH_ZERO);
-			existingMarkers = fResource.findMarkers(fMarkerID, false, IResource.DEPTH_ZERO);
+			reconciler.addExisting(fResource.findMarkers(IMarker.PROBLEM, false, IResource.DEPTH_ZERO));
+			reconciler.addExisting(fResource.findMarkers(fMarkerID, false, IResource.DEPTH_ZERO));
 		} catch (CoreException e) {
 			PDECore.logException(e);
 			// If we can't read existing, let delete them before we create new
-			existingMarkers = new IMarker[0];
 			try {
 				fResource.deleteMarkers(fMarkerID, false, IResource.DEPTH_ZERO);
 			} catch (CoreException e1) {
@@ -80,48 +78,14 @@ public class IncrementalErrorReporter {
 			}
 		}
 
-		// iterate over existing markers to check which are resolved now
-		for (IMarker marker : existingMarkers) {
-			boolean resolved = true;
-			Map<String, Object> existingAttributes = null;
-
-			// Iterate over new markers to filter out all we already know
-			for (Iterator<VirtualMarker> it = fReportedMarkers.iterator(); it.hasNext();) {
-				VirtualMarker reportedMarker = it.next();
-				if (existingAttributes == null) {
-					try {
-						existingAttributes = marker.getAttributes();
-					} catch (Exception e) {
-						PDECore.logException(e);
-						// assume the marker is not accessible, can be deleted
-						break;
-					}
-				}
-				// Same marker is found, no need to create again
-				if (reportedMarker.getAttributes().equals(existingAttributes)) {
-					resolved = false;
-					it.remove();
-					break;
-				}
-			}
-
-			// The marker was not reported again, the old one can be deleted
-			if (resolved) {
-				try {
-					marker.delete();
-				} catch (CoreException e) {
-					PDECore.logException(e);
-				}
-			}
-		}
-
-		// Create only new markers
+		// markers reported again are kept, only the difference is applied
 		for (VirtualMarker reportedMarker : fReportedMarkers) {
-			try {
-				fResource.createMarker(fMarkerID, reportedMarker.getAttributes());
-			} catch (CoreException e) {
-				PDECore.logException(e);
-			}
+			reconciler.report(fResource, fMarkerID, reportedMarker.getAttributes());
+		}
+		try {
+			reconciler.apply();
+		} catch (CoreException e) {
+			PDECore.logException(e);
 		}
 	}
 
@@ -267,6 +267,7 @@ public class JarManifestErrorReporter extends ErrorReporter {
 	@Override
 	protected void validate(IProgressMonitor monitor) {
 		if (fTextDocument != null) {
+			BuildProfiler.count(BuildProfiler.FILES_PARSED);
 			parseManifest(fTextDocument, monitor);
 		}
 	}
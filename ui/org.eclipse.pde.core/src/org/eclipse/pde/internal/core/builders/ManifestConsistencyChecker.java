@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -42,6 +42,7 @@ import org.eclipse.pde.internal.core.ICoreConstants;
 import org.eclipse.pde.internal.core.PDECore;
 import org.eclipse.pde.internal.core.PDECoreMessages;
 import org.eclipse.pde.internal.core.WorkspaceModelManager;
+import org.eclipse.pde.internal.core.natures.PluginProject;
 import org.eclipse.pde.internal.core.project.PDEProject;
 import org.osgi.framework.Bundle;
 
@@ -189,9 +190,11 @@ public class ManifestConsistencyChecker extends IncrementalProjectBuilder {
 
 		IProject project = getProject();
 		if (!WorkspaceModelManager.isBinaryProject(project)) {
-			int type = getDeltaType(project);
-			if (type != 0) {
-				validateProject(type, monitor);
+			try (BuildProfiler.Timer timer = BuildProfiler.startBuild(PluginProject.MANIFEST_BUILDER_ID, project)) {
+				int type = getDeltaType(project);
+				if (type != 0) {
+					validateProject(type, monitor);
+				}
 			}
 		}
 		return EMPTY_LIST;
@@ -254,7 +257,9 @@ public class ManifestConsistencyChecker extends IncrementalProjectBuilder {
 		}
 		SubMonitor subMonitor = SubMonitor.convert(monitor, PDECoreMessages.ManifestConsistencyChecker_builderTaskName, getWorkAmount(type));
 		if ((type & STRUCTURE) != 0) {
-			validateProjectStructure(type, subMonitor.split(1));
+			try (BuildProfiler.Timer timer = BuildProfiler.start("projectStructure")) { //$NON-NLS-1$
+				validateProjectStructure(type, subMonitor.split(1));
+			}
 		}
 
 		if ((type & (MANIFEST | EXTENSIONS)) != 0) {
@@ -395,12 +400,19 @@ public class ManifestConsistencyChecker extends IncrementalProjectBuilder {
 	private void validateManifestCasing(IProject project) {
 		IFolder manifestFolder = PDEProject.getMetaInf(project);
 		if (manifestFolder.exists()) {
+			IFile manifest = PDEProject.getManifest(project);
 			try {
-				manifestFolder.deleteMarkers(PDEMarkerFactory.MARKER_ID, false, IResource.DEPTH_ONE);
+				// the markers of the manifest itself are reconciled when it is validated
+				manifestFolder.deleteMarkers(PDEMarkerFactory.MARKER_ID, false, IResource.DEPTH_ZERO);
+				for (IResource member : manifestFolder.members()) {
+					if (!member.equals(manifest)) {
+						member.deleteMarkers(PDEMarkerFactory.MARKER_ID, false, IResource.DEPTH_ZERO);
+					}
+				}
 			} catch (CoreException e1) {
 			}
 			// exit if the proper casing exists (should be majority of the time)
-			if (PDEProject.getManifest(project).exists()) {
+			if (manifest.exists()) {
 				return;
 			}
 
@@ -0,0 +1,156 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.builders;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.MultiStatus;
+import org.eclipse.pde.internal.core.PDECore;
+
+/**
+ * Updates problem markers by applying only the difference between the markers
+ * that exist on the resources and the problems computed by a validation.
+ * <p>
+ * A marker is identified by its resource, type and attributes. Existing
+ * markers that are reported again are kept untouched, markers that are not
+ * reported anymore are deleted and only newly reported problems are created.
+ * All changes are applied in a single workspace operation so that listeners
+ * receive one resource change event.
+ * </p>
+ */
+public final class MarkerReconciler {
+
+	private record MarkerKey(IResource resource, String type, Map<String, Object> attributes) {
+	}
+
+	private final Map<MarkerKey, Deque<IMarker>> fExisting = new HashMap<>();
+	private final List<IMarker> fStale = new ArrayList<>();
+	private final List<MarkerKey> fAdded = new ArrayList<>();
+	private int fRemovedCount;
+
+	/**
+	 * Registers markers that currently exist and are to be deleted unless they
+	 * are reported again.
+	 *
+	 * @param markers the existing markers
+	 */
+	public void addExisting(IMarker[] markers) {
+		for (IMarker marker : markers) {
+			try {
+				MarkerKey key = new MarkerKey(marker.getResource(), marker.getType(), marker.getAttributes());
+				fExisting.computeIfAbsent(key, k -> new ArrayDeque<>()).add(marker);
+			} catch (CoreException e) {
+				// the marker is not accessible anymore, it can be deleted
+				fStale.add(marker);
+			}
+			fRemovedCount++;
+		}
+	}
+
+	/**
+	 * Reports a problem that has to be represented by a marker.
+	 *
+	 * @param resource the resource of the marker
+	 * @param type the marker type
+	 * @param attributes the marker attributes, <code>null</code> values are
+	 *            ignored
+	 */
+	public void report(IResource resource, String type, Map<String, Object> attributes) {
+		Map<String, Object> copy = new HashMap<>(attributes);
+		copy.values().removeIf(Objects::isNull);
+		MarkerKey key = new MarkerKey(resource, type, copy);
+		Deque<IMarker> existing = fExisting.get(key);
+		if (existing != null && !existing.isEmpty()) {
+			existing.poll();
+			fRemovedCount--;
+		} else {
+			fAdded.add(key);
+		}
+	}
+
+	/**
+	 * @return the number of markers that will be created by {@link #apply()}
+	 */
+	public int getAddedCount() {
+		return fAdded.size();
+	}
+
+	/**
+	 * @return the number of markers that will be deleted by {@link #apply()}
+	 */
+	public int getRemovedCount() {
+		return fRemovedCount;
+	}
+
+	/**
+	 * Deletes the markers that were not reported again and creates the newly
+	 * reported ones in one workspace operation. Does nothing if the markers are
+	 * already up to date.
+	 *
+	 * @throws CoreException if some of the markers could not be updated
+	 */
+	public void apply() throws CoreException {
+		if (fAdded.isEmpty() && fRemovedCount == 0) {
+			return;
+		}
+		BuildProfiler.count(BuildProfiler.MARKERS_DELETED, fRemovedCount);
+		BuildProfiler.count(BuildProfiler.MARKERS_CREATED, fAdded.size());
+		MultiStatus status = new MultiStatus(PDECore.PLUGIN_ID, IStatus.OK, "Problem markers could not be updated", null); //$NON-NLS-1$
+		IWorkspace workspace = ResourcesPlugin.getWorkspace();
+		workspace.run(monitor -> {
+			for (IMarker marker : fStale) {
+				delete(marker, status);
+			}
+			for (Deque<IMarker> markers : fExisting.values()) {
+				for (IMarker marker : markers) {
+					delete(marker, status);
+				}
+			}
+			for (MarkerKey key : fAdded) {
+				try {
+					key.resource().createMarker(key.type(), key.attributes());
+				} catch (CoreException e) {
+					status.add(e.getStatus());
+				}
+			}
+		}, null, IWorkspace.AVOID_UPDATE, null);
+		fExisting.clear();
+		fStale.clear();
+		fAdded.clear();
+		fRemovedCount = 0;
+		if (!status.isOK()) {
+			throw new CoreException(status);
+		}
+	}
+
+	private static void delete(IMarker marker, MultiStatus status) {
+		try {
+			marker.delete();
+		} catch (CoreException e) {
+			status.add(e.getStatus());
+		}
+	}
+}
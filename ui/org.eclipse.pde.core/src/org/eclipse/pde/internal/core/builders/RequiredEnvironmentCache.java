@@ -0,0 +1,216 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.builders;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.osgi.service.resolver.BaseDescription;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.BundleSpecification;
+import org.eclipse.osgi.service.resolver.State;
+
+/**
+ * Caches the parsed form of execution environment ids and, per state, the
+ * highest execution environment required by a bundle or any of its
+ * transitive non-optional required bundles. Once computed for a state, the
+ * checks of {@link BundleErrorReporter} reduce to integer comparisons. The
+ * cached results of a state are dropped as soon as its time stamp changes.
+ */
+final class RequiredEnvironmentCache {
+
+	private static final List<String> EXECUTION_ENVIRONMENT_NAMES = List.of("OSGi/Minimum", //$NON-NLS-1$
+			"CDC-1.0/Foundation", //$NON-NLS-1$
+			"CDC-1.1/Foundation", "JRE", "J2SE", "JavaSE"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+
+	private static final Pattern EE_PATTERN = Pattern.compile("(.*)-(\\d+)\\.?(\\d+)?(.*)?"); //$NON-NLS-1$
+
+	/** parsed execution environments, invalid ids map to {@link #INVALID} */
+	private static final Map<String, ExecutionEnvironment> PARSED = new ConcurrentHashMap<>();
+
+	private static final ExecutionEnvironment INVALID = new ExecutionEnvironment(null, -1, -1, -1);
+
+	private static final Map<State, StateEntry> STATES = new WeakHashMap<>();
+
+	/**
+	 * The parsed form of an execution environment id like
+	 * <code>JavaSE-1.8</code>.
+	 *
+	 * @param id the execution environment id
+	 * @param nameIndex index of the name in the list of known names
+	 * @param major the major version
+	 * @param minor the minor version or <code>-1</code> if absent
+	 */
+	record ExecutionEnvironment(String id, int nameIndex, int major, int minor) {
+
+		/**
+		 * An execution environment is <b>higher</b> than another one if its
+		 * name occurs later in the list of known names, or if the names are
+		 * equal and its major version is greater, or if the names and major
+		 * versions are equal and both have a minor version and its minor
+		 * version is greater.
+		 *
+		 * @return whether this environment is strictly higher than the other
+		 */
+		boolean isHigherThan(ExecutionEnvironment other) {
+			if (nameIndex != other.nameIndex) {
+				return nameIndex > other.nameIndex;
+			}
+			if (major != other.major) {
+				return major > other.major;
+			}
+			return minor != -1 && other.minor != -1 && minor > other.minor;
+		}
+	}
+
+	/**
+	 * The highest execution environment required by a bundle or its
+	 * dependencies and the bundle that requires it.
+	 */
+	record RequiredEnvironment(ExecutionEnvironment environment, BundleDescription bundle) {
+	}
+
+	private static final class StateEntry {
+		final long timeStamp;
+		final Map<BundleDescription, RequiredEnvironment> required = new HashMap<>();
+
+		StateEntry(long timeStamp) {
+			this.timeStamp = timeStamp;
+		}
+	}
+
+	private RequiredEnvironmentCache() {
+	}
+
+	/**
+	 * Returns the parsed form of the given execution environment id.
+	 *
+	 * @param id an execution environment id
+	 * @return the parsed environment or <code>null</code> if the id is not a
+	 *         valid execution environment
+	 */
+	static ExecutionEnvironment parse(String id) {
+		ExecutionEnvironment ee = PARSED.computeIfAbsent(id, RequiredEnvironmentCache::doParse);
+		return ee != INVALID ? ee : null;
+	}
+
+	private static ExecutionEnvironment doParse(String id) {
+		Matcher matcher = EE_PATTERN.matcher(id);
+		if (!matcher.matches()) {
+			return INVALID;
+		}
+		try {
+			int major = Integer.parseInt(matcher.group(2));
+			int minor = matcher.group(3) != null ? Integer.parseInt(matcher.group(3)) : -1;
+			return new ExecutionEnvironment(id, EXECUTION_ENVIRONMENT_NAMES.indexOf(matcher.group(1)), major, minor);
+		} catch (NumberFormatException e) {
+			return INVALID;
+		}
+	}
+
+	/**
+	 * Returns the highest of the given execution environments.
+	 *
+	 * @param ids execution environment ids
+	 * @return the highest execution environment or <code>null</code> if no id
+	 *         was given or one of them is invalid
+	 */
+	static ExecutionEnvironment getHighest(String[] ids) {
+		ExecutionEnvironment highest = null;
+		for (String id : ids) {
+			ExecutionEnvironment ee = parse(id);
+			if (ee == null) {
+				return null;
+			}
+			if (highest == null || ee.isHigherThan(highest)) {
+				highest = ee;
+			}
+		}
+		return highest;
+	}
+
+	/**
+	 * Returns the highest execution environment required by the given bundle
+	 * or any of its transitive non-optional required bundles.
+	 *
+	 * @param desc the bundle to check
+	 * @return the highest required execution environment and the bundle that
+	 *         requires it, the environment is <code>null</code> if none of the
+	 *         bundles declares a valid execution environment
+	 */
+	static RequiredEnvironment getRequiredEnvironment(BundleDescription desc) {
+		State state = desc.getContainingState();
+		if (state == null) {
+			return compute(desc, new HashMap<>());
+		}
+		synchronized (STATES) {
+			StateEntry entry = STATES.get(state);
+			if (entry == null || entry.timeStamp != state.getTimeStamp()) {
+				entry = new StateEntry(state.getTimeStamp());
+				STATES.put(state, entry);
+			}
+			RequiredEnvironment result = entry.required.get(desc);
+			if (result == null) {
+				result = compute(desc, entry.required);
+				entry.required.put(desc, result);
+			}
+			return result;
+		}
+	}
+
+	/**
+	 * Walks the non-optional required bundles of the given bundle. Bundles
+	 * whose result is already known contribute their cached result instead of
+	 * being traversed again.
+	 */
+	private static RequiredEnvironment compute(BundleDescription desc, Map<BundleDescription, RequiredEnvironment> known) {
+		RequiredEnvironment highest = new RequiredEnvironment(getHighest(desc.getExecutionEnvironments()), desc);
+		Set<BundleDescription> visitedBundles = new HashSet<>();
+		Deque<BundleDescription> bundleDescriptions = new ArrayDeque<>();
+		bundleDescriptions.push(desc);
+		while (!bundleDescriptions.isEmpty()) {
+			BundleDescription dependencyDesc = bundleDescriptions.pop();
+			if (!visitedBundles.add(dependencyDesc)) {
+				continue;
+			}
+			RequiredEnvironment candidate = dependencyDesc != desc ? known.get(dependencyDesc) : null;
+			if (candidate == null) {
+				for (BundleSpecification spec : dependencyDesc.getRequiredBundles()) {
+					if (spec.isOptional()) {
+						continue;
+					}
+					BaseDescription supplier = spec.getSupplier();
+					if (supplier instanceof BundleDescription bundle && !visitedBundles.contains(bundle)) {
+						bundleDescriptions.push(bundle);
+					}
+				}
+				candidate = new RequiredEnvironment(getHighest(dependencyDesc.getExecutionEnvironments()), dependencyDesc);
+			}
+			ExecutionEnvironment ee = candidate.environment();
+			if (ee != null && (highest.environment() == null || ee.isHigherThan(highest.environment()))) {
+				highest = candidate;
+			}
+		}
+		return highest;
+	}
+}
@@ -0,0 +1,170 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.builders;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IWorkspaceRoot;
+import org.eclipse.core.runtime.IPath;
+
+/**
+ * Records which workspace schema files include which other schemas, so that
+ * the {@link ExtensionPointSchemaBuilder} can recompile every schema affected
+ * by a change to an included schema. Included schemas are identified by their
+ * file system location since they may live outside of the workspace.
+ * <p>
+ * The graph is not persisted. The builder of a project records the includes of
+ * all its schemas on its first build in a session, see
+ * {@link #isRecorded(IProject)}.
+ * </p>
+ */
+final class SchemaIncludeGraph {
+
+	private static final SchemaIncludeGraph INSTANCE = new SchemaIncludeGraph();
+
+	/** location of an included schema -> schema files including it */
+	private final Map<IPath, Set<IFile>> fIncludedBy = new HashMap<>();
+	/** schema file -> locations of the schemas it includes */
+	private final Map<IFile, Set<IPath>> fIncludes = new HashMap<>();
+	/** projects whose schema includes have all been recorded */
+	private final Set<IProject> fRecorded = new HashSet<>();
+
+	static SchemaIncludeGraph getDefault() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Replaces the recorded includes of the given schema file.
+	 *
+	 * @param schema the including schema file
+	 * @param includes file system locations of the included schemas
+	 */
+	synchronized void setIncludes(IFile schema, Set<IPath> includes) {
+		removeIncludes(schema);
+		if (includes.isEmpty()) {
+			return;
+		}
+		fIncludes.put(schema, includes);
+		for (IPath include : includes) {
+			fIncludedBy.computeIfAbsent(include, k -> new HashSet<>()).add(schema);
+		}
+	}
+
+	/**
+	 * Returns whether the includes of all schemas of the given project have
+	 * been recorded in this session.
+	 *
+	 * @param project the project
+	 * @return <code>true</code> if the includes of the project are known
+	 */
+	synchronized boolean isRecorded(IProject project) {
+		return fRecorded.contains(project);
+	}
+
+	/**
+	 * Marks the includes of all schemas of the given project as recorded.
+	 *
+	 * @param project the project
+	 */
+	synchronized void setRecorded(IProject project) {
+		fRecorded.add(project);
+	}
+
+	/**
+	 * Forgets everything known about the given schema file.
+	 *
+	 * @param schema the removed schema file
+	 */
+	synchronized void remove(IFile schema) {
+		removeIncludes(schema);
+	}
+
+	private void removeIncludes(IFile schema) {
+		Set<IPath> old = fIncludes.remove(schema);
+		if (old == null) {
+			return;
+		}
+		for (IPath include : old) {
+			Set<IFile> including = fIncludedBy.get(include);
+			if (including != null) {
+				including.remove(schema);
+				if (including.isEmpty()) {
+					fIncludedBy.remove(include);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the schema files that directly or transitively include one of the
+	 * given schema files. The changed files themselves are not part of the
+	 * result unless they include each other.
+	 *
+	 * @param changed the changed schema files
+	 * @return the schema files that have to be recompiled as well
+	 */
+	synchronized Set<IFile> getIncludingSchemas(Collection<IFile> changed) {
+		Set<IFile> result = new LinkedHashSet<>();
+		Deque<IFile> queue = new ArrayDeque<>(changed);
+		while (!queue.isEmpty()) {
+			IPath location = queue.poll().getLocation();
+			Set<IFile> including = location != null ? fIncludedBy.get(location) : null;
+			if (including == null) {
+				continue;
+			}
+			for (IFile file : including) {
+				if (result.add(file)) {
+					queue.add(file);
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the workspace schema files that the schemas of the given project
+	 * include directly or transitively.
+	 *
+	 * @param project the project
+	 * @return the included workspace schema files
+	 */
+	synchronized Set<IFile> getIncludedSchemas(IProject project) {
+		IWorkspaceRoot root = project.getWorkspace().getRoot();
+		Set<IFile> result = new LinkedHashSet<>();
+		Deque<IFile> queue = new ArrayDeque<>();
+		for (IFile file : fIncludes.keySet()) {
+			if (project.equals(file.getProject())) {
+				queue.add(file);
+			}
+		}
+		while (!queue.isEmpty()) {
+			for (IPath location : fIncludes.getOrDefault(queue.poll(), Set.of())) {
+				IFile included = root.getFileForLocation(location);
+				if (included != null && result.add(included)) {
+					queue.add(included);
+				}
+			}
+		}
+		return result;
+	}
+}
@@ -70,15 +70,17 @@ public class UpdateSiteBuilder extends IncrementalProjectBuilder {
 			delta = getDelta(getProject());
 		}
 
-		if (delta == null || kind == FULL_BUILD) {
-			// Full build
-			IProject project = getProject();
-			IFile file = project.getFile("site.xml"); //$NON-NLS-1$
-			if (file.exists()) {
-				checkFile(file, monitor);
+		try (BuildProfiler.Timer timer = BuildProfiler.startBuild(SiteProject.BUILDER_ID, getProject())) {
+			if (delta == null || kind == FULL_BUILD) {
+				// Full build
+				IProject project = getProject();
+				IFile file = project.getFile("site.xml"); //$NON-NLS-1$
+				if (file.exists()) {
+					checkFile(file, monitor);
+				}
+			} else {
+				delta.accept(new DeltaVisitor(monitor));
 			}
-		} else {
-			delta.accept(new DeltaVisitor(monitor));
 		}
 		return null;
 	}
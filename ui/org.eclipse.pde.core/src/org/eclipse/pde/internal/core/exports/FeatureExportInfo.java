@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2009 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,8 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.core.exports;
 
+import java.util.zip.Deflater;
+
 public class FeatureExportInfo {
 
 	public boolean toDirectory;
@@ -22,6 +24,13 @@ public class FeatureExportInfo {
 	public boolean exportMetadata;
 	public boolean allowBinaryCycles;
 	public boolean useWorkspaceCompiledClasses;
+	/**
+	 * Whether the classes compiled in the workspace are exported for the
+	 * plug-ins that build without errors, the other plug-ins are compiled
+	 * from source. Only used if {@link #useWorkspaceCompiledClasses} is not
+	 * set. Not offered by the export wizards, only by the export Ant tasks.
+	 */
+	public boolean reuseWorkspaceCompiledClasses;
 	public String destinationDirectory;
 	public String zipFileName;
 	public String qualifier;
@@ -30,5 +39,24 @@ public class FeatureExportInfo {
 	public String[] jnlpInfo;
 	public String[][] targets;
 	public String categoryDefinition;
+	/**
+	 * Whether the exported elements are jarred up in parallel, see the
+	 * <code>parallelAssembly</code> build property. Not offered by the export
+	 * wizards, only by the export Ant tasks. The items and the target
+	 * configurations of an export are still exported one after another.
+	 */
+	public boolean parallelAssembly;
+	/**
+	 * The compression level of the exported jars, from
+	 * {@link Deflater#NO_COMPRESSION} to {@link Deflater#BEST_COMPRESSION}, see
+	 * the <code>jarCompressionLevel</code> build property
+	 */
+	public int compressionLevel = Deflater.DEFAULT_COMPRESSION;
+	/**
+	 * Whether the exported elements are jarred up in process instead of by
+	 * the Ant jar task, see the <code>streamJars</code> build property. Not
+	 * offered by the export wizards, only by the export Ant tasks.
+	 */
+	public boolean streamJars;
 
 }
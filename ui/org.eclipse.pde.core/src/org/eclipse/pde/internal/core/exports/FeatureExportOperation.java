@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2022 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -27,6 +27,11 @@ import java.lang.reflect.InvocationTargetException;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URL;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Dictionary;
@@ -38,6 +43,7 @@ import java.util.ListIterator;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import javax.xml.parsers.FactoryConfigurationError;
 import javax.xml.parsers.ParserConfigurationException;
@@ -89,6 +95,7 @@ import org.eclipse.pde.internal.core.ICoreConstants;
 import org.eclipse.pde.internal.core.P2Utils;
 import org.eclipse.pde.internal.core.PDECore;
 import org.eclipse.pde.internal.core.PDECoreMessages;
+import org.eclipse.pde.internal.core.PlatformStateCache;
 import org.eclipse.pde.internal.core.TargetPlatformHelper;
 import org.eclipse.pde.internal.core.XMLPrintHandler;
 import org.eclipse.pde.internal.core.build.WorkspaceBuildModel;
@@ -117,6 +124,11 @@ public class FeatureExportOperation extends Job {
 	private static boolean fHasErrors;
 	protected HashMap<String, String> fAntBuildProperties;
 	protected WorkspaceExportHelper fWorkspaceExportHelper;
+	/**
+	 * The workspace projects whose compiled classes are exported if they are
+	 * reused where possible
+	 */
+	private Set<IProject> fWorkspaceCompiledProjects;
 
 	protected State fStateCopy;
 
@@ -199,6 +211,8 @@ public class FeatureExportOperation extends Job {
 	 * Takes the generated metadata and adds it to the destination zip.
 	 * This method should only be called if exporting to an archive file
 	 * and metadata was generated at fBuildMetadataLocation.
+	 * The files are streamed into the archive in process, the archive is not
+	 * extracted and zipped again.
 	 * @param monitor progress monitor
 	 */
 	protected void appendMetadataToArchive(String[] configuration, IProgressMonitor monitor) {
@@ -207,51 +221,29 @@ public class FeatureExportOperation extends Job {
 			int i = filename.lastIndexOf('.');
 			filename = filename.substring(0, i) + '.' + configuration[0] + '.' + configuration[1] + '.' + configuration[2] + filename.substring(i);
 		}
-		String archive = fInfo.destinationDirectory + File.separator + filename;
-		File scriptFile = null;
+		Path archive = Path.of(fInfo.destinationDirectory, filename);
+		Path metadata = Path.of(fBuildTempMetadataLocation);
 		SubMonitor subMonitor = SubMonitor.convert(monitor, 1);
-		try {
-			scriptFile = createScriptFile("append.xml"); //$NON-NLS-1$
-
-			@SuppressWarnings("restriction")
-			Document doc = org.eclipse.core.internal.runtime.XmlProcessorFactory.newDocumentWithErrorOnDOCTYPE();
-
-			Element root = doc.createElement("project"); //$NON-NLS-1$
-			root.setAttribute("name", "temp"); //$NON-NLS-1$ //$NON-NLS-2$
-			root.setAttribute("default", "append"); //$NON-NLS-1$ //$NON-NLS-2$
-			root.setAttribute("basedir", "."); //$NON-NLS-1$ //$NON-NLS-2$
-			doc.appendChild(root);
-
-			Element target = doc.createElement("target"); //$NON-NLS-1$
-			target.setAttribute("name", "clean"); //$NON-NLS-1$ //$NON-NLS-2$
-			Element child = doc.createElement("delete"); //$NON-NLS-1$
-			child.setAttribute("dir", fBuildTempMetadataLocation); //$NON-NLS-1$
-			target.appendChild(child);
-			root.appendChild(target);
-
-			target = doc.createElement("target"); //$NON-NLS-1$
-			target.setAttribute("name", "append"); //$NON-NLS-1$ //$NON-NLS-2$
-			child = doc.createElement("zip"); //$NON-NLS-1$
-			child.setAttribute("zipfile", archive); //$NON-NLS-1$
-			child.setAttribute("basedir", fBuildTempMetadataLocation); //$NON-NLS-1$
-			child.setAttribute("update", "true"); //$NON-NLS-1$ //$NON-NLS-2$
-			target.appendChild(child);
-			root.appendChild(target);
-
-			XMLPrintHandler.writeFile(doc, scriptFile);
-
-			String[] targets = new String[] {"append", "clean"}; //$NON-NLS-1$ //$NON-NLS-2$
-			AntRunner runner = new AntRunner();
-			runner.setBuildFileLocation(scriptFile.getAbsolutePath());
-			runner.setExecutionTargets(targets);
-			runner.run(subMonitor.split(1));
-		} catch (FactoryConfigurationError | ParserConfigurationException | CoreException | IOException e) {
-			PDECore.logException(e);
-		} finally {
-			if (scriptFile != null && scriptFile.exists()) {
-				scriptFile.delete();
+		if (Files.isDirectory(metadata)) {
+			try (FileSystem zip = FileSystems.newFileSystem(archive, Map.of("create", "true")); //$NON-NLS-1$ //$NON-NLS-2$
+					Stream<Path> files = Files.walk(metadata)) {
+				for (Path file : (Iterable<Path>) files::iterator) {
+					if (subMonitor.isCanceled()) {
+						break;
+					}
+					Path entry = zip.getPath("/", metadata.relativize(file).toString().replace(File.separatorChar, '/')); //$NON-NLS-1$
+					if (Files.isDirectory(file)) {
+						Files.createDirectories(entry);
+					} else {
+						Files.copy(file, entry, StandardCopyOption.REPLACE_EXISTING);
+					}
+				}
+			} catch (IOException e) {
+				PDECore.logException(e);
 			}
 		}
+		deleteDir(metadata.toFile());
+		subMonitor.worked(1);
 	}
 
 	private void createDestination(String os, String ws, String arch) throws InvocationTargetException {
@@ -526,6 +518,7 @@ public class FeatureExportOperation extends Job {
 			fAntBuildProperties.put(IXMLConstants.PROPERTY_JAVAC_FAIL_ON_ERROR, "false"); //$NON-NLS-1$
 			fAntBuildProperties.put(IXMLConstants.PROPERTY_JAVAC_DEBUG_INFO, "on"); //$NON-NLS-1$
 			fAntBuildProperties.put(IXMLConstants.PROPERTY_JAVAC_VERBOSE, "false"); //$NON-NLS-1$
+			fAntBuildProperties.put(IBuildPropertiesConstants.PROPERTY_JAR_COMPRESSION_LEVEL, Integer.toString(fInfo.compressionLevel));
 			if (isPreviewFeatureEnabled){
 				fAntBuildProperties.put(IXMLConstants.PROPERTY_JAVAC_COMPILERARG, "--enable-preview"); //$NON-NLS-1$
 			}
@@ -751,6 +744,10 @@ public class FeatureExportOperation extends Job {
 		if (fInfo.useWorkspaceCompiledClasses) {
 			generator.setUseWorkspaceBinaries(true);
 			generator.setStateExtraData(TargetPlatformHelper.getBundleClasspaths(TargetPlatformHelper.getPDEState()), TargetPlatformHelper.getPatchMap(TargetPlatformHelper.getPDEState()), getWorkspaceExportHelper().getWorkspaceOutputFolders(fInfo.items));
+		} else if (fWorkspaceCompiledProjects != null) {
+			// the plug-ins missing from the output folders are compiled from source
+			generator.setUseWorkspaceBinaries(true);
+			generator.setStateExtraData(TargetPlatformHelper.getBundleClasspaths(TargetPlatformHelper.getPDEState()), TargetPlatformHelper.getPatchMap(TargetPlatformHelper.getPDEState()), getWorkspaceExportHelper().getWorkspaceOutputFolders(fWorkspaceCompiledProjects));
 		} else {
 			generator.setStateExtraData(TargetPlatformHelper.getBundleClasspaths(TargetPlatformHelper.getPDEState()), TargetPlatformHelper.getPatchMap(TargetPlatformHelper.getPDEState()));
 		}
@@ -762,6 +759,8 @@ public class FeatureExportOperation extends Job {
 		Properties properties = new Properties();
 		properties.put(IBuildPropertiesConstants.PROPERTY_ALLOW_BINARY_CYCLES, Boolean.toString(fInfo.allowBinaryCycles));
 		properties.put(IBuildPropertiesConstants.PROPERTY_P2_GATHERING, Boolean.toString(publishingP2Metadata()));
+		properties.put(IBuildPropertiesConstants.PROPERTY_STREAM_JARS, Boolean.toString(fInfo.streamJars));
+		properties.put(IBuildPropertiesConstants.PROPERTY_PARALLEL_ASSEMBLY, Boolean.toString(fInfo.parallelAssembly));
 		//TODO this is duplicate from createAntBuildProperties
 		IExecutionEnvironmentsManager manager = JavaRuntime.getExecutionEnvironmentsManager();
 		IExecutionEnvironment[] envs = manager.getExecutionEnvironments();
@@ -789,12 +788,17 @@ public class FeatureExportOperation extends Job {
 	}
 
 	protected State getState(String os, String ws, String arch) {
-		State main = TargetPlatformHelper.getState();
-		if (os.equals(TargetPlatform.getOS()) && ws.equals(TargetPlatform.getWS()) && arch.equals(TargetPlatform.getOSArch())) {
-			return main;
-		}
+		return PlatformStateCache.getState(os, ws, arch);
+	}
+
+	/**
+	 * Resolves the copy of the target state of this operation for the given
+	 * platform. Unlike {@link #getState(String, String, String)} this takes
+	 * changes made to the copy into account.
+	 */
+	protected State resolveStateCopy(String os, String ws, String arch) {
 		if (fStateCopy == null) {
-			copyState(main);
+			copyState(TargetPlatformHelper.getState());
 		}
 
 		Dictionary<String, String>[] dictionaries = fStateCopy.getPlatformProperties();
@@ -1215,7 +1219,9 @@ public class FeatureExportOperation extends Job {
 	/**
 	 * If we are exporting using the compiled classes from the workspace, this method will
 	 * start an incremental build and test for build errors.  Returns a status explaining
-	 * any errors found or Status.OK_STATUS.
+	 * any errors found or Status.OK_STATUS.  If the compiled classes are reused where
+	 * possible, only the projects that changed since they were last built without errors
+	 * are built, projects with errors are compiled from source by the export.
 	 * @param monitor progress monitor
 	 * @return status explaining build errors or an OK status.
 	 */
@@ -1229,6 +1235,8 @@ public class FeatureExportOperation extends Job {
 			if (!errors.isEmpty()) {
 				return Status.error(NLS.bind(PDECoreMessages.FeatureExportOperation_workspaceBuildErrorsFoundDuringExport, errors));
 			}
+		} else if (fInfo.reuseWorkspaceCompiledClasses) {
+			fWorkspaceCompiledProjects = getWorkspaceExportHelper().buildChangedBeforeExport(fInfo.items, subMonitor.split(50));
 		}
 		return Status.OK_STATUS;
 
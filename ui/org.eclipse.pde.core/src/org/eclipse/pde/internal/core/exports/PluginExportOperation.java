@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2012 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -23,6 +23,11 @@ import org.eclipse.pde.internal.core.TargetPlatformHelper;
 
 public class PluginExportOperation extends FeatureBasedExportOperation {
 
+	/**
+	 * Whether the platform filter of a bundle was removed from the state copy
+	 */
+	private boolean fPlatformFiltersRemoved;
+
 	public PluginExportOperation(FeatureExportInfo info, String name) {
 		super(info, name);
 	}
@@ -39,6 +44,9 @@ public class PluginExportOperation extends FeatureBasedExportOperation {
 			fStateCopy.resolve(true);
 			return fStateCopy;
 		}
+		if (fPlatformFiltersRemoved) {
+			return resolveStateCopy(os, ws, arch);
+		}
 		return super.getState(os, ws, arch);
 	}
 
@@ -55,6 +63,7 @@ public class PluginExportOperation extends FeatureBasedExportOperation {
 			BundleDescription desc = fStateCopy.removeBundle(bundle.getBundleId());
 			BundleDescription newDesc = fStateCopy.getFactory().createBundleDescription(desc.getBundleId(), desc.getSymbolicName(), desc.getVersion(), desc.getLocation(), desc.getRequiredBundles(), desc.getHost(), desc.getImportPackages(), desc.getExportPackages(), desc.isSingleton(), desc.attachFragments(), desc.dynamicFragments(), null, desc.getExecutionEnvironments(), desc.getGenericRequires(), desc.getGenericCapabilities());
 			fStateCopy.addBundle(newDesc);
+			fPlatformFiltersRemoved = true;
 		}
 		// always include plug-ins, even ones with environment conflicts
 		return true;
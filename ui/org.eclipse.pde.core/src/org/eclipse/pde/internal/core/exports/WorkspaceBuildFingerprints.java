@@ -0,0 +1,200 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.exports;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.ExportPackageDescription;
+import org.eclipse.osgi.service.resolver.HostSpecification;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.core.plugin.PluginRegistry;
+import org.eclipse.pde.internal.core.PDECore;
+
+/**
+ * Fingerprints of the workspace projects whose compiled classes were used by
+ * an export. The fingerprint of a project covers the modification stamps of
+ * all its files, including the class files in its output folders, the
+ * fingerprints of the workspace projects it depends on and the locations of
+ * the target plug-ins it depends on. A project whose
+ * fingerprint did not change since it was last built without errors does
+ * not have to be built or checked again.
+ * <p>
+ * The fingerprints are stored in the state location of PDE Core.
+ * </p>
+ */
+final class WorkspaceBuildFingerprints {
+
+	private static final String FINGERPRINTS_FILE = "exportFingerprints.properties"; //$NON-NLS-1$
+
+	private final Properties stored = new Properties();
+	private final Map<IProject, String> fingerprints = new HashMap<>();
+	private boolean changed;
+
+	private WorkspaceBuildFingerprints() {
+	}
+
+	/**
+	 * Reads the fingerprints recorded by previous exports.
+	 */
+	static WorkspaceBuildFingerprints load() {
+		WorkspaceBuildFingerprints result = new WorkspaceBuildFingerprints();
+		File file = getFile();
+		synchronized (WorkspaceBuildFingerprints.class) {
+			if (file.isFile()) {
+				try (InputStream input = Files.newInputStream(file.toPath())) {
+					result.stored.load(input);
+				} catch (IOException | IllegalArgumentException e) {
+					// a corrupt file, everything is built again
+					result.stored.clear();
+					PDECore.log(e);
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Returns whether the given project did not change since it was last
+	 * recorded.
+	 */
+	boolean isUnchanged(IProject project) throws CoreException {
+		String fingerprint = getFingerprint(project, new HashSet<>());
+		return fingerprint.equals(stored.getProperty(project.getName()));
+	}
+
+	/**
+	 * Records the current fingerprint of the given project, which has been
+	 * built without errors.
+	 */
+	void record(IProject project) throws CoreException {
+		// the build changed the class files
+		fingerprints.clear();
+		stored.setProperty(project.getName(), getFingerprint(project, new HashSet<>()));
+		changed = true;
+	}
+
+	/**
+	 * Writes the recorded fingerprints, if any changed.
+	 */
+	void save() {
+		if (!changed) {
+			return;
+		}
+		File file = getFile();
+		synchronized (WorkspaceBuildFingerprints.class) {
+			try (OutputStream output = Files.newOutputStream(file.toPath())) {
+				stored.store(output, null);
+			} catch (IOException e) {
+				PDECore.log(e);
+			}
+		}
+		changed = false;
+	}
+
+	private String getFingerprint(IProject project, Set<IProject> inProgress) throws CoreException {
+		String fingerprint = fingerprints.get(project);
+		if (fingerprint != null) {
+			return fingerprint;
+		}
+		if (!inProgress.add(project)) {
+			// a cycle, the project is covered by the caller
+			return ""; //$NON-NLS-1$
+		}
+		List<String> entries = new ArrayList<>();
+		project.accept(proxy -> {
+			if (proxy.getType() == IResource.FILE) {
+				entries.add(proxy.requestFullPath() + ":" + proxy.getModificationStamp()); //$NON-NLS-1$
+			}
+			return true;
+		}, IResource.NONE);
+		List<String> dependencies = new ArrayList<>();
+		for (BundleDescription supplier : getSuppliers(project)) {
+			IPluginModelBase model = PluginRegistry.findModel(supplier);
+			IResource resource = model != null ? model.getUnderlyingResource() : null;
+			if (resource == null) {
+				// a plug-in of the target
+				dependencies.add(String.valueOf(supplier.getLocation()));
+			} else if (!resource.getProject().equals(project)) {
+				dependencies.add(resource.getProject().getName() + ":" + getFingerprint(resource.getProject(), inProgress)); //$NON-NLS-1$
+			}
+		}
+		Collections.sort(entries);
+		Collections.sort(dependencies);
+		entries.addAll(dependencies);
+		MessageDigest digest = newDigest();
+		for (String entry : entries) {
+			digest.update(entry.getBytes(StandardCharsets.UTF_8));
+			digest.update((byte) '\n');
+		}
+		fingerprint = HexFormat.of().formatHex(digest.digest());
+		inProgress.remove(project);
+		fingerprints.put(project, fingerprint);
+		return fingerprint;
+	}
+
+	/**
+	 * Returns the bundles the plug-in of the given project is resolved
+	 * against.
+	 */
+	private static Set<BundleDescription> getSuppliers(IProject project) {
+		IPluginModelBase model = PluginRegistry.findModel(project);
+		BundleDescription bundle = model != null ? model.getBundleDescription() : null;
+		if (bundle == null) {
+			return Collections.emptySet();
+		}
+		Set<BundleDescription> suppliers = new HashSet<>();
+		Collections.addAll(suppliers, bundle.getResolvedRequires());
+		for (ExportPackageDescription description : bundle.getResolvedImports()) {
+			suppliers.add(description.getExporter());
+		}
+		HostSpecification host = bundle.getHost();
+		if (host != null) {
+			Collections.addAll(suppliers, host.getHosts());
+		}
+		suppliers.remove(null);
+		return suppliers;
+	}
+
+	private static File getFile() {
+		return PDECore.getDefault().getStateLocation().append(FINGERPRINTS_FILE).toFile();
+	}
+
+	private static MessageDigest newDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2012 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,8 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.core.exports;
 
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -27,6 +29,7 @@ import org.eclipse.core.resources.IncrementalProjectBuilder;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.debug.core.ILaunch;
 import org.eclipse.debug.core.ILaunchConfiguration;
 import org.eclipse.debug.core.model.LaunchConfigurationDelegate;
@@ -78,6 +81,40 @@ public class WorkspaceExportHelper extends LaunchConfigurationDelegate {
 		}
 	}
 
+	/**
+	 * Builds the workspace projects that are being exported or are required plug-ins
+	 * of the exported items and that changed since they were last built without errors.
+	 * Uses the incremental builder.  Projects that did not change are neither built
+	 * nor checked for errors again.
+	 *
+	 * @param exportedItems The plugins or features being exported
+	 * @param monitor a progress monitor or <code>null</code> if progress reporting is not desired
+	 * @return set of IProjects that are built without errors and whose compiled classes
+	 * can be exported
+	 */
+	public Set<IProject> buildChangedBeforeExport(Object[] exportedItems, IProgressMonitor monitor) throws CoreException {
+		IProject[] projects = getExportedWorkspaceProjects(exportedItems);
+		SubMonitor subMonitor = SubMonitor.convert(monitor, projects.length);
+		WorkspaceBuildFingerprints fingerprints = WorkspaceBuildFingerprints.load();
+		Set<IProject> builtProjects = new LinkedHashSet<>(projects.length);
+		try {
+			for (IProject project : projects) {
+				SubMonitor projectMonitor = subMonitor.split(1);
+				if (!fingerprints.isUnchanged(project)) {
+					project.build(IncrementalProjectBuilder.INCREMENTAL_BUILD, projectMonitor);
+					if (hasErrors(project)) {
+						continue;
+					}
+					fingerprints.record(project);
+				}
+				builtProjects.add(project);
+			}
+		} finally {
+			fingerprints.save();
+		}
+		return builtProjects;
+	}
+
 	/**
 	 * Checks the workspace projects that are being exported or are required plug-ins
 	 * of the exported items for build errors.  A project will be reported as having an
@@ -90,22 +127,26 @@ public class WorkspaceExportHelper extends LaunchConfigurationDelegate {
 		IProject[] projects = getExportedWorkspaceProjects(exportedItems);
 		Set<IProject> projectsWithErrors = new HashSet<>(projects.length);
 		for (IProject project : projects) {
-			IMarker[] markers = project.findMarkers(IMarker.PROBLEM, true, IResource.DEPTH_INFINITE);
-			if (markers.length > 0) {
-				for (IMarker marker : markers) {
-					Integer severity = (Integer) (marker.getAttribute(IMarker.SEVERITY));
-					if (severity != null && severity.intValue() >= IMarker.SEVERITY_ERROR) {
-						if (marker.getType().equals(IJavaModelMarker.JAVA_MODEL_PROBLEM_MARKER) || marker.getType().equals(PDEMarkerFactory.MARKER_ID)) {
-							projectsWithErrors.add(project);
-							break;
-						}
-					}
-				}
+			if (hasErrors(project)) {
+				projectsWithErrors.add(project);
 			}
 		}
 		return projectsWithErrors;
 	}
 
+	private boolean hasErrors(IProject project) throws CoreException {
+		IMarker[] markers = project.findMarkers(IMarker.PROBLEM, true, IResource.DEPTH_INFINITE);
+		for (IMarker marker : markers) {
+			Integer severity = (Integer) (marker.getAttribute(IMarker.SEVERITY));
+			if (severity != null && severity.intValue() >= IMarker.SEVERITY_ERROR) {
+				if (marker.getType().equals(IJavaModelMarker.JAVA_MODEL_PROBLEM_MARKER) || marker.getType().equals(PDEMarkerFactory.MARKER_ID)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
 	/**
 	 * Returns a map containing information associating libraries to the output locations the
 	 * workspace compiles them to.  Uses information in the build.properties and the classpath.
@@ -118,8 +159,19 @@ public class WorkspaceExportHelper extends LaunchConfigurationDelegate {
 	 * @return a map of library output folders for each plugin in the workspace
 	 */
 	public Map<String, Map<String, Set<IPath>>> getWorkspaceOutputFolders(Object[] exportedItems) throws CoreException {
-		IProject[] projects = getExportedWorkspaceProjects(exportedItems);
-		Map<String, Map<String, Set<IPath>>> result = new LinkedHashMap<>(projects.length);
+		return getWorkspaceOutputFolders(Arrays.asList(getExportedWorkspaceProjects(exportedItems)));
+	}
+
+	/**
+	 * Returns a map containing information associating libraries to the output locations the
+	 * workspace compiles them to for the given projects.
+	 *
+	 * @param projects the projects whose compiled classes are exported
+	 * @return a map of library output folders for each of the given projects
+	 * @see #getWorkspaceOutputFolders(Object[])
+	 */
+	public Map<String, Map<String, Set<IPath>>> getWorkspaceOutputFolders(Collection<IProject> projects) throws CoreException {
+		Map<String, Map<String, Set<IPath>>> result = new LinkedHashMap<>(projects.size());
 		for (IProject project : projects) {
 			IFile buildFile = PDEProject.getBuildProperties(project);
 			if (buildFile.exists()) {
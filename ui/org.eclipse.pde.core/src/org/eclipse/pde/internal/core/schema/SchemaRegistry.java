@@ -28,6 +28,7 @@ import org.eclipse.pde.core.plugin.ModelEntry;
 import org.eclipse.pde.core.plugin.PluginRegistry;
 import org.eclipse.pde.internal.core.PDECore;
 import org.eclipse.pde.internal.core.SourceLocationManager;
+import org.eclipse.pde.internal.core.builders.BuildProfiler;
 import org.eclipse.pde.internal.core.ischema.ISchema;
 import org.eclipse.pde.internal.core.ischema.ISchemaDescriptor;
 import org.eclipse.pde.internal.core.text.plugin.PluginExtensionPointNode;
@@ -87,6 +88,7 @@ public class SchemaRegistry {
 				desc = null;
 			}
 		}
+		BuildProfiler.count(desc != null ? BuildProfiler.SCHEMA_CACHE_HITS : BuildProfiler.SCHEMA_CACHE_MISSES);
 		return desc;
 	}
 
@@ -46,6 +46,7 @@ import org.eclipse.pde.internal.core.ClasspathUtilCore;
 import org.eclipse.pde.internal.core.PDECore;
 import org.eclipse.pde.internal.core.PDEPreferencesManager;
 import org.eclipse.pde.internal.core.SearchablePluginsManager;
+import org.eclipse.pde.internal.core.builders.BuildProfiler;
 import org.eclipse.pde.internal.core.natures.PluginProject;
 
 public class PDEJavaHelper {
@@ -66,6 +67,7 @@ public class PDEJavaHelper {
 	public static boolean isDiscouraged(String fullyQualifiedName, IJavaProject project, BundleDescription desc) {
 		// allow classes within the project itself
 		try {
+			BuildProfiler.count(BuildProfiler.FIND_TYPE);
 			IType type = project.findType(fullyQualifiedName.replace('$', '.'));
 			if (type != null && type.exists()) {
 				HashMap<String, IPackageFragment> map = PDEJavaHelper.getPackageFragmentsHash(project,
@@ -108,6 +110,7 @@ public class PDEJavaHelper {
 			fullyQualifiedName = fullyQualifiedName.replace('$', '.');
 		}
 		try {
+			BuildProfiler.count(BuildProfiler.FIND_TYPE);
 			IType type = project.findType(fullyQualifiedName);
 			return type != null && type.exists();
 		} catch (JavaModelException e) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2003, 2015 IBM Corporation and others.
+ * Copyright (c) 2003, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,8 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.core.ant;
 
+import java.util.zip.Deflater;
+
 import org.apache.tools.ant.BuildException;
 import org.apache.tools.ant.Task;
 import org.eclipse.core.runtime.Platform;
@@ -35,6 +37,10 @@ public abstract class BaseExportTask extends Task {
 	protected String fQualifier;
 	protected boolean fAllowBinaryCycles;
 	protected boolean fUseWorkspaceCompiledClasses;
+	protected boolean fReuseWorkspaceCompiledClasses;
+	protected boolean fParallelAssembly;
+	protected boolean fStreamJars;
+	protected int fCompressionLevel = Deflater.DEFAULT_COMPRESSION;
 
 	public BaseExportTask() {
 	}
@@ -116,6 +122,59 @@ public abstract class BaseExportTask extends Task {
 		fUseWorkspaceCompiledClasses = Boolean.parseBoolean(useWorkspaceCompiledClasses);
 	}
 
+	/**
+	 * Whether the classes compiled in the workspace are exported for the plug-ins that
+	 * build without errors.  Only the plug-ins that changed since they were last built are
+	 * built before the export, plug-ins with errors are compiled from source.
+	 *
+	 * @see #setUseWorkspaceCompiledClasses(String)
+	 * @param reuseWorkspaceCompiledClasses whether to reuse the classes compiled in the workspace
+	 */
+	public void setReuseWorkspaceCompiledClasses(String reuseWorkspaceCompiledClasses) {
+		fReuseWorkspaceCompiledClasses = Boolean.parseBoolean(reuseWorkspaceCompiledClasses);
+	}
+
+	/**
+	 * Whether the exported elements are jarred up in parallel.  The archives of several
+	 * target configurations are then assembled in separate temporary folders, one
+	 * configuration after another.
+	 *
+	 * @param parallelAssembly whether to jar up the exported elements in parallel
+	 */
+	public void setParallelAssembly(String parallelAssembly) {
+		fParallelAssembly = Boolean.parseBoolean(parallelAssembly);
+	}
+
+	/**
+	 * Whether the exported elements are jarred up in process, compressing the entries of
+	 * a jar in parallel.  The jars of an export to an archive are written straight into
+	 * the archive.
+	 *
+	 * @see #setCompressionLevel(String)
+	 * @param streamJars whether to jar up the exported elements in process
+	 */
+	public void setStreamJars(String streamJars) {
+		fStreamJars = Boolean.parseBoolean(streamJars);
+	}
+
+	/**
+	 * The compression level of the jars, from 0 (store) to 9 (best), or -1 for the
+	 * default level.
+	 *
+	 * @see #setStreamJars(String)
+	 * @param compressionLevel the compression level of the exported jars
+	 */
+	public void setCompressionLevel(String compressionLevel) {
+		try {
+			fCompressionLevel = Integer.parseInt(compressionLevel.trim());
+		} catch (NumberFormatException e) {
+			throw new BuildException("Invalid compression level: " + compressionLevel); //$NON-NLS-1$
+		}
+		if (fCompressionLevel < Deflater.DEFAULT_COMPRESSION || fCompressionLevel > Deflater.BEST_COMPRESSION) {
+			throw new BuildException("Invalid compression level: " + compressionLevel); //$NON-NLS-1$
+		}
+	}
+
 	public boolean isAntRunner() {
 		String args[] = Platform.getCommandLineArgs();
 		for (int i = 0; i < args.length; i++) {
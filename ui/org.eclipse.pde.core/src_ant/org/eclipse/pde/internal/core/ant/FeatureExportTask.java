@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2003, 2013 IBM Corporation and others.
+ * Copyright (c) 2003, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -39,6 +39,10 @@ public class FeatureExportTask extends BaseExportTask {
 		info.qualifier = fQualifier;
 		info.allowBinaryCycles = fAllowBinaryCycles;
 		info.useWorkspaceCompiledClasses = fUseWorkspaceCompiledClasses;
+		info.reuseWorkspaceCompiledClasses = fReuseWorkspaceCompiledClasses;
+		info.parallelAssembly = fParallelAssembly;
+		info.streamJars = fStreamJars;
+		info.compressionLevel = fCompressionLevel;
 		// if destination is relative, then make it absolute
 		if (!new File(fDestination).isAbsolute()) {
 			File home = new File(getLocation().getFileName()).getParentFile();
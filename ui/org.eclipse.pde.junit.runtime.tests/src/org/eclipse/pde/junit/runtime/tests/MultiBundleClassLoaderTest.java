@@ -0,0 +1,190 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.junit.runtime.tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+
+import org.eclipse.pde.internal.junit.runtime.MultiBundleClassLoader;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.osgi.framework.Bundle;
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.BundleException;
+import org.osgi.framework.FrameworkUtil;
+import org.osgi.framework.wiring.FrameworkWiring;
+
+/**
+ * Tests that {@link MultiBundleClassLoader} finds the classes and resources of
+ * its bundles through the package index, in the order of the bundle list.
+ */
+public class MultiBundleClassLoaderTest {
+
+	private static Bundle a;
+	private static Bundle b;
+
+	private MultiBundleClassLoader loader;
+
+	@BeforeClass
+	public static void installBundles() throws Exception {
+		Map<String, byte[]> content = new LinkedHashMap<>();
+		content.put("mbcl/split/A.class", classBytes("mbcl/split/A"));
+		content.put("mbcl/res/shared.txt", text("a"));
+		a = install("mbcl.a", "mbcl.split, mbcl.res", content);
+
+		content.clear();
+		content.put("mbcl/split/B.class", classBytes("mbcl/split/B"));
+		content.put("mbcl/other/Other.class", classBytes("mbcl/other/Other"));
+		content.put("mbcl/other/other.txt", text("other"));
+		content.put("mbcl/res/shared.txt", text("b"));
+		content.put("root.txt", text("root"));
+		b = install("mbcl.b", "mbcl.split, mbcl.other, mbcl.res", content);
+
+		BundleContext context = FrameworkUtil.getBundle(MultiBundleClassLoaderTest.class).getBundleContext();
+		FrameworkWiring wiring = context.getBundle(0).adapt(FrameworkWiring.class);
+		assertThat(wiring.resolveBundles(List.of(a, b))).isTrue();
+	}
+
+	@AfterClass
+	public static void uninstallBundles() throws BundleException {
+		for (Bundle bundle : new Bundle[] { a, b }) {
+			if (bundle != null) {
+				bundle.uninstall();
+			}
+		}
+	}
+
+	@Before
+	public void setUp() {
+		loader = new MultiBundleClassLoader(List.of(a, b));
+	}
+
+	@Test
+	public void testSplitPackage() throws Exception {
+		assertThat(FrameworkUtil.getBundle(loader.loadClass("mbcl.split.A"))).isEqualTo(a);
+		assertThat(FrameworkUtil.getBundle(loader.loadClass("mbcl.split.B"))).isEqualTo(b);
+	}
+
+	@Test
+	public void testMissingClassThenClassOfAnotherBundle() throws Exception {
+		assertThatExceptionOfType(ClassNotFoundException.class).isThrownBy(() -> loader.loadClass("mbcl.split.C"));
+		// the miss is remembered
+		assertThatExceptionOfType(ClassNotFoundException.class).isThrownBy(() -> loader.loadClass("mbcl.split.C"));
+
+		assertThat(FrameworkUtil.getBundle(loader.loadClass("mbcl.split.B"))).isEqualTo(b);
+		assertThat(FrameworkUtil.getBundle(loader.loadClass("mbcl.other.Other"))).isEqualTo(b);
+	}
+
+	@Test
+	public void testResources() throws Exception {
+		// the first bundle wins
+		assertThat(read(loader.getResource("mbcl/res/shared.txt"))).isEqualTo("a");
+		List<String> shared = new ArrayList<>();
+		for (URL url : Collections.list(loader.getResources("mbcl/res/shared.txt"))) {
+			shared.add(read(url));
+		}
+		assertThat(shared).containsExactly("a", "b");
+
+		assertThat(read(loader.getResource("mbcl/other/other.txt"))).isEqualTo("other");
+		// no bundle has classes in the default package
+		assertThat(read(loader.getResource("root.txt"))).isEqualTo("root");
+	}
+
+	@Test
+	public void testMissingResources() throws Exception {
+		assertThat(loader.getResource("mbcl/res/missing.txt")).isNull();
+		assertThat(loader.getResource("mbcl/res/missing.txt")).isNull();
+		assertThat(Collections.list(loader.getResources("mbcl/res/missing.txt"))).isEmpty();
+		assertThat(loader.getResource("mbcl/unknown/missing.txt")).isNull();
+	}
+
+	private static Bundle install(String name, String exports, Map<String, byte[]> content)
+			throws IOException, BundleException {
+		Manifest manifest = new Manifest();
+		Attributes attributes = manifest.getMainAttributes();
+		attributes.put(Attributes.Name.MANIFEST_VERSION, "1.0");
+		attributes.putValue("Bundle-ManifestVersion", "2");
+		attributes.putValue("Bundle-SymbolicName", name);
+		attributes.putValue("Bundle-Version", "1.0.0");
+		attributes.putValue("Export-Package", exports);
+		ByteArrayOutputStream jar = new ByteArrayOutputStream();
+		try (JarOutputStream output = new JarOutputStream(jar, manifest)) {
+			for (Map.Entry<String, byte[]> entry : content.entrySet()) {
+				output.putNextEntry(new JarEntry(entry.getKey()));
+				output.write(entry.getValue());
+				output.closeEntry();
+			}
+		}
+		BundleContext context = FrameworkUtil.getBundle(MultiBundleClassLoaderTest.class).getBundleContext();
+		return context.installBundle(MultiBundleClassLoaderTest.class.getName() + '/' + name,
+				new ByteArrayInputStream(jar.toByteArray()));
+	}
+
+	/** the class file of an empty public class */
+	private static byte[] classBytes(String internalName) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (DataOutputStream output = new DataOutputStream(bytes)) {
+			output.writeInt(0xCAFEBABE);
+			output.writeShort(0); // minor version
+			output.writeShort(52); // Java 8
+			output.writeShort(5); // constant pool count
+			output.writeByte(1); // #1 utf8
+			output.writeUTF(internalName);
+			output.writeByte(7); // #2 class #1
+			output.writeShort(1);
+			output.writeByte(1); // #3 utf8
+			output.writeUTF("java/lang/Object");
+			output.writeByte(7); // #4 class #3
+			output.writeShort(3);
+			output.writeShort(0x0021); // public super
+			output.writeShort(2); // this class
+			output.writeShort(4); // super class
+			output.writeShort(0); // interfaces
+			output.writeShort(0); // fields
+			output.writeShort(0); // methods
+			output.writeShort(0); // attributes
+		}
+		return bytes.toByteArray();
+	}
+
+	private static byte[] text(String text) {
+		return text.getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static String read(URL url) throws IOException {
+		assertThat(url).isNotNull();
+		try (InputStream input = url.openStream()) {
+			return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+		}
+	}
+}
@@ -0,0 +1,234 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.junit.runtime.tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.pde.junit.runtime.tests.JUnitExecutionTest.findType;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.IWorkspaceDescription;
+import org.eclipse.core.resources.IncrementalProjectBuilder;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.ILaunchConfigurationWorkingCopy;
+import org.eclipse.debug.core.ILaunchManager;
+import org.eclipse.debug.core.Launch;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.launching.AbstractJavaLaunchConfigurationDelegate;
+import org.eclipse.pde.internal.launching.IPDEConstants;
+import org.eclipse.pde.launching.IPDELauncherConstants;
+import org.eclipse.pde.ui.launcher.JUnitWorkbenchLaunchShortcut;
+import org.eclipse.pde.ui.tests.util.ProjectUtils;
+import org.eclipse.pde.unittest.junit.internal.launcher.TestClassIndex;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+
+public class TestClassIndexTest {
+
+	@ClassRule
+	public static final TestRule CLEAR_WORKSPACE = ProjectUtils.DELETE_ALL_WORKSPACE_PROJECTS_BEFORE_AND_AFTER;
+
+	private static final String JUNIT4 = "org.eclipse.jdt.junit.loader.junit4";
+	private static final String JUNIT5 = "org.eclipse.jdt.junit.loader.junit5";
+
+	private static boolean autoBuilding;
+	private static IJavaProject junit4;
+	private static IJavaProject junit5;
+
+	@BeforeClass
+	public static void setupProjects() throws Exception {
+		autoBuilding = setAutoBuilding(true);
+		JUnitExecutionTest.setupProjects();
+		junit4 = JUnitExecutionTest.getJProject("verification.tests.junit4");
+		junit5 = JUnitExecutionTest.getJProject("verification.tests.junit5");
+		// the first launch indexes the project for the next ones
+		TestClassIndex.getTests(junit4, JUNIT4, null);
+		Job.getJobManager().join(TestClassIndex.class, null);
+	}
+
+	@AfterClass
+	public static void restoreAutoBuilding() throws CoreException {
+		setAutoBuilding(autoBuilding);
+	}
+
+	private static boolean setAutoBuilding(boolean enabled) throws CoreException {
+		IWorkspace workspace = ResourcesPlugin.getWorkspace();
+		IWorkspaceDescription description = workspace.getDescription();
+		boolean previous = description.isAutoBuilding();
+		description.setAutoBuilding(enabled);
+		workspace.setDescription(description);
+		return previous;
+	}
+
+	private static List<String> getTests(IJavaElement container, String kind) {
+		IType[] tests = TestClassIndex.getTests(container, kind, null);
+		assertNotNull(tests);
+		return Arrays.stream(tests).map(IType::getFullyQualifiedName).toList();
+	}
+
+	private static ICompilationUnit createTest(IPackageFragment pkg, String name) throws Exception {
+		ICompilationUnit unit = pkg.createCompilationUnit(name + ".java", "package " + pkg.getElementName() + ";\n" //
+				+ "public class " + name + " {\n" //
+				+ "	@org.junit.Test public void test() {}\n" //
+				+ "}\n", true, null);
+		build(pkg.getJavaProject());
+		return unit;
+	}
+
+	private static void build(IJavaProject project) throws Exception {
+		project.getProject().build(IncrementalProjectBuilder.INCREMENTAL_BUILD, null);
+		Job.getJobManager().join(ResourcesPlugin.FAMILY_AUTO_BUILD, null);
+	}
+
+	@Test
+	public void testProject() throws Exception {
+		assertThat(getTests(junit4, JUNIT4)).containsExactlyInAnyOrder("verification.tests.junit4.Test1",
+				"verification.tests.junit4.Test2");
+	}
+
+	@Test
+	public void testOtherTestKind() {
+		assertNull(TestClassIndex.getTests(junit4, JUNIT5, null));
+	}
+
+	@Test
+	public void testNotIndexedUntilLaunched() throws Exception {
+		IJavaProject fragment = JUnitExecutionTest.getJProject("verification.tests.junit5.fragment");
+		IPackageFragment pkg = findType(fragment, "Test1").getPackageFragment();
+		assertNull(TestClassIndex.getTests(pkg, JUNIT5, null));
+		Job.getJobManager().join(TestClassIndex.class, null);
+		assertThat(getTests(pkg, JUNIT5)).containsExactlyInAnyOrder("verification.tests.junit5.fragment.Test1",
+				"verification.tests.junit5.fragment.Test2");
+	}
+
+	@Test
+	public void testChangedCompilationUnits() throws Exception {
+		IPackageFragment pkg = findType(junit4, "Test1").getPackageFragment();
+		IPackageFragment subpackage = ((IPackageFragmentRoot) pkg.getParent())
+				.createPackageFragment(pkg.getElementName() + ".sub", true, null);
+		ICompilationUnit unit = createTest(subpackage, "Test3");
+		try {
+			assertThat(getTests(junit4, JUNIT4)).contains("verification.tests.junit4.sub.Test3");
+			assertThat(getTests(subpackage, JUNIT4)).containsExactly("verification.tests.junit4.sub.Test3");
+			// a package does not contain its subpackages
+			assertThat(getTests(pkg, JUNIT4)).doesNotContain("verification.tests.junit4.sub.Test3");
+		} finally {
+			unit.delete(true, null);
+			build(junit4);
+		}
+		assertThat(getTests(junit4, JUNIT4)).doesNotContain("verification.tests.junit4.sub.Test3");
+	}
+
+	@Test
+	public void testNotUsedWithChangesNotBuilt() throws Exception {
+		IType type = findType(junit4, "Test1");
+		ICompilationUnit test1 = type.getCompilationUnit();
+		IPackageFragment pkg = type.getPackageFragment();
+		setAutoBuilding(false);
+		try {
+			((IFile) test1.getResource()).touch(null);
+			assertNull(TestClassIndex.getTests(junit4, JUNIT4, null));
+			// the change is indexed without a build
+			Job.getJobManager().join(TestClassIndex.class, null);
+			assertThat(getTests(pkg, JUNIT4)).contains("verification.tests.junit4.Test1");
+
+			ICompilationUnit unit = pkg.createCompilationUnit("Test4.java", "package " + pkg.getElementName() + ";\n" //
+					+ "public class Test4 {\n" //
+					+ "	@org.junit.Test public void test() {}\n" //
+					+ "}\n", true, null);
+			try {
+				assertNull(TestClassIndex.getTests(pkg, JUNIT4, null));
+				Job.getJobManager().join(TestClassIndex.class, null);
+				assertThat(getTests(pkg, JUNIT4)).contains("verification.tests.junit4.Test4");
+			} finally {
+				unit.delete(true, null);
+			}
+		} finally {
+			setAutoBuilding(true);
+			build(junit4);
+		}
+		assertThat(getTests(junit4, JUNIT4)).doesNotContain("verification.tests.junit4.Test4");
+	}
+
+	@Test
+	public void testJUnit5PackageIsNotReplacedByTestClasses() throws Exception {
+		IPackageFragment pkg = findType(junit5, "Test1").getPackageFragment();
+		TestClassIndex.getTests(pkg, JUNIT5, null);
+		Job.getJobManager().join(TestClassIndex.class, null);
+
+		List<String> arguments = getProgramArguments(pkg);
+		assertThat(arguments).contains("-packageNameFile").doesNotContain("-testNameFile");
+		Path packageNames = Path.of(arguments.get(arguments.indexOf("-packageNameFile") + 1));
+		assertThat(Files.readAllLines(packageNames)).containsExactly("verification.tests.junit5");
+	}
+
+	@Test
+	public void testJUnit4ProjectLaunchesIndexedClasses() throws Exception {
+		List<String> arguments = getProgramArguments(junit4);
+		assertThat(arguments).contains("-testNameFile").doesNotContain("-packageNameFile");
+		Path testNames = Path.of(arguments.get(arguments.indexOf("-testNameFile") + 1));
+		assertThat(Files.readAllLines(testNames)).containsExactlyInAnyOrder("verification.tests.junit4.Test1",
+				"verification.tests.junit4.Test2");
+	}
+
+	private static List<String> getProgramArguments(IJavaElement element) throws CoreException {
+		ILaunchConfigurationWorkingCopy configuration = new TestLaunchShortcut().createLaunchConfiguration(element);
+		configuration.setAttribute(IPDELauncherConstants.APPLICATION, IPDEConstants.CORE_TEST_APPLICATION);
+		IPath location = Platform.getLocation().append(element.getJavaProject().getElementName() + "_index");
+		configuration.setAttribute(IPDELauncherConstants.LOCATION, location.append("workspace").toOSString());
+		configuration.setAttribute(IPDELauncherConstants.CONFIG_LOCATION,
+				location.append("configuration").toOSString());
+		configuration.setAttribute(IPDELauncherConstants.CONFIG_USE_DEFAULT_AREA, false);
+
+		AbstractJavaLaunchConfigurationDelegate delegate = (AbstractJavaLaunchConfigurationDelegate) configuration
+				.getType().getDelegates(Set.of(ILaunchManager.RUN_MODE))[0].getDelegate();
+		String commandLine = delegate.showCommandLine(configuration, ILaunchManager.RUN_MODE,
+				new Launch(configuration, ILaunchManager.RUN_MODE, null), new NullProgressMonitor());
+		return Arrays.asList(DebugPlugin.parseArguments(commandLine));
+	}
+
+	private static class TestLaunchShortcut extends JUnitWorkbenchLaunchShortcut {
+		@Override
+		protected String getLaunchConfigurationTypeId() {
+			return "org.eclipse.pde.unittest.junit.launchConfiguration";
+		}
+
+		@Override
+		public ILaunchConfigurationWorkingCopy createLaunchConfiguration(IJavaElement element) throws CoreException {
+			return super.createLaunchConfiguration(element);
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2018, 2023 IBM Corporation and others.
+ *  Copyright (c) 2018, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -16,16 +16,49 @@ package org.eclipse.pde.internal.junit.runtime;
 import java.io.IOException;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.runtime.FileLocator;
 import org.osgi.framework.Bundle;
+import org.osgi.framework.namespace.BundleNamespace;
+import org.osgi.framework.namespace.PackageNamespace;
+import org.osgi.framework.wiring.BundleCapability;
+import org.osgi.framework.wiring.BundleRequirement;
+import org.osgi.framework.wiring.BundleWire;
+import org.osgi.framework.wiring.BundleWiring;
 
-class MultiBundleClassLoader extends ClassLoader {
+/**
+ * Loads classes and resources from a list of bundles, the first bundle that
+ * provides a class or resource wins.
+ * <p>
+ * Each lookup only asks the bundles that can see the package of the class or
+ * resource, according to an index built from the bundles' wirings: the
+ * packages they contain, export, import or get from required bundles. Bundles
+ * without a wiring or with dynamic imports are asked for every package, and
+ * all bundles are asked for packages none of them sees, like the
+ * <code>java.*</code> packages. Classes and resources that were not found are
+ * remembered and not looked up again.
+ * </p>
+ */
+public class MultiBundleClassLoader extends ClassLoader {
 	private final List<Bundle> bundleList;
 
+	/** the packages each bundle can see, computed on first lookup */
+	private Map<Bundle, Set<String>> visiblePackages;
+	/** the bundles that may see any package */
+	private Set<Bundle> openBundles;
+	private final Map<String, List<Bundle>> candidates = new ConcurrentHashMap<>();
+	private final Set<String> missingClasses = ConcurrentHashMap.newKeySet();
+	private final Set<String> missingResources = ConcurrentHashMap.newKeySet();
+
 	public MultiBundleClassLoader(List<Bundle> platformEngineBundles) {
 		super(null); // never delegate to system classloader, only load classes via given Bundles
 		this.bundleList = platformEngineBundles;
@@ -33,21 +66,28 @@ class MultiBundleClassLoader extends ClassLoader {
 
 	@Override
 	protected Class<?> findClass(String name) throws ClassNotFoundException {
-		for (Bundle temp : bundleList) {
-			try {
-				Class<?> c = temp.loadClass(name);
-				if (c != null) {
-					return c;
+		if (!missingClasses.contains(name)) {
+			int index = name.lastIndexOf('.');
+			for (Bundle temp : getCandidates(index == -1 ? "" : name.substring(0, index))) { //$NON-NLS-1$
+				try {
+					Class<?> c = temp.loadClass(name);
+					if (c != null) {
+						return c;
+					}
+				} catch (ClassNotFoundException e) {
 				}
-			} catch (ClassNotFoundException e) {
 			}
+			missingClasses.add(name);
 		}
 		throw new ClassNotFoundException(name);
 	}
 
 	@Override
 	protected URL findResource(String name) {
-		for (Bundle temp : bundleList) {
+		if (missingResources.contains(name)) {
+			return null;
+		}
+		for (Bundle temp : getCandidates(getResourcePackage(name))) {
 			URL url = temp.getResource(name);
 			if (url != null) {
 				try {
@@ -57,18 +97,119 @@ class MultiBundleClassLoader extends ClassLoader {
 				}
 			}
 		}
+		missingResources.add(name);
 		return null;
 	}
 
 	@Override
 	protected Enumeration<URL> findResources(String name) throws IOException {
 		List<URL> merged = new ArrayList<>();
-		for (Bundle bundle : bundleList) {
-			Enumeration<URL> resources = bundle.getResources(name);
-			while (resources != null && resources.hasMoreElements()) {
-				merged.add(FileLocator.resolve(resources.nextElement()));
+		if (!missingResources.contains(name)) {
+			for (Bundle bundle : getCandidates(getResourcePackage(name))) {
+				Enumeration<URL> resources = bundle.getResources(name);
+				while (resources != null && resources.hasMoreElements()) {
+					merged.add(FileLocator.resolve(resources.nextElement()));
+				}
+			}
+			if (merged.isEmpty()) {
+				missingResources.add(name);
 			}
 		}
 		return Collections.enumeration(merged);
 	}
-}
\ No newline at end of file
+
+	private static String getResourcePackage(String name) {
+		String path = name.startsWith("/") ? name.substring(1) : name; //$NON-NLS-1$
+		int index = path.lastIndexOf('/');
+		return index == -1 ? "" : path.substring(0, index).replace('/', '.'); //$NON-NLS-1$
+	}
+
+	/**
+	 * Returns the bundles that may provide classes or resources of the given
+	 * package, in the order of the bundle list.
+	 */
+	private List<Bundle> getCandidates(String packageName) {
+		List<Bundle> result = candidates.get(packageName);
+		if (result == null) {
+			Map<Bundle, Set<String>> visible = getVisiblePackages();
+			List<Bundle> seeing = new ArrayList<>();
+			boolean indexed = false;
+			for (Bundle bundle : bundleList) {
+				Set<String> packages = visible.get(bundle);
+				if (packages != null && packages.contains(packageName)) {
+					indexed = true;
+					seeing.add(bundle);
+				} else if (openBundles.contains(bundle)) {
+					seeing.add(bundle);
+				}
+			}
+			result = indexed ? seeing : bundleList;
+			candidates.put(packageName, result);
+		}
+		return result;
+	}
+
+	private synchronized Map<Bundle, Set<String>> getVisiblePackages() {
+		if (visiblePackages == null) {
+			Map<Bundle, Set<String>> visible = new HashMap<>();
+			Set<Bundle> open = new HashSet<>();
+			for (Bundle bundle : bundleList) {
+				BundleWiring wiring = bundle.adapt(BundleWiring.class);
+				if (wiring == null || hasDynamicImports(wiring)) {
+					open.add(bundle);
+				}
+				if (wiring != null) {
+					visible.put(bundle, getVisiblePackages(wiring));
+				}
+			}
+			openBundles = open;
+			visiblePackages = visible;
+		}
+		return visiblePackages;
+	}
+
+	private static Set<String> getVisiblePackages(BundleWiring wiring) {
+		Set<String> packages = new HashSet<>();
+		Collection<String> classes = wiring.listResources("/", "*.class", BundleWiring.LISTRESOURCES_LOCAL | BundleWiring.LISTRESOURCES_RECURSE); //$NON-NLS-1$ //$NON-NLS-2$
+		if (classes != null) {
+			for (String path : classes) {
+				packages.add(getResourcePackage(path));
+			}
+		}
+		addExportedPackages(wiring, packages, new HashSet<>());
+		for (BundleWire wire : wiring.getRequiredWires(PackageNamespace.PACKAGE_NAMESPACE)) {
+			packages.add((String) wire.getCapability().getAttributes().get(PackageNamespace.PACKAGE_NAMESPACE));
+		}
+		for (BundleWire wire : wiring.getRequiredWires(BundleNamespace.BUNDLE_NAMESPACE)) {
+			addExportedPackages(wire.getProviderWiring(), packages, new HashSet<>());
+		}
+		return packages;
+	}
+
+	/**
+	 * Adds the packages exported by the given bundle, including those of the
+	 * bundles it requires and re-exports.
+	 */
+	private static void addExportedPackages(BundleWiring wiring, Set<String> packages, Set<BundleWiring> visited) {
+		if (wiring == null || !visited.add(wiring)) {
+			return;
+		}
+		for (BundleCapability capability : wiring.getCapabilities(PackageNamespace.PACKAGE_NAMESPACE)) {
+			packages.add((String) capability.getAttributes().get(PackageNamespace.PACKAGE_NAMESPACE));
+		}
+		for (BundleWire wire : wiring.getRequiredWires(BundleNamespace.BUNDLE_NAMESPACE)) {
+			if (BundleNamespace.VISIBILITY_REEXPORT.equals(wire.getRequirement().getDirectives().get(BundleNamespace.REQUIREMENT_VISIBILITY_DIRECTIVE))) {
+				addExportedPackages(wire.getProviderWiring(), packages, visited);
+			}
+		}
+	}
+
+	private static boolean hasDynamicImports(BundleWiring wiring) {
+		for (BundleRequirement requirement : wiring.getRevision().getDeclaredRequirements(PackageNamespace.PACKAGE_NAMESPACE)) {
+			if (PackageNamespace.RESOLUTION_DYNAMIC.equals(requirement.getDirectives().get(PackageNamespace.REQUIREMENT_RESOLUTION_DIRECTIVE))) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2015 EclipseSource Corporation and others.
+ * Copyright (c) 2009, 2026 EclipseSource Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -25,8 +25,10 @@ import org.eclipse.core.runtime.Status;
 import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.ILaunchConfigurationListener;
 import org.eclipse.pde.internal.core.PDEPreferencesManager;
+import org.eclipse.pde.internal.launching.launcher.BundleMapCache;
 import org.eclipse.pde.internal.launching.launcher.LaunchConfigurationListener;
 import org.eclipse.pde.internal.launching.launcher.LaunchListener;
+import org.eclipse.pde.internal.launching.launcher.LaunchPlanCache;
 import org.eclipse.pde.internal.launching.launcher.LauncherUtils;
 import org.eclipse.pde.internal.launching.launcher.OSGiFrameworkManager;
 import org.osgi.framework.Bundle;
@@ -139,6 +141,8 @@ public class PDELaunchingPlugin extends Plugin implements IPDEConstants {
 			fDebugPluginUtil.removeListener();
 		}
 		LauncherUtils.shutdown();
+		BundleMapCache.shutdown();
+		LaunchPlanCache.clear();
 		super.stop(context);
 	}
 
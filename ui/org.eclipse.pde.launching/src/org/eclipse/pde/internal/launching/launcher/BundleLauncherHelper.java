@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2022 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -108,7 +108,22 @@ public class BundleLauncherHelper {
 		return getMergedBundleMap(configuration, osgi, null);
 	}
 
+	/**
+	 * Returns the bundles launched by the given configuration mapped to their
+	 * start levels. The result is computed once per configuration and reused
+	 * until the configuration or the plug-in and feature models change.
+	 *
+	 * @param configuration the launch configuration
+	 * @param osgi whether the configuration is an OSGi framework launch
+	 * @param features if not <code>null</code>, the launched features are
+	 * 		added to it, mapped to whether they are root features
+	 * @return a map the caller may modify
+	 */
 	public static Map<IPluginModelBase, String> getMergedBundleMap(ILaunchConfiguration configuration, boolean osgi, Map<IFeature, Boolean> features) throws CoreException {
+		return BundleMapCache.getMergedBundleMap(configuration, osgi, features);
+	}
+
+	static Map<IPluginModelBase, String> computeMergedBundleMap(ILaunchConfiguration configuration, boolean osgi, Map<IFeature, Boolean> features) throws CoreException {
 
 		ILaunchConfigurationWorkingCopy wc = getWorkingCopy(configuration);
 		if (!osgi) {
@@ -251,7 +266,7 @@ public class BundleLauncherHelper {
 		Predicate<IFeature> targetEnvironmentFilter = f -> f.matchesEnvironment(target);
 
 		// Get all available features
-		Map<String, List<List<IFeature>>> featureMaps = getPrioritizedAvailableFeatures(featureLocation);
+		Map<String, List<List<IFeature>>> featureMaps = BundleMapCache.getFeatureIndex(isWorkspace(featureLocation));
 
 		Set<String> selectedFeatures = configuration.getAttribute(IPDELauncherConstants.SELECTED_FEATURES, emptySet());
 
@@ -292,9 +307,9 @@ public class BundleLauncherHelper {
 		return feature2pluginResolution;
 	}
 
-	private static Map<String, List<List<IFeature>>> getPrioritizedAvailableFeatures(String featureLocation) {
+	static Map<String, List<List<IFeature>>> getPrioritizedAvailableFeatures(boolean workspace) {
 		FeatureModelManager fmm = PDECore.getDefault().getFeatureModelManager();
-		List<IFeatureModel[]> featureModelsPerLocation = isWorkspace(featureLocation) //
+		List<IFeatureModel[]> featureModelsPerLocation = workspace //
 				? List.of(fmm.getWorkspaceModels(), fmm.getExternalModels()) //
 				: Collections.singletonList(fmm.getExternalModels());
 
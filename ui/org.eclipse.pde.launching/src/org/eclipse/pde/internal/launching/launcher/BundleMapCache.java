@@ -0,0 +1,164 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.launching.launcher;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.debug.core.ILaunchConfiguration;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.internal.core.IFeatureModelDelta;
+import org.eclipse.pde.internal.core.IFeatureModelListener;
+import org.eclipse.pde.internal.core.IPluginModelListener;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.PluginModelDelta;
+import org.eclipse.pde.internal.core.ifeature.IFeature;
+
+/**
+ * Remembers the bundles computed by
+ * {@link BundleLauncherHelper#getMergedBundleMap(ILaunchConfiguration, boolean, Map)}
+ * for every launch configuration, and the index of the available features used
+ * by feature based launches.
+ * <p>
+ * A bundle map is reused as long as the attributes of its configuration are
+ * unchanged. All results are discarded when plug-in or feature models change,
+ * the entry of a configuration when it is saved or deleted.
+ * </p>
+ */
+public final class BundleMapCache {
+
+	private record Entry(Map<String, Object> attributes, Map<IPluginModelBase, String> bundles, Map<IFeature, Boolean> features) {
+	}
+
+	private static final Map<ILaunchConfiguration, Entry> fgOSGiEntries = new WeakHashMap<>();
+	private static final Map<ILaunchConfiguration, Entry> fgEclipseEntries = new WeakHashMap<>();
+	private static Map<String, List<List<IFeature>>> fgWorkspaceFeatureIndex;
+	private static Map<String, List<List<IFeature>>> fgExternalFeatureIndex;
+
+	/**
+	 * Incremented whenever the models change, a result computed meanwhile is
+	 * not remembered
+	 */
+	private static int fgGeneration;
+	private static Listener fgListener;
+
+	private BundleMapCache() { // static use only
+	}
+
+	private static final class Listener implements IPluginModelListener, IFeatureModelListener {
+		@Override
+		public void modelsChanged(PluginModelDelta delta) {
+			clear();
+		}
+
+		@Override
+		public void modelsChanged(IFeatureModelDelta delta) {
+			clear();
+		}
+	}
+
+	static Map<IPluginModelBase, String> getMergedBundleMap(ILaunchConfiguration configuration, boolean osgi, Map<IFeature, Boolean> features) throws CoreException {
+		Map<String, Object> attributes = configuration.getAttributes();
+		Entry entry;
+		int generation;
+		synchronized (BundleMapCache.class) {
+			addListener();
+			entry = (osgi ? fgOSGiEntries : fgEclipseEntries).get(configuration);
+			generation = fgGeneration;
+		}
+		if (entry == null || !entry.attributes().equals(attributes)) {
+			Map<IFeature, Boolean> computedFeatures = new LinkedHashMap<>();
+			Map<IPluginModelBase, String> bundles = BundleLauncherHelper.computeMergedBundleMap(configuration, osgi, computedFeatures);
+			entry = new Entry(attributes, bundles, computedFeatures);
+			synchronized (BundleMapCache.class) {
+				if (generation == fgGeneration) {
+					(osgi ? fgOSGiEntries : fgEclipseEntries).put(configuration, entry);
+				}
+			}
+		}
+		if (features != null) {
+			features.putAll(entry.features());
+		}
+		// callers may modify the result
+		return new LinkedHashMap<>(entry.bundles());
+	}
+
+	/**
+	 * Returns the available features grouped by id. The features of the
+	 * preferred location are listed first.
+	 *
+	 * @param workspace whether workspace features are preferred over the
+	 * 		features of the target platform
+	 */
+	static Map<String, List<List<IFeature>>> getFeatureIndex(boolean workspace) {
+		synchronized (BundleMapCache.class) {
+			addListener();
+			Map<String, List<List<IFeature>>> index = workspace ? fgWorkspaceFeatureIndex : fgExternalFeatureIndex;
+			if (index == null) {
+				index = BundleLauncherHelper.getPrioritizedAvailableFeatures(workspace);
+				if (workspace) {
+					fgWorkspaceFeatureIndex = index;
+				} else {
+					fgExternalFeatureIndex = index;
+				}
+			}
+			return index;
+		}
+	}
+
+	/**
+	 * Returns the generation of the models, which changes whenever plug-in or
+	 * feature models change.
+	 */
+	static synchronized int getGeneration() {
+		addListener();
+		return fgGeneration;
+	}
+
+	/**
+	 * Discards the bundles computed for the given configuration.
+	 */
+	static synchronized void invalidate(ILaunchConfiguration configuration) {
+		fgOSGiEntries.remove(configuration);
+		fgEclipseEntries.remove(configuration);
+	}
+
+	static synchronized void clear() {
+		fgGeneration++;
+		fgOSGiEntries.clear();
+		fgEclipseEntries.clear();
+		fgWorkspaceFeatureIndex = null;
+		fgExternalFeatureIndex = null;
+	}
+
+	private static void addListener() {
+		if (fgListener == null) {
+			fgListener = new Listener();
+			PDECore.getDefault().getModelManager().addPluginModelListener(fgListener);
+			PDECore.getDefault().getFeatureModelManager().addFeatureModelListener(fgListener);
+		}
+	}
+
+	public static synchronized void shutdown() {
+		if (fgListener != null) {
+			PDECore.getDefault().getModelManager().removePluginModelListener(fgListener);
+			PDECore.getDefault().getFeatureModelManager().removeFeatureModelListener(fgListener);
+			fgListener = null;
+		}
+		clear();
+	}
+}
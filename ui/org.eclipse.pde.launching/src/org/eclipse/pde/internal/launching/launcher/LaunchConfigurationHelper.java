@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2021 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,12 +13,15 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.launching.launcher;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -509,15 +512,46 @@ public class LaunchConfigurationHelper {
 		return buffer.toString();
 	}
 
+	/**
+	 * Writes the given properties to the given file. The properties are written
+	 * sorted by key and without a time stamp, and the file is not touched if it
+	 * already has that content. This way an unchanged configuration keeps its
+	 * time stamp and the framework can reuse the state it persisted for it.
+	 *
+	 * @param file the file to write
+	 * @param properties the properties to write
+	 */
 	public static void save(File file, Properties properties) {
-		try (FileOutputStream stream = new FileOutputStream(file)) {
-			properties.store(stream, "Configuration File"); //$NON-NLS-1$
-			stream.flush();
+		try {
+			byte[] content = getContent(properties);
+			if (file.isFile() && file.length() == content.length && Arrays.equals(content, Files.readAllBytes(file.toPath()))) {
+				return;
+			}
+			Files.write(file.toPath(), content);
 		} catch (IOException e) {
 			PDECore.logException(e);
 		}
 	}
 
+	private static byte[] getContent(Properties properties) throws IOException {
+		ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		properties.store(stream, "Configuration File"); //$NON-NLS-1$
+		// the stored properties are escaped to ISO 8859-1, one entry per line
+		String[] lines = stream.toString(StandardCharsets.ISO_8859_1).split("\\R"); //$NON-NLS-1$
+		List<String> entries = new ArrayList<>(lines.length);
+		for (int i = 1; i < lines.length; i++) {
+			// skip the time stamp comment
+			if (!lines[i].startsWith("#")) { //$NON-NLS-1$
+				entries.add(lines[i]);
+			}
+		}
+		Collections.sort(entries);
+		StringJoiner content = new StringJoiner(System.lineSeparator(), "", System.lineSeparator()); //$NON-NLS-1$
+		content.add(lines[0]);
+		entries.forEach(content::add);
+		return content.toString().getBytes(StandardCharsets.ISO_8859_1);
+	}
+
 	public static String getContributingPlugin(String productID) {
 		if (productID == null)
 			return null;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2005, 2015 IBM Corporation and others.
+ *  Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -32,10 +32,14 @@ public class LaunchConfigurationListener implements ILaunchConfigurationListener
 
 	@Override
 	public void launchConfigurationChanged(ILaunchConfiguration configuration) {
+		BundleMapCache.invalidate(configuration);
+		LaunchPlanCache.invalidate(configuration);
 	}
 
 	@Override
 	public void launchConfigurationRemoved(ILaunchConfiguration configuration) {
+		BundleMapCache.invalidate(configuration);
+		LaunchPlanCache.invalidate(configuration);
 		final File configDir = LaunchConfigurationHelper.getConfigurationLocation(configuration);
 		if (configDir.exists()) {
 			// rename the config area if it was auto-set by PDE when the launch configuration is renamed
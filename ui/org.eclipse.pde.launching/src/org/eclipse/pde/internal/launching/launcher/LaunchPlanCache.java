@@ -0,0 +1,227 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.launching.launcher;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.WeakHashMap;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.variables.IStringVariableManager;
+import org.eclipse.core.variables.VariablesPlugin;
+import org.eclipse.debug.core.ILaunchConfiguration;
+import org.eclipse.jdt.launching.IVMInstall;
+import org.eclipse.osgi.service.resolver.State;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.core.plugin.PluginRegistry;
+import org.eclipse.pde.core.plugin.TargetPlatform;
+import org.eclipse.pde.internal.core.ICoreConstants;
+import org.eclipse.pde.internal.core.TargetPlatformHelper;
+
+/**
+ * Remembers the classpath and the arguments a launch configuration was last
+ * launched with, together with a fingerprint of everything they were computed
+ * from.
+ * <p>
+ * The fingerprint covers the attributes of the configuration with their
+ * variables resolved, the generation of the plug-in and feature models, the
+ * target state, the modification stamps of the files of the workspace
+ * plug-ins that contribute to dev.properties and the generated manifests, and
+ * the VM the configuration runs on. A plan is reused as long as its
+ * fingerprint is unchanged and the files written to the configuration area
+ * are unchanged as well.
+ * </p>
+ */
+public final class LaunchPlanCache {
+
+	/**
+	 * The computed launch of a configuration.
+	 *
+	 * @param fingerprint the fingerprint of the inputs of the launch
+	 * @param classpath the boot classpath
+	 * @param vmArguments the VM arguments
+	 * @param programArguments the program arguments
+	 * @param files the modification times of the files in the configuration
+	 * 		area, by name
+	 */
+	public record LaunchPlan(String fingerprint, String[] classpath, String[] vmArguments, String[] programArguments, Map<String, Long> files) {
+
+		/**
+		 * Returns whether the files written to the given configuration area
+		 * are unchanged since the plan was computed.
+		 */
+		public boolean isCurrent(File configDir) {
+			return files.equals(getFiles(configDir));
+		}
+	}
+
+	/** the files of the workspace plug-ins that launches depend on */
+	private static final String[] PLUGIN_FILES = {ICoreConstants.BUNDLE_FILENAME_DESCRIPTOR, ICoreConstants.PLUGIN_FILENAME_DESCRIPTOR, ICoreConstants.FRAGMENT_FILENAME_DESCRIPTOR, ICoreConstants.BUILD_FILENAME_DESCRIPTOR, ".classpath"}; //$NON-NLS-1$
+
+	private static final String VARIABLE_START = "${"; //$NON-NLS-1$
+
+	private static final String PROMPT_SUFFIX = "_prompt"; //$NON-NLS-1$
+
+	private static final Map<ILaunchConfiguration, LaunchPlan> fgPlans = new WeakHashMap<>();
+
+	private LaunchPlanCache() { // static use only
+	}
+
+	/**
+	 * Returns the fingerprint of the inputs of a launch of the given
+	 * configuration, or <code>null</code> if the launch cannot be reused
+	 * because an attribute prompts for a value or cannot be resolved.
+	 */
+	public static String computeFingerprint(ILaunchConfiguration configuration) throws CoreException {
+		Map<String, String> entries = new TreeMap<>();
+		IStringVariableManager manager = VariablesPlugin.getDefault().getStringVariableManager();
+		for (Map.Entry<String, Object> attribute : configuration.getAttributes().entrySet()) {
+			String value = String.valueOf(attribute.getValue());
+			if (value.contains(VARIABLE_START)) {
+				if (referencesPromptVariable(value, manager)) {
+					return null;
+				}
+				try {
+					value = manager.performStringSubstitution(value, false);
+				} catch (CoreException e) {
+					return null;
+				}
+			}
+			entries.put("attribute:" + attribute.getKey(), value); //$NON-NLS-1$
+		}
+		entries.put("models", Integer.toString(BundleMapCache.getGeneration())); //$NON-NLS-1$
+		State state = TargetPlatformHelper.getState();
+		entries.put("target", System.identityHashCode(state) + ":" + state.getTimeStamp()); //$NON-NLS-1$ //$NON-NLS-2$
+		entries.put("platform", TargetPlatform.getOS() + '.' + TargetPlatform.getWS() + '.' + TargetPlatform.getOSArch() + '.' + TargetPlatform.getNL()); //$NON-NLS-1$
+		for (IPluginModelBase model : PluginRegistry.getWorkspaceModels()) {
+			IResource resource = model.getUnderlyingResource();
+			if (resource == null) {
+				continue;
+			}
+			IProject project = resource.getProject();
+			StringBuilder stamps = new StringBuilder();
+			for (String file : PLUGIN_FILES) {
+				stamps.append(project.getFile(file).getModificationStamp()).append(',');
+			}
+			entries.put("project:" + project.getName(), stamps.toString()); //$NON-NLS-1$
+		}
+		IVMInstall vm = VMHelper.getVMInstall(configuration);
+		entries.put("vm", vm.getId() + ':' + vm.getInstallLocation()); //$NON-NLS-1$
+
+		MessageDigest digest = newDigest();
+		for (Map.Entry<String, String> entry : entries.entrySet()) {
+			digest.update(entry.getKey().getBytes(StandardCharsets.UTF_8));
+			digest.update((byte) '=');
+			digest.update(entry.getValue().getBytes(StandardCharsets.UTF_8));
+			digest.update((byte) '\n');
+		}
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	/**
+	 * Returns whether the given expression references a variable that prompts
+	 * for its value when it is resolved. The prompting variables of the debug
+	 * platform are dynamic variables named <code>*_prompt</code>.
+	 */
+	private static boolean referencesPromptVariable(String expression, IStringVariableManager manager) {
+		for (String name : getReferencedVariables(expression)) {
+			if (name.endsWith(PROMPT_SUFFIX) && manager.getDynamicVariable(name) != null) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the names of the variables referenced by the given expression,
+	 * including those nested in the arguments of other references.
+	 */
+	static Set<String> getReferencedVariables(String expression) {
+		Set<String> names = new HashSet<>();
+		int start = expression.indexOf(VARIABLE_START);
+		while (start != -1) {
+			int end = start + VARIABLE_START.length();
+			// a name ends with the argument, the reference or a nested reference
+			while (end < expression.length() && ":}$".indexOf(expression.charAt(end)) == -1) { //$NON-NLS-1$
+				end++;
+			}
+			names.add(expression.substring(start + VARIABLE_START.length(), end));
+			start = expression.indexOf(VARIABLE_START, end);
+		}
+		return names;
+	}
+
+	/**
+	 * Returns the plan the given configuration was last launched with if its
+	 * fingerprint is the given one, otherwise <code>null</code>.
+	 */
+	public static synchronized LaunchPlan getPlan(ILaunchConfiguration configuration, String fingerprint) {
+		LaunchPlan plan = fgPlans.get(configuration);
+		return plan != null && plan.fingerprint().equals(fingerprint) ? plan : null;
+	}
+
+	/**
+	 * Remembers the plan of a launch of the given configuration. The files
+	 * currently in the configuration area are recorded with it.
+	 */
+	public static void setPlan(ILaunchConfiguration configuration, String fingerprint, String[] classpath, String[] vmArguments, String[] programArguments, File configDir) {
+		LaunchPlan plan = new LaunchPlan(fingerprint, classpath, vmArguments, programArguments, getFiles(configDir));
+		synchronized (LaunchPlanCache.class) {
+			fgPlans.put(configuration, plan);
+		}
+	}
+
+	/**
+	 * Returns the modification times of the files directly in the given
+	 * configuration area. The framework only writes to sub folders.
+	 */
+	static Map<String, Long> getFiles(File configDir) {
+		Map<String, Long> files = new HashMap<>();
+		File[] children = configDir.listFiles();
+		if (children != null) {
+			for (File child : children) {
+				if (child.isFile()) {
+					files.put(child.getName(), child.lastModified());
+				}
+			}
+		}
+		return files;
+	}
+
+	static synchronized void invalidate(ILaunchConfiguration configuration) {
+		fgPlans.remove(configuration);
+	}
+
+	public static synchronized void clear() {
+		fgPlans.clear();
+	}
+
+	private static MessageDigest newDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
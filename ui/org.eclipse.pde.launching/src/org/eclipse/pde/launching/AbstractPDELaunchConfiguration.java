@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2005, 2022 IBM Corporation and others.
+ *  Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -56,6 +56,8 @@ import org.eclipse.pde.internal.launching.launcher.BundleLauncherHelper;
 import org.eclipse.pde.internal.launching.launcher.EclipsePluginValidationOperation;
 import org.eclipse.pde.internal.launching.launcher.LaunchArgumentsHelper;
 import org.eclipse.pde.internal.launching.launcher.LaunchConfigurationHelper;
+import org.eclipse.pde.internal.launching.launcher.LaunchPlanCache;
+import org.eclipse.pde.internal.launching.launcher.LaunchPlanCache.LaunchPlan;
 import org.eclipse.pde.internal.launching.launcher.LaunchPluginValidator;
 import org.eclipse.pde.internal.launching.launcher.LauncherUtils;
 import org.eclipse.pde.internal.launching.launcher.VMHelper;
@@ -89,6 +91,18 @@ public abstract class AbstractPDELaunchConfiguration extends LaunchConfiguration
 
 	private static final String PDE_LAUNCH_SHOW_COMMAND = "pde.launch.showcommandline"; //$NON-NLS-1$
 
+	/**
+	 * The fingerprint of the current launch, <code>null</code> if its
+	 * arguments are not remembered
+	 */
+	private String fLaunchFingerprint;
+
+	/**
+	 * The arguments of the previous launch if they can be reused,
+	 * otherwise <code>null</code>
+	 */
+	private LaunchPlan fLaunchPlan;
+
 	@Override
 	protected boolean isLaunchProblem(IMarker problemMarker) throws CoreException {
 		return super.isLaunchProblem(problemMarker) && (problemMarker.isSubtypeOf(IJavaModelMarker.JAVA_MODEL_PROBLEM_MARKER) || problemMarker.isSubtypeOf(PDEMarkerFactory.MARKER_ID));
@@ -146,11 +160,27 @@ public abstract class AbstractPDELaunchConfiguration extends LaunchConfiguration
 			throw e;
 		}
 
-		VMRunnerConfiguration runnerConfig = new VMRunnerConfiguration(getMainClass(), getClasspath(configuration));
-		IVMInstall launcher = VMHelper.createLauncher(configuration);
-		boolean isModular = JavaRuntime.isModularJava(launcher);
-		runnerConfig.setVMArguments(updateVMArgumentWithAdditionalArguments(getVMArguments(configuration), isModular, configuration));
-		runnerConfig.setProgramArguments(getProgramArguments(configuration));
+		String[] classpath;
+		String[] vmArguments;
+		String[] programArguments;
+		if (fLaunchPlan != null) {
+			// nothing the arguments depend on changed since the last launch
+			classpath = fLaunchPlan.classpath().clone();
+			vmArguments = fLaunchPlan.vmArguments().clone();
+			programArguments = fLaunchPlan.programArguments().clone();
+		} else {
+			classpath = getClasspath(configuration);
+			IVMInstall launcher = VMHelper.createLauncher(configuration);
+			boolean isModular = JavaRuntime.isModularJava(launcher);
+			vmArguments = updateVMArgumentWithAdditionalArguments(getVMArguments(configuration), isModular, configuration);
+			programArguments = getProgramArguments(configuration);
+			if (fLaunchFingerprint != null) {
+				LaunchPlanCache.setPlan(configuration, fLaunchFingerprint, classpath.clone(), vmArguments.clone(), programArguments.clone(), getConfigDir(configuration));
+			}
+		}
+		VMRunnerConfiguration runnerConfig = new VMRunnerConfiguration(getMainClass(), classpath);
+		runnerConfig.setVMArguments(vmArguments);
+		runnerConfig.setProgramArguments(programArguments);
 		runnerConfig.setWorkingDirectory(getWorkingDirectory(configuration).getAbsolutePath());
 		runnerConfig.setEnvironment(getEnvironment(configuration));
 		runnerConfig.setVMSpecificAttributesMap(getVMSpecificAttributesMap(configuration));
@@ -434,18 +464,54 @@ public abstract class AbstractPDELaunchConfiguration extends LaunchConfiguration
 		if (attribute != null) {
 			isShowCommand = attribute.equals("true"); //$NON-NLS-1$
 		}
+		fLaunchFingerprint = null;
+		fLaunchPlan = null;
+		if (!isShowCommand && reusesLaunchArguments()) {
+			fLaunchFingerprint = LaunchPlanCache.computeFingerprint(configuration);
+			if (fLaunchFingerprint != null) {
+				fLaunchPlan = LaunchPlanCache.getPlan(configuration, fLaunchFingerprint);
+			}
+		}
 		boolean autoValidate = configuration.getAttribute(IPDELauncherConstants.AUTOMATIC_VALIDATE, false);
 		SubMonitor subMonitor = SubMonitor.convert(monitor, autoValidate ? 30 : 40);
 		if (!isShowCommand) {
 			if (autoValidate) {
 				validatePluginDependencies(configuration, subMonitor.split(10));
 			}
-			validateProjectDependencies(configuration, subMonitor.split(10));
+			SubMonitor validateMonitor = subMonitor.split(10);
+			if (fLaunchPlan == null) {
+				validateProjectDependencies(configuration, validateMonitor);
+			}
 			clear(configuration, subMonitor.split(10));
 		}
 		launch.setAttribute(PDE_LAUNCH_SHOW_COMMAND, "false"); //$NON-NLS-1$
 		launch.setAttribute(IPDELauncherConstants.CONFIG_LOCATION, getConfigDir(configuration).toString());
-		synchronizeManifests(configuration, subMonitor.split(10));
+		if (fLaunchPlan != null && !fLaunchPlan.isCurrent(getConfigDir(configuration))) {
+			// the configuration area was cleared or modified
+			fLaunchPlan = null;
+		}
+		SubMonitor synchronizeMonitor = subMonitor.split(10);
+		if (fLaunchPlan == null) {
+			synchronizeManifests(configuration, synchronizeMonitor);
+		}
+	}
+
+	/**
+	 * Returns whether the classpath and the arguments of a launch may be reused
+	 * by the next launch of the same configuration, as long as the attributes of
+	 * the configuration, the plug-in models, the target platform, the files of
+	 * the workspace plug-ins, the VM and the files in the configuration area are
+	 * unchanged. Subclasses that compute the classpath or the arguments from
+	 * other inputs must return <code>false</code>.
+	 * <p>
+	 * By default, this method returns <code>false</code>.
+	 * </p>
+	 *
+	 * @return whether the classpath and the arguments of a launch may be reused
+	 * @since 3.14
+	 */
+	protected boolean reusesLaunchArguments() {
+		return false;
 	}
 
 	/**
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2022 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -190,6 +190,19 @@ public class EquinoxLaunchConfiguration extends AbstractPDELaunchConfiguration {
 		super.preLaunchCheck(configuration, launch, monitor);
 	}
 
+	/**
+	 * Returns <code>true</code> for this class, the classpath and the arguments
+	 * of its launches only depend on the inputs the launch is reused for.
+	 * Subclasses may compute them from other inputs and must opt in
+	 * themselves.
+	 *
+	 * @return whether this is exactly this class
+	 */
+	@Override
+	protected boolean reusesLaunchArguments() {
+		return getClass() == EquinoxLaunchConfiguration.class;
+	}
+
 	@Override
 	protected void validatePluginDependencies(ILaunchConfiguration configuration, IProgressMonitor monitor) throws CoreException {
 		LaunchValidationOperation op = new LaunchValidationOperation(configuration, fModels.keySet(), launchMode);
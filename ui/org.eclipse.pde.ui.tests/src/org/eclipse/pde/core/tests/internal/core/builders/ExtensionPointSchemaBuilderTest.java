@@ -0,0 +1,175 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal.core.builders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IncrementalProjectBuilder;
+import org.eclipse.core.resources.ProjectScope;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.preferences.IEclipsePreferences;
+import org.eclipse.pde.internal.core.builders.CompilerFlags;
+import org.eclipse.pde.internal.core.natures.BaseProject;
+import org.eclipse.pde.ui.tests.util.ProjectUtils;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+
+/**
+ * Tests that the schema builder generates the documentation of a schema again
+ * when a schema it includes changes.
+ */
+public class ExtensionPointSchemaBuilderTest {
+
+	@ClassRule
+	public static final TestRule CLEAR_WORKSPACE = ProjectUtils.DELETE_ALL_WORKSPACE_PROJECTS_BEFORE_AND_AFTER;
+
+	@Test
+	public void testIncludedSchemaChanged() throws Exception {
+		IProject project = createProject("schemaIncludes");
+		IFile included = createSchema(project, "included", null, "first version");
+		createSchema(project, "including", "included.exsd", "including");
+		build(project, IncrementalProjectBuilder.FULL_BUILD);
+		assertThat(getDoc(project, "including")).contains("first version");
+
+		setDescription(included, "included", "second version");
+		build(project, IncrementalProjectBuilder.INCREMENTAL_BUILD);
+		assertThat(getDoc(project, "included")).contains("second version");
+		assertThat(getDoc(project, "including")).contains("second version").doesNotContain("first version");
+	}
+
+	@Test
+	public void testTransitivelyIncludedSchemaChanged() throws Exception {
+		IProject project = createProject("schemaTransitive");
+		IFile included = createSchema(project, "base", null, "first version");
+		createSchema(project, "middle", "base.exsd", "middle");
+		createSchema(project, "top", "middle.exsd", "top");
+		build(project, IncrementalProjectBuilder.FULL_BUILD);
+		long top = getDocFile(project, "top").getModificationStamp();
+
+		setDescription(included, "base", "second version");
+		build(project, IncrementalProjectBuilder.INCREMENTAL_BUILD);
+		assertThat(getDoc(project, "middle")).contains("second version");
+		// top only shows the description of middle, but is compiled again
+		assertThat(getDocFile(project, "top").getModificationStamp()).isNotEqualTo(top);
+	}
+
+	@Test
+	public void testIncludedSchemaOfOtherProjectChanged() throws Exception {
+		IProject includedProject = createProject("schemaIncluded");
+		IFile included = createSchema(includedProject, "included", null, "first version");
+		IProject project = createProject("schemaIncluding");
+		createSchema(project, "including", "../../schemaIncluded/schema/included.exsd", "including");
+		build(includedProject, IncrementalProjectBuilder.FULL_BUILD);
+		build(project, IncrementalProjectBuilder.FULL_BUILD);
+		assertThat(getDoc(project, "including")).contains("first version");
+
+		setDescription(included, "included", "second version");
+		ResourcesPlugin.getWorkspace().build(IncrementalProjectBuilder.INCREMENTAL_BUILD, null);
+		assertThat(getDoc(project, "including")).contains("second version");
+	}
+
+	@Test
+	public void testIncludedSchemaRemoved() throws Exception {
+		IProject project = createProject("schemaRemoved");
+		IFile included = createSchema(project, "included", null, "included");
+		createSchema(project, "including", "included.exsd", "including");
+		build(project, IncrementalProjectBuilder.FULL_BUILD);
+		long including = getDocFile(project, "including").getModificationStamp();
+
+		included.delete(true, null);
+		build(project, IncrementalProjectBuilder.INCREMENTAL_BUILD);
+		assertThat(getDocFile(project, "included").exists()).isFalse();
+		assertThat(getDocFile(project, "including").getModificationStamp()).isNotEqualTo(including);
+	}
+
+	@Test
+	public void testUnrelatedSchemaNotCompiled() throws Exception {
+		IProject project = createProject("schemaUnrelated");
+		IFile changed = createSchema(project, "changed", null, "first version");
+		createSchema(project, "unrelated", null, "unrelated");
+		build(project, IncrementalProjectBuilder.FULL_BUILD);
+		long unrelated = getDocFile(project, "unrelated").getModificationStamp();
+
+		setDescription(changed, "changed", "second version");
+		build(project, IncrementalProjectBuilder.INCREMENTAL_BUILD);
+		assertThat(getDoc(project, "changed")).contains("second version");
+		assertThat(getDocFile(project, "unrelated").getModificationStamp()).isEqualTo(unrelated);
+	}
+
+	private static IProject createProject(String name) throws Exception {
+		IProject project = ProjectUtils.createPluginProject(name, null).getProject();
+		IEclipsePreferences preferences = new ProjectScope(project).getNode(BaseProject.PDE_PLUGIN_ID);
+		preferences.putBoolean(CompilerFlags.S_CREATE_DOCS, true);
+		preferences.flush();
+		project.getFolder("schema").create(true, true, null);
+		return project;
+	}
+
+	private static IFile createSchema(IProject project, String id, String include, String description)
+			throws CoreException {
+		IFile file = project.getFolder("schema").getFile(id + ".exsd");
+		file.create(toStream(getSchema(id, include, description)), true, null);
+		return file;
+	}
+
+	private static void setDescription(IFile file, String id, String description) throws CoreException {
+		file.setContents(toStream(getSchema(id, null, description)), true, false, null);
+	}
+
+	private static String getSchema(String id, String include, String description) {
+		return "<?xml version='1.0' encoding='UTF-8'?>\n" //
+				+ "<schema targetNamespace=\"test\">\n" //
+				+ "<annotation>\n" //
+				+ "<appInfo><meta.schema plugin=\"test\" id=\"" + id + "\" name=\"" + id + "\"/></appInfo>\n" //
+				+ "<documentation>" + description + "</documentation>\n" //
+				+ "</annotation>\n" //
+				+ (include != null ? "<include schemaLocation=\"" + include + "\"/>\n" : "") //
+				+ "<element name=\"" + id + "Element\">\n" //
+				+ "<complexType><attribute name=\"id\" type=\"string\"/></complexType>\n" //
+				+ "</element>\n" //
+				+ "</schema>\n";
+	}
+
+	private static InputStream toStream(String content) {
+		return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static void build(IProject project, int kind) throws Exception {
+		Job.getJobManager().join(ResourcesPlugin.FAMILY_AUTO_BUILD, null);
+		project.build(kind, null);
+	}
+
+	private static IFile getDocFile(IProject project, String id) {
+		IFolder folder = project.getFolder("doc");
+		return folder.getFile(project.getName() + "_" + id + ".html");
+	}
+
+	private static String getDoc(IProject project, String id) throws Exception {
+		IFile doc = getDocFile(project, id);
+		assertThat(doc.exists()).as("documentation of " + id).isTrue();
+		try (InputStream input = doc.getContents()) {
+			return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+		}
+	}
+}
@@ -0,0 +1,239 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal.core.builders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IMarkerDelta;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IncrementalProjectBuilder;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.pde.core.IBaseModel;
+import org.eclipse.pde.internal.core.builders.MarkerReconciler;
+import org.eclipse.pde.internal.core.builders.PDEMarkerFactory;
+import org.eclipse.pde.internal.core.ibundle.IBundle;
+import org.eclipse.pde.internal.core.ibundle.IBundlePluginModelBase;
+import org.eclipse.pde.internal.ui.util.ModelModification;
+import org.eclipse.pde.internal.ui.util.PDEModelUtility;
+import org.eclipse.pde.ui.tests.util.ProjectUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.osgi.framework.Constants;
+
+/**
+ * Tests that {@link MarkerReconciler} keeps the markers that are reported
+ * again and only applies the difference, on its own and through the manifest
+ * builder.
+ */
+public class MarkerReconcilerTest {
+
+	@ClassRule
+	public static final TestRule CLEAR_WORKSPACE = ProjectUtils.DELETE_ALL_WORKSPACE_PROJECTS_BEFORE_AND_AFTER;
+
+	private static final String TYPE = PDEMarkerFactory.MARKER_ID;
+
+	private IFile file;
+	private final List<IResourceChangeEvent> events = new ArrayList<>();
+	private final IResourceChangeListener listener = event -> {
+		if (event.findMarkerDeltas(TYPE, true).length > 0) {
+			events.add(event);
+		}
+	};
+
+	@Before
+	public void setUp() throws Exception {
+		IProject project = ResourcesPlugin.getWorkspace().getRoot().getProject(getClass().getSimpleName());
+		if (!project.exists()) {
+			project.create(null);
+		}
+		project.open(null);
+		file = project.getFile("file.txt");
+		if (!file.exists()) {
+			file.create(new ByteArrayInputStream(new byte[0]), true, null);
+		}
+		file.deleteMarkers(TYPE, false, 0);
+		ResourcesPlugin.getWorkspace().addResourceChangeListener(listener, IResourceChangeEvent.POST_CHANGE);
+	}
+
+	@After
+	public void tearDown() {
+		ResourcesPlugin.getWorkspace().removeResourceChangeListener(listener);
+	}
+
+	@Test
+	public void testUnchangedMarkersKept() throws Exception {
+		IMarker first = file.createMarker(TYPE, attributes("first", IMarker.SEVERITY_ERROR));
+		IMarker second = file.createMarker(TYPE, attributes("second", IMarker.SEVERITY_WARNING));
+		events.clear();
+
+		MarkerReconciler reconciler = reconcile();
+		reconciler.report(file, TYPE, attributes("second", IMarker.SEVERITY_WARNING));
+		reconciler.report(file, TYPE, attributes("first", IMarker.SEVERITY_ERROR));
+		assertThat(reconciler.getAddedCount()).isZero();
+		assertThat(reconciler.getRemovedCount()).isZero();
+		reconciler.apply();
+
+		assertThat(getMarkers()).containsExactlyInAnyOrder(first, second);
+		assertThat(first.getAttributes()).isEqualTo(attributes("first", IMarker.SEVERITY_ERROR));
+		assertThat(second.getAttributes()).isEqualTo(attributes("second", IMarker.SEVERITY_WARNING));
+		assertThat(events).isEmpty();
+	}
+
+	@Test
+	public void testChangedMarkerReplaced() throws Exception {
+		IMarker kept = file.createMarker(TYPE, attributes("kept", IMarker.SEVERITY_ERROR));
+		IMarker changed = file.createMarker(TYPE, attributes("changed", IMarker.SEVERITY_WARNING));
+		events.clear();
+
+		MarkerReconciler reconciler = reconcile();
+		reconciler.report(file, TYPE, attributes("kept", IMarker.SEVERITY_ERROR));
+		reconciler.report(file, TYPE, attributes("changed", IMarker.SEVERITY_ERROR));
+		assertThat(reconciler.getAddedCount()).isEqualTo(1);
+		assertThat(reconciler.getRemovedCount()).isEqualTo(1);
+		reconciler.apply();
+
+		assertThat(changed.exists()).isFalse();
+		List<IMarker> markers = getMarkers();
+		assertThat(markers).hasSize(2).contains(kept);
+		markers.remove(kept);
+		assertThat(markers.get(0).getAttributes()).isEqualTo(attributes("changed", IMarker.SEVERITY_ERROR));
+		// the deletion and the creation are one change
+		assertThat(events).hasSize(1);
+		assertThat(events.get(0).findMarkerDeltas(TYPE, true)).extracting(IMarkerDelta::getKind)
+				.containsExactlyInAnyOrder(IMarkerDelta.REMOVED, IMarkerDelta.ADDED);
+	}
+
+	@Test
+	public void testRemovedMarkerDeleted() throws Exception {
+		IMarker kept = file.createMarker(TYPE, attributes("kept", IMarker.SEVERITY_ERROR));
+		IMarker removed = file.createMarker(TYPE, attributes("removed", IMarker.SEVERITY_ERROR));
+
+		MarkerReconciler reconciler = reconcile();
+		reconciler.report(file, TYPE, attributes("kept", IMarker.SEVERITY_ERROR));
+		assertThat(reconciler.getAddedCount()).isZero();
+		assertThat(reconciler.getRemovedCount()).isEqualTo(1);
+		reconciler.apply();
+
+		assertThat(removed.exists()).isFalse();
+		assertThat(getMarkers()).containsExactly(kept);
+	}
+
+	@Test
+	public void testDuplicateMarkers() throws Exception {
+		file.createMarker(TYPE, attributes("duplicate", IMarker.SEVERITY_ERROR));
+		file.createMarker(TYPE, attributes("duplicate", IMarker.SEVERITY_ERROR));
+
+		MarkerReconciler reconciler = reconcile();
+		reconciler.report(file, TYPE, attributes("duplicate", IMarker.SEVERITY_ERROR));
+		reconciler.apply();
+		assertThat(getMarkers()).hasSize(1);
+
+		reconciler = reconcile();
+		reconciler.report(file, TYPE, attributes("duplicate", IMarker.SEVERITY_ERROR));
+		reconciler.report(file, TYPE, attributes("duplicate", IMarker.SEVERITY_ERROR));
+		assertThat(reconciler.getAddedCount()).isEqualTo(1);
+		reconciler.apply();
+		assertThat(getMarkers()).hasSize(2);
+	}
+
+	@Test
+	public void testNullAttributesIgnored() throws Exception {
+		IMarker marker = file.createMarker(TYPE, attributes("null", IMarker.SEVERITY_ERROR));
+
+		Map<String, Object> attributes = attributes("null", IMarker.SEVERITY_ERROR);
+		attributes.put(IMarker.LOCATION, null);
+		MarkerReconciler reconciler = reconcile();
+		reconciler.report(file, TYPE, attributes);
+		reconciler.apply();
+		assertThat(getMarkers()).containsExactly(marker);
+	}
+
+	@Test
+	public void testBuilderKeepsUnchangedMarkers() throws Exception {
+		IProject project = ProjectUtils.createPluginProject("markers.builder", null).getProject();
+		IFile manifest = project.getFile("META-INF/MANIFEST.MF");
+		setImportPackage(manifest, "missing.first");
+		List<IMarker> markers = getErrors(manifest);
+		assertThat(markers).hasSize(1);
+		IMarker first = markers.get(0);
+		Map<String, Object> attributes = first.getAttributes();
+		long creationTime = first.getCreationTime();
+
+		// nothing changed, the marker is left untouched
+		assertThat(getErrors(manifest)).containsExactly(first);
+		assertThat(first.getAttributes()).isEqualTo(attributes);
+		assertThat(first.getCreationTime()).isEqualTo(creationTime);
+
+		setImportPackage(manifest, "missing.second");
+		markers = getErrors(manifest);
+		assertThat(first.exists()).isFalse();
+		assertThat(markers).hasSize(1);
+		assertThat(markers.get(0).getAttribute(IMarker.MESSAGE, "")).contains("missing.second");
+
+		setImportPackage(manifest, null);
+		assertThat(getErrors(manifest)).isEmpty();
+	}
+
+	private MarkerReconciler reconcile() throws CoreException {
+		MarkerReconciler reconciler = new MarkerReconciler();
+		reconciler.addExisting(file.findMarkers(TYPE, false, 0));
+		return reconciler;
+	}
+
+	private List<IMarker> getMarkers() throws CoreException {
+		return new ArrayList<>(Arrays.asList(file.findMarkers(TYPE, false, 0)));
+	}
+
+	private static Map<String, Object> attributes(String message, int severity) {
+		Map<String, Object> attributes = new HashMap<>();
+		attributes.put(IMarker.MESSAGE, message);
+		attributes.put(IMarker.SEVERITY, severity);
+		attributes.put(IMarker.LINE_NUMBER, 1);
+		return attributes;
+	}
+
+	private static void setImportPackage(IFile manifest, String value) throws CoreException {
+		PDEModelUtility.modifyModel(new ModelModification(manifest) {
+			@Override
+			protected void modifyModel(IBaseModel model, IProgressMonitor monitor) throws CoreException {
+				IBundle bundle = ((IBundlePluginModelBase) model).getBundleModel().getBundle();
+				bundle.setHeader(Constants.IMPORT_PACKAGE, value);
+			}
+		}, null);
+	}
+
+	private static List<IMarker> getErrors(IFile manifest) throws Exception {
+		Job.getJobManager().join(ResourcesPlugin.FAMILY_AUTO_BUILD, null);
+		manifest.getProject().build(IncrementalProjectBuilder.FULL_BUILD, null);
+		return Arrays.stream(manifest.findMarkers(TYPE, false, 0))
+				.filter(m -> m.getAttribute(IMarker.SEVERITY, -1) == IMarker.SEVERITY_ERROR).toList();
+	}
+}
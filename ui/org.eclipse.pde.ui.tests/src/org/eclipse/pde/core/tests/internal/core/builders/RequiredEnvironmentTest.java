@@ -0,0 +1,156 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal.core.builders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IncrementalProjectBuilder;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.pde.core.project.IBundleProjectDescription;
+import org.eclipse.pde.core.project.IBundleProjectService;
+import org.eclipse.pde.core.project.IRequiredBundleDescription;
+import org.eclipse.pde.internal.core.builders.PDEMarkerFactory;
+import org.eclipse.pde.ui.tests.project.ProjectCreationTests;
+import org.eclipse.pde.ui.tests.util.ProjectUtils;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.osgi.framework.VersionRange;
+
+/**
+ * Tests the markers of plug-ins whose execution environment is lower than the
+ * one of their required plug-ins, and that they follow changes of the target
+ * state.
+ */
+public class RequiredEnvironmentTest {
+
+	@ClassRule
+	public static final TestRule CLEAR_WORKSPACE = ProjectUtils.DELETE_ALL_WORKSPACE_PROJECTS_BEFORE_AND_AFTER;
+
+	@Test
+	public void testTransitiveRequirement() throws Exception {
+		createProject("ee.base", "JavaSE-17");
+		IProject middle = createProject("ee.middle", "JavaSE-11", "ee.base");
+		IProject top = createProject("ee.top", "JavaSE-1.8", "ee.middle");
+
+		assertThat(getRequiredEnvironments(middle)).containsExactly("JavaSE-17");
+		List<IMarker> markers = getTooLowMarkers(top);
+		assertThat(markers).hasSize(1);
+		assertThat(markers.get(0).getAttribute(PDEMarkerFactory.REQUIRED_EXEC_ENV, null)).isEqualTo("JavaSE-17");
+		assertThat(markers.get(0).getAttribute(IMarker.MESSAGE, "")).contains("ee.base");
+	}
+
+	@Test
+	public void testRequirementChanged() throws Exception {
+		IProject base = createProject("ee.changed.base", "JavaSE-17");
+		IProject middle = createProject("ee.changed.middle", "JavaSE-11", "ee.changed.base");
+		IProject top = createProject("ee.changed.top", "JavaSE-1.8", "ee.changed.middle");
+		assertThat(getRequiredEnvironments(top)).containsExactly("JavaSE-17");
+
+		// the results of the previous state must not be used
+		setExecutionEnvironment(base, "JavaSE-1.8");
+		assertThat(getRequiredEnvironments(top)).containsExactly("JavaSE-11");
+		assertThat(getRequiredEnvironments(middle)).isEmpty();
+
+		setExecutionEnvironment(middle, "JavaSE-1.8");
+		assertThat(getRequiredEnvironments(top)).isEmpty();
+
+		setExecutionEnvironment(base, "JavaSE-21");
+		assertThat(getRequiredEnvironments(top)).containsExactly("JavaSE-21");
+	}
+
+	@Test
+	public void testOwnEnvironmentHighEnough() throws Exception {
+		createProject("ee.high.base", "JavaSE-11");
+		IProject project = createProject("ee.high", new String[] { "JavaSE-1.8", "JavaSE-17" }, "ee.high.base");
+		assertThat(getRequiredEnvironments(project)).isEmpty();
+	}
+
+	@Test
+	public void testEnvironmentNamesOrdered() throws Exception {
+		createProject("ee.names.base", "J2SE-1.5");
+		IProject low = createProject("ee.names.low", "OSGi/Minimum-1.2", "ee.names.base");
+		IProject high = createProject("ee.names.high", "JavaSE-1.6", "ee.names.base");
+		assertThat(getRequiredEnvironments(low)).containsExactly("J2SE-1.5");
+		assertThat(getRequiredEnvironments(high)).isEmpty();
+	}
+
+	@Test
+	public void testOptionalRequirementIgnored() throws Exception {
+		createProject("ee.optional.base", "JavaSE-17");
+		IProject project = ProjectUtils.createPluginProject("ee.optional", "ee.optional", "1.0.0", (d, s) -> {
+			d.setExecutionEnvironments(new String[] { "JavaSE-1.8" });
+			d.setRequiredBundles(new IRequiredBundleDescription[] {
+					s.newRequiredBundle("ee.optional.base", (VersionRange) null, true, false) });
+		});
+		assertThat(getRequiredEnvironments(project)).isEmpty();
+	}
+
+	@Test
+	public void testCycle() throws Exception {
+		IProject a = createProject("ee.cycle.a", "JavaSE-1.8", "ee.cycle.b");
+		IProject b = createProject("ee.cycle.b", "JavaSE-17", "ee.cycle.a");
+		assertThat(getRequiredEnvironments(a)).containsExactly("JavaSE-17");
+		assertThat(getRequiredEnvironments(b)).isEmpty();
+	}
+
+	private static IProject createProject(String name, String executionEnvironment, String... requiredBundles)
+			throws CoreException {
+		return createProject(name, new String[] { executionEnvironment }, requiredBundles);
+	}
+
+	private static IProject createProject(String name, String[] executionEnvironments, String... requiredBundles)
+			throws CoreException {
+		return ProjectUtils.createPluginProject(name, name, "1.0.0", (d, s) -> {
+			d.setExecutionEnvironments(executionEnvironments);
+			IRequiredBundleDescription[] required = new IRequiredBundleDescription[requiredBundles.length];
+			for (int i = 0; i < requiredBundles.length; i++) {
+				required[i] = s.newRequiredBundle(requiredBundles[i], (VersionRange) null, false, false);
+			}
+			d.setRequiredBundles(required);
+		});
+	}
+
+	private static void setExecutionEnvironment(IProject project, String executionEnvironment) throws CoreException {
+		IBundleProjectService service = ProjectCreationTests.getBundleProjectService();
+		IBundleProjectDescription description = service.getDescription(project);
+		description.setExecutionEnvironments(new String[] { executionEnvironment });
+		description.apply(null);
+	}
+
+	private static void build(IProject project) throws Exception {
+		Job.getJobManager().join(ResourcesPlugin.FAMILY_AUTO_BUILD, null);
+		project.build(IncrementalProjectBuilder.FULL_BUILD, null);
+	}
+
+	private static List<IMarker> getTooLowMarkers(IProject project) throws Exception {
+		build(project);
+		IMarker[] markers = project.getFile("META-INF/MANIFEST.MF").findMarkers(PDEMarkerFactory.MARKER_ID, false, 0);
+		return Arrays.stream(markers)
+				.filter(m -> m.getAttribute(PDEMarkerFactory.PROBLEM_ID, 0) == PDEMarkerFactory.M_EXEC_ENV_TOO_LOW)
+				.toList();
+	}
+
+	private static List<String> getRequiredEnvironments(IProject project) throws Exception {
+		return getTooLowMarkers(project).stream()
+				.map(m -> m.getAttribute(PDEMarkerFactory.REQUIRED_EXEC_ENV, null)).toList();
+	}
+}
@@ -0,0 +1,175 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse contributors and others.
+ *
+ *  This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal.exports;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IncrementalProjectBuilder;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.pde.core.plugin.PluginRegistry;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.exports.WorkspaceExportHelper;
+import org.eclipse.pde.internal.core.project.PDEProject;
+import org.eclipse.pde.ui.tests.runtime.TestUtils;
+import org.eclipse.pde.ui.tests.util.ProjectUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+
+/**
+ * Tests that {@link WorkspaceExportHelper#buildChangedBeforeExport} only
+ * builds the exported projects that changed since they were last built.
+ */
+public class WorkspaceExportHelperTest {
+
+	@ClassRule
+	public static final TestRule CLEAR_WORKSPACE = ProjectUtils.DELETE_ALL_WORKSPACE_PROJECTS_BEFORE_AND_AFTER;
+
+	private static IProject a;
+	private static IProject b;
+
+	private final Set<IProject> built = ConcurrentHashMap.newKeySet();
+	private final IResourceChangeListener buildListener = event -> {
+		if (event.getSource() instanceof IProject project) {
+			built.add(project);
+		}
+	};
+
+	@BeforeClass
+	public static void setupProjects() throws Exception {
+		a = ProjectUtils.createPluginProject("fingerprint.a", null).getProject();
+		b = ProjectUtils.createPluginProject("fingerprint.b", null).getProject();
+		IFile manifest = PDEProject.getManifest(b);
+		String content = new String(manifest.getContents().readAllBytes(), StandardCharsets.UTF_8);
+		setContents(manifest, content.stripTrailing() + "\nRequire-Bundle: fingerprint.a\n");
+		build();
+	}
+
+	@Before
+	public void setUp() throws Exception {
+		Files.deleteIfExists(getFingerprintsFile());
+		ResourcesPlugin.getWorkspace().addResourceChangeListener(buildListener, IResourceChangeEvent.PRE_BUILD);
+	}
+
+	@After
+	public void tearDown() {
+		ResourcesPlugin.getWorkspace().removeResourceChangeListener(buildListener);
+	}
+
+	private static Path getFingerprintsFile() {
+		return PDECore.getDefault().getStateLocation().append("exportFingerprints.properties").toFile().toPath();
+	}
+
+	private static void setContents(IFile file, String content) throws CoreException {
+		file.setContents(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), true, false, null);
+	}
+
+	private static void touch(IProject project) throws Exception {
+		IFile file = project.getFile("src/" + project.getName().replace('.', '/') + "/Activator.java");
+		String content = new String(file.getContents().readAllBytes(), StandardCharsets.UTF_8);
+		setContents(file, content + "\n");
+		build();
+	}
+
+	private static void build() throws Exception {
+		ResourcesPlugin.getWorkspace().build(IncrementalProjectBuilder.INCREMENTAL_BUILD, null);
+		Job.getJobManager().join(ResourcesPlugin.FAMILY_AUTO_BUILD, null);
+		TestUtils.waitForJobs("WorkspaceExportHelperTest", 100, 10000);
+	}
+
+	/**
+	 * Exports plug-in b and returns the projects whose compiled classes are
+	 * exported.
+	 */
+	private Set<IProject> export() throws CoreException {
+		built.clear();
+		Object[] items = { PluginRegistry.findModel(b) };
+		return new WorkspaceExportHelper().buildChangedBeforeExport(items, null);
+	}
+
+	@Test
+	public void testUnchangedProjectsAreReused() throws Exception {
+		assertEquals(Set.of(a, b), export());
+		assertEquals(Set.of(a, b), built);
+
+		assertEquals(Set.of(a, b), export());
+		assertEquals(Set.of(), built);
+	}
+
+	@Test
+	public void testChangedSourceIsBuilt() throws Exception {
+		export();
+		touch(b);
+
+		assertEquals(Set.of(a, b), export());
+		assertEquals(Set.of(b), built);
+	}
+
+	@Test
+	public void testChangedDependencyIsBuilt() throws Exception {
+		export();
+		touch(a);
+
+		assertEquals(Set.of(a, b), export());
+		assertEquals(Set.of(a, b), built);
+	}
+
+	@Test
+	public void testMissingFingerprintsAreBuilt() throws Exception {
+		export();
+		Files.delete(getFingerprintsFile());
+
+		assertEquals(Set.of(a, b), export());
+		assertEquals(Set.of(a, b), built);
+	}
+
+	@Test
+	public void testCorruptFingerprintsAreBuilt() throws Exception {
+		export();
+		Files.writeString(getFingerprintsFile(), "fingerprint.a=\\uZZZZ\n");
+
+		assertEquals(Set.of(a, b), export());
+		assertEquals(Set.of(a, b), built);
+	}
+
+	@Test
+	public void testProjectWithErrorsIsNotReused() throws Exception {
+		IFile file = b.getFile("src/fingerprint/b/Broken.java");
+		file.create(new ByteArrayInputStream("class Broken {".getBytes(StandardCharsets.UTF_8)), true, null);
+		build();
+		try {
+			assertEquals(Set.of(a), export());
+			assertEquals(Set.of(a, b), built);
+		} finally {
+			file.delete(true, null);
+			build();
+		}
+	}
+}
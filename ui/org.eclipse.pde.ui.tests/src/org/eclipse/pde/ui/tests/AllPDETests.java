@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2023 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,6 +16,10 @@ package org.eclipse.pde.ui.tests;
 import org.eclipse.pde.core.tests.internal.AllPDECoreTests;
 import org.eclipse.pde.core.tests.internal.classpath.ClasspathResolutionTest;
 import org.eclipse.pde.core.tests.internal.core.builders.BundleErrorReporterTest;
+import org.eclipse.pde.core.tests.internal.core.builders.ExtensionPointSchemaBuilderTest;
+import org.eclipse.pde.core.tests.internal.core.builders.MarkerReconcilerTest;
+import org.eclipse.pde.core.tests.internal.core.builders.RequiredEnvironmentTest;
+import org.eclipse.pde.core.tests.internal.exports.WorkspaceExportHelperTest;
 import org.eclipse.pde.core.tests.internal.util.PDESchemaHelperTest;
 import org.eclipse.pde.ui.tests.build.properties.AllValidatorTests;
 import org.eclipse.pde.ui.tests.classpathcontributor.ClasspathContributorTest;
@@ -65,7 +69,11 @@ import org.junit.runners.Suite.SuiteClasses;
 	DynamicPluginProjectReferencesTest.class, //
 	ClasspathResolutionTest.class, //
 	BundleErrorReporterTest.class, //
+	ExtensionPointSchemaBuilderTest.class, //
+	RequiredEnvironmentTest.class, //
+	MarkerReconcilerTest.class, //
 	AllPDECoreTests.class, //
+	WorkspaceExportHelperTest.class, //
 	ProjectSmartImportTest.class, //
 })
 public class AllPDETests {
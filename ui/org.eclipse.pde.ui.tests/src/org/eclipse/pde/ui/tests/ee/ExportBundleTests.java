@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2023 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,12 +15,17 @@ package org.eclipse.pde.ui.tests.ee;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.io.File;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.jar.JarInputStream;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.ResourcesPlugin;
@@ -240,6 +245,115 @@ public class ExportBundleTests extends PDETestCase {
 		}
 	}
 
+	/**
+	 * Exports two plug-in projects for two target configurations with parallel
+	 * assembly and validates that the archives of both configurations contain
+	 * both plug-ins.
+	 */
+	@Test
+	public void testExportParallelAssembly() throws Exception {
+		try {
+			IJavaProject project = ProjectUtils.createPluginProject("parallel.export", null);
+			assertTrue("Project was not created", project.exists());
+			IJavaProject project2 = ProjectUtils.createPluginProject("parallel.export2", null);
+			assertTrue("Project was not created", project2.exists());
+
+			final FeatureExportInfo info = new FeatureExportInfo();
+			info.toDirectory = false;
+			info.useJarFormat = true;
+			info.exportSource = false;
+			info.allowBinaryCycles = false;
+			info.useWorkspaceCompiledClasses = false;
+			info.destinationDirectory = EXPORT_PATH.toString();
+			info.zipFileName = "parallel.zip";
+			info.items = new Object[] { PluginRegistry.findModel(project.getProject()),
+					PluginRegistry.findModel(project2.getProject()) };
+			info.targets = new String[][] { { "win32", "win32", "x86_64", "" }, { "linux", "gtk", "x86_64", "" } };
+			info.qualifier = "vXYZ";
+			info.parallelAssembly = true;
+
+			PluginExportOperation job = new PluginExportOperation(info, "Test-Export");
+			job.schedule();
+			job.join();
+			if (job.hasAntErrors()) {
+				fail("Export job had ant errors");
+			}
+			assertTrue("Export job had errors", job.getResult().isOK());
+
+			TestUtils.processUIEvents(100);
+			TestUtils.waitForJobs(name.getMethodName(), 100, 10000);
+
+			for (String config : new String[] { "win32.win32.x86_64", "linux.gtk.x86_64" }) {
+				Path path = EXPORT_PATH.resolve("parallel." + config + ".zip");
+				assertTrue("Missing archive of " + config, Files.exists(path));
+				try (ZipFile zip = new ZipFile(path.toFile())) {
+					assertNotNull("Missing exported bundle in " + config,
+							zip.getEntry("plugins/parallel.export_1.0.0.jar"));
+					assertNotNull("Missing exported bundle in " + config,
+							zip.getEntry("plugins/parallel.export2_1.0.0.jar"));
+				}
+			}
+		} finally {
+			TestUtils.waitForJobs(name.getMethodName(), 10, 5000);
+			deleteProject("parallel.export");
+			deleteProject("parallel.export2");
+			delete(EXPORT_PATH.toFile());
+		}
+	}
+
+	/**
+	 * Exports a plug-in project to an archive with the jars streamed into the
+	 * archive and validates the exported jar.
+	 */
+	@Test
+	public void testExportStreamedJars() throws Exception {
+		try {
+			IJavaProject project = ProjectUtils.createPluginProject("streamed.export", null);
+			assertTrue("Project was not created", project.exists());
+
+			final FeatureExportInfo info = new FeatureExportInfo();
+			info.toDirectory = false;
+			info.useJarFormat = true;
+			info.exportSource = false;
+			info.allowBinaryCycles = false;
+			info.useWorkspaceCompiledClasses = false;
+			info.destinationDirectory = EXPORT_PATH.toString();
+			info.zipFileName = "streamed.zip";
+			info.items = new Object[] { PluginRegistry.findModel(project.getProject()) };
+			info.qualifier = "vXYZ";
+			info.streamJars = true;
+			info.compressionLevel = Deflater.BEST_COMPRESSION;
+
+			PluginExportOperation job = new PluginExportOperation(info, "Test-Export");
+			job.schedule();
+			job.join();
+			if (job.hasAntErrors()) {
+				fail("Export job had ant errors");
+			}
+			assertTrue("Export job had errors", job.getResult().isOK());
+
+			TestUtils.processUIEvents(100);
+			TestUtils.waitForJobs(name.getMethodName(), 100, 10000);
+
+			Path path = EXPORT_PATH.resolve("streamed.zip");
+			assertTrue("Missing archive", Files.exists(path));
+			try (ZipFile zip = new ZipFile(path.toFile())) {
+				ZipEntry entry = zip.getEntry("plugins/streamed.export_1.0.0.jar");
+				assertNotNull("Missing exported bundle", entry);
+				// written into the archive as it is
+				assertEquals(ZipEntry.STORED, entry.getMethod());
+				try (JarInputStream jar = new JarInputStream(zip.getInputStream(entry))) {
+					assertNotNull("Missing manifest", jar.getManifest());
+					assertEquals("streamed.export", jar.getManifest().getMainAttributes().getValue("Bundle-SymbolicName").split(";")[0].trim());
+				}
+			}
+		} finally {
+			TestUtils.waitForJobs(name.getMethodName(), 10, 5000);
+			deleteProject("streamed.export");
+			delete(EXPORT_PATH.toFile());
+		}
+	}
+
 	private void printContents(File dir) {
 		System.out.println("First 2 levels of: " + dir);
 		File[] children = dir.listFiles();
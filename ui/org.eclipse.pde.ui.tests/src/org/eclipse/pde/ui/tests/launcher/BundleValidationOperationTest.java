@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.launcher;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Dictionary;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.core.plugin.PluginRegistry;
+import org.eclipse.pde.internal.core.BundleValidationOperation;
+import org.eclipse.pde.internal.core.PlatformStateCache;
+import org.eclipse.pde.internal.core.TargetPlatformHelper;
+import org.junit.Test;
+
+public class BundleValidationOperationTest {
+
+	@Test
+	public void testStateFollowsTheSelection() throws Exception {
+		IPluginModelBase osgi = PluginRegistry.findModel("org.eclipse.osgi");
+		IPluginModelBase common = PluginRegistry.findModel("org.eclipse.equinox.common");
+		assertNotNull(osgi);
+		assertNotNull(common);
+
+		Set<IPluginModelBase> models = new HashSet<>();
+		models.add(osgi);
+		BundleValidationOperation operation = validate(models);
+		assertFalse(operation.hasErrors());
+		assertFalse(operation.isEmpty());
+
+		models.add(common);
+		operation = validate(models);
+		assertFalse(operation.hasErrors());
+		assertNotNull(operation.getBundle("org.eclipse.equinox.common"));
+
+		models.remove(common);
+		operation = validate(models);
+		assertFalse(operation.hasErrors());
+		assertNull(operation.getBundle("org.eclipse.equinox.common"));
+		assertNotNull(operation.getBundle("org.eclipse.osgi"));
+	}
+
+	@Test
+	public void testResultsAreNotChangedByLaterValidations() throws Exception {
+		IPluginModelBase osgi = PluginRegistry.findModel("org.eclipse.osgi");
+		IPluginModelBase common = PluginRegistry.findModel("org.eclipse.equinox.common");
+
+		// the framework is missing
+		BundleValidationOperation first = validate(Set.of(common));
+		assertTrue(first.hasErrors());
+		Map<Object, Object[]> errors = first.getResolverErrors();
+		assertEquals(1, errors.size());
+		assertNull(first.getBundle("org.eclipse.osgi"));
+
+		BundleValidationOperation second = validate(Set.of(osgi, common));
+		assertFalse(second.hasErrors());
+		assertNotNull(second.getBundle("org.eclipse.osgi"));
+
+		assertTrue(first.hasErrors());
+		assertEquals(errors.keySet(), first.getResolverErrors().keySet());
+		assertNull(first.getBundle("org.eclipse.osgi"));
+		assertNotNull(first.getBundle("org.eclipse.equinox.common"));
+	}
+
+	@Test
+	public void testEmptyAfterAllBundlesAreRemoved() throws Exception {
+		Set<IPluginModelBase> models = new HashSet<>();
+		models.add(PluginRegistry.findModel("org.eclipse.osgi"));
+		assertFalse(validate(models).isEmpty());
+
+		models.clear();
+		BundleValidationOperation operation = validate(models);
+		assertTrue(operation.isEmpty());
+		assertFalse(operation.hasErrors());
+		assertTrue(operation.getResolverErrors().isEmpty());
+	}
+
+	@Test
+	public void testStatesOfDifferentEnvironmentsAreKeptApart() throws Exception {
+		Set<IPluginModelBase> models = new HashSet<>();
+		models.add(PluginRegistry.findModel("org.eclipse.osgi"));
+		BundleDescription bundle = validate(models).getBundle("org.eclipse.osgi");
+
+		Dictionary<String, String> environment = TargetPlatformHelper.getTargetEnvironment();
+		environment.put("osgi.os", "win32".equals(environment.get("osgi.os")) ? "linux" : "win32");
+		@SuppressWarnings("unchecked")
+		BundleValidationOperation operation = new BundleValidationOperation(new HashSet<>(models), new Dictionary[] { environment });
+		operation.run(new NullProgressMonitor());
+		assertNotSame(bundle, operation.getBundle("org.eclipse.osgi"));
+
+		// the state of the first environment was kept and is reused
+		assertSame(bundle, validate(models).getBundle("org.eclipse.osgi"));
+	}
+
+	@Test
+	public void testStatesAreDroppedWithThePlatformStates() throws Exception {
+		Set<IPluginModelBase> models = Set.of(PluginRegistry.findModel("org.eclipse.osgi"));
+		BundleDescription bundle = validate(models).getBundle("org.eclipse.osgi");
+		assertSame(bundle, validate(models).getBundle("org.eclipse.osgi"));
+
+		// as when the target is reloaded
+		PlatformStateCache.clear();
+		BundleDescription revalidated = validate(models).getBundle("org.eclipse.osgi");
+		assertNotSame(bundle, revalidated);
+		assertEquals(bundle.getVersion(), revalidated.getVersion());
+	}
+
+	private static BundleValidationOperation validate(Set<IPluginModelBase> models) throws Exception {
+		BundleValidationOperation operation = new BundleValidationOperation(new HashSet<>(models));
+		operation.run(new NullProgressMonitor());
+		return operation;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2017 EclipseSource Corporation and others.
+ * Copyright (c) 2009, 2026 EclipseSource Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,11 @@
 package org.eclipse.pde.ui.tests.launcher;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Properties;
 
 import org.eclipse.pde.internal.launching.launcher.LaunchConfigurationHelper;
 import org.junit.Test;
@@ -41,4 +46,33 @@ public class LaunchConfigurationHelperTestCase {
 		assertEquals(LaunchConfigurationHelper.getStartData("default", true), "@start");
 	}
 
+	@Test
+	public void testSaveLeavesUnchangedFileUntouched() throws Exception {
+		File file = Files.createTempFile("config", ".ini").toFile();
+		try {
+			Properties properties = new Properties();
+			properties.setProperty("osgi.bundles", "org.eclipse.equinox.simpleconfigurator@1:start");
+			properties.setProperty("eclipse.product", "org.eclipse.sdk.ide");
+			LaunchConfigurationHelper.save(file, properties);
+			file.setLastModified(1000);
+
+			Properties same = new Properties();
+			same.setProperty("eclipse.product", "org.eclipse.sdk.ide");
+			same.setProperty("osgi.bundles", "org.eclipse.equinox.simpleconfigurator@1:start");
+			LaunchConfigurationHelper.save(file, same);
+			assertEquals(1000, file.lastModified());
+
+			same.setProperty("osgi.bundles.defaultStartLevel", "4");
+			LaunchConfigurationHelper.save(file, same);
+			assertNotEquals(1000, file.lastModified());
+			Properties written = new Properties();
+			try (var stream = Files.newInputStream(file.toPath())) {
+				written.load(stream);
+			}
+			assertEquals(same, written);
+		} finally {
+			file.delete();
+		}
+	}
+
 }
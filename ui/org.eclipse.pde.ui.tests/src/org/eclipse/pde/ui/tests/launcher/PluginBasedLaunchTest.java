@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2021, 2022 Hannes Wellmann and others.
+ *  Copyright (c) 2021, 2026 Hannes Wellmann and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -21,7 +21,13 @@ import static org.eclipse.pde.ui.tests.util.TargetPlatformUtil.bundle;
 import static org.eclipse.pde.ui.tests.util.TargetPlatformUtil.resolution;
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.osgi.framework.Constants.REQUIRE_BUNDLE;
 import static org.osgi.framework.Constants.RESOLUTION_OPTIONAL;
 
@@ -47,10 +53,14 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.ILaunch;
+import org.eclipse.debug.core.ILaunchConfiguration;
 import org.eclipse.debug.core.ILaunchConfigurationType;
 import org.eclipse.debug.core.ILaunchConfigurationWorkingCopy;
 import org.eclipse.debug.core.ILaunchManager;
 import org.eclipse.debug.core.Launch;
+import org.eclipse.jdt.launching.IJavaLaunchConfigurationConstants;
+import org.eclipse.jdt.launching.IVMRunner;
+import org.eclipse.jdt.launching.VMRunnerConfiguration;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
 import org.eclipse.pde.core.target.NameVersionDescriptor;
 import org.eclipse.pde.internal.build.IPDEBuildConstants;
@@ -58,8 +68,11 @@ import org.eclipse.pde.internal.core.DependencyManager;
 import org.eclipse.pde.internal.core.ICoreConstants;
 import org.eclipse.pde.internal.launching.IPDEConstants;
 import org.eclipse.pde.internal.launching.launcher.BundleLauncherHelper;
+import org.eclipse.pde.internal.launching.launcher.LaunchPlanCache;
+import org.eclipse.pde.internal.launching.launcher.LaunchPlanCache.LaunchPlan;
 import org.eclipse.pde.launching.EclipseApplicationLaunchConfiguration;
 import org.eclipse.pde.launching.IPDELauncherConstants;
+import org.eclipse.pde.launching.PDESourcePathProvider;
 import org.eclipse.pde.ui.tests.util.ProjectUtils;
 import org.eclipse.pde.ui.tests.util.TargetPlatformUtil;
 import org.junit.Before;
@@ -105,6 +118,101 @@ public class PluginBasedLaunchTest extends AbstractLaunchTest {
 		assertGetMergedBundleMap(workspacePlugins, targetPlatformBundles, launchConfigSetup, expectedBundleMap);
 	}
 
+	@Test
+	public void testGetMergedBundleMap_reusedUntilConfigurationChanges() throws Exception {
+		var workspacePlugins = ofEntries( //
+				bundle("plugin.a", "1.0.0"), //
+				bundle("plugin.b", "1.0.0"));
+		setUpWorkspace(workspacePlugins, ofEntries());
+
+		ILaunchConfigurationWorkingCopy wc = createPluginLaunchConfig("plugin-based-Eclipse-app");
+		wc.setAttribute(IPDELauncherConstants.SELECTED_WORKSPACE_BUNDLES, Set.of("plugin.a*1.0.0"));
+		IPluginModelBase pluginA = workspaceBundle("plugin.a", "1.0.0").findModel();
+		IPluginModelBase pluginB = workspaceBundle("plugin.b", "1.0.0").findModel();
+
+		Map<IPluginModelBase, String> bundleMap = BundleLauncherHelper.getMergedBundleMap(wc, false);
+		assertEquals(Set.of(pluginA), bundleMap.keySet());
+		bundleMap.clear(); // the cached result must not be affected
+		assertEquals(Set.of(pluginA), BundleLauncherHelper.getMergedBundleMap(wc, false).keySet());
+
+		wc.setAttribute(IPDELauncherConstants.SELECTED_WORKSPACE_BUNDLES, Set.of("plugin.b*1.0.0@4:true"));
+		assertEquals(Map.of(pluginB, "4:true"), BundleLauncherHelper.getMergedBundleMap(wc, false));
+	}
+
+	@Test
+	public void testLaunchPlan_reusedUntilInputsChange() throws Exception {
+		setUpWorkspace(ofEntries(bundle("plugin.a", "1.0.0")), ofEntries());
+
+		ILaunchConfigurationWorkingCopy wc = createPluginLaunchConfig("plugin-based-Eclipse-app");
+		wc.setAttribute(IPDELauncherConstants.SELECTED_WORKSPACE_BUNDLES, Set.of("plugin.a*1.0.0"));
+		String fingerprint = LaunchPlanCache.computeFingerprint(wc);
+		assertEquals(fingerprint, LaunchPlanCache.computeFingerprint(wc));
+
+		Path configDir = Files.createTempDirectory("config");
+		Path configIni = Files.writeString(configDir.resolve("config.ini"), "osgi.bundles=");
+		try {
+			String[] programArguments = { "-dev", "file:dev.properties" };
+			LaunchPlanCache.setPlan(wc, fingerprint, new String[0], new String[0], programArguments,
+					configDir.toFile());
+			LaunchPlan plan = LaunchPlanCache.getPlan(wc, fingerprint);
+			assertArrayEquals(programArguments, plan.programArguments());
+			assertTrue(plan.isCurrent(configDir.toFile()));
+
+			Files.delete(configIni); // e.g. the configuration area was cleared
+			assertFalse(plan.isCurrent(configDir.toFile()));
+		} finally {
+			Files.deleteIfExists(configIni);
+			Files.delete(configDir);
+		}
+
+		wc.setAttribute(IPDELauncherConstants.SELECTED_WORKSPACE_BUNDLES, Set.of("plugin.a*1.0.0@4:true"));
+		String changed = LaunchPlanCache.computeFingerprint(wc);
+		assertNotEquals(fingerprint, changed);
+		assertNull(LaunchPlanCache.getPlan(wc, changed));
+	}
+
+	@Test
+	public void testLaunchPlan_reusedBySecondLaunch() throws Exception {
+		setUpWorkspace(ofEntries(bundle("plugin.a", "1.0.0")), ofEntries());
+
+		ILaunchConfigurationWorkingCopy wc = createPluginLaunchConfig("launch-plan-reuse");
+		wc.setAttribute(IPDELauncherConstants.SELECTED_WORKSPACE_BUNDLES, Set.of("plugin.a*1.0.0"));
+		// otherwise set, and the configuration changed, by the first launch
+		wc.setAttribute(IJavaLaunchConfigurationConstants.ATTR_SOURCE_PATH_PROVIDER, PDESourcePathProvider.ID);
+		ILaunchConfiguration configuration = wc.doSave();
+		try {
+			RecordingLaunchConfiguration delegate = new RecordingLaunchConfiguration();
+			VMRunnerConfiguration first = delegate.launch(configuration);
+			assertEquals(1, delegate.computedArguments);
+
+			VMRunnerConfiguration second = delegate.launch(configuration);
+			assertEquals(1, delegate.computedArguments);
+			assertArrayEquals(first.getClassPath(), second.getClassPath());
+			assertArrayEquals(first.getVMArguments(), second.getVMArguments());
+			assertArrayEquals(first.getProgramArguments(), second.getProgramArguments());
+
+			wc = configuration.getWorkingCopy();
+			wc.setAttribute(IPDELauncherConstants.SELECTED_WORKSPACE_BUNDLES, Set.of("plugin.a*1.0.0@4:true"));
+			configuration = wc.doSave();
+			delegate.launch(configuration);
+			assertEquals(2, delegate.computedArguments);
+		} finally {
+			configuration.delete();
+		}
+	}
+
+	@Test
+	public void testLaunchPlan_notReusedWithPromptVariables() throws Exception {
+		setUpWorkspace(ofEntries(bundle("plugin.a", "1.0.0")), ofEntries());
+
+		ILaunchConfigurationWorkingCopy wc = createPluginLaunchConfig("plugin-based-Eclipse-app");
+		wc.setAttribute(IJavaLaunchConfigurationConstants.ATTR_PROGRAM_ARGUMENTS, "-data /work_prompt/${workspace_loc}");
+		assertNotNull(LaunchPlanCache.computeFingerprint(wc));
+
+		wc.setAttribute(IJavaLaunchConfigurationConstants.ATTR_PROGRAM_ARGUMENTS, "-data ${workspace_loc:${string_prompt}}");
+		assertNull(LaunchPlanCache.computeFingerprint(wc));
+	}
+
 	@Test
 	public void testGetMergedBundleMap_mixedPluginsFromWorkspaceAndTarget_specificTargetVersion() throws Exception {
 		var workspacePlugins = ofEntries( //
@@ -1066,6 +1174,38 @@ public class PluginBasedLaunchTest extends AbstractLaunchTest {
 		}
 	}
 
+	/**
+	 * Launches without starting a VM, recording the runner configuration and
+	 * how often the program arguments were computed.
+	 */
+	private static class RecordingLaunchConfiguration extends EclipseApplicationLaunchConfiguration {
+		int computedArguments;
+		VMRunnerConfiguration runnerConfig;
+
+		VMRunnerConfiguration launch(ILaunchConfiguration configuration) throws CoreException {
+			launch(configuration, ILaunchManager.RUN_MODE, new Launch(configuration, ILaunchManager.RUN_MODE, null),
+					null);
+			return runnerConfig;
+		}
+
+		@Override
+		protected boolean reusesLaunchArguments() {
+			// only the way of starting the VM differs
+			return true;
+		}
+
+		@Override
+		public String[] getProgramArguments(ILaunchConfiguration configuration) throws CoreException {
+			computedArguments++;
+			return super.getProgramArguments(configuration);
+		}
+
+		@Override
+		public IVMRunner getVMRunner(ILaunchConfiguration configuration, String mode) {
+			return (config, launch, monitor) -> runnerConfig = config;
+		}
+	}
+
 	private static String getInstallLocation(IPluginModelBase plugin) {
 		return Path.of(plugin.getInstallLocation()).toString().replace(File.separatorChar, '/');
 	}
@@ -0,0 +1,318 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.performance.parts;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.pde.internal.build.ant.AntScript;
+import org.eclipse.pde.internal.build.ant.FileSet;
+import org.eclipse.pde.internal.build.ant.JavacTask;
+import org.eclipse.test.performance.PerformanceTestCase;
+
+/**
+ * Measures the time and the allocation of writing the build scripts of 1,000
+ * plug-ins, with the buffered output and the task templates of
+ * {@link AntScript} and without them.
+ */
+public class AntScriptPerfTest extends PerformanceTestCase {
+
+	private static final int BUNDLES = 1000;
+
+	/** discards the scripts, AntScript closes its stream */
+	private static final OutputStream SINK = new OutputStream() {
+		@Override
+		public void write(int b) {
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) {
+		}
+	};
+
+	public void testBufferedScripts() throws Exception {
+		measure(false);
+	}
+
+	public void testUnbufferedScripts() throws Exception {
+		measure(true);
+	}
+
+	public void testSameScripts() throws Exception {
+		ByteArrayOutputStream buffered = new ByteArrayOutputStream();
+		printBundleScript(0, buffered, false);
+		ByteArrayOutputStream unbuffered = new ByteArrayOutputStream();
+		printBundleScript(0, unbuffered, true);
+		assertEquals(unbuffered.toString(StandardCharsets.UTF_8), buffered.toString(StandardCharsets.UTF_8));
+	}
+
+	public void testAllocation() throws Exception {
+		long buffered = getAllocatedBytes(false);
+		long unbuffered = getAllocatedBytes(true);
+		if (buffered < 0 || unbuffered < 0) {
+			return; // the VM does not measure the allocation of a thread
+		}
+		System.out.println("AntScript: " + BUNDLES + " bundle scripts allocate " + buffered / 1024 + " KB buffered, " + unbuffered / 1024 + " KB unbuffered");
+		assertTrue("buffered " + buffered + ", unbuffered " + unbuffered, buffered < unbuffered);
+	}
+
+	private void measure(boolean unbuffered) {
+		// warm up
+		printBundleScripts(unbuffered);
+		for (int run = 0; run < 10; run++) {
+			startMeasuring();
+			printBundleScripts(unbuffered);
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	private static long getAllocatedBytes(boolean unbuffered) throws Exception {
+		// warm up
+		printBundleScripts(unbuffered);
+		long before = getAllocatedBytes();
+		printBundleScripts(unbuffered);
+		long after = getAllocatedBytes();
+		return before < 0 ? -1 : after - before;
+	}
+
+	private static long getAllocatedBytes() {
+		try {
+			Class<?> bean = ClassLoader.getSystemClassLoader().loadClass("com.sun.management.ThreadMXBean");
+			return (Long) bean.getMethod("getCurrentThreadAllocatedBytes").invoke(ManagementFactory.getThreadMXBean());
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			return -1;
+		}
+	}
+
+	private static void printBundleScripts(boolean unbuffered) {
+		for (int i = 0; i < BUNDLES; i++) {
+			printBundleScript(i, SINK, unbuffered);
+		}
+	}
+
+	/**
+	 * Prints a script shaped like the build.xml of a plug-in.
+	 */
+	private static void printBundleScript(int index, OutputStream out, boolean unbuffered) {
+		AntScript script = unbuffered ? new UnbufferedAntScript(out) : new AntScript(out);
+		String name = "org.example.bundle" + index;
+		script.printProjectDeclaration(name, "build.jars", ".");
+		for (int i = 0; i < 30; i++) {
+			script.printProperty("property" + i, "${basedir}/" + name + "/value" + i);
+		}
+		script.printTargetDeclaration("build.jars", "init", null, null, "Compile classes and build nested jars for " + name);
+		script.printDeleteTask(null, "${compilation.problem.marker}", "true", null);
+		script.printAvailableTask("@dot", "${build.result.folder}/@dot");
+		script.printAntCallTask("@dot", true, null);
+		script.printTargetEnd();
+		script.printTargetDeclaration("@dot", "init", null, "@dot", null);
+		List<Object> classpath = new ArrayList<>();
+		for (int i = 0; i < 80; i++) {
+			classpath.add("../org.example.dependency" + i + "_1.0.0/@dot");
+		}
+		script.printPathStructure("path", "@dot.classpath", classpath);
+		JavacTask javac = new JavacTask();
+		javac.setClasspathId("@dot.classpath");
+		javac.setDestdir("${build.result.folder}/@dot");
+		javac.setFailOnError("${javacFailOnError}");
+		javac.setDebug("${javacDebugInfo}");
+		javac.setSource("${bundleJavacSource}");
+		javac.setTarget("${bundleJavacTarget}");
+		javac.setSrcdir(new String[] {"src/"});
+		javac.setErrorProperty("compilation.error.occured");
+		script.print(javac);
+		script.printCopyTask(null, "${build.result.folder}/@dot", new FileSet[] {new FileSet("src/", null, null, null, "**/*.java", null, null)}, true, false);
+		script.printJarTask("${build.result.folder}/" + name + ".jar", "${build.result.folder}/@dot", "META-INF/MANIFEST.MF", "skip");
+		for (int i = 0; i < 20; i++) {
+			Map<String, String> params = new LinkedHashMap<>();
+			params.put("destination.temp.folder", "${temp.folder}/" + i);
+			script.printAntCallTask("gather.bin.parts" + i, false, params);
+		}
+		script.printTargetEnd();
+		script.printProjectEnd();
+		script.close();
+	}
+
+	/**
+	 * Writes the scripts the way AntScript did before it was buffered: without
+	 * a buffer, without task templates, and through escaped copies of every
+	 * value.
+	 */
+	private static class UnbufferedAntScript extends AntScript {
+
+		UnbufferedAntScript(OutputStream out) {
+			super(out);
+			output.flush();
+			output = new PrintWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+		}
+
+		@Override
+		public void printTab() {
+			for (int i = 0; i < indent; i++) {
+				output.print("\t");
+			}
+		}
+
+		@Override
+		public void printAttribute(String name, String value, boolean mandatory) {
+			if (mandatory && value == null) {
+				value = "";
+			}
+			if (value != null) {
+				output.print(" ");
+				output.print(copyEscaped(name));
+				output.print("=");
+				printQuotes(value);
+			}
+		}
+
+		@Override
+		protected void printQuotes(String message) {
+			output.print("\"");
+			output.print(copyEscaped(message));
+			output.print("\"");
+		}
+
+		@Override
+		public void printAntCallTask(String target, boolean inheritAll, Map<String, String> params) {
+			printTab();
+			output.print("<antcall");
+			printAttribute("target", target, true);
+			if (!inheritAll) {
+				printAttribute("inheritAll", "false", false);
+			}
+			if (params == null) {
+				output.println("/>");
+			} else {
+				output.println(">");
+				indent++;
+				for (Map.Entry<String, String> entry : params.entrySet()) {
+					printParam(entry.getKey(), entry.getValue());
+				}
+				indent--;
+				printTab();
+				output.println("</antcall>");
+			}
+		}
+
+		@Override
+		public void printJarTask(String jarFile, String basedir, String manifestAttribute, String filesetManifest) {
+			printTab();
+			output.print("<jar");
+			printAttribute("destfile", jarFile, true);
+			printAttribute("basedir", basedir, false);
+			printAttribute("manifest", manifestAttribute, false);
+			printAttribute("filesetmanifest", filesetManifest, false);
+			output.println("/>");
+		}
+
+		@Override
+		public void printAvailableTask(String property, String file) {
+			printTab();
+			output.print("<available");
+			printAttribute("property", property, false);
+			printAttribute("file", file, false);
+			output.println("/>");
+		}
+
+		@Override
+		public void printDeleteTask(String dir, String file, String quiet, FileSet[] fileSets) {
+			if (fileSets != null) {
+				super.printDeleteTask(dir, file, quiet, fileSets);
+				return;
+			}
+			printTab();
+			output.print("<delete");
+			printAttribute("dir", dir, false);
+			printAttribute("file", file, false);
+			printAttribute("quiet", quiet, false);
+			output.println("/>");
+		}
+
+		@Override
+		public void printPathStructure(String tag, String id, List<Object> paths) {
+			printTab();
+			print("<" + copyEscaped(tag));
+			if (id != null) {
+				print(" id=\"" + copyEscaped(id) + "\"");
+			}
+			print(">");
+			println();
+			if (paths != null) {
+				indent++;
+				for (Object path : paths) {
+					printTab();
+					print("<pathelement");
+					printAttribute("path", path.toString(), false);
+					print("/>");
+					println();
+				}
+				indent--;
+			}
+			printEndTag(tag);
+		}
+
+		@Override
+		protected void printParam(String name, String value) {
+			printTab();
+			output.print("<param");
+			printAttribute("name", name, true);
+			printAttribute("value", value, true);
+			output.println("/>");
+		}
+
+		@Override
+		public void printProperty(String name, String value) {
+			printTab();
+			output.print("<property");
+			printAttribute("name", name, true);
+			printAttribute("value", value, true);
+			output.println("/>");
+		}
+
+		@Override
+		public void printTargetDeclaration(String name, String depends, String ifClause, String unlessClause, String description) {
+			printTab();
+			output.print("<target");
+			printAttribute("name", name, true);
+			printAttribute("depends", depends, false);
+			printAttribute("if", ifClause, false);
+			printAttribute("unless", unlessClause, false);
+			printAttribute("description", description, false);
+			output.println(">");
+			indent++;
+		}
+
+		/** escapes into a new string even if nothing needs escaping */
+		private static String copyEscaped(String s) {
+			StringBuffer result = new StringBuffer(s.length() + 10);
+			for (int i = 0; i < s.length(); ++i) {
+				char c = s.charAt(i);
+				String replacement = getEscaped(String.valueOf(c));
+				result.append(replacement);
+			}
+			return result.toString();
+		}
+	}
+}
@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.performance.parts;
+
+import java.util.Hashtable;
+
+import org.eclipse.osgi.service.resolver.State;
+import org.eclipse.osgi.service.resolver.StateObjectFactory;
+import org.eclipse.pde.internal.build.BundleHelper;
+import org.eclipse.pde.internal.core.builders.DependencyGraph;
+import org.eclipse.test.performance.PerformanceTestCase;
+import org.osgi.framework.Constants;
+
+/**
+ * Measures the computation of the strongly connected components of a 3,000
+ * plug-in dependency graph and the loop queries answered from it.
+ */
+public class DependencyGraphPerfTest extends PerformanceTestCase {
+
+	private static final int NODES = 3000;
+	private static final int LOOP_SIZE = 100;
+
+	private State fState;
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		StateObjectFactory factory = BundleHelper.getPlatformAdmin().getFactory();
+		fState = factory.createState(true);
+		for (int i = 0; i < NODES; i++) {
+			StringBuilder required = new StringBuilder();
+			// a dense layered graph with a closing edge every LOOP_SIZE plug-ins
+			for (int next = i + 1; next <= i + 3 && next < NODES; next++) {
+				if (required.length() > 0) {
+					required.append(',');
+				}
+				required.append(getId(next));
+			}
+			if (i % LOOP_SIZE == LOOP_SIZE - 1) {
+				if (required.length() > 0) {
+					required.append(',');
+				}
+				required.append(getId(i - LOOP_SIZE + 1));
+			}
+			Hashtable<String, String> manifest = new Hashtable<>();
+			manifest.put(Constants.BUNDLE_MANIFESTVERSION, "2");
+			manifest.put(Constants.BUNDLE_SYMBOLICNAME, getId(i));
+			manifest.put(Constants.BUNDLE_VERSION, "1.0.0");
+			if (required.length() > 0) {
+				manifest.put(Constants.REQUIRE_BUNDLE, required.toString());
+			}
+			fState.addBundle(factory.createBundleDescription(fState, manifest, getId(i), i));
+		}
+	}
+
+	private static String getId(int i) {
+		return "org.example.bundle" + i; //$NON-NLS-1$
+	}
+
+	public void testStronglyConnectedComponents() throws Exception {
+		for (int i = 0; i < 10; i++) {
+			computeAndQuery();
+		}
+		for (int run = 0; run < 20; run++) {
+			startMeasuring();
+			computeAndQuery();
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	private void computeAndQuery() {
+		DependencyGraph graph = DependencyGraph.create(fState);
+		assertEquals(NODES, graph.size());
+		for (int i = 0; i < NODES; i++) {
+			// every block of LOOP_SIZE plug-ins forms one component
+			assertEquals(LOOP_SIZE, graph.getLoopMembers(getId(i)).length);
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2006, 2023 IBM Corporation and others.
+ *  Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,9 @@
 package org.eclipse.pde.ui.tests.target;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.util.Arrays;
@@ -34,7 +37,9 @@ import org.eclipse.core.runtime.Platform;
 import org.eclipse.jdt.launching.IVMInstall;
 import org.eclipse.jdt.launching.JavaRuntime;
 import org.eclipse.jdt.launching.environments.IExecutionEnvironment;
+import org.eclipse.osgi.service.resolver.State;
 import org.eclipse.pde.core.plugin.TargetPlatform;
+import org.eclipse.pde.internal.core.PlatformStateCache;
 import org.eclipse.pde.internal.core.TargetPlatformHelper;
 import org.eclipse.pde.ui.tests.runtime.TestUtils;
 import org.eclipse.pde.ui.tests.util.ProjectUtils;
@@ -131,6 +136,22 @@ public class TargetEnvironmentTestCase {
 		assertEquals("true", dictionary.get("osgi.resolveOptional"));
 	}
 
+	@Test
+	public void testPlatformStateCache() {
+		State target = TargetPlatformHelper.getState();
+		assertSame(target, PlatformStateCache.getState(TargetPlatform.getOS(), TargetPlatform.getWS(), TargetPlatform.getOSArch()));
+
+		String os = Platform.OS_WIN32.equals(TargetPlatform.getOS()) ? Platform.OS_LINUX : Platform.OS_WIN32;
+		State state = PlatformStateCache.getState(os, TargetPlatform.getWS(), TargetPlatform.getOSArch());
+		assertNotSame(target, state);
+		assertTrue(state.isResolved());
+		assertEquals(os, state.getPlatformProperties()[0].get("osgi.os"));
+		assertSame(state, PlatformStateCache.getState(os, TargetPlatform.getWS(), TargetPlatform.getOSArch()));
+
+		PlatformStateCache.clear();
+		assertNotSame(state, PlatformStateCache.getState(os, TargetPlatform.getWS(), TargetPlatform.getOSArch()));
+	}
+
 	/**
 	 * Tests that the OSGi state for the PDE models has the correct properties set, based on known execution environments
 	 */
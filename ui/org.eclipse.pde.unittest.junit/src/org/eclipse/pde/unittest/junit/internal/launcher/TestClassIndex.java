@@ -0,0 +1,379 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.unittest.junit.internal.launcher;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.StringJoiner;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.internal.junit.launcher.ITestKind;
+import org.eclipse.jdt.ui.unittest.junit.JUnitTestPlugin;
+import org.eclipse.pde.unittest.junit.JUnitPluginTestPlugin;
+import org.eclipse.pde.unittest.junit.launcher.Messages;
+
+/**
+ * An index of the test classes of the workspace plug-in projects, so that
+ * launching all JUnit 3 or 4 tests of a project, a source folder or a package
+ * does not have to search for them first.
+ * <p>
+ * The index of a project maps the handles of its compilation units to their
+ * modification stamps and the names of the test classes they declare, as found
+ * by the test finder of the JUnit version of the project. A project is indexed
+ * in a background job after the first launch of its tests, and from then on
+ * kept up to date by {@link TestIndexCompilationParticipant} from the
+ * compilation units each build compiled. The indexes are stored in the state
+ * location of this plug-in.
+ * </p>
+ * <p>
+ * The index is only used if every compilation unit of the launched container
+ * is indexed with its current modification stamp. Otherwise the changed units
+ * are indexed again and the launch searches the container instead.
+ * </p>
+ * <p>
+ * JUnit 5 launches of a project, a source folder or a package do not use the
+ * index at all. They pass the packages to the test runner, which discovers the
+ * tests itself.
+ * </p>
+ */
+public final class TestClassIndex {
+
+	private static final String INDEX_FOLDER = "testIndex"; //$NON-NLS-1$
+
+	/** the key of the id of the test kind the index was computed with */
+	private static final String KIND = "kind"; //$NON-NLS-1$
+
+	/** separates the modification stamp of a compilation unit from its test classes */
+	private static final char STAMP_SEPARATOR = ':';
+
+	/** the types any JUnit version puts on the classpath */
+	private static final String[] JUNIT_TYPES = { "junit.framework.Test", //$NON-NLS-1$
+			"org.junit.platform.commons.annotation.Testable" }; //$NON-NLS-1$
+
+	private static final Map<IProject, Properties> fgIndexes = new HashMap<>();
+
+	/** the compilation units to index by project, <code>null</code> for all */
+	private static final Map<IJavaProject, Set<ICompilationUnit>> fgPending = new LinkedHashMap<>();
+
+	private static final Job fgUpdateJob = new Job(Messages.TestClassIndex_update_job) {
+		{
+			setSystem(true);
+		}
+
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			while (!monitor.isCanceled()) {
+				IJavaProject project;
+				Set<ICompilationUnit> units;
+				synchronized (TestClassIndex.class) {
+					if (fgPending.isEmpty()) {
+						return Status.OK_STATUS;
+					}
+					project = fgPending.keySet().iterator().next();
+					units = fgPending.remove(project);
+				}
+				try {
+					update(project, units, monitor);
+				} catch (OperationCanceledException e) {
+					remove(project.getProject());
+					break;
+				} catch (CoreException e) {
+					// the project is searched instead
+					remove(project.getProject());
+					JUnitPluginTestPlugin.log(e);
+				}
+				if (monitor.isCanceled()) {
+					// the changes of the project are not indexed
+					remove(project.getProject());
+				}
+			}
+			return Status.CANCEL_STATUS;
+		}
+
+		@Override
+		public boolean belongsTo(Object family) {
+			return family == TestClassIndex.class;
+		}
+	};
+
+	private TestClassIndex() { // static use only
+	}
+
+	/**
+	 * Schedules the given compilation units of the given project to be
+	 * indexed again, or the whole project if <code>units</code> is
+	 * <code>null</code>.
+	 */
+	static void changed(IJavaProject project, Set<ICompilationUnit> units) {
+		synchronized (TestClassIndex.class) {
+			if (units == null || fgPending.containsKey(project) && fgPending.get(project) == null) {
+				fgPending.put(project, null);
+			} else {
+				fgPending.computeIfAbsent(project, p -> new HashSet<>()).addAll(units);
+			}
+		}
+		fgUpdateJob.schedule();
+	}
+
+	/**
+	 * Returns whether the given project is indexed, or going to be.
+	 */
+	static boolean isIndexed(IProject project) {
+		synchronized (TestClassIndex.class) {
+			return fgIndexes.containsKey(project) || fgPending.containsKey(JavaCore.create(project))
+					|| getFile(project).isFile();
+		}
+	}
+
+	/**
+	 * Forgets the index of the given project.
+	 */
+	static void remove(IProject project) {
+		synchronized (TestClassIndex.class) {
+			fgIndexes.remove(project);
+			fgPending.remove(JavaCore.create(project));
+			getFile(project).delete();
+		}
+	}
+
+	/**
+	 * Returns the indexed test classes in the given project, source folder or
+	 * package, or <code>null</code> if the project has not been indexed with
+	 * the given test kind or a compilation unit of the container changed since
+	 * it was indexed. Waits for pending updates of the index first. A project
+	 * that is not indexed yet, and the changed compilation units of an indexed
+	 * project, are indexed for the next launches.
+	 *
+	 * @param container the project, source folder or package
+	 * @param kindId    the id of the test kind of the launch
+	 * @param monitor   the progress monitor
+	 * @return the test classes, or <code>null</code> if they are not known
+	 */
+	public static IType[] getTests(IJavaElement container, String kindId, IProgressMonitor monitor) {
+		if (!(container instanceof IJavaProject || container instanceof IPackageFragmentRoot
+				|| container instanceof IPackageFragment)) {
+			return null;
+		}
+		IJavaProject javaProject = container.getJavaProject();
+		if (!isIndexed(javaProject.getProject())) {
+			changed(javaProject, null);
+			return null;
+		}
+		try {
+			Job.getJobManager().join(TestClassIndex.class, monitor);
+		} catch (InterruptedException | OperationCanceledException e) {
+			return null;
+		}
+		Properties index;
+		synchronized (TestClassIndex.class) {
+			if (fgPending.containsKey(javaProject)) {
+				// the update was canceled
+				return null;
+			}
+			index = getIndex(javaProject.getProject());
+			if (index == null || !kindId.equals(index.getProperty(KIND))) {
+				return null;
+			}
+			index = (Properties) index.clone();
+		}
+		List<ICompilationUnit> units;
+		try {
+			units = getCompilationUnits(container);
+		} catch (JavaModelException e) {
+			return null;
+		}
+		List<IType> tests = new ArrayList<>();
+		Set<ICompilationUnit> changed = new HashSet<>();
+		for (ICompilationUnit unit : units) {
+			String value = index.getProperty(unit.getHandleIdentifier());
+			int separator = value == null ? -1 : value.indexOf(STAMP_SEPARATOR);
+			if (separator < 0 || !value.substring(0, separator).equals(Long.toString(getStamp(unit)))) {
+				// not built yet, or changed while the workspace was not built
+				changed.add(unit);
+				continue;
+			}
+			String names = value.substring(separator + 1);
+			if (names.isEmpty()) {
+				continue;
+			}
+			for (String name : names.split(",")) { //$NON-NLS-1$
+				String[] segments = name.split("\\$"); //$NON-NLS-1$
+				IType type = unit.getType(segments[0]);
+				for (int i = 1; i < segments.length; i++) {
+					type = type.getType(segments[i]);
+				}
+				tests.add(type);
+			}
+		}
+		if (!changed.isEmpty()) {
+			changed(javaProject, changed);
+			return null;
+		}
+		return tests.toArray(new IType[tests.size()]);
+	}
+
+	/**
+	 * Returns the compilation units of the source folders in the given
+	 * project, source folder or package.
+	 */
+	private static List<ICompilationUnit> getCompilationUnits(IJavaElement container) throws JavaModelException {
+		List<ICompilationUnit> units = new ArrayList<>();
+		if (container instanceof IPackageFragment pkg) {
+			units.addAll(Arrays.asList(pkg.getCompilationUnits()));
+		} else if (container instanceof IPackageFragmentRoot root) {
+			if (root.getKind() == IPackageFragmentRoot.K_SOURCE) {
+				for (IJavaElement child : root.getChildren()) {
+					units.addAll(getCompilationUnits(child));
+				}
+			}
+		} else if (container instanceof IJavaProject project) {
+			for (IPackageFragmentRoot root : project.getPackageFragmentRoots()) {
+				units.addAll(getCompilationUnits(root));
+			}
+		}
+		return units;
+	}
+
+	private static long getStamp(ICompilationUnit unit) {
+		IResource resource = unit.getResource();
+		return resource == null ? IResource.NULL_STAMP : resource.getModificationStamp();
+	}
+
+	private static void update(IJavaProject javaProject, Set<ICompilationUnit> units, IProgressMonitor monitor)
+			throws CoreException {
+		IProject project = javaProject.getProject();
+		if (!project.isAccessible()) {
+			return;
+		}
+		if (!hasJUnit(javaProject)) {
+			remove(project);
+			return;
+		}
+		ITestKind kind = JUnitTestPlugin.getJUnitVersion(javaProject).getJUnitTestKind();
+		Properties previous;
+		synchronized (TestClassIndex.class) {
+			previous = getIndex(project);
+		}
+		Properties index = new Properties();
+		if (units == null || previous == null || !kind.getId().equals(previous.getProperty(KIND))) {
+			index.setProperty(KIND, kind.getId());
+			units = null;
+		} else {
+			index.putAll(previous);
+		}
+
+		Set<IType> tests = new HashSet<>();
+		if (units == null) {
+			units = new HashSet<>(getCompilationUnits(javaProject));
+			kind.getFinder().findTestsInContainer(javaProject, tests, monitor);
+		} else {
+			for (ICompilationUnit unit : units) {
+				index.remove(unit.getHandleIdentifier());
+				if (unit.exists()) {
+					kind.getFinder().findTestsInContainer(unit, tests, monitor);
+				}
+			}
+			// compilation units deleted since
+			index.keySet().removeIf(key -> !KIND.equals(key) && !JavaCore.create((String) key).exists());
+		}
+		if (monitor.isCanceled()) {
+			return;
+		}
+		Map<ICompilationUnit, StringJoiner> names = new HashMap<>();
+		for (ICompilationUnit unit : units) {
+			if (unit.exists()) {
+				// units without tests are indexed too, to tell them from units not built yet
+				names.put(unit, new StringJoiner(",", getStamp(unit) + String.valueOf(STAMP_SEPARATOR), "")); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+		}
+		for (IType test : tests) {
+			ICompilationUnit unit = test.getCompilationUnit();
+			if (unit != null && names.containsKey(unit)) {
+				names.get(unit).add(test.getTypeQualifiedName('$'));
+			}
+		}
+		names.forEach((unit, types) -> index.setProperty(unit.getHandleIdentifier(), types.toString()));
+
+		synchronized (TestClassIndex.class) {
+			fgIndexes.put(project, index);
+			File file = getFile(project);
+			file.getParentFile().mkdirs();
+			try (OutputStream output = Files.newOutputStream(file.toPath())) {
+				index.store(output, null);
+			} catch (IOException e) {
+				JUnitPluginTestPlugin.log(e);
+			}
+		}
+	}
+
+	private static boolean hasJUnit(IJavaProject javaProject) throws CoreException {
+		for (String type : JUNIT_TYPES) {
+			if (javaProject.findType(type) != null) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static Properties getIndex(IProject project) {
+		Properties index = fgIndexes.get(project);
+		if (index == null) {
+			File file = getFile(project);
+			if (file.isFile()) {
+				index = new Properties();
+				try (InputStream input = Files.newInputStream(file.toPath())) {
+					index.load(input);
+					fgIndexes.put(project, index);
+				} catch (IOException e) {
+					// the project is searched instead
+					JUnitPluginTestPlugin.log(e);
+					index = null;
+				}
+			}
+		}
+		return index;
+	}
+
+	private static File getFile(IProject project) {
+		File folder = JUnitPluginTestPlugin.getDefault().getStateLocation().append(INDEX_FOLDER).toFile();
+		return new File(folder, project.getName() + ".properties"); //$NON-NLS-1$
+	}
+}
@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.unittest.junit.internal.launcher;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.compiler.BuildContext;
+import org.eclipse.jdt.core.compiler.CompilationParticipant;
+import org.eclipse.pde.internal.core.WorkspaceModelManager;
+
+/**
+ * Keeps the {@link TestClassIndex} of the indexed plug-in projects up to date
+ * with the compilation units each build compiles.
+ */
+public class TestIndexCompilationParticipant extends CompilationParticipant {
+
+	/** the compilation units compiled by project, <code>null</code> for all */
+	private final Map<IProject, Set<ICompilationUnit>> compiled = new HashMap<>();
+
+	@Override
+	public boolean isActive(IJavaProject javaProject) {
+		IProject project = javaProject.getProject();
+		return (project.isOpen() && WorkspaceModelManager.isPluginProject(project)
+				&& !WorkspaceModelManager.isBinaryProject(project) && TestClassIndex.isIndexed(project));
+	}
+
+	@Override
+	public void buildStarting(BuildContext[] files, boolean isBatch) {
+		synchronized (compiled) {
+			for (BuildContext file : files) {
+				IProject project = file.getFile().getProject();
+				if (isBatch) {
+					compiled.put(project, null);
+				} else if (!compiled.containsKey(project)) {
+					compiled.put(project, new HashSet<>());
+				}
+				Set<ICompilationUnit> units = compiled.get(project);
+				ICompilationUnit unit = JavaCore.createCompilationUnitFrom(file.getFile());
+				if (units != null && unit != null) {
+					units.add(unit);
+				}
+			}
+		}
+	}
+
+	@Override
+	public void buildFinished(IJavaProject project) {
+		Set<ICompilationUnit> units;
+		synchronized (compiled) {
+			if (!compiled.containsKey(project.getProject())) {
+				return;
+			}
+			units = compiled.remove(project.getProject());
+		}
+		TestClassIndex.changed(project, units);
+	}
+
+	@Override
+	public void cleanStarting(IJavaProject project) {
+		synchronized (compiled) {
+			compiled.remove(project.getProject());
+		}
+		TestClassIndex.remove(project.getProject());
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2022 Red Hat Inc. and others.
+ * Copyright (c) 2021, 2026 Red Hat Inc. and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -102,6 +102,7 @@ import org.eclipse.pde.launching.IPDELauncherConstants;
 import org.eclipse.pde.launching.JUnitLaunchConfigurationDelegate;
 import org.eclipse.pde.launching.PDESourcePathProvider;
 import org.eclipse.pde.unittest.junit.JUnitPluginTestPlugin;
+import org.eclipse.pde.unittest.junit.internal.launcher.TestClassIndex;
 import org.osgi.framework.Bundle;
 import org.osgi.framework.Constants;
 
@@ -469,9 +470,13 @@ public class JUnitPluginLaunchConfigurationDelegate extends AbstractJavaLaunchCo
 				return new IMember[] { ((IType) testTarget).getMethod(testMethodName, new String[0]) };
 			}
 		}
-		HashSet<IType> result = new HashSet<>();
 		org.eclipse.jdt.internal.junit.launcher.ITestKind junitTestKind = getJUnitVersion(configuration)
 				.getJUnitTestKind();
+		IType[] indexedTests = TestClassIndex.getTests(testTarget, junitTestKind.getId(), monitor);
+		if (indexedTests != null && indexedTests.length > 0) {
+			return indexedTests;
+		}
+		HashSet<IType> result = new HashSet<>();
 		junitTestKind.getFinder().findTestsInContainer(testTarget, result, monitor);
 		if (result.isEmpty()) {
 			String msg = MessageFormat.format(Messages.JUnitPluginLaunchConfigurationDelegate_error_notests_kind,
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021 Red Hat Inc. and others.
+ * Copyright (c) 2021, 2026 Red Hat Inc. and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -29,6 +29,7 @@ public final class Messages extends NLS {
 	public static String JUnitPluginLaunchConfigurationDelegate_error_notaplugin;
 	public static String JUnitPluginLaunchConfigurationDelegate_error_noStartup;
 	public static String JUnitPluginLaunchConfigurationDelegate_error_missingPlugin;
+	public static String TestClassIndex_update_job;
 
 	static {
 		NLS.initializeMessages(BUNDLE_NAME, Messages.class);